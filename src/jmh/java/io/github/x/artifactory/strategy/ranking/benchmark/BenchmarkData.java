@@ -0,0 +1,61 @@
+package io.github.x.artifactory.strategy.ranking.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Reproducible benchmark data.
+ */
+final class BenchmarkData {
+
+    static final long SEED = 20241018L;
+
+    private BenchmarkData() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Generates items whose criteria take {@code size * (1 - tieRatio)} distinct values each, so that about
+     * {@code tieRatio} of the items are tied with another one at every level but the last.
+     *
+     * @param size number of items
+     * @param tieRatio share of tied items, from 0 inclusive to 1 exclusive
+     * @return the items in random order
+     */
+    static List<BenchmarkItem> items(int size, double tieRatio) {
+        final var random = new Random(SEED);
+        final int distinct = Math.max(1, (int) Math.round(size * (1 - tieRatio)));
+        final List<BenchmarkItem> items = new ArrayList<>(size);
+        for (int id = 0; id < size; id++) {
+            items.add(new BenchmarkItem(id, random.nextInt(distinct), random.nextInt(distinct) / (float) distinct,
+                    "label-" + random.nextInt(distinct)));
+        }
+
+        return items;
+    }
+
+    /**
+     * Generates {@code float} values spread over {@code [0, 1)} with {@code size * (1 - tieRatio)} distinct values,
+     * each of them shifted by up to two ulps so that neighboring values fall into common intervals.
+     *
+     * @param size number of values
+     * @param tieRatio share of values close to another one, from 0 inclusive to 1 exclusive
+     * @return the values in random order
+     */
+    static float[] floats(int size, double tieRatio) {
+        final var random = new Random(SEED);
+        final int distinct = Math.max(1, (int) Math.round(size * (1 - tieRatio)));
+        final float[] values = new float[size];
+        for (int i = 0; i < size; i++) {
+            float value = random.nextInt(distinct) / (float) distinct;
+            for (int ulps = random.nextInt(3); ulps > 0; ulps--) {
+                value = Math.nextUp(value);
+            }
+            values[i] = value;
+        }
+
+        return values;
+    }
+
+}
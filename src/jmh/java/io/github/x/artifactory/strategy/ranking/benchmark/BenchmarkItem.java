@@ -0,0 +1,12 @@
+package io.github.x.artifactory.strategy.ranking.benchmark;
+
+/**
+ * A ranked element of the benchmarks.
+ *
+ * @param id unique identifier, the last-resort rank
+ * @param bucket integral criterion
+ * @param score floating-point criterion
+ * @param label textual criterion
+ */
+public record BenchmarkItem(int id, int bucket, float score, String label) {
+}
@@ -0,0 +1,59 @@
+package io.github.x.artifactory.strategy.ranking.benchmark;
+
+import io.github.x.artifactory.strategy.ranking.api.PrimitiveRankFunction;
+import io.github.x.artifactory.strategy.ranking.api.RankWrapper;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Ranking functions of a {@link BenchmarkItem} arranged by a {@link RankLayout}.
+ */
+public class BenchmarkItemRanks extends RankWrapper<BenchmarkItem> {
+
+    private static final long SPARSE_STRIDE = 1_000_000_007L;
+
+    private final RankLayout layout;
+
+    public BenchmarkItemRanks(RankLayout layout) {
+        this.layout = layout;
+    }
+
+    @Override
+    public List<Supplier<Comparable<?>>> rankFunctionList() {
+        return switch (layout) {
+            case INT -> List.of(this::bucketRank, this::idRank);
+            case FLOAT -> List.of(this::scoreRank, this::idRank);
+            case STRING -> List.of(this::labelRank, this::idRank);
+            case INT_FLOAT_STRING -> List.of(this::bucketRank, this::scoreRank, this::labelRank, this::idRank);
+            case PRIMITIVE_INT_FLOAT_STRING -> List.of(
+                    PrimitiveRankFunction.ofInt(() -> get().bucket()),
+                    PrimitiveRankFunction.ofFloat(() -> get().score()),
+                    this::labelRank,
+                    PrimitiveRankFunction.ofInt(() -> get().id()));
+            case PRIMITIVE_INT -> List.of(
+                    PrimitiveRankFunction.ofInt(() -> get().bucket()),
+                    PrimitiveRankFunction.ofInt(() -> get().id()));
+            case PRIMITIVE_SPARSE_LONG -> List.of(
+                    PrimitiveRankFunction.ofLong(() -> get().bucket() * SPARSE_STRIDE),
+                    PrimitiveRankFunction.ofInt(() -> get().id()));
+        };
+    }
+
+    public Integer bucketRank() {
+        return get().bucket();
+    }
+
+    public Float scoreRank() {
+        return get().score();
+    }
+
+    public String labelRank() {
+        return get().label();
+    }
+
+    public Integer idRank() {
+        return get().id();
+    }
+
+}
@@ -0,0 +1,35 @@
+package io.github.x.artifactory.strategy.ranking.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler attached, so that allocation rates and GC counts are reported next to
+ * the scores.
+ *
+ * <p>Arguments are the standard JMH command line options, e.g. a benchmark name pattern and parameter overrides:
+ * <pre>{@code
+ *
+ * ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark.args="RankedCollectionBenchmark.asc -p size=1000"
+ * }</pre>
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        final var options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(options).run();
+    }
+
+}
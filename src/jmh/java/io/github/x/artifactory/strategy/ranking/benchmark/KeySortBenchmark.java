@@ -0,0 +1,64 @@
+package io.github.x.artifactory.strategy.ranking.benchmark;
+
+import io.github.x.artifactory.strategy.ranking.api.RankedCollection;
+import io.github.x.artifactory.strategy.ranking.api.RankingEngine;
+import io.github.x.artifactory.strategy.ranking.api.RankingOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sorting of integral rank levels by counting against sorting by comparison.
+ *
+ * <p>{@link RankLayout#PRIMITIVE_INT} and {@link RankLayout#PRIMITIVE_SPARSE_LONG} rank the items into the same
+ * order with the same ties; only the range of the keys differs, so the former takes the counting path and the latter
+ * the comparison path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class KeySortBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    @Param({"PRIMITIVE_INT", "PRIMITIVE_SPARSE_LONG"})
+    private RankLayout layout;
+
+    @Param({"0.5", "0.9"})
+    private double tieRatio;
+
+    @Param({"GROUPING", "COLUMNAR"})
+    private RankingEngine engine;
+
+    private List<BenchmarkItem> items;
+
+    private RankingOptions options;
+
+    @Setup
+    public void setUp() {
+        items = BenchmarkData.items(size, tieRatio);
+        options = RankingOptions.defaults().withEngine(engine);
+    }
+
+    @Benchmark
+    public Optional<List<BenchmarkItem>> asc() {
+        return RankedCollection.from(items, () -> new BenchmarkItemRanks(layout), options).asc();
+    }
+
+}
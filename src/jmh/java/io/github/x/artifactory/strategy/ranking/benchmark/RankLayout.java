@@ -0,0 +1,46 @@
+package io.github.x.artifactory.strategy.ranking.benchmark;
+
+/**
+ * Ranking functions applied to a {@link BenchmarkItem}, in the order of their importance.
+ *
+ * <p>Every layout ends with the unique {@link BenchmarkItem#id()}, so the ranking always succeeds and the number of
+ * elements reaching the last level depends on the tie ratio of the data.
+ */
+public enum RankLayout {
+
+    /**
+     * Boxed {@code Integer} bucket.
+     */
+    INT,
+
+    /**
+     * Boxed {@code Float} score.
+     */
+    FLOAT,
+
+    /**
+     * {@code String} label.
+     */
+    STRING,
+
+    /**
+     * Boxed {@code Integer} bucket, {@code Float} score and {@code String} label.
+     */
+    INT_FLOAT_STRING,
+
+    /**
+     * Primitive {@code int} bucket, {@code float} score and {@code String} label.
+     */
+    PRIMITIVE_INT_FLOAT_STRING,
+
+    /**
+     * Primitive {@code int} bucket, whose dense range is ranked by counting.
+     */
+    PRIMITIVE_INT,
+
+    /**
+     * Primitive {@code long} bucket spread by a large stride, whose sparse range is ranked by comparison; ties and
+     * order are the same as those of {@link #PRIMITIVE_INT}.
+     */
+    PRIMITIVE_SPARSE_LONG
+}
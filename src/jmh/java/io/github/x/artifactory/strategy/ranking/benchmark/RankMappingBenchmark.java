@@ -0,0 +1,82 @@
+package io.github.x.artifactory.strategy.ranking.benchmark;
+
+import io.github.x.artifactory.strategy.ranking.rmapping.FP2IntMap;
+import io.github.x.artifactory.strategy.ranking.rmapping.FloatIntervalMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Floating-point rank mapping: building of the interval maps and lookup of the interval of a value.
+ *
+ * <p>{@link FloatIntervalMap} is measured next to {@link FP2IntMap} as the primitive counterpart used for
+ * primitive ranking functions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RankMappingBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    private int size;
+
+    @Param({"0.0", "0.9"})
+    private double tieRatio;
+
+    private float[] values;
+
+    private List<Float> boxedValues;
+
+    private FP2IntMap<Float> fp2IntMap;
+
+    private FloatIntervalMap floatIntervalMap;
+
+    @Setup
+    public void setUp() {
+        values = BenchmarkData.floats(size, tieRatio);
+        boxedValues = IntStream.range(0, size).mapToObj(i -> values[i]).toList();
+        fp2IntMap = FP2IntMap.from(boxedValues);
+        floatIntervalMap = FloatIntervalMap.from(values);
+    }
+
+    @Benchmark
+    public FP2IntMap<Float> fp2IntMapFrom() {
+        return FP2IntMap.from(boxedValues);
+    }
+
+    @Benchmark
+    public void fp2IntMapIntervalByValue(Blackhole blackhole) {
+        for (final Float value : boxedValues) {
+            blackhole.consume(fp2IntMap.intervalByValue(value));
+        }
+    }
+
+    @Benchmark
+    public FloatIntervalMap floatIntervalMapFrom() {
+        return FloatIntervalMap.from(values);
+    }
+
+    @Benchmark
+    public void floatIntervalMapIntervalOf(Blackhole blackhole) {
+        for (final float value : values) {
+            blackhole.consume(floatIntervalMap.intervalOf(value));
+        }
+    }
+
+}
@@ -0,0 +1,82 @@
+package io.github.x.artifactory.strategy.ranking.benchmark;
+
+import io.github.x.artifactory.strategy.ranking.api.RankedCollection;
+import io.github.x.artifactory.strategy.ranking.api.RankingEngine;
+import io.github.x.artifactory.strategy.ranking.api.RankingOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ranking operations of {@link RankedCollection}.
+ *
+ * <p>Each invocation instantiates the collection, so rank values are evaluated anew and the measurements include
+ * the wrapping of elements, as they do in applications ranking a collection once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class RankedCollectionBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    private int size;
+
+    @Param({"INT", "FLOAT", "STRING", "INT_FLOAT_STRING", "PRIMITIVE_INT_FLOAT_STRING"})
+    private RankLayout layout;
+
+    @Param({"0.0", "0.5", "0.9"})
+    private double tieRatio;
+
+    @Param({"GROUPING", "COLUMNAR", "LEXICOGRAPHIC"})
+    private RankingEngine engine;
+
+    private List<BenchmarkItem> items;
+
+    private RankingOptions options;
+
+    @Setup
+    public void setUp() {
+        items = BenchmarkData.items(size, tieRatio);
+        options = RankingOptions.defaults().withEngine(engine);
+    }
+
+    @Benchmark
+    public Optional<BenchmarkItem> min() {
+        return collection().min();
+    }
+
+    @Benchmark
+    public Optional<BenchmarkItem> max() {
+        return collection().max();
+    }
+
+    @Benchmark
+    public Optional<List<BenchmarkItem>> asc() {
+        return collection().asc();
+    }
+
+    @Benchmark
+    public Optional<List<BenchmarkItem>> desc() {
+        return collection().desc();
+    }
+
+    private RankedCollection<BenchmarkItem> collection() {
+        return RankedCollection.from(items, () -> new BenchmarkItemRanks(layout), options);
+    }
+
+}
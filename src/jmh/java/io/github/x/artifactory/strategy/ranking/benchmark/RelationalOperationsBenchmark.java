@@ -0,0 +1,84 @@
+package io.github.x.artifactory.strategy.ranking.benchmark;
+
+import io.github.x.artifactory.strategy.ranking.ulp.RelationalOperations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fuzzy comparison of floating-point numbers, generic over boxed values and specialized for primitives.
+ *
+ * <p>The scores are reported per comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(RelationalOperationsBenchmark.COUNT)
+public class RelationalOperationsBenchmark {
+
+    static final int COUNT = 1024;
+
+    private float[] floats;
+
+    private double[] doubles;
+
+    private Float[] boxedFloats;
+
+    private Double[] boxedDoubles;
+
+    @Setup
+    public void setUp() {
+        floats = BenchmarkData.floats(COUNT + 1, 0.5);
+        doubles = new double[COUNT + 1];
+        boxedFloats = new Float[COUNT + 1];
+        boxedDoubles = new Double[COUNT + 1];
+        for (int i = 0; i <= COUNT; i++) {
+            doubles[i] = floats[i];
+            boxedFloats[i] = floats[i];
+            boxedDoubles[i] = doubles[i];
+        }
+    }
+
+    @Benchmark
+    public void compareBoxedFloat(Blackhole blackhole) {
+        for (int i = 0; i < COUNT; i++) {
+            blackhole.consume(RelationalOperations.compare(boxedFloats[i], boxedFloats[i + 1], 1));
+        }
+    }
+
+    @Benchmark
+    public void compareBoxedDouble(Blackhole blackhole) {
+        for (int i = 0; i < COUNT; i++) {
+            blackhole.consume(RelationalOperations.compare(boxedDoubles[i], boxedDoubles[i + 1], 1));
+        }
+    }
+
+    @Benchmark
+    public void compareFloat(Blackhole blackhole) {
+        for (int i = 0; i < COUNT; i++) {
+            blackhole.consume(RelationalOperations.compare(floats[i], floats[i + 1], 1));
+        }
+    }
+
+    @Benchmark
+    public void compareDouble(Blackhole blackhole) {
+        for (int i = 0; i < COUNT; i++) {
+            blackhole.consume(RelationalOperations.compare(doubles[i], doubles[i + 1], 1));
+        }
+    }
+
+}
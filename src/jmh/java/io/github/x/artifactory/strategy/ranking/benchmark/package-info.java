@@ -0,0 +1,7 @@
+/**
+ * JMH benchmarks of the ranking operations, the floating-point rank mapping and the fuzzy comparison.
+ *
+ * <p>The benchmarks are compiled and run by the {@code benchmark} Maven profile, see
+ * {@link io.github.x.artifactory.strategy.ranking.benchmark.BenchmarkRunner}.
+ */
+package io.github.x.artifactory.strategy.ranking.benchmark;
@@ -0,0 +1,61 @@
+package io.github.x.artifactory.strategy.ranking.api;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * The supertype for classes that define ranking functions by {@link Rank} annotated methods bound at runtime.
+ *
+ * <p>Extension example:
+ * <pre>{@code
+ *
+ * public class RankMyType extends AnnotatedRankWrapper<MyType> {
+ *
+ *     @Rank(order = 1)
+ *     int priority() {
+ *         return get().priority();
+ *     }
+ *
+ *     @Rank(order = 2)
+ *     private String alphabeticalRank() {
+ *         return get().name();
+ *     }
+ * }
+ *
+ * final var rc = RankedCollection.from(collection, RankMyType::new);
+ * }</pre>
+ *
+ * <p>The annotated methods of a class are introspected when its first wrapper is constructed and bound to method
+ * handles shared by all its wrappers; every wrapper resolves the binding once. Ranks are then evaluated through the
+ * handles, without a function list or lambdas per wrapper and without boxing primitive values, and no annotation
+ * processor is needed. The methods may be private; in a named module their package must be open to this module.
+ *
+ * @param <E> type of object for which the rank is calculated
+ *
+ * @author <a href="mailto:abbbrs@icloud.com">Aleksei Baranov</a>
+ */
+public abstract class AnnotatedRankWrapper<E> extends RankWrapper<E> {
+
+    /**
+     * Constructs a wrapper, binding the {@link Rank} methods of its class on the first construction.
+     *
+     * @throws IllegalStateException if the class declares no {@link Rank} methods, declares an order twice or
+     *     declares a method that cannot be a ranking method or cannot be accessed
+     */
+    protected AnnotatedRankWrapper() {
+        super();
+    }
+
+    /**
+     * Returns functions calling the {@link Rank} annotated methods of the class in their order, declaring the
+     * primitive ones by {@link PrimitiveRankFunction} factories.
+     *
+     * @return a list of functions for calculating object ranks
+     */
+    @Override
+    @SuppressWarnings("java:S1452")
+    public final List<Supplier<Comparable<?>>> rankFunctionList() {
+        return binding().functions(this);
+    }
+
+}
@@ -0,0 +1,154 @@
+package io.github.x.artifactory.strategy.ranking.api;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A ranking function evaluated for many elements in a single call.
+ *
+ * <p>Batched scorers, vectorized computations and bulk lookups are much cheaper per element when given many elements
+ * at once. A batch ranking function is declared in {@link RankWrapper#rankFunctionList()} like any other, bound to its
+ * wrapper, together with the function computing the rank values of a list of elements:
+ * <pre>{@code
+ *
+ * @Override
+ * public List<Supplier<Comparable<?>>> rankFunctionList() {
+ *      return List.of(
+ *          PrimitiveRankFunction.ofInt(this::priorityRank),
+ *          BatchRankFunction.ofDouble(this, SCORER::score),
+ *          this::alphabeticalRank);
+ *      }
+ * }</pre>
+ *
+ * <p>Before ranking a level declared this way, the solvers call the batch function once with the elements still
+ * needing that level, e.g. the elements tied at the preceding levels, and memoize the returned values in their
+ * wrappers. The batch function of any element of a collection is called for all of them, so it must not depend on
+ * the element it is bound to. {@link #get()} evaluates the bound element alone, as a batch of one.
+ *
+ * <p>Batch functions returning {@code long} or {@code double} values are also {@link PrimitiveRankFunction primitive}
+ * ones, and their values are never boxed.
+ *
+ * @param <E> the type of ranked elements
+ *
+ * @author <a href="mailto:abbbrs@icloud.com">Aleksei Baranov</a>
+ */
+public sealed interface BatchRankFunction<E> extends Supplier<Comparable<?>>
+        permits BatchRankFunction.OfComparable, BatchRankFunction.OfLong, BatchRankFunction.OfDouble {
+
+    /**
+     * Creates a batch ranking function returning comparable values.
+     *
+     * @param wrapper the wrapper the function is bound to
+     * @param batch the function returning the rank values of the given elements in the same order
+     * @return the batch ranking function
+     * @param <E> the type of ranked elements
+     */
+    static <E> OfComparable<E> of(RankWrapper<E> wrapper, Function<List<E>, List<? extends Comparable<?>>> batch) {
+        return new OfComparable<>(wrapper, batch);
+    }
+
+    /**
+     * Creates a batch ranking function returning {@code long} values.
+     *
+     * @param wrapper the wrapper the function is bound to
+     * @param batch the function returning the rank values of the given elements in the same order
+     * @return the batch ranking function
+     * @param <E> the type of ranked elements
+     */
+    static <E> OfLong<E> ofLong(RankWrapper<E> wrapper, Function<List<E>, long[]> batch) {
+        return new OfLong<>(wrapper, batch);
+    }
+
+    /**
+     * Creates a batch ranking function returning {@code double} values.
+     *
+     * @param wrapper the wrapper the function is bound to
+     * @param batch the function returning the rank values of the given elements in the same order
+     * @return the batch ranking function
+     * @param <E> the type of ranked elements
+     */
+    static <E> OfDouble<E> ofDouble(RankWrapper<E> wrapper, Function<List<E>, double[]> batch) {
+        return new OfDouble<>(wrapper, batch);
+    }
+
+    /**
+     * {@return the wrapper the function is bound to}
+     */
+    RankWrapper<E> wrapper();
+
+    /**
+     * A batch ranking function returning comparable values.
+     *
+     * @param wrapper the wrapper the function is bound to
+     * @param batch the function returning the rank values of the given elements in the same order
+     * @param <E> the type of ranked elements
+     */
+    record OfComparable<E>(RankWrapper<E> wrapper, Function<List<E>, List<? extends Comparable<?>>> batch)
+            implements BatchRankFunction<E> {
+
+        public OfComparable {
+            Objects.requireNonNull(wrapper, "wrapper must not be null.");
+            Objects.requireNonNull(batch, "batch must not be null.");
+        }
+
+        @Override
+        public Comparable<?> get() {
+            return batch.apply(List.of(wrapper.get())).getFirst();
+        }
+    }
+
+    /**
+     * A batch ranking function returning {@code long} values.
+     *
+     * @param wrapper the wrapper the function is bound to
+     * @param batch the function returning the rank values of the given elements in the same order
+     * @param <E> the type of ranked elements
+     */
+    record OfLong<E>(RankWrapper<E> wrapper, Function<List<E>, long[]> batch)
+            implements BatchRankFunction<E>, PrimitiveRankFunction.OfLong {
+
+        public OfLong {
+            Objects.requireNonNull(wrapper, "wrapper must not be null.");
+            Objects.requireNonNull(batch, "batch must not be null.");
+        }
+
+        @Override
+        public long rankAsLong() {
+            return batch.apply(List.of(wrapper.get()))[0];
+        }
+
+        @Override
+        public Comparable<?> get() {
+            return rankAsLong();
+        }
+    }
+
+    /**
+     * A batch ranking function returning {@code double} values.
+     *
+     * @param wrapper the wrapper the function is bound to
+     * @param batch the function returning the rank values of the given elements in the same order
+     * @param <E> the type of ranked elements
+     */
+    record OfDouble<E>(RankWrapper<E> wrapper, Function<List<E>, double[]> batch)
+            implements BatchRankFunction<E>, PrimitiveRankFunction.OfDouble {
+
+        public OfDouble {
+            Objects.requireNonNull(wrapper, "wrapper must not be null.");
+            Objects.requireNonNull(batch, "batch must not be null.");
+        }
+
+        @Override
+        public double rankAsDouble() {
+            return batch.apply(List.of(wrapper.get()))[0];
+        }
+
+        @Override
+        public Comparable<?> get() {
+            return rankAsDouble();
+        }
+    }
+
+}
@@ -0,0 +1,32 @@
+package io.github.x.artifactory.strategy.ranking.api;
+
+/**
+ * Storage of the dense rank columns and sort keys of the {@link RankingEngine#COLUMNAR columnar} engine and of
+ * collections ranked by a {@link RankDefinition}.
+ *
+ * @author <a href="mailto:abbbrs@icloud.com">Aleksei Baranov</a>
+ */
+public enum ColumnStorage {
+
+    /**
+     * Primitive arrays on the Java heap.
+     */
+    HEAP,
+
+    /**
+     * Direct buffers outside the Java heap, in native byte order. Primitive rank values, sort keys, the permutation of
+     * the elements and the scratch space of a ranking operation then neither occupy nor burden the heap: the sorts
+     * run on the buffers in place and the mappings of floating-point values are built by a sweep over them, so the
+     * heap holds only the interval boundaries. The buffers are allocated once per operation and shared by all levels.
+     * They become unreachable when the operation completes, but their memory is freed only after the garbage collector
+     * has cleared them, so the {@code -XX:MaxDirectMemorySize} limit must admit 32 bytes per element of every operation
+     * whose buffers are not yet collected. A column holds at most {@link #MAX_OFF_HEAP_SIZE} elements.
+     */
+    OFF_HEAP;
+
+    /**
+     * The largest number of elements of an off-heap column, bounded by the capacity of a direct buffer.
+     */
+    public static final int MAX_OFF_HEAP_SIZE = Integer.MAX_VALUE / Long.BYTES;
+
+}
@@ -0,0 +1,68 @@
+package io.github.x.artifactory.strategy.ranking.api;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+
+/**
+ * Settings of the concurrent evaluation of ranking functions on virtual threads.
+ *
+ * <p>Ranking functions calling remote services or caches spend most of their time waiting. With a concurrency above
+ * one, the ranking function of a level is evaluated for all elements being ranked at that level on up to
+ * {@code maxConcurrency} virtual threads before the level is ranked; every element is still evaluated by a single
+ * thread and its values are memoized by its {@link RankWrapper} as before:
+ * <pre>{@code
+ *
+ * final var evaluation = ConcurrentEvaluation.virtualThreads(64, Duration.ofMillis(200));
+ * final var options = RankingOptions.defaults().withConcurrentEvaluation(evaluation);
+ * final var rc = RankedCollection.from(responses, ResponseRanks::new, options);
+ * }</pre>
+ *
+ * <p>If the evaluation of a level exceeds {@code levelDeadline}, the remaining evaluations are interrupted and the
+ * operation fails with {@link io.github.x.artifactory.strategy.ranking.exception.RankEvaluationTimeoutException}.
+ * The failure is thrown once the evaluations in progress have returned, so that none of them completes in the
+ * background; evaluations that do not respond to the interruption, such as blocking I/O, delay it until they return.
+ *
+ * @param maxConcurrency the maximum number of rank values evaluated at the same time; {@code 1} evaluates them one
+ *     by one on the calling thread
+ * @param levelDeadline the maximum time taken by the evaluation of a level
+ *
+ * @author <a href="mailto:abbbrs@icloud.com">Aleksei Baranov</a>
+ */
+public record ConcurrentEvaluation(int maxConcurrency, Duration levelDeadline) {
+
+    /**
+     * The evaluation of rank values one by one on the calling thread.
+     */
+    public static final ConcurrentEvaluation SEQUENTIAL =
+            new ConcurrentEvaluation(1, ChronoUnit.FOREVER.getDuration());
+
+    public ConcurrentEvaluation {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive.");
+        }
+        Objects.requireNonNull(levelDeadline, "levelDeadline must not be null.");
+        if (levelDeadline.isNegative() || levelDeadline.isZero()) {
+            throw new IllegalArgumentException("levelDeadline must be positive.");
+        }
+    }
+
+    /**
+     * Creates the settings of the evaluation on virtual threads.
+     *
+     * @param maxConcurrency the maximum number of rank values evaluated at the same time
+     * @param levelDeadline the maximum time taken by the evaluation of a level
+     * @return the settings of the evaluation on virtual threads
+     */
+    public static ConcurrentEvaluation virtualThreads(int maxConcurrency, Duration levelDeadline) {
+        return new ConcurrentEvaluation(maxConcurrency, levelDeadline);
+    }
+
+    /**
+     * {@return {@code true} if rank values are evaluated on virtual threads}
+     */
+    public boolean isConcurrent() {
+        return maxConcurrency > 1;
+    }
+
+}
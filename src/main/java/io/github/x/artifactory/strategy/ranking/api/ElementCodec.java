@@ -0,0 +1,50 @@
+package io.github.x.artifactory.strategy.ranking.api;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * The binary encoding of elements spilled to disk by an {@link ExternalRankedSort}.
+ *
+ * <p>An element read back must have the same rank values as the element written; it need not be the same instance.
+ * Implementations write only what they read and are called from one thread at a time:
+ * <pre>{@code
+ *
+ * final ElementCodec<Response> codec = new ElementCodec<>() {
+ *     public void write(Response element, DataOutput out) throws IOException {
+ *         out.writeInt(element.priority());
+ *         out.writeUTF(element.name());
+ *     }
+ *
+ *     public Response read(DataInput in) throws IOException {
+ *         return new Response(in.readInt(), in.readUTF());
+ *     }
+ * };
+ * }</pre>
+ *
+ * @param <E> the type of encoded elements
+ *
+ * @author <a href="mailto:abbbrs@icloud.com">Aleksei Baranov</a>
+ */
+public interface ElementCodec<E> {
+
+    /**
+     * Writes an element.
+     *
+     * @param element the element to write
+     * @param out the output positioned after the preceding element
+     * @throws IOException if the element cannot be written
+     */
+    void write(E element, DataOutput out) throws IOException;
+
+    /**
+     * Reads an element written by {@link #write(Object, DataOutput)}.
+     *
+     * @param in the input positioned at the element
+     * @return the element read
+     * @throws IOException if the element cannot be read
+     */
+    E read(DataInput in) throws IOException;
+
+}
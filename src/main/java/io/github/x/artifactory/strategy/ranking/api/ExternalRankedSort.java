@@ -0,0 +1,104 @@
+package io.github.x.artifactory.strategy.ranking.api;
+
+import io.github.x.artifactory.strategy.ranking.collection.SpillingRankedSort;
+import io.github.x.artifactory.strategy.ranking.exception.NonUniqueRankException;
+
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * The hierarchical sort of inputs too large to be held in memory.
+ *
+ * <p>The elements of an input are streamed once, ranked by a {@link RankDefinition} and written to temporary files in
+ * sorted runs of bounded size, which are then merged into the sorted output. The memory taken is bounded by the
+ * {@link ExternalSortOptions}:
+ * <pre>{@code
+ *
+ * final var sort = ExternalRankedSort.of(definition, codec);
+ * try (Stream<Response> sorted = sort.asc(responses.iterator())) {
+ *     sorted.forEach(writer::write);
+ * }
+ * }</pre>
+ *
+ * <p>The sorted stream is lazy and must be closed to delete the temporary files. Like {@link RankedCollection#asc()},
+ * the sort does not order elements having the same rank values for all ranking functions: such elements are detected
+ * while the runs are merged, and the stream throws a {@link NonUniqueRankException} when it reaches them.
+ *
+ * <p>The values of a floating-point ranking function are compared with the precision tolerance of the mapping cache,
+ * mapped to the intervals composed from the values of the whole input, as in the search for extreme elements of
+ * a {@link RankedCollection}.
+ *
+ * @param <E> the type of sorted elements
+ *
+ * @author <a href="mailto:abbbrs@icloud.com">Aleksei Baranov</a>
+ */
+public sealed interface ExternalRankedSort<E> permits SpillingRankedSort {
+
+    /**
+     * Creates an external sort with the {@link ExternalSortOptions#defaults() default} options.
+     *
+     * @param definition the ranking functions of the elements in their order of importance
+     * @param codec the binary encoding of the elements
+     * @return the external sort
+     * @param <E> the type of sorted elements
+     */
+    static <E> ExternalRankedSort<E> of(RankDefinition<E> definition, ElementCodec<E> codec) {
+        return new SpillingRankedSort<>(definition, codec, ExternalSortOptions.defaults());
+    }
+
+    /**
+     * Creates an external sort with the given options.
+     *
+     * @param definition the ranking functions of the elements in their order of importance
+     * @param codec the binary encoding of the elements
+     * @param options the bounds of the memory taken and the directory of temporary files
+     * @return the external sort
+     * @param <E> the type of sorted elements
+     */
+    static <E> ExternalRankedSort<E> of(RankDefinition<E> definition, ElementCodec<E> codec,
+                                        ExternalSortOptions options) {
+        return new SpillingRankedSort<>(definition, codec, options);
+    }
+
+    /**
+     * Sorts the elements of an input in ascending order, as {@link RankedCollection#asc()} does.
+     *
+     * @param source the input, consumed before this method returns
+     * @return the lazily merged elements in ascending order; the stream must be closed
+     * @throws UncheckedIOException if a temporary file cannot be written or read
+     */
+    Stream<E> asc(Iterator<? extends E> source);
+
+    /**
+     * Sorts the elements of an input in descending order, as {@link RankedCollection#desc()} does.
+     *
+     * @param source the input, consumed before this method returns
+     * @return the lazily merged elements in descending order; the stream must be closed
+     * @throws UncheckedIOException if a temporary file cannot be written or read
+     */
+    Stream<E> desc(Iterator<? extends E> source);
+
+    /**
+     * Sorts the elements of a stream in ascending order.
+     *
+     * @param source the input stream, consumed before this method returns
+     * @return the lazily merged elements in ascending order; the stream must be closed
+     * @throws UncheckedIOException if a temporary file cannot be written or read
+     */
+    default Stream<E> asc(Stream<? extends E> source) {
+        return asc(source.iterator());
+    }
+
+    /**
+     * Sorts the elements of a stream in descending order.
+     *
+     * @param source the input stream, consumed before this method returns
+     * @return the lazily merged elements in descending order; the stream must be closed
+     * @throws UncheckedIOException if a temporary file cannot be written or read
+     */
+    default Stream<E> desc(Stream<? extends E> source) {
+        return desc(source.iterator());
+    }
+
+}
@@ -0,0 +1,120 @@
+package io.github.x.artifactory.strategy.ranking.api;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * Options of an {@link ExternalRankedSort}, bounding the memory it takes.
+ *
+ * <p>Options are immutable; the {@code with...} methods return modified copies:
+ * <pre>{@code
+ *
+ * final var options = ExternalSortOptions.defaults().withRunSize(100_000).withDirectory(Path.of("/scratch"));
+ * final var sort = ExternalRankedSort.of(definition, codec, options);
+ * }</pre>
+ *
+ * <p>At most {@code runSize} elements are held in memory while the input is split into sorted runs, and at most
+ * {@code mergeFanIn} runs are merged at once, each read through a buffer of {@code bufferSize} bytes; more runs are
+ * merged in several passes. The values of floating-point ranking functions are written in sorted runs of at most
+ * {@code runSize} values as well and merged the same way to compose their intervals, so that beyond these bounds
+ * only the boundaries of the intervals are held, sixteen bytes per interval and function.
+ *
+ * @param runSize the maximum number of elements of a sorted run
+ * @param mergeFanIn the maximum number of runs merged at once
+ * @param bufferSize the size in bytes of the buffer of every file read or written
+ * @param directory the directory the temporary files are created in
+ * @param mappingCache the cache of mappings of floating-point ranks to intervals
+ *
+ * @author <a href="mailto:abbbrs@icloud.com">Aleksei Baranov</a>
+ */
+public record ExternalSortOptions(int runSize, int mergeFanIn, int bufferSize, Path directory,
+                                  RankMapCache mappingCache) {
+
+    /**
+     * The default maximum number of elements of a sorted run.
+     */
+    public static final int DEFAULT_RUN_SIZE = 1 << 16;
+
+    /**
+     * The default maximum number of runs merged at once.
+     */
+    public static final int DEFAULT_MERGE_FAN_IN = 64;
+
+    /**
+     * The default size in bytes of a file buffer.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    public ExternalSortOptions {
+        if (runSize < 1) {
+            throw new IllegalArgumentException("runSize must be positive.");
+        }
+        if (mergeFanIn < 2) {
+            throw new IllegalArgumentException("mergeFanIn must be at least two.");
+        }
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("bufferSize must be positive.");
+        }
+        Objects.requireNonNull(directory, "directory must not be null.");
+        Objects.requireNonNull(mappingCache, "mappingCache must not be null.");
+    }
+
+    /**
+     * {@return the default options, creating the temporary files in the {@code java.io.tmpdir} directory}
+     */
+    public static ExternalSortOptions defaults() {
+        return new ExternalSortOptions(DEFAULT_RUN_SIZE, DEFAULT_MERGE_FAN_IN, DEFAULT_BUFFER_SIZE,
+                Path.of(System.getProperty("java.io.tmpdir")), RankMapCache.shared());
+    }
+
+    /**
+     * Returns a copy of these options with the given run size.
+     *
+     * @param runSize the maximum number of elements of a sorted run
+     * @return a copy of these options with the given run size
+     */
+    public ExternalSortOptions withRunSize(int runSize) {
+        return new ExternalSortOptions(runSize, mergeFanIn, bufferSize, directory, mappingCache);
+    }
+
+    /**
+     * Returns a copy of these options with the given merge fan-in.
+     *
+     * @param mergeFanIn the maximum number of runs merged at once
+     * @return a copy of these options with the given merge fan-in
+     */
+    public ExternalSortOptions withMergeFanIn(int mergeFanIn) {
+        return new ExternalSortOptions(runSize, mergeFanIn, bufferSize, directory, mappingCache);
+    }
+
+    /**
+     * Returns a copy of these options with the given buffer size.
+     *
+     * @param bufferSize the size in bytes of the buffer of every file read or written
+     * @return a copy of these options with the given buffer size
+     */
+    public ExternalSortOptions withBufferSize(int bufferSize) {
+        return new ExternalSortOptions(runSize, mergeFanIn, bufferSize, directory, mappingCache);
+    }
+
+    /**
+     * Returns a copy of these options with the given directory of temporary files.
+     *
+     * @param directory the directory the temporary files are created in
+     * @return a copy of these options with the given directory
+     */
+    public ExternalSortOptions withDirectory(Path directory) {
+        return new ExternalSortOptions(runSize, mergeFanIn, bufferSize, directory, mappingCache);
+    }
+
+    /**
+     * Returns a copy of these options with the given cache of mappings of floating-point ranks to intervals.
+     *
+     * @param mappingCache the cache of mappings of floating-point ranks to intervals
+     * @return a copy of these options with the given mapping cache
+     */
+    public ExternalSortOptions withMappingCache(RankMapCache mappingCache) {
+        return new ExternalSortOptions(runSize, mergeFanIn, bufferSize, directory, mappingCache);
+    }
+
+}
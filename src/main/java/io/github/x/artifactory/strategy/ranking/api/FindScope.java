@@ -0,0 +1,24 @@
+package io.github.x.artifactory.strategy.ranking.api;
+
+/**
+ * Scopes of the rank evaluation in the search for the extreme elements {@link RankedCollection#min() min()} and
+ * {@link RankedCollection#max() max()}.
+ *
+ * @author <a href="mailto:abbbrs@icloud.com">Aleksei Baranov</a>
+ */
+public enum FindScope {
+
+    /**
+     * Every ranking level is evaluated for all elements of the collection, and floating-point ranks are mapped to
+     * intervals composed from the rank values of all elements.
+     */
+    COLLECTION,
+
+    /**
+     * A ranking level is evaluated only for the candidates, the elements tied at the preceding levels, and
+     * floating-point ranks are mapped to intervals composed from the rank values of the candidates. This saves
+     * the evaluation of expensive lower-priority ranking functions; the intervals and thus the result may differ
+     * from those of {@link #COLLECTION} when candidates' values are close to the values of eliminated elements.
+     */
+    CANDIDATES
+}
@@ -0,0 +1,152 @@
+package io.github.x.artifactory.strategy.ranking.api;
+
+import io.github.x.artifactory.strategy.ranking.collection.IncrementalRankedCollection;
+import io.github.x.artifactory.strategy.ranking.exception.NonUniqueRankException;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * A collection that keeps the hierarchical ranking of its elements while they are added and removed.
+ *
+ * <p>Unlike {@link RankedCollection}, whose elements are fixed when it is instantiated and which ranks them anew on
+ * every call, this collection maintains the ranking incrementally: adding or removing an element ranks only
+ * the elements it is tied with at each level, so a large collection can change continuously and still be queried
+ * cheaply.
+ *
+ * <p>The ranking follows the rules of {@link RankedCollection#asc()} and {@link RankedCollection#desc()}: elements
+ * are grouped level by level, floating-point ranks are compared with the same one-ulp tolerance within their groups,
+ * and elements having all identical ranks cannot be ordered. Such ties are accepted by {@link #add(Object)}; a
+ * {@link NonUniqueRankException} is thrown by the operations that need their order. Accordingly, {@link #min()}
+ * and {@link #max()} are the first elements of the ascending and descending orders and throw only if those are tied.
+ *
+ * <p>The collection must not contain any duplicate elements; rank values of an element must not change while it is
+ * in the collection. Implementations are not thread-safe.
+ *
+ * <p>Example:
+ * <pre>{@code
+ *
+ * final var pool = MutableRankedCollection.from(initialCandidates, CandidateRanks::new);
+ * pool.add(newCandidate);
+ * pool.remove(expiredCandidate);
+ * final var best = pool.max();
+ * }</pre>
+ *
+ * @param <E> the type of elements held in the collection
+ *
+ * @author <a href="mailto:abbbrs@icloud.com">Aleksei Baranov</a>
+ */
+public sealed interface MutableRankedCollection<E> extends Iterable<E> permits IncrementalRankedCollection {
+
+    /**
+     * Creates an instance of an incrementally ranked collection from initial elements and a supplier of an object
+     * that defines a list of ranking functions.
+     *
+     * @param sourceCollection the initial elements
+     * @param rankFunctionsSupplier a function reference returning an object that provides methods to calculate
+     *     an element's rank values and their application order; practically, this refers to the constructor of
+     *     a user-defined class that must extend {@link RankWrapper}.
+     * @return an instance of incrementally ranked collection
+     * @param <E> the type of elements held in the collection
+     * @param <W> the type of rank functions evaluator
+     */
+    static <E, W extends RankWrapper<E>> MutableRankedCollection<E> from(
+            Collection<E> sourceCollection, Supplier<W> rankFunctionsSupplier) {
+
+        final var collection = new IncrementalRankedCollection<>(rankFunctionsSupplier);
+        sourceCollection.forEach(collection::add);
+
+        return collection;
+    }
+
+    /**
+     * Adds an element unless it is already present.
+     *
+     * @param element element to add
+     * @return {@code true} if the element has been added
+     */
+    boolean add(E element);
+
+    /**
+     * Removes an element if it is present.
+     *
+     * @param element element to remove
+     * @return {@code true} if the element has been removed
+     */
+    boolean remove(E element);
+
+    /**
+     * Checks whether an element is present.
+     *
+     * @param element element to look for
+     * @return {@code true} if the element is present
+     */
+    boolean contains(E element);
+
+    /**
+     * {@return the number of elements}
+     */
+    int size();
+
+    /**
+     * {@return {@code true} if the collection has no elements}
+     */
+    boolean isEmpty();
+
+    /**
+     * Returns the lowest-ranked element, i.e. the first element in ascending order.
+     *
+     * @return the lowest-ranked element or an empty optional if the collection is empty
+     * @throws NonUniqueRankException if the lowest-ranked element is tied with another one
+     */
+    Optional<E> min();
+
+    /**
+     * Returns the highest-ranked element, i.e. the first element in descending order.
+     *
+     * @return the highest-ranked element or an empty optional if the collection is empty
+     * @throws NonUniqueRankException if the highest-ranked element is tied with another one
+     */
+    Optional<E> max();
+
+    /**
+     * Lists the elements in ascending order.
+     *
+     * @return the elements in ascending order or an empty optional if the collection is empty
+     * @throws NonUniqueRankException if at least two elements have the same rating value for all ranking functions
+     */
+    Optional<List<E>> asc();
+
+    /**
+     * Lists the elements in descending order.
+     *
+     * @return the elements in descending order or an empty optional if the collection is empty
+     * @throws NonUniqueRankException if at least two elements have the same rating value for all ranking functions
+     */
+    Optional<List<E>> desc();
+
+    /**
+     * Returns an iterator over the elements in ascending order.
+     *
+     * <p>The iterator throws {@link NonUniqueRankException} when it reaches tied elements. The collection must not
+     * be modified during the iteration.
+     *
+     * @return an iterator over the elements in ascending order
+     */
+    @Override
+    Iterator<E> iterator();
+
+    /**
+     * Returns an iterator over the elements in descending order.
+     *
+     * <p>The iterator throws {@link NonUniqueRankException} when it reaches tied elements. The collection must not
+     * be modified during the iteration.
+     *
+     * @return an iterator over the elements in descending order
+     */
+    Iterator<E> descendingIterator();
+
+}
@@ -0,0 +1,161 @@
+package io.github.x.artifactory.strategy.ranking.api;
+
+import java.util.function.Supplier;
+
+/**
+ * A ranking function that returns its rank value as a primitive number.
+ *
+ * <p>Primitive ranking functions are declared in the same list as ordinary ones, so both kinds can be mixed freely
+ * within {@link RankWrapper#rankFunctionList()}. The framework recognizes them and evaluates, caches and sorts their
+ * values without boxing; {@link #get()} remains available and returns the boxed value.
+ *
+ * <p>Declaration example:
+ * <pre>{@code
+ *
+ * @Override
+ * public List<Supplier<Comparable<?>>> rankFunctionList() {
+ *      return List.of(
+ *          PrimitiveRankFunction.ofInt(this::priorityRank),
+ *          PrimitiveRankFunction.ofDouble(this::scoreRank),
+ *          this::alphabeticalRank);
+ *      }
+ *
+ *     int priorityRank() {
+ *         ...
+ *     }
+ *
+ *     double scoreRank() {
+ *         ...
+ *     }
+ *
+ *     String alphabeticalRank() {
+ *         ...
+ *     }
+ * }</pre>
+ *
+ * <p>Floating-point ranks declared with {@link OfFloat} or {@link OfDouble} are subject to the same tolerant,
+ * transitivity-preserving comparison as their boxed counterparts {@link Float} and {@link Double}.
+ *
+ * @author <a href="mailto:abbbrs@icloud.com">Aleksei Baranov</a>
+ */
+public sealed interface PrimitiveRankFunction extends Supplier<Comparable<?>>
+        permits PrimitiveRankFunction.OfInt, PrimitiveRankFunction.OfLong,
+                PrimitiveRankFunction.OfFloat, PrimitiveRankFunction.OfDouble {
+
+    /**
+     * Returns the argument as an {@code int} ranking function; a convenience for method references.
+     *
+     * @param function ranking function
+     * @return the same ranking function
+     */
+    static OfInt ofInt(OfInt function) {
+        return function;
+    }
+
+    /**
+     * Returns the argument as a {@code long} ranking function; a convenience for method references.
+     *
+     * @param function ranking function
+     * @return the same ranking function
+     */
+    static OfLong ofLong(OfLong function) {
+        return function;
+    }
+
+    /**
+     * Returns the argument as a {@code float} ranking function; a convenience for method references.
+     *
+     * @param function ranking function
+     * @return the same ranking function
+     */
+    static OfFloat ofFloat(OfFloat function) {
+        return function;
+    }
+
+    /**
+     * Returns the argument as a {@code double} ranking function; a convenience for method references.
+     *
+     * @param function ranking function
+     * @return the same ranking function
+     */
+    static OfDouble ofDouble(OfDouble function) {
+        return function;
+    }
+
+    /**
+     * A ranking function returning an {@code int} value.
+     */
+    @FunctionalInterface
+    non-sealed interface OfInt extends PrimitiveRankFunction {
+
+        /**
+         * Returns the rank value.
+         *
+         * @return the rank value
+         */
+        int rankAsInt();
+
+        @Override
+        default Comparable<?> get() {
+            return rankAsInt();
+        }
+    }
+
+    /**
+     * A ranking function returning a {@code long} value.
+     */
+    @FunctionalInterface
+    non-sealed interface OfLong extends PrimitiveRankFunction {
+
+        /**
+         * Returns the rank value.
+         *
+         * @return the rank value
+         */
+        long rankAsLong();
+
+        @Override
+        default Comparable<?> get() {
+            return rankAsLong();
+        }
+    }
+
+    /**
+     * A ranking function returning a {@code float} value.
+     */
+    @FunctionalInterface
+    non-sealed interface OfFloat extends PrimitiveRankFunction {
+
+        /**
+         * Returns the rank value.
+         *
+         * @return the rank value
+         */
+        float rankAsFloat();
+
+        @Override
+        default Comparable<?> get() {
+            return rankAsFloat();
+        }
+    }
+
+    /**
+     * A ranking function returning a {@code double} value.
+     */
+    @FunctionalInterface
+    non-sealed interface OfDouble extends PrimitiveRankFunction {
+
+        /**
+         * Returns the rank value.
+         *
+         * @return the rank value
+         */
+        double rankAsDouble();
+
+        @Override
+        default Comparable<?> get() {
+            return rankAsDouble();
+        }
+    }
+
+}
@@ -0,0 +1,56 @@
+package io.github.x.artifactory.strategy.ranking.api;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a ranking method of a {@link RankWrapper} subclass, to be applied in the given order.
+ *
+ * <p>For every abstract class declaring such methods and not extending {@link AnnotatedRankWrapper}, the annotation
+ * processor of this module generates a final subclass named after it with the {@code Impl} suffix, e.g.
+ * {@code RankMyTypeImpl} for {@code RankMyType}, or {@code Outer_RankMyTypeImpl} for a nested class. The generated
+ * class implements {@link RankWrapper#rankFunctionList()} and calls every ranking method directly, without lambdas
+ * and without boxing primitive values:
+ * <pre>{@code
+ *
+ * public abstract class RankMyType extends RankWrapper<MyType> {
+ *
+ *     @Rank(order = 1)
+ *     int priority() {
+ *         return get().priority();
+ *     }
+ *
+ *     @Rank(order = 2)
+ *     String alphabeticalRank() {
+ *         return get().name();
+ *     }
+ * }
+ *
+ * final var rc = RankedCollection.from(collection, RankMyTypeImpl::new);
+ * }</pre>
+ *
+ * <p>Ranking methods take no parameters and return an {@code int}, {@code long}, {@code float} or {@code double}
+ * value, a narrower integral value evaluated as an {@code int} one, or a {@link Comparable} object. Their orders
+ * must be distinct within a class; only their relative order matters. Methods inherited from abstract superclasses
+ * are included.
+ *
+ * <p>A class extending {@link AnnotatedRankWrapper} needs no annotation processor: its methods are introspected when
+ * its first wrapper is constructed and bound to method handles shared by all its wrappers. The methods may then be
+ * private; in a named module their package must be open to this module.
+ *
+ * @author <a href="mailto:abbbrs@icloud.com">Aleksei Baranov</a>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Rank {
+
+    /**
+     * {@return the position of the ranking method in the order of importance, the lowest first}
+     */
+    int order();
+
+}
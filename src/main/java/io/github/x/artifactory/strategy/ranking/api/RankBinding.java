@@ -0,0 +1,266 @@
+package io.github.x.artifactory.strategy.ranking.api;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * The {@link Rank} annotated methods of a concrete {@link AnnotatedRankWrapper} subclass bound to method handles.
+ *
+ * <p>The methods of a class are introspected once and bound to handles taking the wrapper as their only parameter,
+ * shared by every wrapper of the class. A wrapper then evaluates a rank through the handle of its level, without
+ * resolving a function list and without a lambda bound to the wrapper. Integral handles return {@code long} values,
+ * floating-point handles {@code double} values and the other ones {@link Comparable} objects, so primitive ranks are
+ * never boxed.
+ */
+final class RankBinding {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final ClassValue<RankBinding> BINDINGS = new ClassValue<>() {
+        @Override
+        protected RankBinding computeValue(Class<?> type) {
+            return bind(type);
+        }
+    };
+
+    private final Kind[] kinds;
+
+    private final MethodHandle[] handles;
+
+    private RankBinding(Kind[] kinds, MethodHandle[] handles) {
+        this.kinds = kinds;
+        this.handles = handles;
+    }
+
+    /**
+     * Returns the binding of a wrapper class, introspecting it on the first call.
+     *
+     * @param type the class of an {@link AnnotatedRankWrapper}
+     * @return the binding
+     * @throws IllegalStateException if the class declares no {@link Rank} methods, declares an order twice or
+     *     declares a method that cannot be a ranking method or cannot be accessed
+     */
+    static RankBinding of(Class<?> type) {
+        return BINDINGS.get(type);
+    }
+
+    /**
+     * {@return the number of ranking methods}
+     */
+    int size() {
+        return handles.length;
+    }
+
+    /**
+     * Returns the value type of a ranking method.
+     *
+     * @param functionIndex the index of the method in the ranking order
+     * @return the value type
+     */
+    Kind kind(int functionIndex) {
+        return kinds[functionIndex];
+    }
+
+    /**
+     * Calls a ranking method returning objects or {@code boolean} values.
+     *
+     * @param wrapper the wrapper to call the method on
+     * @param functionIndex the index of the method in the ranking order
+     * @return the rank value
+     */
+    @SuppressWarnings("java:S1452")
+    Comparable<?> rank(RankWrapper<?> wrapper, int functionIndex) {
+        try {
+            return (Comparable<?>) handles[functionIndex].invokeExact(wrapper);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    /**
+     * Calls an integral ranking method.
+     *
+     * @param wrapper the wrapper to call the method on
+     * @param functionIndex the index of the method in the ranking order
+     * @return the rank value
+     */
+    long rankAsLong(RankWrapper<?> wrapper, int functionIndex) {
+        try {
+            return (long) handles[functionIndex].invokeExact(wrapper);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    /**
+     * Calls a floating-point ranking method.
+     *
+     * @param wrapper the wrapper to call the method on
+     * @param functionIndex the index of the method in the ranking order
+     * @return the rank value; {@code float} values are widened exactly
+     */
+    double rankAsDouble(RankWrapper<?> wrapper, int functionIndex) {
+        try {
+            return (double) handles[functionIndex].invokeExact(wrapper);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    /**
+     * Lists the ranking methods as functions bound to a wrapper, declaring the primitive ones by
+     * {@link PrimitiveRankFunction} factories.
+     *
+     * @param wrapper the wrapper to bind the functions to
+     * @return the ranking functions in their order
+     */
+    List<Supplier<Comparable<?>>> functions(RankWrapper<?> wrapper) {
+        final List<Supplier<Comparable<?>>> functions = new ArrayList<>(handles.length);
+        for (int i = 0; i < handles.length; i++) {
+            final int functionIndex = i;
+            functions.add(switch (kinds[i]) {
+                case INT -> PrimitiveRankFunction.ofInt(() -> (int) rankAsLong(wrapper, functionIndex));
+                case LONG -> PrimitiveRankFunction.ofLong(() -> rankAsLong(wrapper, functionIndex));
+                case FLOAT -> PrimitiveRankFunction.ofFloat(() -> (float) rankAsDouble(wrapper, functionIndex));
+                case DOUBLE -> PrimitiveRankFunction.ofDouble(() -> rankAsDouble(wrapper, functionIndex));
+                case COMPARABLE -> () -> rank(wrapper, functionIndex);
+            });
+        }
+
+        return List.copyOf(functions);
+    }
+
+    private static RankBinding bind(Class<?> type) {
+        final List<Method> methods = rankMethods(type);
+        if (methods.isEmpty()) {
+            throw new IllegalStateException(type.getName() + " must declare @Rank methods.");
+        }
+
+        final Kind[] kinds = new Kind[methods.size()];
+        final MethodHandle[] handles = new MethodHandle[methods.size()];
+        for (int i = 0; i < methods.size(); i++) {
+            final Method method = methods.get(i);
+            if (i > 0 && order(method) == order(methods.get(i - 1))) {
+                throw new IllegalStateException("The order " + order(method) + " is declared by more than one @Rank "
+                        + "method of " + type.getName() + ".");
+            }
+            kinds[i] = Kind.of(method);
+            handles[i] = unreflect(method).asType(MethodType.methodType(kinds[i].handleType, RankWrapper.class));
+        }
+
+        return new RankBinding(kinds, handles);
+    }
+
+    /**
+     * Collects the annotated methods of a class and of its superclasses in their order. A method overridden without
+     * the annotation is not a ranking method.
+     */
+    private static List<Method> rankMethods(Class<?> type) {
+        final List<Method> methods = new ArrayList<>();
+        final Set<String> overridden = new HashSet<>();
+        for (Class<?> owner = type; owner != AnnotatedRankWrapper.class; owner = owner.getSuperclass()) {
+            for (final Method method : owner.getDeclaredMethods()) {
+                final boolean instanceMethod = !Modifier.isStatic(method.getModifiers()) && !method.isSynthetic();
+                final boolean visible = instanceMethod && method.getParameterCount() == 0
+                        && (Modifier.isPrivate(method.getModifiers()) || overridden.add(method.getName()));
+                if (method.isAnnotationPresent(Rank.class)) {
+                    if (!instanceMethod || method.getParameterCount() != 0) {
+                        throw new IllegalStateException("The @Rank method " + owner.getName() + "." + method.getName()
+                                + " must be an instance method without parameters.");
+                    }
+                    if (visible) {
+                        methods.add(method);
+                    }
+                }
+            }
+        }
+        methods.sort(Comparator.comparingInt(RankBinding::order));
+
+        return methods;
+    }
+
+    private static int order(Method method) {
+        return method.getAnnotation(Rank.class).order();
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        final Class<?> owner = method.getDeclaringClass();
+        LOOKUP.lookupClass().getModule().addReads(owner.getModule());
+        try {
+            return MethodHandles.privateLookupIn(owner, LOOKUP).unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("The @Rank method " + owner.getName() + "." + method.getName()
+                    + " cannot be accessed; its package must be open to the "
+                    + LOOKUP.lookupClass().getModule().getName() + " module.", e);
+        }
+    }
+
+    /**
+     * The value types of ranking methods.
+     */
+    enum Kind {
+
+        INT(long.class),
+
+        LONG(long.class),
+
+        FLOAT(double.class),
+
+        DOUBLE(double.class),
+
+        COMPARABLE(Comparable.class);
+
+        private final Class<?> handleType;
+
+        Kind(Class<?> handleType) {
+            this.handleType = handleType;
+        }
+
+        boolean isIntegral() {
+            return this == INT || this == LONG;
+        }
+
+        boolean isFloatingPoint() {
+            return this == FLOAT || this == DOUBLE;
+        }
+
+        private static Kind of(Method method) {
+            final Class<?> type = method.getReturnType();
+            if (type == int.class || type == short.class || type == byte.class || type == char.class) {
+                return INT;
+            }
+            if (type == long.class) {
+                return LONG;
+            }
+            if (type == float.class) {
+                return FLOAT;
+            }
+            if (type == double.class) {
+                return DOUBLE;
+            }
+            if (type == boolean.class || Comparable.class.isAssignableFrom(type)) {
+                return COMPARABLE;
+            }
+
+            throw new IllegalStateException("The @Rank method " + method.getDeclaringClass().getName() + "."
+                    + method.getName() + " must return a primitive value or a Comparable object.");
+        }
+    }
+
+}
@@ -0,0 +1,252 @@
+package io.github.x.artifactory.strategy.ranking.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Stateless ranking rules: the ranking functions applied to an element itself, in their order of importance.
+ *
+ * <p>Unlike {@link RankWrapper}, a definition is not instantiated per element, so a collection ranked by it holds
+ * no object besides its elements; the rank values of a ranking operation are evaluated into dense columns that are
+ * dropped once the operation completes. Definitions are immutable; the {@code thenBy...} methods return extended
+ * copies:
+ * <pre>{@code
+ *
+ * final var definition = RankDefinition.byInt(MyType::priority)
+ *         .thenByDouble(MyType::score)
+ *         .thenBy(MyType::name);
+ * final var rc = RankedCollection.from(collection, definition);
+ * }</pre>
+ *
+ * <p>Like the primitive ranking functions of a wrapper, the {@code int}, {@code long}, {@code float} and
+ * {@code double} levels are evaluated and sorted without boxing, and floating-point levels are subject to the same
+ * tolerant comparison.
+ *
+ * @param <E> the type of ranked elements
+ *
+ * @author <a href="mailto:abbbrs@icloud.com">Aleksei Baranov</a>
+ */
+public final class RankDefinition<E> {
+
+    private final List<Level<E>> levels;
+
+    private RankDefinition(List<Level<E>> levels) {
+        this.levels = levels;
+    }
+
+    /**
+     * Creates a definition ranking by comparable values first.
+     *
+     * @param level ranking function
+     * @return the definition
+     * @param <E> the type of ranked elements
+     */
+    public static <E> RankDefinition<E> by(Level.OfComparable<E> level) {
+        return new RankDefinition<E>(List.of()).then(level);
+    }
+
+    /**
+     * Creates a definition ranking by {@code int} values first.
+     *
+     * @param level ranking function
+     * @return the definition
+     * @param <E> the type of ranked elements
+     */
+    public static <E> RankDefinition<E> byInt(Level.OfInt<E> level) {
+        return new RankDefinition<E>(List.of()).then(level);
+    }
+
+    /**
+     * Creates a definition ranking by {@code long} values first.
+     *
+     * @param level ranking function
+     * @return the definition
+     * @param <E> the type of ranked elements
+     */
+    public static <E> RankDefinition<E> byLong(Level.OfLong<E> level) {
+        return new RankDefinition<E>(List.of()).then(level);
+    }
+
+    /**
+     * Creates a definition ranking by {@code float} values first.
+     *
+     * @param level ranking function
+     * @return the definition
+     * @param <E> the type of ranked elements
+     */
+    public static <E> RankDefinition<E> byFloat(Level.OfFloat<E> level) {
+        return new RankDefinition<E>(List.of()).then(level);
+    }
+
+    /**
+     * Creates a definition ranking by {@code double} values first.
+     *
+     * @param level ranking function
+     * @return the definition
+     * @param <E> the type of ranked elements
+     */
+    public static <E> RankDefinition<E> byDouble(Level.OfDouble<E> level) {
+        return new RankDefinition<E>(List.of()).then(level);
+    }
+
+    /**
+     * Returns a definition ranking the elements tied at all levels of this one by comparable values.
+     *
+     * @param level ranking function
+     * @return the extended definition
+     */
+    public RankDefinition<E> thenBy(Level.OfComparable<E> level) {
+        return then(level);
+    }
+
+    /**
+     * Returns a definition ranking the elements tied at all levels of this one by {@code int} values.
+     *
+     * @param level ranking function
+     * @return the extended definition
+     */
+    public RankDefinition<E> thenByInt(Level.OfInt<E> level) {
+        return then(level);
+    }
+
+    /**
+     * Returns a definition ranking the elements tied at all levels of this one by {@code long} values.
+     *
+     * @param level ranking function
+     * @return the extended definition
+     */
+    public RankDefinition<E> thenByLong(Level.OfLong<E> level) {
+        return then(level);
+    }
+
+    /**
+     * Returns a definition ranking the elements tied at all levels of this one by {@code float} values.
+     *
+     * @param level ranking function
+     * @return the extended definition
+     */
+    public RankDefinition<E> thenByFloat(Level.OfFloat<E> level) {
+        return then(level);
+    }
+
+    /**
+     * Returns a definition ranking the elements tied at all levels of this one by {@code double} values.
+     *
+     * @param level ranking function
+     * @return the extended definition
+     */
+    public RankDefinition<E> thenByDouble(Level.OfDouble<E> level) {
+        return then(level);
+    }
+
+    /**
+     * {@return the ranking functions in their order of importance}
+     */
+    public List<Level<E>> levels() {
+        return levels;
+    }
+
+    private RankDefinition<E> then(Level<E> level) {
+        Objects.requireNonNull(level, "level must not be null.");
+        final List<Level<E>> extended = new ArrayList<>(levels);
+        extended.add(level);
+
+        return new RankDefinition<>(List.copyOf(extended));
+    }
+
+    /**
+     * A ranking function of a definition.
+     *
+     * @param <E> the type of ranked elements
+     */
+    public sealed interface Level<E>
+            permits Level.OfInt, Level.OfLong, Level.OfFloat, Level.OfDouble, Level.OfComparable {
+
+        /**
+         * A ranking function returning an {@code int} value.
+         *
+         * @param <E> the type of ranked elements
+         */
+        @FunctionalInterface
+        non-sealed interface OfInt<E> extends Level<E> {
+
+            /**
+             * Returns the rank value of an element.
+             *
+             * @param element ranked element
+             * @return the rank value
+             */
+            int rankAsInt(E element);
+        }
+
+        /**
+         * A ranking function returning a {@code long} value.
+         *
+         * @param <E> the type of ranked elements
+         */
+        @FunctionalInterface
+        non-sealed interface OfLong<E> extends Level<E> {
+
+            /**
+             * Returns the rank value of an element.
+             *
+             * @param element ranked element
+             * @return the rank value
+             */
+            long rankAsLong(E element);
+        }
+
+        /**
+         * A ranking function returning a {@code float} value.
+         *
+         * @param <E> the type of ranked elements
+         */
+        @FunctionalInterface
+        non-sealed interface OfFloat<E> extends Level<E> {
+
+            /**
+             * Returns the rank value of an element.
+             *
+             * @param element ranked element
+             * @return the rank value
+             */
+            float rankAsFloat(E element);
+        }
+
+        /**
+         * A ranking function returning a {@code double} value.
+         *
+         * @param <E> the type of ranked elements
+         */
+        @FunctionalInterface
+        non-sealed interface OfDouble<E> extends Level<E> {
+
+            /**
+             * Returns the rank value of an element.
+             *
+             * @param element ranked element
+             * @return the rank value
+             */
+            double rankAsDouble(E element);
+        }
+
+        /**
+         * A ranking function returning any {@link Comparable} value.
+         *
+         * @param <E> the type of ranked elements
+         */
+        @FunctionalInterface
+        non-sealed interface OfComparable<E> extends Level<E> {
+
+            /**
+             * Returns the rank value of an element.
+             *
+             * @param element ranked element
+             * @return the rank value
+             */
+            Comparable<?> rank(E element);
+        }
+    }
+
+}
@@ -0,0 +1,75 @@
+package io.github.x.artifactory.strategy.ranking.api;
+
+import io.github.x.artifactory.strategy.ranking.rmapping.ConcurrentRankMapCache;
+
+/**
+ * A cache of the mappings of floating-point rank values to the disjoint intervals they fall into.
+ *
+ * <p>Building such a mapping requires sorting the values, so a ranking reuses the mapping built for the same values
+ * by any earlier ranking sharing the cache. By default all ranked collections share the {@link #shared()} cache;
+ * a separate cache can be configured with {@link RankingOptions#withMappingCache(RankMapCache)}:
+ * <pre>{@code
+ *
+ * final var cache = RankMapCache.bounded(100_000);
+ * final var options = RankingOptions.defaults().withMappingCache(cache);
+ * final var rc = RankedCollection.from(collection, RankMyType::new, options);
+ *  ...
+ * final var hitRate = cache.statistics().hitRate();
+ * }</pre>
+ *
+ * <p>Caches are thread-safe and bounded by weight, the total number of intervals of the cached mappings; the least
+ * recently used mappings are evicted first.
+ *
+ * @author <a href="mailto:abbbrs@icloud.com">Aleksei Baranov</a>
+ */
+public sealed interface RankMapCache permits ConcurrentRankMapCache {
+
+    /**
+     * {@return the cache shared by default between all ranked collections}
+     */
+    static RankMapCache shared() {
+        return ConcurrentRankMapCache.shared();
+    }
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param maxWeight the maximum total number of intervals of the cached mappings; zero disables caching
+     * @return an empty cache
+     */
+    static RankMapCache bounded(long maxWeight) {
+        return new ConcurrentRankMapCache(maxWeight);
+    }
+
+    /**
+     * {@return a snapshot of the cache statistics}
+     */
+    Statistics statistics();
+
+    /**
+     * Removes all cached mappings; the statistics are kept.
+     */
+    void clear();
+
+    /**
+     * Cache statistics.
+     *
+     * @param hitCount the number of lookups that found a cached mapping
+     * @param missCount the number of lookups that built a mapping
+     * @param evictionCount the number of mappings evicted to keep the weight within its bound
+     * @param entryCount the number of cached mappings
+     * @param weight the total number of intervals of the cached mappings
+     */
+    record Statistics(long hitCount, long missCount, long evictionCount, int entryCount, long weight) {
+
+        /**
+         * {@return the share of lookups that found a cached mapping, or zero if there were none}
+         */
+        public double hitRate() {
+            final long lookupCount = hitCount + missCount;
+
+            return lookupCount == 0 ? 0 : (double) hitCount / lookupCount;
+        }
+    }
+
+}
@@ -1,8 +1,6 @@
 package io.github.x.artifactory.strategy.ranking.api;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.function.Supplier;
 
 /**
@@ -41,6 +39,14 @@ import java.util.function.Supplier;
  * }
  * }</pre>
  *
+ * <p>Ranking functions returning primitive numbers can be declared with {@link PrimitiveRankFunction} factories, e.g.
+ * {@code PrimitiveRankFunction.ofInt(this::countRank)}, and mixed with ordinary ones; their values are then neither
+ * boxed nor cached in boxed form. Ranking functions evaluating many elements in one call are declared with
+ * {@link BatchRankFunction} factories. Alternatively, ranking methods annotated with {@link Rank} let the annotation
+ * processor generate the function list and a direct evaluation of every method; a class extending
+ * {@link AnnotatedRankWrapper} instead has its annotated methods bound at runtime to method handles shared by all its
+ * wrappers, so no function list is resolved per wrapper.
+ *
  * <p>Example of how to use it for a ranked collection instantiation:
  * <pre>{@code
  *
@@ -63,9 +69,34 @@ public abstract class RankWrapper<E> {
     private E element;
 
     /**
-     * Rank value cache.
+     * Ranking functions, resolved on the first evaluation and released once every rank value is memoized.
+     */
+    private List<Supplier<Comparable<?>>> functions;
+
+    /**
+     * The bound {@link Rank} methods of an {@link AnnotatedRankWrapper}, resolved once per wrapper, or {@code null}.
+     */
+    private final RankBinding binding = this instanceof AnnotatedRankWrapper<?> ? RankBinding.of(getClass()) : null;
+
+    /**
+     * Rank value cache indexed by function index.
+     */
+    private Comparable<?>[] rankValues;
+
+    /**
+     * Primitive rank value cache indexed by function index; floating-point values are kept as their raw bits.
+     */
+    private long[] primitiveRankValues;
+
+    /**
+     * Flags of the primitive rank values that have already been evaluated.
+     */
+    private boolean[] primitiveRankEvaluated;
+
+    /**
+     * The number of ranking functions whose values are memoized in either form.
      */
-    private final Map<Integer, Comparable<?>> rankValueMap = new HashMap<>();
+    private int memoizedCount;
 
     /**
      * Returns the rank value by function index.
@@ -75,7 +106,217 @@ public abstract class RankWrapper<E> {
      */
     @SuppressWarnings("java:S1452")
     public final Comparable<?> rank(int functionIndex) {
-        return rankValueMap.computeIfAbsent(functionIndex, index -> rankFunctionList().get(index).get());
+        final var cached = rankValues == null ? null : rankValues[functionIndex];
+        if (cached != null) {
+            return cached;
+        }
+
+        final Comparable<?> value;
+        if (binding != null) {
+            value = switch (binding.kind(functionIndex)) {
+                case INT -> (int) rankAsLong(functionIndex);
+                case LONG -> rankAsLong(functionIndex);
+                case FLOAT -> (float) rankAsDouble(functionIndex);
+                case DOUBLE -> rankAsDouble(functionIndex);
+                case COMPARABLE -> evaluateRank(functionIndex);
+            };
+        } else {
+            value = functions().get(functionIndex) instanceof PrimitiveRankFunction primitive
+                    ? boxedPrimitiveRank(primitive, functionIndex)
+                    : evaluateRank(functionIndex);
+        }
+        if (value != null) {
+            storeRank(functionIndex, value);
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns the ranking function by index. The function list is resolved once per wrapper while its rank values
+     * are being evaluated.
+     *
+     * @param functionIndex rank calculation function index
+     * @return the ranking function
+     */
+    @SuppressWarnings("java:S1452")
+    public final Supplier<Comparable<?>> rankFunction(int functionIndex) {
+        return (functions != null ? functions : rankFunctionList()).get(functionIndex);
+    }
+
+    /**
+     * Returns the number of ranking functions. It is answered without resolving the function list once a rank value
+     * is memoized, and always by an {@link AnnotatedRankWrapper}.
+     *
+     * @return the number of ranking functions
+     */
+    public final int rankFunctionCount() {
+        if (rankValues != null) {
+            return rankValues.length;
+        }
+        if (primitiveRankValues != null) {
+            return primitiveRankValues.length;
+        }
+        return binding != null ? binding.size() : functions().size();
+    }
+
+    /**
+     * Returns the rank value of an integral primitive ranking function without boxing it.
+     *
+     * @param functionIndex rank calculation function index
+     * @return the rank value
+     * @throws ClassCastException if the function is neither {@link PrimitiveRankFunction.OfInt},
+     *     {@link PrimitiveRankFunction.OfLong} nor returns {@link Integer} or {@link Long} values
+     */
+    public final long rankAsLong(int functionIndex) {
+        if (!isPrimitiveRankEvaluated(functionIndex)) {
+            storePrimitiveRank(functionIndex, evaluateRankAsLong(functionIndex));
+        }
+
+        return primitiveRankValues[functionIndex];
+    }
+
+    /**
+     * Returns the rank value of a floating-point primitive ranking function without boxing it.
+     *
+     * @param functionIndex rank calculation function index
+     * @return the rank value; {@code float} values are widened exactly
+     * @throws ClassCastException if the function is neither {@link PrimitiveRankFunction.OfFloat},
+     *     {@link PrimitiveRankFunction.OfDouble} nor returns {@link Float} or {@link Double} values
+     */
+    public final double rankAsDouble(int functionIndex) {
+        if (!isPrimitiveRankEvaluated(functionIndex)) {
+            storePrimitiveRank(functionIndex, Double.doubleToRawLongBits(evaluateRankAsDouble(functionIndex)));
+        }
+
+        return Double.longBitsToDouble(primitiveRankValues[functionIndex]);
+    }
+
+    /**
+     * Evaluates a ranking function returning objects, bypassing the memoized values. Classes generated for
+     * {@link Rank} annotations override it to call the ranking methods directly.
+     *
+     * @param functionIndex rank calculation function index
+     * @return the rank value
+     */
+    @SuppressWarnings("java:S1452")
+    protected Comparable<?> evaluateRank(int functionIndex) {
+        return binding != null ? binding.rank(this, functionIndex) : functions().get(functionIndex).get();
+    }
+
+    /**
+     * Evaluates an integral ranking function without boxing, bypassing the memoized values. Classes generated for
+     * {@link Rank} annotations override it to call the ranking methods directly.
+     *
+     * @param functionIndex rank calculation function index
+     * @return the rank value
+     * @throws ClassCastException if the function is neither {@link PrimitiveRankFunction.OfInt},
+     *     {@link PrimitiveRankFunction.OfLong} nor returns {@link Integer} or {@link Long} values
+     */
+    protected long evaluateRankAsLong(int functionIndex) {
+        if (binding != null) {
+            return binding.kind(functionIndex).isIntegral()
+                    ? binding.rankAsLong(this, functionIndex)
+                    : ((Number) boxedIntegralRank(functionIndex)).longValue();
+        }
+
+        return switch (functions().get(functionIndex)) {
+            case PrimitiveRankFunction.OfInt function -> function.rankAsInt();
+            case PrimitiveRankFunction.OfLong function -> function.rankAsLong();
+            default -> ((Number) boxedIntegralRank(functionIndex)).longValue();
+        };
+    }
+
+    /**
+     * Evaluates a floating-point ranking function without boxing, bypassing the memoized values. Classes generated
+     * for {@link Rank} annotations override it to call the ranking methods directly.
+     *
+     * @param functionIndex rank calculation function index
+     * @return the rank value; {@code float} values are widened exactly
+     * @throws ClassCastException if the function is neither {@link PrimitiveRankFunction.OfFloat},
+     *     {@link PrimitiveRankFunction.OfDouble} nor returns {@link Float} or {@link Double} values
+     */
+    protected double evaluateRankAsDouble(int functionIndex) {
+        if (binding != null) {
+            return binding.kind(functionIndex).isFloatingPoint()
+                    ? binding.rankAsDouble(this, functionIndex)
+                    : ((Number) boxedFloatingRank(functionIndex)).doubleValue();
+        }
+
+        return switch (functions().get(functionIndex)) {
+            case PrimitiveRankFunction.OfFloat function -> function.rankAsFloat();
+            case PrimitiveRankFunction.OfDouble function -> function.rankAsDouble();
+            default -> ((Number) boxedFloatingRank(functionIndex)).doubleValue();
+        };
+    }
+
+    /**
+     * Evaluates the rank values of a {@link BatchRankFunction batch ranking function} for many wrappers in one call
+     * and memoizes them. The batch function of the first wrapper is called once with the elements of the wrappers
+     * that have not memoized the value yet; nothing is done if the function at the index is not a batch one.
+     *
+     * @param wrappers the wrappers of one collection
+     * @param functionIndex rank calculation function index
+     * @return the number of rank values evaluated
+     * @throws IllegalStateException if the batch function does not return one value per element
+     */
+    public static int evaluateBatch(List<? extends RankWrapper<?>> wrappers, int functionIndex) {
+        if (wrappers.isEmpty()) {
+            return 0;
+        }
+
+        if (!(wrappers.getFirst().rankFunction(functionIndex) instanceof BatchRankFunction<?> function)) {
+            return 0;
+        }
+
+        final boolean primitive = function instanceof PrimitiveRankFunction;
+        final List<RankWrapper<?>> pending = wrappers.stream()
+                .<RankWrapper<?>>map(wrapper -> wrapper)
+                .filter(wrapper -> primitive
+                        ? !wrapper.isPrimitiveRankEvaluated(functionIndex)
+                        : !wrapper.isRankEvaluated(functionIndex))
+                .toList();
+        if (!pending.isEmpty()) {
+            evaluateBatch(function, pending, functionIndex);
+        }
+
+        return pending.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void evaluateBatch(BatchRankFunction<T> function, List<RankWrapper<?>> pending,
+                                          int functionIndex) {
+        final List<T> elements = pending.stream().map(wrapper -> (T) wrapper.get()).toList();
+        switch (function) {
+            case BatchRankFunction.OfComparable<T> batch -> {
+                final List<? extends Comparable<?>> values = batch.batch().apply(elements);
+                checkBatchSize(values.size(), pending.size(), functionIndex);
+                for (int i = 0; i < values.size(); i++) {
+                    pending.get(i).storeRank(functionIndex, values.get(i));
+                }
+            }
+            case BatchRankFunction.OfLong<T> batch -> {
+                final long[] values = batch.batch().apply(elements);
+                checkBatchSize(values.length, pending.size(), functionIndex);
+                for (int i = 0; i < values.length; i++) {
+                    pending.get(i).storePrimitiveRank(functionIndex, values[i]);
+                }
+            }
+            case BatchRankFunction.OfDouble<T> batch -> {
+                final double[] values = batch.batch().apply(elements);
+                checkBatchSize(values.length, pending.size(), functionIndex);
+                for (int i = 0; i < values.length; i++) {
+                    pending.get(i).storePrimitiveRank(functionIndex, Double.doubleToRawLongBits(values[i]));
+                }
+            }
+        }
+    }
+
+    private static void checkBatchSize(int valueCount, int elementCount, int functionIndex) {
+        if (valueCount != elementCount) {
+            throw new IllegalStateException("The batch ranking function at index " + functionIndex + " returned "
+                    + valueCount + " values for " + elementCount + " elements.");
+        }
     }
 
     /**
@@ -104,4 +345,100 @@ public abstract class RankWrapper<E> {
         return element;
     }
 
+    /**
+     * {@return the bound {@link Rank} methods of an {@link AnnotatedRankWrapper}, or {@code null}}
+     */
+    final RankBinding binding() {
+        return binding;
+    }
+
+    private List<Supplier<Comparable<?>>> functions() {
+        var list = functions;
+        if (list == null) {
+            list = rankFunctionList();
+            if (memoizedCount < list.size()) {
+                functions = list;
+            }
+        }
+
+        return list;
+    }
+
+    /**
+     * Boxes the value of a primitive ranking function memoized in its primitive slot.
+     */
+    private Comparable<?> boxedPrimitiveRank(PrimitiveRankFunction function, int functionIndex) {
+        return switch (function) {
+            case PrimitiveRankFunction.OfInt ignored -> (int) rankAsLong(functionIndex);
+            case PrimitiveRankFunction.OfLong ignored -> rankAsLong(functionIndex);
+            case PrimitiveRankFunction.OfFloat ignored -> (float) rankAsDouble(functionIndex);
+            case PrimitiveRankFunction.OfDouble ignored -> rankAsDouble(functionIndex);
+        };
+    }
+
+    private Comparable<?> boxedIntegralRank(int functionIndex) {
+        final var value = rank(functionIndex);
+        if (value instanceof Integer || value instanceof Long) {
+            return value;
+        }
+
+        throw new ClassCastException("The ranking function at index " + functionIndex + " is not integral.");
+    }
+
+    private Comparable<?> boxedFloatingRank(int functionIndex) {
+        final var value = rank(functionIndex);
+        if (value instanceof Float || value instanceof Double) {
+            return value;
+        }
+
+        throw new ClassCastException("The ranking function at index " + functionIndex + " is not floating-point.");
+    }
+
+    private boolean isPrimitiveRankEvaluated(int functionIndex) {
+        return primitiveRankEvaluated != null
+                && functionIndex < primitiveRankEvaluated.length
+                && primitiveRankEvaluated[functionIndex];
+    }
+
+    private boolean isRankEvaluated(int functionIndex) {
+        return rankValues != null && functionIndex < rankValues.length && rankValues[functionIndex] != null;
+    }
+
+    private void storeRank(int functionIndex, Comparable<?> value) {
+        if (rankValues == null) {
+            rankValues = new Comparable<?>[rankFunctionCount()];
+        }
+
+        final boolean memoized = rankValues[functionIndex] != null || isPrimitiveRankEvaluated(functionIndex);
+        rankValues[functionIndex] = value;
+        if (!memoized) {
+            memoized();
+        }
+    }
+
+    private void storePrimitiveRank(int functionIndex, long value) {
+        if (primitiveRankValues == null) {
+            final int functionCount = rankFunctionCount();
+            primitiveRankValues = new long[functionCount];
+            primitiveRankEvaluated = new boolean[functionCount];
+        }
+
+        final boolean memoized = primitiveRankEvaluated[functionIndex] || isRankEvaluated(functionIndex);
+        primitiveRankValues[functionIndex] = value;
+        primitiveRankEvaluated[functionIndex] = true;
+        if (!memoized) {
+            memoized();
+        }
+    }
+
+    /**
+     * Counts a newly memoized rank value and releases the function list once every value is memoized.
+     */
+    private void memoized() {
+        memoizedCount++;
+        if (functions != null && memoizedCount == functions.size()) {
+            functions = null;
+        }
+    }
+
 }
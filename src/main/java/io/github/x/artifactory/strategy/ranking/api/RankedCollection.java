@@ -1,9 +1,13 @@
 package io.github.x.artifactory.strategy.ranking.api;
 
+import io.github.x.artifactory.strategy.ranking.collection.DefinitionRankedCollection;
+import io.github.x.artifactory.strategy.ranking.collection.MappedRankedCollection;
 import io.github.x.artifactory.strategy.ranking.collection.RankedCollectionFloatUlp;
 import io.github.x.artifactory.strategy.ranking.exception.NonUniqueRankException;
 import io.github.x.artifactory.strategy.ranking.exception.UnsupportedTypeRankException;
 
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -12,9 +16,11 @@ import java.util.function.Supplier;
 /**
  * A collection that provides the hierarchical ranking of its elements.
  *
- * <p>The interface provides the static factory-method {@link #from(Collection, Supplier) } and defines methods for
- * hierarchical ranking {@link #asc asc()}, {@link #desc desc()} of a source collection and to search for its
- * extreme elements {@link #min min()}, {@link #max max()}.
+ * <p>The interface provides the static factory-methods {@link #from(Collection, Supplier) },
+ * {@link #from(Collection, Supplier, RankingOptions)}, {@link #from(Collection, RankDefinition)} and defines methods
+ * for hierarchical ranking {@link #asc asc()}, {@link #desc desc()} of a source collection, to select its leading
+ * elements {@link #top top(k)}, {@link #bottom bottom(k)} and to search for its extreme elements
+ * {@link #min min()}, {@link #max max()}.
  *
  * <p>The collection must not contain any duplicate elements. Elements and ranking rules are to be defined when
  * the collection is instantiated and remain unchanged afterward.
@@ -25,7 +31,10 @@ import java.util.function.Supplier;
  * <p>The <u>first</u> one consists of stating that it is impossible to order two elements having all identical ranks,
  * i.e. the hierarchical ranking process is to be performed until the unambiguous unique result is achieved or a
  * {@link NonUniqueRankException} is thrown.  (To overcome this exceptional situation, the user must either
- * incorporate additional ranking functions or eliminate duplicate items from the initial collection.)
+ * incorporate additional ranking functions or eliminate duplicate items from the initial collection.) Where ties are
+ * expected, the operations {@link #minAll minAll()}, {@link #maxAll maxAll()}, {@link #ascPartition ascPartition()} and
+ * {@link #descPartition descPartition()} return the tied elements together instead, leaving the resolution of the ties
+ * to the caller without the cost of an exception.
  *
  * <p>The <u>second</u> one supposes that an approach is to be provided to allow floating-point number comparisons with
  * a precision tolerance but without violating the comparison transitivity property required by sorting algorithms.
@@ -39,7 +48,8 @@ import java.util.function.Supplier;
  *
  * @author <a href="mailto:abbbrs@icloud.com">Aleksei Baranov</a>
  */
-public sealed interface RankedCollection<E> permits RankedCollectionFloatUlp {
+public sealed interface RankedCollection<E>
+        permits RankedCollectionFloatUlp, DefinitionRankedCollection, MappedRankedCollection {
 
     /**
      * Creates an instance of a hierarchically ranked collection from a source elements collection and
@@ -61,6 +71,71 @@ public sealed interface RankedCollection<E> permits RankedCollectionFloatUlp {
         return new RankedCollectionFloatUlp<>(sourceCollection, rankFunctionsSupplier);
     }
 
+    /**
+     * Creates an instance of a hierarchically ranked collection from a source elements collection,
+     * a supplier of an object that defines a list of ranking functions and ranking options.
+     *
+     * @param sourceCollection the source collection of elements to be sorted or in which
+     *     the minimum or maximum element to be searched
+     * @param rankFunctionsSupplier a function reference returning an object that provides
+     *     methods to calculate a collection's element rank values and their application order
+     * @param options ranking options, e.g. the {@link RankingEngine} to solve the ranking with
+     * @return an instance of hierarchically ranked collection
+     * @param <E> the type of elements held in the source collection
+     * @param <W> the type of rank functions evaluator
+     */
+    static <E, W extends RankWrapper<E>> RankedCollection<E> from(
+            Collection<E> sourceCollection, Supplier<W> rankFunctionsSupplier, RankingOptions options) {
+
+        return new RankedCollectionFloatUlp<>(sourceCollection, rankFunctionsSupplier, options);
+    }
+
+    /**
+     * Creates an instance of a hierarchically ranked collection from a source elements collection and stateless
+     * ranking rules applied to the elements themselves, without wrapping every element.
+     *
+     * @param sourceCollection the source collection of elements to be sorted or in which
+     *     the minimum or maximum element to be searched
+     * @param definition the ranking functions of the elements in their order of importance
+     * @return an instance of hierarchically ranked collection
+     * @param <E> the type of elements held in the source collection
+     */
+    static <E> RankedCollection<E> from(Collection<E> sourceCollection, RankDefinition<E> definition) {
+        return new DefinitionRankedCollection<>(sourceCollection, definition, RankingOptions.defaults());
+    }
+
+    /**
+     * Creates an instance of a hierarchically ranked collection from a source elements collection, stateless
+     * ranking rules applied to the elements themselves and ranking options.
+     *
+     * @param sourceCollection the source collection of elements to be sorted or in which
+     *     the minimum or maximum element to be searched
+     * @param definition the ranking functions of the elements in their order of importance
+     * @param options ranking options; the engine and the concurrent evaluation do not apply
+     * @return an instance of hierarchically ranked collection
+     * @param <E> the type of elements held in the source collection
+     */
+    static <E> RankedCollection<E> from(Collection<E> sourceCollection, RankDefinition<E> definition,
+                                        RankingOptions options) {
+        return new DefinitionRankedCollection<>(sourceCollection, definition, options);
+    }
+
+    /**
+     * Creates an instance of a hierarchically ranked collection serving a ranking saved by {@link #save(Path)} from
+     * a memory-mapped file, without evaluating any ranking function.
+     *
+     * @param elements the elements in the order of the collection the ranking was saved from
+     * @param file the saved ranking
+     * @return an instance of hierarchically ranked collection
+     * @param <E> the type of elements held in the source collection
+     * @throws IllegalArgumentException if the file is not a ranking file of a supported version or ranks another
+     *     number of elements
+     * @throws UncheckedIOException if the file cannot be read
+     */
+    static <E> RankedCollection<E> mapped(List<E> elements, Path file) {
+        return new MappedRankedCollection<>(elements, file);
+    }
+
     /**
      * Searches for the unique lowest-ranked element.
      *
@@ -77,6 +152,28 @@ public sealed interface RankedCollection<E> permits RankedCollectionFloatUlp {
      */
     Optional<E> max();
 
+    /**
+     * Searches for all lowest-ranked elements, i.e. the elements tied for the lowest rating values when all ranking
+     * functions are exhausted.
+     *
+     * <p>Unlike {@link #min()}, this operation does not fail on a tie: the list holds the single lowest-ranked element
+     * or all the elements tied with it in the order of the source collection.
+     *
+     * @return the lowest-ranked elements
+     */
+    Optional<List<E>> minAll();
+
+    /**
+     * Searches for all highest-ranked elements, i.e. the elements tied for the highest rating values when all ranking
+     * functions are exhausted.
+     *
+     * <p>Unlike {@link #max()}, this operation does not fail on a tie: the list holds the single highest-ranked element
+     * or all the elements tied with it in the order of the source collection.
+     *
+     * @return the highest-ranked elements
+     */
+    Optional<List<E>> maxAll();
+
     /**
      * Sorts a collection in ascending order, i.e. the first element has the lowest rating values,
      * the last element has the highest rating values, and each subsequent element in the sorted
@@ -100,4 +197,80 @@ public sealed interface RankedCollection<E> permits RankedCollectionFloatUlp {
      */
     Optional<List<E>> desc();
 
-}
\ No newline at end of file
+    /**
+     * Partitions a collection into groups of elements having the same rating values for all ranking functions, listed
+     * in ascending order.
+     *
+     * <p>The result is the collection sorted by {@link #asc()} with every element wrapped into a singleton group,
+     * except that elements which {@link #asc()} fails to order form a single group instead of causing
+     * a {@link NonUniqueRankException}. A group keeps its elements in the order of the source collection.
+     *
+     * @return the groups of tied elements in ascending order
+     */
+    Optional<List<List<E>>> ascPartition();
+
+    /**
+     * Partitions a collection into groups of elements having the same rating values for all ranking functions, listed
+     * in descending order.
+     *
+     * <p>The result is the collection sorted by {@link #desc()} with every element wrapped into a singleton group,
+     * except that elements which {@link #desc()} fails to order form a single group instead of causing
+     * a {@link NonUniqueRankException}. A group keeps its elements in the order of the source collection.
+     *
+     * @return the groups of tied elements in descending order
+     */
+    Optional<List<List<E>>> descPartition();
+
+    /**
+     * Selects the {@code k} highest-ranked elements in descending order, i.e. the first {@code k} elements of
+     * the collection sorted by {@link #desc()}, or the whole sorted collection if it has fewer elements.
+     *
+     * <p>Only the elements still competing for one of the {@code k} positions are ranked by lower-priority ranking
+     * functions, and only ties among them prevent an unambiguous result.
+     *
+     * @param k the maximum number of elements to select
+     * @return the {@code k} highest-ranked elements in descending order
+     * @throws IllegalArgumentException if {@code k} is negative
+     * @throws NonUniqueRankException if it is not possible to obtain an unambiguous sorting of the selected elements
+     *     due to the presence of at least two of them with the same rating value for all ranking functions
+     */
+    Optional<List<E>> top(int k);
+
+    /**
+     * Selects the {@code k} lowest-ranked elements in ascending order, i.e. the first {@code k} elements of
+     * the collection sorted by {@link #asc()}, or the whole sorted collection if it has fewer elements.
+     *
+     * <p>Only the elements still competing for one of the {@code k} positions are ranked by lower-priority ranking
+     * functions, and only ties among them prevent an unambiguous result.
+     *
+     * @param k the maximum number of elements to select
+     * @return the {@code k} lowest-ranked elements in ascending order
+     * @throws IllegalArgumentException if {@code k} is negative
+     * @throws NonUniqueRankException if it is not possible to obtain an unambiguous sorting of the selected elements
+     *     due to the presence of at least two of them with the same rating value for all ranking functions
+     */
+    Optional<List<E>> bottom(int k);
+
+    /**
+     * Returns the counts of the rank evaluations performed by the ranking operations of this collection so far.
+     *
+     * <p>The counts show how much work a {@link FindScope} saves: with {@link FindScope#CANDIDATES} the search for
+     * the extreme elements skips the rank evaluations of elements eliminated at the preceding levels.
+     *
+     * @return the counts of the rank evaluations
+     */
+    RankingStatistics statistics();
+
+    /**
+     * Solves the ranking of this collection and saves it to a versioned binary file, which {@link #mapped(List, Path)}
+     * serves with the elements of this collection in their source order.
+     *
+     * <p>The file holds the element indexes in ascending order, the groups of tied elements and the extreme elements,
+     * so the ranking functions are evaluated once here and never by the collection mapping the file.
+     *
+     * @param file the file to write
+     * @throws UncheckedIOException if the file cannot be written
+     */
+    void save(Path file);
+
+}
@@ -0,0 +1,32 @@
+package io.github.x.artifactory.strategy.ranking.api;
+
+/**
+ * Ranking engines that a {@link RankedCollection} can be solved with.
+ *
+ * <p>All engines implement the same hierarchical ranking semantics described in {@link RankedCollection}; they differ
+ * in how rank values are held and ordered internally and, for {@link #LEXICOGRAPHIC}, in the values that
+ * floating-point intervals are composed from.
+ *
+ * @author <a href="mailto:abbbrs@icloud.com">Aleksei Baranov</a>
+ */
+public enum RankingEngine {
+
+    /**
+     * Groups elements by their rank values level by level, recursing into every group of tied elements.
+     */
+    GROUPING,
+
+    /**
+     * Evaluates the rank values of each level once into dense primitive columns and sorts arrays of element indexes
+     * over them; suited for large collections.
+     */
+    COLUMNAR,
+
+    /**
+     * Evaluates all ranking levels of every element at once into a vector of primitive keys and sorts the elements by
+     * comparing their vectors lexicographically in a single pass; suited for collections having many shallow ties.
+     * Floating-point ranks of every level are mapped to intervals composed from the values of the whole collection
+     * rather than of the tied group.
+     */
+    LEXICOGRAPHIC
+}
@@ -0,0 +1,143 @@
+package io.github.x.artifactory.strategy.ranking.api;
+
+import io.github.x.artifactory.strategy.ranking.management.RankingManagement;
+
+import java.util.Objects;
+
+/**
+ * Options of a hierarchical ranking.
+ *
+ * <p>Options are immutable; the {@code with...} methods return modified copies:
+ * <pre>{@code
+ *
+ * final var options = RankingOptions.defaults().withEngine(RankingEngine.COLUMNAR);
+ * final var rc = RankedCollection.from(collection, RankMyType::new, options);
+ * }</pre>
+ *
+ * <p>The {@link RankingEngine#GROUPING grouping} engine ranks a level in parallel once at least
+ * {@code parallelThreshold} elements are tied at it: its groups are split and the rank values of the groups not
+ * smaller than the threshold are evaluated by parallel streams of the common
+ * {@link java.util.concurrent.ForkJoinPool}. Ranking functions must then be safe to call from different threads for
+ * different elements. By default the ranking is sequential; the default threshold
+ * can be changed at runtime through the {@code DefaultParallelThreshold} attribute of the
+ * {@code io.github.x.artifactory.strategy.ranking:type=Ranking} MBean.
+ *
+ * <p>The search for the extreme elements evaluates ranks within the {@link FindScope#COLLECTION whole collection}
+ * unless {@link FindScope#CANDIDATES} is chosen.
+ *
+ * <p>Ranking functions are evaluated one by one on the calling thread unless a {@link ConcurrentEvaluation} is chosen,
+ * which suits ranking functions waiting for remote services.
+ *
+ * <p>The columnar engine and collections ranked by a {@link RankDefinition} keep their rank columns on the heap
+ * unless {@link ColumnStorage#OFF_HEAP} is chosen.
+ *
+ * <p>Mappings of floating-point ranks to intervals are cached in the {@link RankMapCache#shared() shared} cache
+ * unless another cache is given.
+ *
+ * @param engine the engine solving the ranking
+ * @param parallelThreshold the minimum number of elements tied at a level for the level to be ranked in parallel;
+ *     {@link #SEQUENTIAL} disables parallel ranking
+ * @param mappingCache the cache of mappings of floating-point ranks to intervals
+ * @param findScope the scope of the rank evaluation in the search for the extreme elements
+ * @param concurrentEvaluation the settings of the concurrent evaluation of ranking functions
+ * @param columnStorage the storage of the rank columns of the columnar engine and of definition rankings
+ *
+ * @author <a href="mailto:abbbrs@icloud.com">Aleksei Baranov</a>
+ */
+public record RankingOptions(RankingEngine engine, int parallelThreshold, RankMapCache mappingCache,
+                             FindScope findScope, ConcurrentEvaluation concurrentEvaluation,
+                             ColumnStorage columnStorage) {
+
+    /**
+     * The parallel threshold that no collection reaches, i.e. the ranking stays sequential.
+     */
+    public static final int SEQUENTIAL = Integer.MAX_VALUE;
+
+    public RankingOptions {
+        Objects.requireNonNull(engine, "engine must not be null.");
+        if (parallelThreshold < 1) {
+            throw new IllegalArgumentException("parallelThreshold must be positive.");
+        }
+        Objects.requireNonNull(mappingCache, "mappingCache must not be null.");
+        Objects.requireNonNull(findScope, "findScope must not be null.");
+        Objects.requireNonNull(concurrentEvaluation, "concurrentEvaluation must not be null.");
+        Objects.requireNonNull(columnStorage, "columnStorage must not be null.");
+    }
+
+    /**
+     * {@return the default options}
+     */
+    public static RankingOptions defaults() {
+        return new RankingOptions(RankingEngine.GROUPING, RankingManagement.defaultParallelThreshold(),
+                RankMapCache.shared(), FindScope.COLLECTION, ConcurrentEvaluation.SEQUENTIAL, ColumnStorage.HEAP);
+    }
+
+    /**
+     * Returns a copy of these options with the given ranking engine.
+     *
+     * @param engine the engine solving the ranking
+     * @return a copy of these options with the given ranking engine
+     */
+    public RankingOptions withEngine(RankingEngine engine) {
+        return new RankingOptions(engine, parallelThreshold, mappingCache, findScope, concurrentEvaluation,
+                columnStorage);
+    }
+
+    /**
+     * Returns a copy of these options with the given parallel threshold.
+     *
+     * @param parallelThreshold the minimum size of a group of tied elements to be sorted in parallel;
+     *     {@link #SEQUENTIAL} disables parallel sorting
+     * @return a copy of these options with the given parallel threshold
+     */
+    public RankingOptions withParallelThreshold(int parallelThreshold) {
+        return new RankingOptions(engine, parallelThreshold, mappingCache, findScope, concurrentEvaluation,
+                columnStorage);
+    }
+
+    /**
+     * Returns a copy of these options with the given cache of mappings of floating-point ranks to intervals.
+     *
+     * @param mappingCache the cache of mappings of floating-point ranks to intervals
+     * @return a copy of these options with the given mapping cache
+     */
+    public RankingOptions withMappingCache(RankMapCache mappingCache) {
+        return new RankingOptions(engine, parallelThreshold, mappingCache, findScope, concurrentEvaluation,
+                columnStorage);
+    }
+
+    /**
+     * Returns a copy of these options with the given scope of the rank evaluation in the search for the extreme
+     * elements.
+     *
+     * @param findScope the scope of the rank evaluation in the search for the extreme elements
+     * @return a copy of these options with the given find scope
+     */
+    public RankingOptions withFindScope(FindScope findScope) {
+        return new RankingOptions(engine, parallelThreshold, mappingCache, findScope, concurrentEvaluation,
+                columnStorage);
+    }
+
+    /**
+     * Returns a copy of these options with the given settings of the concurrent evaluation of ranking functions.
+     *
+     * @param concurrentEvaluation the settings of the concurrent evaluation of ranking functions
+     * @return a copy of these options with the given concurrent evaluation
+     */
+    public RankingOptions withConcurrentEvaluation(ConcurrentEvaluation concurrentEvaluation) {
+        return new RankingOptions(engine, parallelThreshold, mappingCache, findScope, concurrentEvaluation,
+                columnStorage);
+    }
+
+    /**
+     * Returns a copy of these options with the given storage of rank columns.
+     *
+     * @param columnStorage the storage of the rank columns of the columnar engine and of definition rankings
+     * @return a copy of these options with the given column storage
+     */
+    public RankingOptions withColumnStorage(ColumnStorage columnStorage) {
+        return new RankingOptions(engine, parallelThreshold, mappingCache, findScope, concurrentEvaluation,
+                columnStorage);
+    }
+
+}
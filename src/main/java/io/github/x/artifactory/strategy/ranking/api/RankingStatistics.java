@@ -0,0 +1,16 @@
+package io.github.x.artifactory.strategy.ranking.api;
+
+/**
+ * Counts of the rank evaluations performed by the ranking operations of a collection.
+ *
+ * <p>An evaluation is the request of the rank value of one element at one ranking level; ranking functions are
+ * called once per element and level, subsequent requests are served by {@link RankWrapper} from its cache.
+ *
+ * @param rankEvaluations the number of rank values requested
+ * @param skippedRankEvaluations the number of rank values that the search for the extreme elements did not request
+ *     thanks to {@link FindScope#CANDIDATES}, compared to {@link FindScope#COLLECTION}
+ *
+ * @author <a href="mailto:abbbrs@icloud.com">Aleksei Baranov</a>
+ */
+public record RankingStatistics(long rankEvaluations, long skippedRankEvaluations) {
+}
@@ -0,0 +1,196 @@
+package io.github.x.artifactory.strategy.ranking.collection;
+
+import io.github.x.artifactory.strategy.ranking.api.RankDefinition;
+import io.github.x.artifactory.strategy.ranking.api.RankedCollection;
+import io.github.x.artifactory.strategy.ranking.api.RankingEngine;
+import io.github.x.artifactory.strategy.ranking.api.RankingOptions;
+import io.github.x.artifactory.strategy.ranking.api.RankingStatistics;
+import io.github.x.artifactory.strategy.ranking.exception.NonUniqueRankException;
+import io.github.x.artifactory.strategy.ranking.jfr.RankingEvents;
+import io.github.x.artifactory.strategy.ranking.operation.SortOperation;
+import io.github.x.artifactory.strategy.ranking.solver.DefinitionRankingSolver;
+import io.github.x.artifactory.strategy.ranking.solver.RankingTrace;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static io.github.x.artifactory.strategy.ranking.operation.FindOperation.FIND_MAX;
+import static io.github.x.artifactory.strategy.ranking.operation.FindOperation.FIND_MIN;
+import static io.github.x.artifactory.strategy.ranking.operation.SortOperation.SORT_ASC;
+import static io.github.x.artifactory.strategy.ranking.operation.SortOperation.SORT_DESC;
+
+/**
+ * Implementation of the {@link RankedCollection} interface ranking its elements by a stateless
+ * {@link RankDefinition} instead of a wrapper per element.
+ *
+ * <p>The collection holds only its elements; every operation evaluates the ranks it needs into dense columns and
+ * ranks the elements as the {@link RankingEngine#COLUMNAR columnar} engine does, with the same results as
+ * {@link RankedCollectionFloatUlp} given the same ranking functions. Rank values are not memoized between operations,
+ * so this collection suits cheap ranking functions and large collections ranked a few times. The engine and the
+ * concurrent evaluation options do not apply.
+ *
+ * @param <E> the type of elements held in the collection
+ */
+public final class DefinitionRankedCollection<E> implements RankedCollection<E> {
+
+    private final List<E> elements;
+
+    private final RankDefinition<E> definition;
+
+    private final DefinitionRankingSolver<E, ?> solver;
+
+    /**
+     * Constructs a collection ranked by a definition.
+     *
+     * @param candidates collection of source elements to be ranked
+     * @param definition the ranking functions
+     * @param options ranking options
+     */
+    public DefinitionRankedCollection(Collection<E> candidates, RankDefinition<E> definition, RankingOptions options) {
+        this.elements = List.copyOf(candidates);
+        this.definition = definition;
+        this.solver = new DefinitionRankingSolver<>(definition, options);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return the unique lowest-ranked element
+     * @throws NonUniqueRankException if there is no such unique element
+     */
+    @Override
+    public Optional<E> min() {
+        return perform("min", RankingEvents.NO_LIMIT, trace -> solver.findByRank(FIND_MIN, elements, trace));
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return the unique highest-ranked element
+     * @throws NonUniqueRankException if there is no such unique element
+     */
+    @Override
+    public Optional<E> max() {
+        return perform("max", RankingEvents.NO_LIMIT, trace -> solver.findByRank(FIND_MAX, elements, trace));
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return the lowest-ranked elements
+     */
+    @Override
+    public Optional<List<E>> minAll() {
+        return perform("minAll", RankingEvents.NO_LIMIT, trace -> solver.findAllByRank(FIND_MIN, elements, trace));
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return the highest-ranked elements
+     */
+    @Override
+    public Optional<List<E>> maxAll() {
+        return perform("maxAll", RankingEvents.NO_LIMIT, trace -> solver.findAllByRank(FIND_MAX, elements, trace));
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return the collection sorted in ascending order
+     * @throws NonUniqueRankException if it is not possible to obtain a stable sorting of the collection due to
+     *     the presence of elements with the same rating value for all ranking functions
+     */
+    @Override
+    public Optional<List<E>> asc() {
+        return perform("asc", RankingEvents.NO_LIMIT, trace -> solver.sortByRank(SORT_ASC, elements, trace));
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return the collection sorted in descending order
+     * @throws NonUniqueRankException if it is not possible to obtain a stable sorting of the collection due to
+     *     the presence of elements with the same rating value for all ranking functions
+     */
+    @Override
+    public Optional<List<E>> desc() {
+        return perform("desc", RankingEvents.NO_LIMIT, trace -> solver.sortByRank(SORT_DESC, elements, trace));
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return the groups of tied elements in ascending order
+     */
+    @Override
+    public Optional<List<List<E>>> ascPartition() {
+        return perform("ascPartition", RankingEvents.NO_LIMIT,
+                trace -> solver.partitionByRank(SORT_ASC, elements, trace));
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return the groups of tied elements in descending order
+     */
+    @Override
+    public Optional<List<List<E>>> descPartition() {
+        return perform("descPartition", RankingEvents.NO_LIMIT,
+                trace -> solver.partitionByRank(SORT_DESC, elements, trace));
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param k the maximum number of elements to select
+     * @return the {@code k} highest-ranked elements in descending order
+     * @throws IllegalArgumentException if {@code k} is negative
+     * @throws NonUniqueRankException if it is not possible to obtain an unambiguous sorting of the selected elements
+     */
+    @Override
+    public Optional<List<E>> top(int k) {
+        return select(SORT_DESC, k);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param k the maximum number of elements to select
+     * @return the {@code k} lowest-ranked elements in ascending order
+     * @throws IllegalArgumentException if {@code k} is negative
+     * @throws NonUniqueRankException if it is not possible to obtain an unambiguous sorting of the selected elements
+     */
+    @Override
+    public Optional<List<E>> bottom(int k) {
+        return select(SORT_ASC, k);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return the counts of the rank evaluations
+     */
+    @Override
+    public RankingStatistics statistics() {
+        return solver.statistics();
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param file the file to write
+     */
+    @Override
+    public void save(Path file) {
+        RankingFile.write(this, elements, file);
+    }
+
+    private Optional<List<E>> select(SortOperation operation, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("The number of elements to select must not be negative.");
+        }
+
+        return perform(operation == SORT_DESC ? "top" : "bottom", limit,
+                trace -> solver.selectByRank(operation, limit, elements, trace));
+    }
+
+    private <T> Optional<T> perform(String operation, int limit, Function<RankingTrace, T> solution) {
+        return elements.isEmpty()
+                ? Optional.empty()
+                : Optional.of(RankingEvents.record(operation, RankingEngine.COLUMNAR, definition.getClass(),
+                        elements.size(), () -> definition.levels().size(), limit, solution));
+    }
+
+}
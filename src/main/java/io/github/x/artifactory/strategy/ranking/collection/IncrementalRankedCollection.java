@@ -0,0 +1,146 @@
+package io.github.x.artifactory.strategy.ranking.collection;
+
+import io.github.x.artifactory.strategy.ranking.api.MutableRankedCollection;
+import io.github.x.artifactory.strategy.ranking.api.RankWrapper;
+import io.github.x.artifactory.strategy.ranking.operation.ComparatorType;
+import io.github.x.artifactory.strategy.ranking.solver.RankTree;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of the {@link MutableRankedCollection} interface backed by a {@link RankTree}.
+ *
+ * <p>Every element is wrapped once, when it is added, so its rank values are evaluated at most once while it stays
+ * in the collection.
+ *
+ * @param <E> the type of elements held in the collection
+ * @param <W> the type of elements wrapper that provides ranking evaluation functions
+ */
+public final class IncrementalRankedCollection<E, W extends RankWrapper<E>>
+        implements MutableRankedCollection<E> {
+
+    private final Supplier<W> rankFunctionsInstanceSupplier;
+
+    /**
+     * Wrappers of the elements held in the collection.
+     */
+    private final Map<E, W> wrappers = new HashMap<>();
+
+    private final RankTree<W> tree = new RankTree<>();
+
+    /**
+     * Constructs an empty collection.
+     *
+     * @param rankFunctionsInstanceSupplier method creating an instance of a type that defines
+     *     the rating calculation function for an element of the collection
+     */
+    public IncrementalRankedCollection(Supplier<W> rankFunctionsInstanceSupplier) {
+        this.rankFunctionsInstanceSupplier = rankFunctionsInstanceSupplier;
+    }
+
+    @Override
+    public boolean add(E element) {
+        if (wrappers.containsKey(element)) {
+            return false;
+        }
+
+        final var wrapper = rankFunctionsInstanceSupplier.get();
+        wrapper.set(element);
+        tree.add(wrapper);
+        wrappers.put(element, wrapper);
+
+        return true;
+    }
+
+    @Override
+    public boolean remove(E element) {
+        final var wrapper = wrappers.remove(element);
+        if (wrapper == null) {
+            return false;
+        }
+
+        tree.remove(wrapper);
+
+        return true;
+    }
+
+    @Override
+    public boolean contains(E element) {
+        return wrappers.containsKey(element);
+    }
+
+    @Override
+    public int size() {
+        return wrappers.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return wrappers.isEmpty();
+    }
+
+    @Override
+    public Optional<E> min() {
+        return Optional.ofNullable(tree.first(ComparatorType.NATURAL)).map(RankWrapper::get);
+    }
+
+    @Override
+    public Optional<E> max() {
+        return Optional.ofNullable(tree.first(ComparatorType.REVERSED)).map(RankWrapper::get);
+    }
+
+    @Override
+    public Optional<List<E>> asc() {
+        return list(iterator());
+    }
+
+    @Override
+    public Optional<List<E>> desc() {
+        return list(descendingIterator());
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return elementIterator(ComparatorType.NATURAL);
+    }
+
+    @Override
+    public Iterator<E> descendingIterator() {
+        return elementIterator(ComparatorType.REVERSED);
+    }
+
+    private Iterator<E> elementIterator(ComparatorType comparatorType) {
+        final var iterator = tree.iterator(comparatorType);
+
+        return new Iterator<>() {
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public E next() {
+                return iterator.next().get();
+            }
+        };
+    }
+
+    private Optional<List<E>> list(Iterator<E> iterator) {
+        if (isEmpty()) {
+            return Optional.empty();
+        }
+
+        final List<E> elements = new ArrayList<>(size());
+        iterator.forEachRemaining(elements::add);
+
+        return Optional.of(List.copyOf(elements));
+    }
+
+}
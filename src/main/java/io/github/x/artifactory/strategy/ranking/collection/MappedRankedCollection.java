@@ -0,0 +1,239 @@
+package io.github.x.artifactory.strategy.ranking.collection;
+
+import io.github.x.artifactory.strategy.ranking.api.RankedCollection;
+import io.github.x.artifactory.strategy.ranking.api.RankingStatistics;
+import io.github.x.artifactory.strategy.ranking.exception.NonUniqueRankException;
+
+import java.nio.IntBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementation of the {@link RankedCollection} interface serving a ranking solved and saved by another collection
+ * from a memory-mapped file.
+ *
+ * <p>No ranking function is evaluated: the sorted order, the groups of tied elements and the extreme elements are
+ * read from the file, and the queries only look the elements up by their indexes. The answers of {@link #asc()},
+ * {@link #desc()}, the partitions and the searches for the extreme elements are those of the saved collection;
+ * {@link #top(int)} and {@link #bottom(int)} select the leading groups of the saved partition, so they fail on
+ * the same ties as the sort.
+ *
+ * @param <E> the type of elements held in the collection
+ */
+public final class MappedRankedCollection<E> implements RankedCollection<E> {
+
+    private static final String NON_UNIQUE_MESSAGE = "No unique result found after applying all ranking functions.";
+
+    private final List<E> elements;
+
+    private final RankingFile ranking;
+
+    /**
+     * Constructs a collection serving a saved ranking.
+     *
+     * @param elements the elements in the order the ranking was saved with
+     * @param file the file written by {@link RankedCollection#save(Path)}
+     */
+    public MappedRankedCollection(List<E> elements, Path file) {
+        this.elements = List.copyOf(elements);
+        this.ranking = RankingFile.map(file, this.elements.size());
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return the unique lowest-ranked element
+     * @throws NonUniqueRankException if there is no such unique element
+     */
+    @Override
+    public Optional<E> min() {
+        return unique(ranking.minAll());
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return the unique highest-ranked element
+     * @throws NonUniqueRankException if there is no such unique element
+     */
+    @Override
+    public Optional<E> max() {
+        return unique(ranking.maxAll());
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return the lowest-ranked elements
+     */
+    @Override
+    public Optional<List<E>> minAll() {
+        return elements.isEmpty() ? Optional.empty() : Optional.of(elementsOf(ranking.minAll()));
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return the highest-ranked elements
+     */
+    @Override
+    public Optional<List<E>> maxAll() {
+        return elements.isEmpty() ? Optional.empty() : Optional.of(elementsOf(ranking.maxAll()));
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return the collection sorted in ascending order
+     * @throws NonUniqueRankException if it is not possible to obtain a stable sorting of the collection due to
+     *     the presence of elements with the same rating value for all ranking functions
+     */
+    @Override
+    public Optional<List<E>> asc() {
+        return bottom(elements.size());
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return the collection sorted in descending order
+     * @throws NonUniqueRankException if it is not possible to obtain a stable sorting of the collection due to
+     *     the presence of elements with the same rating value for all ranking functions
+     */
+    @Override
+    public Optional<List<E>> desc() {
+        return top(elements.size());
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return the groups of tied elements in ascending order
+     */
+    @Override
+    public Optional<List<List<E>>> ascPartition() {
+        if (elements.isEmpty()) {
+            return Optional.empty();
+        }
+
+        final List<List<E>> groups = new ArrayList<>(ranking.groupCount());
+        for (int group = 0; group < ranking.groupCount(); group++) {
+            groups.add(group(group));
+        }
+
+        return Optional.of(List.copyOf(groups));
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return the groups of tied elements in descending order
+     */
+    @Override
+    public Optional<List<List<E>>> descPartition() {
+        return ascPartition().map(List::reversed);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param k the maximum number of elements to select
+     * @return the {@code k} highest-ranked elements in descending order
+     * @throws IllegalArgumentException if {@code k} is negative
+     * @throws NonUniqueRankException if it is not possible to obtain an unambiguous sorting of the selected elements
+     */
+    @Override
+    public Optional<List<E>> top(int k) {
+        checkLimit(k);
+        if (elements.isEmpty()) {
+            return Optional.empty();
+        }
+
+        final List<E> selected = new ArrayList<>(Math.min(k, elements.size()));
+        for (int group = ranking.groupCount() - 1; group >= 0 && selected.size() < k; group--) {
+            selected.add(singleton(group));
+        }
+
+        return Optional.of(List.copyOf(selected));
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param k the maximum number of elements to select
+     * @return the {@code k} lowest-ranked elements in ascending order
+     * @throws IllegalArgumentException if {@code k} is negative
+     * @throws NonUniqueRankException if it is not possible to obtain an unambiguous sorting of the selected elements
+     */
+    @Override
+    public Optional<List<E>> bottom(int k) {
+        checkLimit(k);
+        if (elements.isEmpty()) {
+            return Optional.empty();
+        }
+
+        final List<E> selected = new ArrayList<>(Math.min(k, elements.size()));
+        for (int group = 0; group < ranking.groupCount() && selected.size() < k; group++) {
+            selected.add(singleton(group));
+        }
+
+        return Optional.of(List.copyOf(selected));
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return no rank evaluations, since the ranking is read from the file
+     */
+    @Override
+    public RankingStatistics statistics() {
+        return new RankingStatistics(0, 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param file the file to write
+     */
+    @Override
+    public void save(Path file) {
+        RankingFile.write(this, elements, file);
+    }
+
+    private static void checkLimit(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("The number of elements to select must not be negative.");
+        }
+    }
+
+    private Optional<E> unique(IntBuffer indexes) {
+        if (elements.isEmpty()) {
+            return Optional.empty();
+        }
+        if (indexes.remaining() != 1) {
+            throw new NonUniqueRankException(NON_UNIQUE_MESSAGE);
+        }
+
+        return Optional.of(elements.get(indexes.get()));
+    }
+
+    private List<E> elementsOf(IntBuffer indexes) {
+        final List<E> found = new ArrayList<>(indexes.remaining());
+        while (indexes.hasRemaining()) {
+            found.add(elements.get(indexes.get()));
+        }
+
+        return List.copyOf(found);
+    }
+
+    private List<E> group(int group) {
+        final int from = ranking.groupStart(group);
+        final int to = ranking.groupStart(group + 1);
+        final List<E> members = new ArrayList<>(to - from);
+        for (int position = from; position < to; position++) {
+            members.add(elements.get(ranking.elementAt(position)));
+        }
+
+        return List.copyOf(members);
+    }
+
+    private E singleton(int group) {
+        final int from = ranking.groupStart(group);
+        if (ranking.groupStart(group + 1) - from != 1) {
+            throw new NonUniqueRankException(NON_UNIQUE_MESSAGE);
+        }
+
+        return elements.get(ranking.elementAt(from));
+    }
+
+}
@@ -2,11 +2,16 @@ package io.github.x.artifactory.strategy.ranking.collection;
 
 import io.github.x.artifactory.strategy.ranking.api.RankWrapper;
 import io.github.x.artifactory.strategy.ranking.api.RankedCollection;
+import io.github.x.artifactory.strategy.ranking.api.RankingEngine;
+import io.github.x.artifactory.strategy.ranking.api.RankingOptions;
+import io.github.x.artifactory.strategy.ranking.api.RankingStatistics;
 import io.github.x.artifactory.strategy.ranking.exception.NonUniqueRankException;
+import io.github.x.artifactory.strategy.ranking.jfr.RankingEvents;
 import io.github.x.artifactory.strategy.ranking.operation.FindOperation;
 import io.github.x.artifactory.strategy.ranking.operation.SortOperation;
 
 
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -14,7 +19,9 @@ import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import io.github.x.artifactory.strategy.ranking.solver.ColumnarRankingSolver;
 import io.github.x.artifactory.strategy.ranking.solver.HierarchicalRankingSolver;
+import io.github.x.artifactory.strategy.ranking.solver.LexicographicRankingSolver;
 import io.github.x.artifactory.strategy.ranking.solver.RankingSolverImpl;
 
 import static io.github.x.artifactory.strategy.ranking.operation.FindOperation.FIND_MAX;
@@ -70,7 +77,12 @@ public final class RankedCollectionFloatUlp<E, W extends RankWrapper<E>>
     /**
      * Hierarchically ranking solver.
      */
-    private final HierarchicalRankingSolver<W> solver = new RankingSolverImpl<>();
+    private final HierarchicalRankingSolver<W> solver;
+
+    /**
+     * Engine of the solver, recorded in the ranking events.
+     */
+    private final RankingEngine engine;
 
     /**
      * Constructs a collection having ranking methods.
@@ -80,6 +92,26 @@ public final class RankedCollectionFloatUlp<E, W extends RankWrapper<E>>
      *     the rating calculation function for an element of the source collection to be ranked
      */
     public RankedCollectionFloatUlp(Collection<E> candidates, Supplier<W> rankFunctionsInstanceSupplier) {
+        this(candidates, rankFunctionsInstanceSupplier, RankingOptions.defaults());
+    }
+
+    /**
+     * Constructs a collection having ranking methods.
+     *
+     * @param candidates collection of source elements to be ranked
+     * @param rankFunctionsInstanceSupplier method creating an instance of a type that defines
+     *     the rating calculation function for an element of the source collection to be ranked
+     * @param options ranking options
+     */
+    public RankedCollectionFloatUlp(Collection<E> candidates, Supplier<W> rankFunctionsInstanceSupplier,
+                                    RankingOptions options) {
+        this.engine = options.engine();
+        this.solver = switch (options.engine()) {
+            case GROUPING -> new RankingSolverImpl<>(options);
+            case COLUMNAR -> new ColumnarRankingSolver<>(options);
+            case LEXICOGRAPHIC -> new LexicographicRankingSolver<>(options);
+        };
+
         final Function<E, W> wrapElementWithRank = elem -> {
             final var newRankElement = rankFunctionsInstanceSupplier.get();
             newRankElement.set(elem);
@@ -112,6 +144,24 @@ public final class RankedCollectionFloatUlp<E, W extends RankWrapper<E>>
         return find(FIND_MAX);
     }
 
+    /**
+     * {@inheritDoc}
+     * @return the lowest-ranked elements
+     */
+    @Override
+    public Optional<List<E>> minAll() {
+        return findAll(FIND_MIN);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return the highest-ranked elements
+     */
+    @Override
+    public Optional<List<E>> maxAll() {
+        return findAll(FIND_MAX);
+    }
+
     /**
      * {@inheritDoc}
      * @return the collection sorted in ascending order
@@ -134,6 +184,66 @@ public final class RankedCollectionFloatUlp<E, W extends RankWrapper<E>>
         return sort(SORT_DESC);
     }
 
+    /**
+     * {@inheritDoc}
+     * @return the groups of tied elements in ascending order
+     */
+    @Override
+    public Optional<List<List<E>>> ascPartition() {
+        return partition(SORT_ASC);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return the groups of tied elements in descending order
+     */
+    @Override
+    public Optional<List<List<E>>> descPartition() {
+        return partition(SORT_DESC);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param k the maximum number of elements to select
+     * @return the {@code k} highest-ranked elements in descending order
+     * @throws IllegalArgumentException if {@code k} is negative
+     * @throws NonUniqueRankException if it is not possible to obtain an unambiguous sorting of the selected elements
+     */
+    @Override
+    public Optional<List<E>> top(int k) {
+        return select(SORT_DESC, k);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param k the maximum number of elements to select
+     * @return the {@code k} lowest-ranked elements in ascending order
+     * @throws IllegalArgumentException if {@code k} is negative
+     * @throws NonUniqueRankException if it is not possible to obtain an unambiguous sorting of the selected elements
+     */
+    @Override
+    public Optional<List<E>> bottom(int k) {
+        return select(SORT_ASC, k);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return the counts of the rank evaluations
+     */
+    @Override
+    public RankingStatistics statistics() {
+        return solver.statistics();
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param file the file to write
+     */
+    @Override
+    public void save(Path file) {
+        RankingFile.write(this, wCollection.stream().map(RankWrapper::get).toList(), file);
+    }
+
     // find
 
     private Optional<E> find(FindOperation operation) {
@@ -143,7 +253,17 @@ public final class RankedCollectionFloatUlp<E, W extends RankWrapper<E>>
     }
 
     private W findByRank(FindOperation operation, Collection<W> wCollection){
-        return solver.findByRank(operation, wCollection);
+        return RankingEvents.record(operation == FIND_MIN ? "min" : "max", engine, wCollection,
+                RankingEvents.NO_LIMIT, trace -> solver.findByRank(operation, wCollection, trace));
+    }
+
+    private Optional<List<E>> findAll(FindOperation operation) {
+        return wCollection.isEmpty()
+                ? Optional.empty()
+                : Optional.of(RankingEvents.record(operation == FIND_MIN ? "minAll" : "maxAll", engine, wCollection,
+                                RankingEvents.NO_LIMIT, trace -> solver.findAllByRank(operation, wCollection, trace))
+                        .stream()
+                        .map(RankWrapper::get).toList());
     }
 
     // sort
@@ -156,7 +276,34 @@ public final class RankedCollectionFloatUlp<E, W extends RankWrapper<E>>
     }
 
     private List<W> sortByRank(SortOperation operation, Collection<W> wCollection){
-        return solver.sortByRank(operation, wCollection);
+        return RankingEvents.record(operation == SORT_ASC ? "asc" : "desc", engine, wCollection,
+                RankingEvents.NO_LIMIT, trace -> solver.sortByRank(operation, wCollection, trace));
+    }
+
+    // partition
+
+    private Optional<List<List<E>>> partition(SortOperation operation) {
+        return wCollection.isEmpty()
+                ? Optional.empty()
+                : Optional.of(RankingEvents.record(operation == SORT_ASC ? "ascPartition" : "descPartition", engine,
+                                wCollection, RankingEvents.NO_LIMIT,
+                                trace -> solver.partitionByRank(operation, wCollection, trace)).stream()
+                        .map(group -> group.stream().map(RankWrapper::get).toList())
+                        .toList());
+    }
+
+    // select
+
+    private Optional<List<E>> select(SortOperation operation, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("The number of elements to select must not be negative.");
+        }
+
+        return wCollection.isEmpty()
+                ? Optional.empty()
+                : Optional.of(RankingEvents.record(operation == SORT_DESC ? "top" : "bottom", engine, wCollection,
+                                limit, trace -> solver.selectByRank(operation, limit, wCollection, trace)).stream()
+                        .map(RankWrapper::get).toList());
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,205 @@
+package io.github.x.artifactory.strategy.ranking.collection;
+
+import io.github.x.artifactory.strategy.ranking.api.RankedCollection;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A solved ranking saved to a file and memory-mapped to be served without evaluating ranking functions.
+ *
+ * <p>The file holds big-endian {@code int} values: a header of the magic number, the format {@link #VERSION}, the
+ * number of elements, the number of groups of tied elements and the numbers of the lowest-ranked and highest-ranked
+ * elements, followed by the element indexes in ascending order grouped by their ties, the start positions of
+ * the groups with the number of elements appended, and the indexes of the lowest-ranked and highest-ranked elements.
+ * An element index is the position of the element in the list the ranking was saved with.
+ */
+final class RankingFile {
+
+    /**
+     * The first value of a ranking file, the ASCII codes of {@code RANK}.
+     */
+    static final int MAGIC = 0x52414E4B;
+
+    /**
+     * The version of the file format.
+     */
+    static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 6;
+
+    private final IntBuffer permutation;
+
+    private final IntBuffer groupStarts;
+
+    private final IntBuffer minAll;
+
+    private final IntBuffer maxAll;
+
+    private RankingFile(IntBuffer permutation, IntBuffer groupStarts, IntBuffer minAll, IntBuffer maxAll) {
+        this.permutation = permutation;
+        this.groupStarts = groupStarts;
+        this.minAll = minAll;
+        this.maxAll = maxAll;
+    }
+
+    /**
+     * Solves the ranking of a collection once for all its queries and saves it.
+     *
+     * @param ranking the ranked collection
+     * @param elements the elements of the collection in their source order
+     * @param file the file to write
+     * @param <E> the type of ranked elements
+     * @throws UncheckedIOException if the file cannot be written
+     */
+    static <E> void write(RankedCollection<E> ranking, List<E> elements, Path file) {
+        final Map<E, Integer> indexes = new IdentityHashMap<>(elements.size());
+        for (int i = 0; i < elements.size(); i++) {
+            indexes.put(elements.get(i), i);
+        }
+
+        final List<List<E>> partition = ranking.ascPartition().orElse(List.of());
+        final List<E> lowest = ranking.minAll().orElse(List.of());
+        final List<E> highest = ranking.maxAll().orElse(List.of());
+
+        try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(elements.size());
+            out.writeInt(partition.size());
+            out.writeInt(lowest.size());
+            out.writeInt(highest.size());
+            for (final var group : partition) {
+                for (final var element : group) {
+                    out.writeInt(index(indexes, element));
+                }
+            }
+            int start = 0;
+            for (final var group : partition) {
+                out.writeInt(start);
+                start += group.size();
+            }
+            out.writeInt(start);
+            for (final var element : lowest) {
+                out.writeInt(index(indexes, element));
+            }
+            for (final var element : highest) {
+                out.writeInt(index(indexes, element));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static <E> int index(Map<E, Integer> indexes, E element) {
+        final Integer index = indexes.get(element);
+        if (index == null) {
+            throw new IllegalArgumentException("The ranked element " + element + " is not in the list of elements.");
+        }
+
+        return index;
+    }
+
+    /**
+     * Maps a ranking file into memory.
+     *
+     * @param file the file written by {@link #write(RankedCollection, List, Path)}
+     * @param elementCount the number of elements the ranking is served for
+     * @return the mapped ranking
+     * @throws IllegalArgumentException if the file is not a ranking file of the supported version, is truncated or
+     *     ranks another number of elements
+     * @throws UncheckedIOException if the file cannot be read
+     */
+    static RankingFile map(Path file, int elementCount) {
+        final ByteBuffer buffer;
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        final IntBuffer values = buffer.asIntBuffer();
+        if (values.limit() < HEADER_SIZE || values.get(0) != MAGIC) {
+            throw new IllegalArgumentException(file + " is not a ranking file.");
+        }
+        if (values.get(1) != VERSION) {
+            throw new IllegalArgumentException("The version " + values.get(1) + " of the ranking file " + file
+                    + " is not supported.");
+        }
+        if (values.get(2) != elementCount) {
+            throw new IllegalArgumentException("The ranking file " + file + " ranks " + values.get(2)
+                    + " elements, not " + elementCount + ".");
+        }
+
+        final int groupCount = values.get(3);
+        final int minAllCount = values.get(4);
+        final int maxAllCount = values.get(5);
+        final long size = (long) HEADER_SIZE + elementCount + groupCount + 1 + minAllCount + maxAllCount;
+        if (groupCount < 0 || minAllCount < 0 || maxAllCount < 0 || size * Integer.BYTES != buffer.limit()) {
+            throw new IllegalArgumentException("The ranking file " + file + " is truncated or corrupt.");
+        }
+
+        int offset = HEADER_SIZE;
+        final IntBuffer permutation = values.slice(offset, elementCount);
+        offset += elementCount;
+        final IntBuffer groupStarts = values.slice(offset, groupCount + 1);
+        offset += groupCount + 1;
+        final IntBuffer minAll = values.slice(offset, minAllCount);
+        offset += minAllCount;
+
+        return new RankingFile(permutation, groupStarts, minAll, values.slice(offset, maxAllCount));
+    }
+
+    /**
+     * {@return the number of groups of tied elements}
+     */
+    int groupCount() {
+        return groupStarts.limit() - 1;
+    }
+
+    /**
+     * Returns the first position of a group of tied elements in ascending order.
+     *
+     * @param group the group index in ascending order
+     * @return the first position of the group
+     */
+    int groupStart(int group) {
+        return groupStarts.get(group);
+    }
+
+    /**
+     * Returns the index of an element in ascending order.
+     *
+     * @param position the position in ascending order
+     * @return the element index
+     */
+    int elementAt(int position) {
+        return permutation.get(position);
+    }
+
+    /**
+     * {@return the indexes of the lowest-ranked elements}
+     */
+    IntBuffer minAll() {
+        return minAll.duplicate();
+    }
+
+    /**
+     * {@return the indexes of the highest-ranked elements}
+     */
+    IntBuffer maxAll() {
+        return maxAll.duplicate();
+    }
+
+}
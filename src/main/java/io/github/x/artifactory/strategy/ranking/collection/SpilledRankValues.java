@@ -0,0 +1,273 @@
+package io.github.x.artifactory.strategy.ranking.collection;
+
+import io.github.x.artifactory.strategy.ranking.api.ExternalSortOptions;
+import io.github.x.artifactory.strategy.ranking.rmapping.RankValueSource;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.DoubleConsumer;
+
+/**
+ * The floating-point rank values of one ranking function of an external sort, written to temporary files in sorted
+ * runs.
+ *
+ * <p>At most {@code runSize} values are held in memory, in a buffer that is sorted and written to its own file when
+ * full. The values are read in ascending order by merging the runs {@code mergeFanIn} at a time until a single merge
+ * is left, so that the intervals of a mapping are composed by a sweep over the merged values and nothing but their
+ * boundaries is held besides the buffer. Values fitting in the buffer are never written.
+ */
+final class SpilledRankValues implements RankValueSource {
+
+    private final boolean floats;
+
+    private final Path directory;
+
+    private final ExternalSortOptions options;
+
+    private final List<Run> runs = new ArrayList<>();
+
+    private double[] buffer;
+
+    private int buffered;
+
+    private long size;
+
+    /**
+     * Constructs an empty set of values.
+     *
+     * @param floats whether the values are {@code float} ones, written in four bytes
+     * @param directory the directory the runs are written to
+     * @param options the run size, the merge fan-in and the buffer size of the files
+     */
+    SpilledRankValues(boolean floats, Path directory, ExternalSortOptions options) {
+        this.floats = floats;
+        this.directory = directory;
+        this.options = options;
+        this.buffer = new double[Math.min(16, options.runSize())];
+    }
+
+    /**
+     * Adds a value, writing the buffered values as a sorted run if the buffer is full.
+     *
+     * @param value the value
+     * @throws IOException if the run cannot be written
+     */
+    void add(double value) throws IOException {
+        if (buffered == options.runSize()) {
+            flush();
+        } else if (buffered == buffer.length) {
+            buffer = Arrays.copyOf(buffer, (int) Math.min(options.runSize(), 2L * buffered));
+        }
+        buffer[buffered++] = value;
+        size++;
+    }
+
+    /**
+     * {@return the number of runs written}
+     */
+    int runCount() {
+        return runs.size();
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public void forEach(DoubleConsumer action) {
+        for (int i = 0; i < buffered; i++) {
+            action.accept(buffer[i]);
+        }
+        try {
+            for (final var run : runs) {
+                try (var in = input(run.file())) {
+                    for (long i = 0; i < run.size(); i++) {
+                        action.accept(read(in));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void forEachSorted(DoubleConsumer action) {
+        try {
+            if (runs.isEmpty()) {
+                Arrays.sort(buffer, 0, buffered);
+                for (int i = 0; i < buffered; i++) {
+                    action.accept(buffer[i]);
+                }
+                return;
+            }
+
+            if (buffered > 0) {
+                flush();
+            }
+            while (runs.size() > options.mergeFanIn()) {
+                mergePass();
+            }
+            merge(runs, action);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Deletes the runs and releases the buffer.
+     *
+     * @throws IOException if a file cannot be deleted
+     */
+    void delete() throws IOException {
+        for (final var run : runs) {
+            Files.deleteIfExists(run.file());
+        }
+        runs.clear();
+        buffer = new double[0];
+        buffered = 0;
+    }
+
+    /**
+     * Sorts the buffered values and writes them to a new file.
+     */
+    private void flush() throws IOException {
+        Arrays.sort(buffer, 0, buffered);
+        final Path file = Files.createTempFile(directory, "values-", ".bin");
+        try (var out = output(file)) {
+            for (int i = 0; i < buffered; i++) {
+                write(buffer[i], out);
+            }
+        }
+        runs.add(new Run(file, buffered));
+        buffered = 0;
+    }
+
+    /**
+     * Merges every {@code mergeFanIn} runs into one.
+     */
+    private void mergePass() throws IOException {
+        final List<Run> merged = new ArrayList<>();
+        for (int from = 0; from < runs.size(); from += options.mergeFanIn()) {
+            final List<Run> group = runs.subList(from, Math.min(runs.size(), from + options.mergeFanIn()));
+            final Path file = Files.createTempFile(directory, "values-", ".bin");
+            final long[] count = new long[1];
+            try (var out = output(file)) {
+                merge(group, value -> {
+                    try {
+                        write(value, out);
+                        count[0]++;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+            for (final var mergedRun : group) {
+                Files.delete(mergedRun.file());
+            }
+            merged.add(new Run(file, count[0]));
+        }
+        runs.clear();
+        runs.addAll(merged);
+    }
+
+    private void merge(List<Run> merged, DoubleConsumer action) throws IOException {
+        final List<RunReader> readers = new ArrayList<>(merged.size());
+        try {
+            final var queue = new PriorityQueue<RunReader>(merged.size(),
+                    (left, right) -> Double.compare(left.head, right.head));
+            for (final var mergedRun : merged) {
+                final var reader = new RunReader(mergedRun);
+                readers.add(reader);
+                if (reader.advance()) {
+                    queue.add(reader);
+                }
+            }
+
+            while (!queue.isEmpty()) {
+                final var reader = queue.poll();
+                action.accept(reader.head);
+                if (reader.advance()) {
+                    queue.add(reader);
+                }
+            }
+        } finally {
+            for (final var reader : readers) {
+                reader.in.close();
+            }
+        }
+    }
+
+    private void write(double value, DataOutputStream out) throws IOException {
+        if (floats) {
+            out.writeFloat((float) value);
+        } else {
+            out.writeDouble(value);
+        }
+    }
+
+    private double read(DataInputStream in) throws IOException {
+        return floats ? in.readFloat() : in.readDouble();
+    }
+
+    private DataOutputStream output(Path file) throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), options.bufferSize()));
+    }
+
+    private DataInputStream input(Path file) throws IOException {
+        return new DataInputStream(new BufferedInputStream(Files.newInputStream(file), options.bufferSize()));
+    }
+
+    /**
+     * A sorted run of values written to a file.
+     *
+     * @param file the file holding the values of the run
+     * @param size the number of values
+     */
+    private record Run(Path file, long size) {
+    }
+
+    /**
+     * Reads the values of a run one by one.
+     */
+    private final class RunReader {
+
+        private final DataInputStream in;
+
+        private long remaining;
+
+        private double head;
+
+        RunReader(Run run) throws IOException {
+            this.in = input(run.file());
+            this.remaining = run.size();
+        }
+
+        /**
+         * Reads the next value into the head.
+         *
+         * @return {@code false} if the run is exhausted
+         */
+        boolean advance() throws IOException {
+            if (remaining == 0) {
+                return false;
+            }
+            head = read(in);
+            remaining--;
+
+            return true;
+        }
+    }
+
+}
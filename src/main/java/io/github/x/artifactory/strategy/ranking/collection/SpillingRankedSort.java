@@ -0,0 +1,558 @@
+package io.github.x.artifactory.strategy.ranking.collection;
+
+import io.github.x.artifactory.strategy.ranking.api.ElementCodec;
+import io.github.x.artifactory.strategy.ranking.api.ExternalRankedSort;
+import io.github.x.artifactory.strategy.ranking.api.ExternalSortOptions;
+import io.github.x.artifactory.strategy.ranking.api.RankDefinition;
+import io.github.x.artifactory.strategy.ranking.exception.NonUniqueRankException;
+import io.github.x.artifactory.strategy.ranking.operation.ComparatorType;
+import io.github.x.artifactory.strategy.ranking.rmapping.ConcurrentRankMapCache;
+import io.github.x.artifactory.strategy.ranking.rmapping.DoubleIntervalMap;
+import io.github.x.artifactory.strategy.ranking.rmapping.FloatIntervalMap;
+import io.github.x.artifactory.strategy.ranking.rmapping.RankMapFactory;
+import io.github.x.artifactory.strategy.ranking.solver.RankType;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Implementation of the {@link ExternalRankedSort} interface spilling sorted runs of elements to temporary files.
+ *
+ * <p>If a ranking function returns floating-point values, the input is first written to a temporary file together
+ * with these values, which are also written in sorted runs of their own, and the intervals of every such function
+ * are composed from all its values by a sweep while these runs are merged; only the interval boundaries of the
+ * values are then held in memory, besides a buffer of at most {@code runSize} values per function. The elements are
+ * then split into runs of at most {@code runSize} elements; a run is sorted by the rank vectors of its elements and
+ * written to its own file: a key per primitive ranking function, i.e. the value of an integral function or the
+ * interval index of a floating-point one, followed by the encoded element. Comparable rank values are not written
+ * but evaluated anew from the elements read back. The runs are merged {@code mergeFanIn} at a time until a single
+ * merge is left, which the returned stream performs lazily while checking consecutive elements for ties. An input
+ * fitting in a single run is sorted in memory and never written.
+ *
+ * @param <E> the type of sorted elements
+ */
+public final class SpillingRankedSort<E> implements ExternalRankedSort<E> {
+
+    private final List<RankDefinition.Level<E>> levels;
+
+    private final RankType[] types;
+
+    private final boolean floatingPoint;
+
+    private final ElementCodec<E> codec;
+
+    private final ExternalSortOptions options;
+
+    private final RankMapFactory<Float> mappingFactory;
+
+    /**
+     * Constructs an external sort.
+     *
+     * @param definition the ranking functions
+     * @param codec the binary encoding of the elements
+     * @param options the bounds of the memory taken and the directory of temporary files
+     */
+    public SpillingRankedSort(RankDefinition<E> definition, ElementCodec<E> codec, ExternalSortOptions options) {
+        this.levels = Objects.requireNonNull(definition, "definition must not be null.").levels();
+        this.codec = Objects.requireNonNull(codec, "codec must not be null.");
+        this.options = Objects.requireNonNull(options, "options must not be null.");
+        this.types = levels.stream().map(RankType::of).toArray(RankType[]::new);
+        this.floatingPoint = Arrays.stream(types).anyMatch(type -> type == RankType.FLOAT || type == RankType.DOUBLE);
+        this.mappingFactory = switch (options.mappingCache()) {
+            case ConcurrentRankMapCache cache -> cache.factory();
+        };
+    }
+
+    @Override
+    public Stream<E> asc(Iterator<? extends E> source) {
+        return sort(source, ComparatorType.NATURAL);
+    }
+
+    @Override
+    public Stream<E> desc(Iterator<? extends E> source) {
+        return sort(source, ComparatorType.REVERSED);
+    }
+
+    private Stream<E> sort(Iterator<? extends E> source, ComparatorType comparatorType) {
+        Objects.requireNonNull(source, "source must not be null.");
+        final Comparator<Entry> comparator = comparatorType == ComparatorType.NATURAL
+                ? this::compare
+                : (left, right) -> compare(right, left);
+
+        final var sorting = new Sorting(comparator);
+        try {
+            return sorting.sort(source);
+        } catch (IOException e) {
+            throw sorting.abort(new UncheckedIOException(e));
+        } catch (RuntimeException e) {
+            throw sorting.abort(e);
+        }
+    }
+
+    /**
+     * Compares the rank vectors of two elements in ascending order.
+     */
+    private int compare(Entry left, Entry right) {
+        for (int level = 0; level < types.length; level++) {
+            final int result = types[level] == RankType.COMPARABLE
+                    ? compareValues(left.value(level), right.value(level))
+                    : Long.compare(left.keys[level], right.keys[level]);
+            if (result != 0) {
+                return result;
+            }
+        }
+
+        return 0;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareValues(Comparable left, Comparable right) {
+        return left.compareTo(right);
+    }
+
+    private void write(Entry entry, DataOutputStream out) throws IOException {
+        for (int level = 0; level < types.length; level++) {
+            switch (types[level]) {
+                case LONG -> out.writeLong(entry.keys[level]);
+                case INT, FLOAT, DOUBLE -> out.writeInt((int) entry.keys[level]);
+                case COMPARABLE -> {
+                    // evaluated anew from the element read back
+                }
+            }
+        }
+        codec.write(entry.element, out);
+    }
+
+    private Entry read(DataInputStream in) throws IOException {
+        final long[] keys = new long[types.length];
+        for (int level = 0; level < types.length; level++) {
+            keys[level] = switch (types[level]) {
+                case LONG -> in.readLong();
+                case INT, FLOAT, DOUBLE -> in.readInt();
+                case COMPARABLE -> 0;
+            };
+        }
+
+        return new Entry(codec.read(in), keys);
+    }
+
+    /**
+     * The state of one sort: its temporary directory, the interval mappings of the input and the runs written.
+     */
+    private final class Sorting implements Closeable {
+
+        private final Comparator<Entry> comparator;
+
+        private final FloatIntervalMap[] floatMappings = new FloatIntervalMap[types.length];
+
+        private final DoubleIntervalMap[] doubleMappings = new DoubleIntervalMap[types.length];
+
+        private final List<Run> runs = new ArrayList<>();
+
+        private final List<Entry> run = new ArrayList<>();
+
+        private final List<Closeable> openFiles = new ArrayList<>();
+
+        private Path directory;
+
+        private int fileCount;
+
+        Sorting(Comparator<Entry> comparator) {
+            this.comparator = comparator;
+        }
+
+        Stream<E> sort(Iterator<? extends E> source) throws IOException {
+            if (floatingPoint) {
+                splitSpilled(source);
+            } else {
+                while (source.hasNext()) {
+                    final E element = source.next();
+                    add(new Entry(element, integralKeys(element)));
+                }
+            }
+
+            final Iterator<Entry> merged;
+            if (runs.isEmpty()) {
+                run.sort(comparator);
+                merged = run.iterator();
+            } else {
+                if (!run.isEmpty()) {
+                    flush();
+                }
+                while (runs.size() > options.mergeFanIn()) {
+                    mergePass();
+                }
+                merged = merge(runs);
+            }
+
+            final Iterator<E> checked = new TieCheckingIterator(merged);
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(checked,
+                            Spliterator.ORDERED | Spliterator.NONNULL), false)
+                    .onClose(this::close);
+        }
+
+        /**
+         * Writes the input to a temporary file with its floating-point rank values, writes these values in sorted runs
+         * of their own, composes their intervals while merging these runs and splits the elements read back into runs.
+         */
+        private void splitSpilled(Iterator<? extends E> source) throws IOException {
+            final Path input = newFile();
+            final SpilledRankValues[] values = new SpilledRankValues[types.length];
+            for (int level = 0; level < types.length; level++) {
+                if (types[level] == RankType.FLOAT || types[level] == RankType.DOUBLE) {
+                    values[level] = new SpilledRankValues(types[level] == RankType.FLOAT, directory, options);
+                }
+            }
+
+            long count = 0;
+            try (var out = output(input)) {
+                while (source.hasNext()) {
+                    final E element = source.next();
+                    for (int level = 0; level < types.length; level++) {
+                        switch (levels.get(level)) {
+                            case RankDefinition.Level.OfFloat<E> function -> {
+                                final float value = function.rankAsFloat(element);
+                                out.writeFloat(value);
+                                values[level].add(value);
+                            }
+                            case RankDefinition.Level.OfDouble<E> function -> {
+                                final double value = function.rankAsDouble(element);
+                                out.writeDouble(value);
+                                values[level].add(value);
+                            }
+                            default -> {
+                                // evaluated when the element is read back
+                            }
+                        }
+                    }
+                    codec.write(element, out);
+                    count++;
+                }
+            }
+
+            for (int level = 0; level < types.length; level++) {
+                if (types[level] == RankType.FLOAT) {
+                    floatMappings[level] = mappingFactory.findFloatMapper(values[level]);
+                } else if (types[level] == RankType.DOUBLE) {
+                    doubleMappings[level] = mappingFactory.findDoubleMapper(values[level]);
+                }
+                if (values[level] != null) {
+                    values[level].delete();
+                    values[level] = null;
+                }
+            }
+
+            try (var in = input(input)) {
+                for (long i = 0; i < count; i++) {
+                    final long[] keys = new long[types.length];
+                    for (int level = 0; level < types.length; level++) {
+                        if (types[level] == RankType.FLOAT) {
+                            keys[level] = floatMappings[level].intervalOf(in.readFloat());
+                        } else if (types[level] == RankType.DOUBLE) {
+                            keys[level] = doubleMappings[level].intervalOf(in.readDouble());
+                        }
+                    }
+                    final E element = codec.read(in);
+                    computeIntegralKeys(element, keys);
+                    add(new Entry(element, keys));
+                }
+            }
+            Files.delete(input);
+        }
+
+        private long[] integralKeys(E element) {
+            final long[] keys = new long[types.length];
+            computeIntegralKeys(element, keys);
+
+            return keys;
+        }
+
+        private void computeIntegralKeys(E element, long[] keys) {
+            for (int level = 0; level < types.length; level++) {
+                switch (levels.get(level)) {
+                    case RankDefinition.Level.OfInt<E> function -> keys[level] = function.rankAsInt(element);
+                    case RankDefinition.Level.OfLong<E> function -> keys[level] = function.rankAsLong(element);
+                    default -> {
+                        // mapped to an interval or compared as an object
+                    }
+                }
+            }
+        }
+
+        private void add(Entry entry) throws IOException {
+            run.add(entry);
+            if (run.size() == options.runSize()) {
+                flush();
+            }
+        }
+
+        /**
+         * Sorts the elements of the current run and writes them to a new file.
+         */
+        private void flush() throws IOException {
+            run.sort(comparator);
+            final Path file = newFile();
+            try (var out = output(file)) {
+                for (final var entry : run) {
+                    write(entry, out);
+                }
+            }
+            runs.add(new Run(file, run.size()));
+            run.clear();
+        }
+
+        /**
+         * Merges every {@code mergeFanIn} runs into one.
+         */
+        private void mergePass() throws IOException {
+            final List<Run> merged = new ArrayList<>();
+            for (int from = 0; from < runs.size(); from += options.mergeFanIn()) {
+                final List<Run> group = runs.subList(from, Math.min(runs.size(), from + options.mergeFanIn()));
+                final Path file = newFile();
+                long size = 0;
+                try (var out = output(file)) {
+                    final var entries = merge(group);
+                    while (entries.hasNext()) {
+                        write(entries.next(), out);
+                        size++;
+                    }
+                }
+                for (final var mergedRun : group) {
+                    Files.delete(mergedRun.file());
+                }
+                merged.add(new Run(file, size));
+            }
+            runs.clear();
+            runs.addAll(merged);
+        }
+
+        private Iterator<Entry> merge(List<Run> merged) throws IOException {
+            final var queue = new PriorityQueue<RunReader>(merged.size(),
+                    (left, right) -> comparator.compare(left.head, right.head));
+            for (final var mergedRun : merged) {
+                final var reader = new RunReader(mergedRun);
+                if (reader.advance()) {
+                    queue.add(reader);
+                }
+            }
+
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return !queue.isEmpty();
+                }
+
+                @Override
+                public Entry next() {
+                    final var reader = queue.poll();
+                    if (reader == null) {
+                        throw new NoSuchElementException();
+                    }
+                    final var entry = reader.head;
+                    if (reader.advance()) {
+                        queue.add(reader);
+                    }
+
+                    return entry;
+                }
+            };
+        }
+
+        private Path newFile() throws IOException {
+            if (directory == null) {
+                directory = Files.createTempDirectory(options.directory(), "ranking-sort-");
+            }
+
+            return directory.resolve("run-" + fileCount++ + ".bin");
+        }
+
+        private DataOutputStream output(Path file) throws IOException {
+            return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), options.bufferSize()));
+        }
+
+        private DataInputStream input(Path file) throws IOException {
+            return new DataInputStream(new BufferedInputStream(Files.newInputStream(file), options.bufferSize()));
+        }
+
+        /**
+         * Releases the files of a sort that failed before its stream was returned.
+         *
+         * @param failure the cause of the failure
+         * @return the failure, with a failure to release the files suppressed
+         */
+        private RuntimeException abort(RuntimeException failure) {
+            try {
+                close();
+            } catch (UncheckedIOException e) {
+                failure.addSuppressed(e);
+            }
+
+            return failure;
+        }
+
+        /**
+         * Closes the files being merged and deletes the temporary directory.
+         */
+        @Override
+        public void close() {
+            final List<IOException> failures = new ArrayList<>();
+            for (final var file : openFiles) {
+                try {
+                    file.close();
+                } catch (IOException e) {
+                    failures.add(e);
+                }
+            }
+            openFiles.clear();
+            run.clear();
+
+            if (directory != null) {
+                try (var files = Files.list(directory)) {
+                    for (final var file : (Iterable<Path>) files::iterator) {
+                        Files.deleteIfExists(file);
+                    }
+                    Files.deleteIfExists(directory);
+                } catch (IOException e) {
+                    failures.add(e);
+                }
+                directory = null;
+            }
+
+            if (!failures.isEmpty()) {
+                final var exception = new UncheckedIOException("Temporary files of the sort cannot be deleted.",
+                        failures.getFirst());
+                failures.stream().skip(1).forEach(exception::addSuppressed);
+                throw exception;
+            }
+        }
+
+        /**
+         * Reads the entries of a run one by one.
+         */
+        private final class RunReader {
+
+            private final DataInputStream in;
+
+            private long remaining;
+
+            private Entry head;
+
+            RunReader(Run run) throws IOException {
+                this.in = input(run.file());
+                this.remaining = run.size();
+                openFiles.add(in);
+            }
+
+            /**
+             * Reads the next entry into the head.
+             *
+             * @return {@code false} if the run is exhausted, and its file is closed
+             */
+            boolean advance() {
+                try {
+                    if (remaining == 0) {
+                        in.close();
+                        openFiles.remove(in);
+                        head = null;
+
+                        return false;
+                    }
+                    head = read(in);
+                    remaining--;
+
+                    return true;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+
+        /**
+         * Passes the merged elements on and fails on two consecutive ones having the same rank vectors.
+         */
+        private final class TieCheckingIterator implements Iterator<E> {
+
+            private final Iterator<Entry> entries;
+
+            private Entry previous;
+
+            TieCheckingIterator(Iterator<Entry> entries) {
+                this.entries = entries;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return entries.hasNext();
+            }
+
+            @Override
+            public E next() {
+                final var entry = entries.next();
+                if (previous != null && comparator.compare(previous, entry) == 0) {
+                    throw new NonUniqueRankException("No unique result found after applying all ranking functions.");
+                }
+                previous = entry;
+
+                return entry.element;
+            }
+        }
+    }
+
+    /**
+     * A sorted run written to a file.
+     *
+     * @param file the file holding the entries of the run
+     * @param size the number of entries
+     */
+    private record Run(Path file, long size) {
+    }
+
+    /**
+     * An element with the keys of its primitive ranking functions and its comparable rank values, evaluated when
+     * first compared.
+     */
+    private final class Entry {
+
+        private final E element;
+
+        private final long[] keys;
+
+        private Comparable<?>[] values;
+
+        Entry(E element, long[] keys) {
+            this.element = element;
+            this.keys = keys;
+        }
+
+        Comparable<?> value(int level) {
+            if (values == null) {
+                values = new Comparable<?>[types.length];
+            }
+            if (values[level] == null) {
+                values[level] = ((RankDefinition.Level.OfComparable<E>) levels.get(level)).rank(element);
+            }
+
+            return values[level];
+        }
+    }
+
+}
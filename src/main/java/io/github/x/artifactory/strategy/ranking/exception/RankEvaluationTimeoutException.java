@@ -0,0 +1,24 @@
+package io.github.x.artifactory.strategy.ranking.exception;
+
+import java.io.Serial;
+
+/**
+ * Thrown when the concurrent evaluation of a ranking level exceeds its deadline.
+ */
+public class RankEvaluationTimeoutException extends RankingStrategyException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs a {@code RankEvaluationTimeoutException}, saving a reference
+     * to the error message string {@code s} for later retrieval by the
+     * {@code getMessage} method.
+     *
+     * @param s the detail message.
+     */
+    public RankEvaluationTimeoutException(String s) {
+        super(s);
+    }
+
+}
@@ -2,6 +2,7 @@ package io.github.x.artifactory.strategy.ranking.exception;
 
 import io.github.x.artifactory.strategy.ranking.api.RankWrapper;
 
+import java.util.function.Supplier;
 
 /**
  * Ranking value assessor - validator.
@@ -29,6 +30,23 @@ public final class RankValueAccessor {
         }
     }
 
+    /**
+     * Accesses the ranking function at index {@code functionIndex}.
+     *
+     * @param element the element providing ranking functions
+     * @param functionIndex the index of the function
+     * @return the ranking function at index {@code functionIndex}
+     * @param <W> the type of the element providing ranking functions
+     * @throws NonUniqueRankException if a non-existent ranking function is requested
+     */
+    public static <W extends RankWrapper<?>> Supplier<Comparable<?>> getRankFunction(W element, int functionIndex) {
+        try {
+            return element.rankFunction(functionIndex);
+        } catch (IndexOutOfBoundsException e) {
+            throw new NonUniqueRankException("No unique result found after applying all ranking functions.");
+        }
+    }
+
     /**
      * Checks if this ranking object type use is allowed within sorting and grouping operations.
      *
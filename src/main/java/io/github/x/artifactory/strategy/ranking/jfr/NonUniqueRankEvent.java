@@ -0,0 +1,34 @@
+package io.github.x.artifactory.strategy.ranking.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A ranking operation failed with {@link io.github.x.artifactory.strategy.ranking.exception.NonUniqueRankException}.
+ */
+@Name("io.github.x.artifactory.strategy.ranking.NonUniqueRank")
+@Label("Non-Unique Rank")
+@Category("Ranking Strategy")
+@Description("A ranking operation found elements having identical ranks at all levels")
+final class NonUniqueRankEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Engine")
+    String engine;
+
+    @Label("Element Count")
+    int elementCount;
+
+    @Label("Level Count")
+    @Description("The number of ranking levels descended")
+    int levelCount;
+
+    @Label("Message")
+    String message;
+
+}
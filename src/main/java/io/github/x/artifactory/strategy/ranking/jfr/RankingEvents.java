@@ -0,0 +1,117 @@
+package io.github.x.artifactory.strategy.ranking.jfr;
+
+import io.github.x.artifactory.strategy.ranking.api.RankWrapper;
+import io.github.x.artifactory.strategy.ranking.api.RankingEngine;
+import io.github.x.artifactory.strategy.ranking.exception.NonUniqueRankException;
+import io.github.x.artifactory.strategy.ranking.management.RankingManagement;
+import io.github.x.artifactory.strategy.ranking.solver.RankingTrace;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Emission of the ranking events and collection of the statistics exposed by {@link RankingManagement}.
+ */
+public final class RankingEvents {
+
+    /**
+     * The limit recorded for operations other than the selection of leading elements.
+     */
+    public static final int NO_LIMIT = -1;
+
+    private RankingEvents() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Performs a ranking operation, records its events and adds it to the management statistics.
+     *
+     * <p>The operation is given an enabled {@link RankingTrace} only if the operation event is enabled; otherwise it
+     * is given a {@link RankingTrace#counting() counting} trace and the cost of recording is a check of the event
+     * state and the count of the rank evaluations.
+     *
+     * @param operation the name of the operation
+     * @param engine the engine performing the operation
+     * @param elements the elements ranked, not empty
+     * @param limit the number of elements to select or {@link #NO_LIMIT}
+     * @param solution the operation, reporting to the trace it is given
+     * @return the result of the operation
+     * @param <T> the type of the result
+     * @throws NonUniqueRankException when unambiguous result is not achieved
+     */
+    public static <T> T record(String operation, RankingEngine engine, Collection<? extends RankWrapper<?>> elements,
+                               int limit, Function<RankingTrace, T> solution) {
+        final RankWrapper<?> element = elements.iterator().next();
+        // the ranking fails only when all levels are exhausted
+        return record(operation, engine, element.getClass(), elements.size(), element::rankFunctionCount,
+                limit, solution);
+    }
+
+    /**
+     * Performs a ranking operation, records its events and adds it to the management statistics.
+     *
+     * @param operation the name of the operation
+     * @param engine the engine performing the operation
+     * @param rankClass the class defining the ranking functions, counted by the management statistics
+     * @param elementCount the number of elements ranked, positive
+     * @param levelCount the supplier of the number of ranking functions, called only if a non-unique rank is recorded
+     * @param limit the number of elements to select or {@link #NO_LIMIT}
+     * @param solution the operation, reporting to the trace it is given
+     * @return the result of the operation
+     * @param <T> the type of the result
+     * @throws NonUniqueRankException when unambiguous result is not achieved
+     */
+    public static <T> T record(String operation, RankingEngine engine, Class<?> rankClass, int elementCount,
+                               IntSupplier levelCount, int limit, Function<RankingTrace, T> solution) {
+        final var event = new RankingOperationEvent();
+        final var trace = event.isEnabled() ? new RankingTrace() : RankingTrace.counting();
+        final long start = System.nanoTime();
+        event.begin();
+        boolean unique = false;
+        try {
+            final T result = solution.apply(trace);
+            unique = true;
+            return result;
+        } catch (NonUniqueRankException e) {
+            RankingManagement.nonUniqueFound();
+            commitNonUnique(operation, engine, elementCount, levelCount, e);
+            throw e;
+        } finally {
+            event.end();
+            RankingManagement.operationCompleted(rankClass, elementCount, trace.rankEvaluations(),
+                    System.nanoTime() - start);
+            if (event.shouldCommit()) {
+                event.operation = operation;
+                event.engine = engine.name();
+                event.elementCount = elementCount;
+                event.limit = limit;
+                event.levelCount = trace.levelCount();
+                event.groupCounts = Arrays.stream(trace.groupCounts())
+                        .mapToObj(Long::toString)
+                        .collect(Collectors.joining(","));
+                event.mappingTime = trace.mappingNanos();
+                event.cacheHits = trace.cacheHits();
+                event.cacheMisses = trace.cacheMisses();
+                event.unique = unique;
+                event.commit();
+            }
+        }
+    }
+
+    private static void commitNonUnique(String operation, RankingEngine engine, int elementCount,
+                                        IntSupplier levelCount, NonUniqueRankException exception) {
+        final var event = new NonUniqueRankEvent();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.engine = engine.name();
+            event.elementCount = elementCount;
+            event.levelCount = levelCount.getAsInt();
+            event.message = exception.getMessage();
+            event.commit();
+        }
+    }
+
+}
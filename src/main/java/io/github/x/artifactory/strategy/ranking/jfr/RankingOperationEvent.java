@@ -0,0 +1,60 @@
+package io.github.x.artifactory.strategy.ranking.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A ranking operation of a ranked collection.
+ */
+@Name("io.github.x.artifactory.strategy.ranking.RankingOperation")
+@Label("Ranking Operation")
+@Category("Ranking Strategy")
+@Description("A search, sorting, partitioning or selection operation of a ranked collection")
+@Enabled(false)
+@StackTrace(false)
+final class RankingOperationEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Engine")
+    String engine;
+
+    @Label("Element Count")
+    int elementCount;
+
+    @Label("Limit")
+    @Description("The number of elements to select by top or bottom, -1 for other operations")
+    int limit;
+
+    @Label("Level Count")
+    @Description("The number of ranking levels descended")
+    int levelCount;
+
+    @Label("Group Counts")
+    @Description("Comma-separated numbers of groups of tied elements formed at each level by asc, desc, top and "
+            + "bottom, or of candidates retained at each level by min and max")
+    String groupCounts;
+
+    @Label("Mapping Time")
+    @Description("The time taken to find or build the mappings of floating-point ranks to intervals")
+    @Timespan(Timespan.NANOSECONDS)
+    long mappingTime;
+
+    @Label("Mapping Cache Hits")
+    long cacheHits;
+
+    @Label("Mapping Cache Misses")
+    long cacheMisses;
+
+    @Label("Unique")
+    @Description("Whether an unambiguous result was achieved")
+    boolean unique;
+
+}
@@ -0,0 +1,11 @@
+/**
+ * Contains the JDK Flight Recorder events emitted by the ranking operations.
+ *
+ * <p>{@code io.github.x.artifactory.strategy.ranking.NonUniqueRank} events are enabled by default and recorded when
+ * an operation fails to achieve an unambiguous result. {@code io.github.x.artifactory.strategy.ranking.RankingOperation}
+ * events describe the course of every operation and are disabled by default, since collecting the description costs
+ * some work per group of tied elements; they are enabled by the settings of a recording, e.g. a settings file created
+ * by {@code jfr configure +io.github.x.artifactory.strategy.ranking.RankingOperation#enabled=true}, possibly together
+ * with a {@code #threshold} to record only slow operations.
+ */
+package io.github.x.artifactory.strategy.ranking.jfr;
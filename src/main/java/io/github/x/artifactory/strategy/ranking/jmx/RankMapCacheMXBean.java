@@ -0,0 +1,72 @@
+package io.github.x.artifactory.strategy.ranking.jmx;
+
+/**
+ * Management interface of a cache of floating-point rank mappings.
+ */
+public interface RankMapCacheMXBean {
+
+    /**
+     * The name of the MBean of the shared cache of floating-point rank mappings.
+     */
+    String SHARED_OBJECT_NAME = "io.github.x.artifactory.strategy.ranking:type=RankMapCache,name=shared";
+
+    /**
+     * {@return the number of cached mappings}
+     */
+    int getEntryCount();
+
+    /**
+     * {@return the total number of intervals of the cached mappings}
+     */
+    long getWeight();
+
+    /**
+     * {@return the number of lookups that found a cached mapping}
+     */
+    long getHitCount();
+
+    /**
+     * {@return the number of lookups that built a mapping}
+     */
+    long getMissCount();
+
+    /**
+     * {@return the number of mappings evicted to keep the weight within its bound}
+     */
+    long getEvictionCount();
+
+    /**
+     * {@return the share of lookups that found a cached mapping}
+     */
+    double getHitRate();
+
+    /**
+     * {@return the maximum total number of intervals of the cached mappings}
+     */
+    long getMaxWeight();
+
+    /**
+     * Changes the maximum total number of intervals of the cached mappings, evicting the mappings exceeding it.
+     *
+     * @param maxWeight the maximum total number of intervals; zero disables caching
+     */
+    void setMaxWeight(long maxWeight);
+
+    /**
+     * {@return the precision tolerance in ulps of the mappings built}
+     */
+    int getPrecisionUlp();
+
+    /**
+     * Changes the precision tolerance of the mappings built.
+     *
+     * @param precisionUlp the precision tolerance in ulps; must be positive
+     */
+    void setPrecisionUlp(int precisionUlp);
+
+    /**
+     * Removes all cached mappings.
+     */
+    void clear();
+
+}
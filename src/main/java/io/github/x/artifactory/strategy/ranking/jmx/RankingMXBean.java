@@ -0,0 +1,68 @@
+package io.github.x.artifactory.strategy.ranking.jmx;
+
+import java.util.Map;
+
+/**
+ * Management interface of the ranking operations of all ranked collections.
+ */
+public interface RankingMXBean {
+
+    /**
+     * The name of the MBean of the ranking operations.
+     */
+    String OBJECT_NAME = "io.github.x.artifactory.strategy.ranking:type=Ranking";
+
+    /**
+     * {@return the number of operations performed}
+     */
+    long getOperationCount();
+
+    /**
+     * {@return the number of operations that failed to achieve an unambiguous result}
+     */
+    long getNonUniqueCount();
+
+    /**
+     * {@return the total number of elements of the collections ranked by the operations}
+     */
+    long getElementCount();
+
+    /**
+     * {@return the number of rank values evaluated}
+     */
+    long getRankEvaluationCount();
+
+    /**
+     * {@return the number of rank values evaluated by the name of the rank wrapper class}
+     */
+    Map<String, Long> getRankEvaluationsByWrapper();
+
+    /**
+     * {@return the total time taken by the operations, in nanoseconds}
+     */
+    long getTotalOperationTime();
+
+    /**
+     * {@return the mean time taken by an operation, in nanoseconds, or zero if there were none}
+     */
+    double getMeanOperationTime();
+
+    /**
+     * {@return the parallel threshold of the default ranking options}
+     */
+    int getDefaultParallelThreshold();
+
+    /**
+     * Changes the parallel threshold of the default ranking options; collections created afterwards with the default
+     * options use the new threshold.
+     *
+     * @param parallelThreshold the minimum size of a group of tied elements to be sorted in parallel
+     */
+    void setDefaultParallelThreshold(int parallelThreshold);
+
+    /**
+     * Resets all counts and times to zero.
+     */
+    void resetStatistics();
+
+}
@@ -0,0 +1,14 @@
+/**
+ * Contains the JMX management interfaces of the ranking operations.
+ *
+ * <p>The MBeans are registered in the platform MBean server as soon as the first ranking operation is performed or
+ * the default {@link io.github.x.artifactory.strategy.ranking.api.RankingOptions ranking options} are created:
+ * <ul>
+ *     <li>{@code io.github.x.artifactory.strategy.ranking:type=Ranking} exposes the counts of the operations, ranked
+ *     elements and rank evaluations, the time taken by the operations and the rank evaluations of every rank wrapper
+ *     class; the default parallel threshold is writable.</li>
+ *     <li>{@code io.github.x.artifactory.strategy.ranking:type=RankMapCache,name=shared} exposes the statistics of the
+ *     shared cache of floating-point rank mappings; its maximum weight and precision tolerance are writable.</li>
+ * </ul>
+ */
+package io.github.x.artifactory.strategy.ranking.jmx;
@@ -0,0 +1,72 @@
+package io.github.x.artifactory.strategy.ranking.management;
+
+import io.github.x.artifactory.strategy.ranking.jmx.RankMapCacheMXBean;
+import io.github.x.artifactory.strategy.ranking.rmapping.ConcurrentRankMapCache;
+
+/**
+ * The MBean of a cache of floating-point rank mappings.
+ */
+final class RankMapCacheBean implements RankMapCacheMXBean {
+
+    private final ConcurrentRankMapCache cache;
+
+    RankMapCacheBean(ConcurrentRankMapCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public int getEntryCount() {
+        return cache.statistics().entryCount();
+    }
+
+    @Override
+    public long getWeight() {
+        return cache.statistics().weight();
+    }
+
+    @Override
+    public long getHitCount() {
+        return cache.statistics().hitCount();
+    }
+
+    @Override
+    public long getMissCount() {
+        return cache.statistics().missCount();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return cache.statistics().evictionCount();
+    }
+
+    @Override
+    public double getHitRate() {
+        return cache.statistics().hitRate();
+    }
+
+    @Override
+    public long getMaxWeight() {
+        return cache.maxWeight();
+    }
+
+    @Override
+    public void setMaxWeight(long maxWeight) {
+        cache.setMaxWeight(maxWeight);
+    }
+
+    @Override
+    public int getPrecisionUlp() {
+        return cache.precisionUlp();
+    }
+
+    @Override
+    public void setPrecisionUlp(int precisionUlp) {
+        cache.setPrecisionUlp(precisionUlp);
+    }
+
+    @Override
+    public void clear() {
+        cache.clear();
+    }
+
+}
@@ -0,0 +1,109 @@
+package io.github.x.artifactory.strategy.ranking.management;
+
+import io.github.x.artifactory.strategy.ranking.api.RankingOptions;
+import io.github.x.artifactory.strategy.ranking.jmx.RankingMXBean;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The MBean of the ranking operations, holding their thread-safe counters and the default parallel threshold.
+ */
+final class RankingBean implements RankingMXBean {
+
+    private final LongAdder operationCount = new LongAdder();
+
+    private final LongAdder nonUniqueCount = new LongAdder();
+
+    private final LongAdder elementCount = new LongAdder();
+
+    private final LongAdder rankEvaluationCount = new LongAdder();
+
+    private final LongAdder operationNanos = new LongAdder();
+
+    /**
+     * Rank evaluations keyed by class name rather than class, so that no class loader is retained.
+     */
+    private final Map<String, LongAdder> rankEvaluationsByWrapper = new ConcurrentHashMap<>();
+
+    private volatile int defaultParallelThreshold = RankingOptions.SEQUENTIAL;
+
+    void operationCompleted(Class<?> wrapperClass, int elements, long rankEvaluations, long nanos) {
+        operationCount.increment();
+        elementCount.add(elements);
+        rankEvaluationCount.add(rankEvaluations);
+        operationNanos.add(nanos);
+        rankEvaluationsByWrapper.computeIfAbsent(wrapperClass.getName(), name -> new LongAdder()).add(rankEvaluations);
+    }
+
+    void nonUniqueFound() {
+        nonUniqueCount.increment();
+    }
+
+    @Override
+    public long getOperationCount() {
+        return operationCount.sum();
+    }
+
+    @Override
+    public long getNonUniqueCount() {
+        return nonUniqueCount.sum();
+    }
+
+    @Override
+    public long getElementCount() {
+        return elementCount.sum();
+    }
+
+    @Override
+    public long getRankEvaluationCount() {
+        return rankEvaluationCount.sum();
+    }
+
+    @Override
+    public Map<String, Long> getRankEvaluationsByWrapper() {
+        final Map<String, Long> evaluations = new TreeMap<>();
+        rankEvaluationsByWrapper.forEach((name, count) -> evaluations.put(name, count.sum()));
+
+        return evaluations;
+    }
+
+    @Override
+    public long getTotalOperationTime() {
+        return operationNanos.sum();
+    }
+
+    @Override
+    public double getMeanOperationTime() {
+        final long operations = operationCount.sum();
+
+        return operations == 0 ? 0 : (double) operationNanos.sum() / operations;
+    }
+
+    @Override
+    public int getDefaultParallelThreshold() {
+        return defaultParallelThreshold;
+    }
+
+    @Override
+    public void setDefaultParallelThreshold(int parallelThreshold) {
+        if (parallelThreshold < 1) {
+            throw new IllegalArgumentException("parallelThreshold must be positive.");
+        }
+
+        this.defaultParallelThreshold = parallelThreshold;
+    }
+
+    @Override
+    public void resetStatistics() {
+        operationCount.reset();
+        nonUniqueCount.reset();
+        elementCount.reset();
+        rankEvaluationCount.reset();
+        operationNanos.reset();
+        rankEvaluationsByWrapper.clear();
+    }
+
+}
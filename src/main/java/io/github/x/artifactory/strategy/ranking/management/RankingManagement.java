@@ -0,0 +1,65 @@
+package io.github.x.artifactory.strategy.ranking.management;
+
+import io.github.x.artifactory.strategy.ranking.jmx.RankMapCacheMXBean;
+import io.github.x.artifactory.strategy.ranking.jmx.RankingMXBean;
+import io.github.x.artifactory.strategy.ranking.rmapping.ConcurrentRankMapCache;
+
+import java.lang.management.ManagementFactory;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Registration of the MBeans and collection of the statistics they expose.
+ */
+public final class RankingManagement {
+
+    private static final System.Logger LOGGER = System.getLogger(RankingManagement.class.getName());
+
+    private static final RankingBean RANKING = new RankingBean();
+
+    static {
+        register(RankingMXBean.OBJECT_NAME, RANKING);
+        register(RankMapCacheMXBean.SHARED_OBJECT_NAME, new RankMapCacheBean(ConcurrentRankMapCache.shared()));
+    }
+
+    private RankingManagement() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Adds a completed ranking operation to the statistics.
+     *
+     * @param wrapperClass the class of the rank wrappers of the ranked elements
+     * @param elementCount the number of elements ranked
+     * @param rankEvaluations the number of rank values evaluated
+     * @param nanos the time taken by the operation, in nanoseconds
+     */
+    public static void operationCompleted(Class<?> wrapperClass, int elementCount, long rankEvaluations, long nanos) {
+        RANKING.operationCompleted(wrapperClass, elementCount, rankEvaluations, nanos);
+    }
+
+    /**
+     * Adds an operation failing to achieve an unambiguous result to the statistics.
+     */
+    public static void nonUniqueFound() {
+        RANKING.nonUniqueFound();
+    }
+
+    /**
+     * {@return the parallel threshold of the default ranking options, as currently set through JMX}
+     */
+    public static int defaultParallelThreshold() {
+        return RANKING.getDefaultParallelThreshold();
+    }
+
+    private static void register(String name, Object bean) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(bean, new ObjectName(name));
+        } catch (JMException | SecurityException e) {
+            // e.g. another copy of the library, loaded by another class loader, has registered its MBeans first;
+            // the statistics of this copy are then collected but not exposed
+            LOGGER.log(System.Logger.Level.WARNING, "MBean " + name + " is not registered", e);
+        }
+    }
+
+}
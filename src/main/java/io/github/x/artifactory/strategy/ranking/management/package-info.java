@@ -0,0 +1,7 @@
+/**
+ * Contains the registration of the MBeans and the collection of the statistics they expose.
+ *
+ * <p>This package is not exported: the ranking operations report to it, while only the management interfaces of
+ * {@link io.github.x.artifactory.strategy.ranking.jmx} are visible to other modules.
+ */
+package io.github.x.artifactory.strategy.ranking.management;
@@ -0,0 +1,312 @@
+package io.github.x.artifactory.strategy.ranking.processor;
+
+import io.github.x.artifactory.strategy.ranking.api.AnnotatedRankWrapper;
+import io.github.x.artifactory.strategy.ranking.api.PrimitiveRankFunction;
+import io.github.x.artifactory.strategy.ranking.api.Rank;
+import io.github.x.artifactory.strategy.ranking.api.RankWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Annotation processor generating the ranking functions of {@link RankWrapper} subclasses from their {@link Rank}
+ * annotated methods.
+ *
+ * <p>For every abstract class declaring annotated methods, a final subclass is generated in the same package. Its
+ * {@link RankWrapper#rankFunctionList()} lists the methods in their order, declaring the primitive ones by
+ * {@code PrimitiveRankFunction} factories, so the solvers distinguish their types as usual. The evaluation hooks of
+ * {@link RankWrapper} are overridden by {@code switch} statements calling the methods directly: the solvers then
+ * evaluate a rank through a single virtual call instead of the function list and a lambda, and primitive ranks are
+ * never boxed.
+ *
+ * <p>Subclasses of {@link AnnotatedRankWrapper} are skipped, since their annotated methods are bound at runtime.
+ */
+@SupportedAnnotationTypes("io.github.x.artifactory.strategy.ranking.api.Rank")
+public final class RankProcessor extends AbstractProcessor {
+
+    private static final String GENERATED_SUFFIX = "Impl";
+
+    private static final String PRIMITIVE_RANK_FUNCTION = PrimitiveRankFunction.class.getCanonicalName();
+
+    private final Set<String> generated = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        final Set<TypeElement> wrappers = new LinkedHashSet<>();
+        for (final Element element : roundEnv.getElementsAnnotatedWith(Rank.class)) {
+            if (element.getEnclosingElement() instanceof TypeElement type) {
+                wrappers.add(type);
+            }
+        }
+
+        for (final TypeElement wrapper : wrappers) {
+            if (generated.add(wrapper.getQualifiedName().toString()) && extendsRankWrapper(wrapper)
+                    && !isSubtype(wrapper, AnnotatedRankWrapper.class) && isValidWrapper(wrapper)) {
+                final List<RankMethod> methods = rankMethods(wrapper);
+                if (methods != null) {
+                    write(wrapper, methods);
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private boolean extendsRankWrapper(TypeElement wrapper) {
+        if (wrapper.getKind() != ElementKind.CLASS || !isSubtype(wrapper, RankWrapper.class)) {
+            return error("A class declaring @Rank methods must extend RankWrapper.", wrapper);
+        }
+
+        return true;
+    }
+
+    private boolean isSubtype(TypeElement wrapper, Class<?> supertype) {
+        final TypeMirror erasure = processingEnv.getTypeUtils().erasure(processingEnv.getElementUtils()
+                .getTypeElement(supertype.getCanonicalName()).asType());
+
+        return processingEnv.getTypeUtils().isSubtype(wrapper.asType(), erasure);
+    }
+
+    private boolean isValidWrapper(TypeElement wrapper) {
+        if (!wrapper.getModifiers().contains(Modifier.ABSTRACT)) {
+            return error("A class declaring @Rank methods must be abstract or extend AnnotatedRankWrapper.", wrapper);
+        }
+        if (wrapper.getModifiers().contains(Modifier.PRIVATE)
+                || wrapper.getNestingKind() == NestingKind.MEMBER && !wrapper.getModifiers().contains(Modifier.STATIC)
+                || wrapper.getNestingKind() == NestingKind.LOCAL
+                || wrapper.getNestingKind() == NestingKind.ANONYMOUS) {
+            return error("A class declaring @Rank methods must be a top-level or a non-private static nested class.",
+                    wrapper);
+        }
+        if (!wrapper.getTypeParameters().isEmpty()) {
+            return error("A class declaring @Rank methods must not be generic.", wrapper);
+        }
+        final boolean constructible = ElementFilter.constructorsIn(wrapper.getEnclosedElements()).stream()
+                .anyMatch(constructor -> constructor.getParameters().isEmpty()
+                        && !constructor.getModifiers().contains(Modifier.PRIVATE));
+
+        return constructible || error("A class declaring @Rank methods must have a non-private constructor without "
+                + "parameters.", wrapper);
+    }
+
+    /**
+     * Collects the annotated methods of a class and of its superclasses in their order.
+     *
+     * @return the methods, or {@code null} if any of them cannot be a ranking method
+     */
+    private List<RankMethod> rankMethods(TypeElement wrapper) {
+        final List<RankMethod> methods = new ArrayList<>();
+        boolean valid = true;
+        for (final ExecutableElement method
+                : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(wrapper))) {
+            final Rank rank = method.getAnnotation(Rank.class);
+            if (rank != null) {
+                final RankMethod rankMethod = rankMethod(wrapper, method, rank.order());
+                valid &= rankMethod != null;
+                methods.add(rankMethod);
+            }
+        }
+        if (!valid) {
+            return null;
+        }
+
+        methods.sort(Comparator.comparingInt(RankMethod::order));
+        for (int i = 1; i < methods.size(); i++) {
+            if (methods.get(i).order() == methods.get(i - 1).order()) {
+                valid = error("The order " + methods.get(i).order() + " is declared by more than one @Rank method of "
+                        + wrapper.getSimpleName() + ".", methods.get(i).element());
+            }
+        }
+
+        return valid ? methods : null;
+    }
+
+    private RankMethod rankMethod(TypeElement wrapper, ExecutableElement method, int order) {
+        final Set<Modifier> modifiers = method.getModifiers();
+        final boolean samePackage = processingEnv.getElementUtils().getPackageOf(method)
+                .equals(processingEnv.getElementUtils().getPackageOf(wrapper));
+        if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.STATIC)
+                || modifiers.contains(Modifier.ABSTRACT) || !method.getParameters().isEmpty()
+                || !samePackage && !modifiers.contains(Modifier.PUBLIC) && !modifiers.contains(Modifier.PROTECTED)) {
+            error("A @Rank method must be a concrete, accessible instance method without parameters.", method);
+
+            return null;
+        }
+
+        final TypeMirror returnType = method.getReturnType();
+        final RankKind kind = switch (returnType.getKind()) {
+            case BYTE, SHORT, CHAR, INT -> RankKind.INT;
+            case LONG -> RankKind.LONG;
+            case FLOAT -> RankKind.FLOAT;
+            case DOUBLE -> RankKind.DOUBLE;
+            case BOOLEAN -> RankKind.COMPARABLE;
+            default -> isComparable(returnType) ? RankKind.COMPARABLE : null;
+        };
+        if (kind == null) {
+            error("A @Rank method must return a primitive value or a Comparable object.", method);
+
+            return null;
+        }
+
+        return new RankMethod(method, method.getSimpleName().toString(), order, kind);
+    }
+
+    private boolean isComparable(TypeMirror type) {
+        final TypeMirror comparable = processingEnv.getTypeUtils().erasure(
+                processingEnv.getElementUtils().getTypeElement(Comparable.class.getCanonicalName()).asType());
+
+        return type.getKind() != TypeKind.VOID && processingEnv.getTypeUtils().isAssignable(type, comparable);
+    }
+
+    private void write(TypeElement wrapper, List<RankMethod> methods) {
+        final String packageName = processingEnv.getElementUtils().getPackageOf(wrapper).getQualifiedName()
+                .toString();
+        final String simpleName = generatedSimpleName(wrapper);
+        final String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+        try (var out = new PrintWriter(processingEnv.getFiler().createSourceFile(qualifiedName, wrapper)
+                .openWriter())) {
+            if (!packageName.isEmpty()) {
+                out.println("package " + packageName + ";");
+                out.println();
+            }
+            out.println("/**");
+            out.println(" * Ranking functions of {@link " + wrapper.getQualifiedName()
+                    + "} generated from its {@code Rank} annotations.");
+            out.println(" */");
+            out.println("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")");
+            out.println((wrapper.getModifiers().contains(Modifier.PUBLIC) ? "public " : "") + "final class "
+                    + simpleName + " extends " + wrapper.getQualifiedName() + " {");
+            out.println();
+            out.println("    @Override");
+            out.println("    public java.util.List<java.util.function.Supplier<java.lang.Comparable<?>>> "
+                    + "rankFunctionList() {");
+            out.println("        return java.util.List.of(");
+            out.println(methods.stream()
+                    .map(method -> "                " + method.kind().function(method.name()))
+                    .collect(Collectors.joining("," + System.lineSeparator())) + ");");
+            out.println("    }");
+            writeEvaluation(out, "java.lang.Comparable<?>", "evaluateRank", methods, RankKind.COMPARABLE,
+                    RankKind.COMPARABLE);
+            writeEvaluation(out, "long", "evaluateRankAsLong", methods, RankKind.INT, RankKind.LONG);
+            writeEvaluation(out, "double", "evaluateRankAsDouble", methods, RankKind.FLOAT, RankKind.DOUBLE);
+            out.println();
+            out.println("}");
+        } catch (IOException e) {
+            error("The ranking functions of " + wrapper.getSimpleName() + " cannot be generated: " + e.getMessage(),
+                    wrapper);
+        }
+    }
+
+    /**
+     * Writes an evaluation hook calling the methods of the given kinds directly, if there are any.
+     */
+    private static void writeEvaluation(PrintWriter out, String type, String hook, List<RankMethod> methods,
+                                        RankKind kind, RankKind otherKind) {
+        if (methods.stream().noneMatch(method -> method.kind() == kind || method.kind() == otherKind)) {
+            return;
+        }
+
+        out.println();
+        out.println("    @Override");
+        out.println("    protected " + type + " " + hook + "(int functionIndex) {");
+        out.println("        return switch (functionIndex) {");
+        for (int i = 0; i < methods.size(); i++) {
+            final RankMethod method = methods.get(i);
+            if (method.kind() == kind || method.kind() == otherKind) {
+                out.println("            case " + i + " -> " + method.name() + "();");
+            }
+        }
+        out.println("            default -> super." + hook + "(functionIndex);");
+        out.println("        };");
+        out.println("    }");
+    }
+
+    /**
+     * {@return the simple name of the class generated for a wrapper, flattening the names of its enclosing classes}
+     */
+    static String generatedSimpleName(TypeElement wrapper) {
+        final List<String> names = new ArrayList<>();
+        Element element = wrapper;
+        while (element instanceof TypeElement type) {
+            names.addFirst(type.getSimpleName().toString());
+            element = type.getEnclosingElement();
+        }
+
+        return String.join("_", names) + GENERATED_SUFFIX;
+    }
+
+    private boolean error(String message, Element element) {
+        final Messager messager = processingEnv.getMessager();
+        messager.printMessage(Diagnostic.Kind.ERROR, message, element);
+
+        return false;
+    }
+
+    /**
+     * The value types of ranking methods, declared by the matching {@code PrimitiveRankFunction} factories.
+     */
+    private enum RankKind {
+
+        INT("ofInt"),
+
+        LONG("ofLong"),
+
+        FLOAT("ofFloat"),
+
+        DOUBLE("ofDouble"),
+
+        COMPARABLE(null);
+
+        private final String factory;
+
+        RankKind(String factory) {
+            this.factory = factory;
+        }
+
+        String function(String method) {
+            return factory == null
+                    ? "this::" + method
+                    : PRIMITIVE_RANK_FUNCTION + "." + factory + "(this::" + method + ")";
+        }
+    }
+
+    /**
+     * An annotated ranking method.
+     *
+     * @param element the method
+     * @param name the name of the method
+     * @param order the order of the method
+     * @param kind the value type of the method
+     */
+    private record RankMethod(ExecutableElement element, String name, int order, RankKind kind) {
+    }
+
+}
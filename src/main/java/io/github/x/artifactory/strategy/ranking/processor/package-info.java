@@ -0,0 +1,9 @@
+/**
+ * Contains the annotation processor generating the ranking functions of wrappers from their
+ * {@link io.github.x.artifactory.strategy.ranking.api.Rank} annotations.
+ *
+ * <p>The processor is provided as a {@code javax.annotation.processing.Processor} service of this module; on the
+ * class path it is enabled by the {@code -processor io.github.x.artifactory.strategy.ranking.processor.RankProcessor}
+ * option of {@code javac}.
+ */
+package io.github.x.artifactory.strategy.ranking.processor;
@@ -0,0 +1,349 @@
+package io.github.x.artifactory.strategy.ranking.rmapping;
+
+import io.github.x.artifactory.strategy.ranking.api.RankMapCache;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.Function;
+
+/**
+ * A thread-safe cache of floating-point rank mappings bounded by their total weight.
+ *
+ * <p>Mappings are keyed by the sorted {@link DistinctValues distinct values} they are built from, so the same values in
+ * any order and with any multiplicities share a mapping, and a mapping is returned only for the very values it was
+ * built from. Looking a mapping up costs a sort of the values, and a mapping missing from the cache is then built
+ * from its key without reading the values again. The weight of a mapping is the number of its intervals. The cache
+ * is split into segments selected by the hash of the key; each segment holds an equal share of the maximum weight
+ * and evicts its least recently used mappings when the share is exceeded. A mapping heavier than a share, or built
+ * from more distinct values than a share, is built but not cached, so that the keys held are bounded by the maximum
+ * weight too. The values of a {@link RankValueSource} are read once, in ascending order.
+ *
+ * <p>Mappings of values other than {@link Float} and {@link Double} ones are built by {@link FP2IntMap} and not
+ * cached.
+ *
+ * <p>The maximum weight and the precision tolerance of the mappings can be changed while the cache is in use: a
+ * lowered maximum weight evicts mappings at once, and a mapping cached with another precision tolerance is rebuilt
+ * when it is looked up next.
+ *
+ * <p>A factory obtained with a {@link MappingListener} reports every mapping it finds, whether cached or built, and
+ * the time taken; the plain {@link #factory()} does not read the clock.
+ */
+public final class ConcurrentRankMapCache implements RankMapCache {
+
+    /**
+     * The maximum weight of the shared cache.
+     */
+    public static final long SHARED_MAX_WEIGHT = 1L << 20;
+
+    private static final int SEGMENT_BITS = 4;
+
+    private static final int SEGMENT_COUNT = 1 << SEGMENT_BITS;
+
+    private static final int MAX_KEY_SIZE = Integer.MAX_VALUE - 8;
+
+    private static final ConcurrentRankMapCache SHARED = new ConcurrentRankMapCache(SHARED_MAX_WEIGHT);
+
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+
+    private volatile long maxWeight;
+
+    private volatile long segmentMaxWeight;
+
+    private volatile int precisionUlp = 1;
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final LongAdder evictionCount = new LongAdder();
+
+    private final Factory<?> factory = new Factory<>(null);
+
+    /**
+     * Constructs an empty cache.
+     *
+     * @param maxWeight the maximum total number of intervals of the cached mappings
+     */
+    public ConcurrentRankMapCache(long maxWeight) {
+        if (maxWeight < 0) {
+            throw new IllegalArgumentException("maxWeight must not be negative.");
+        }
+
+        this.maxWeight = maxWeight;
+        this.segmentMaxWeight = maxWeight / SEGMENT_COUNT;
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    /**
+     * {@return the cache shared by default between all ranked collections}
+     */
+    public static ConcurrentRankMapCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns a view of the cache as a factory of mappings of values of the type {@link E}.
+     *
+     * @return the mapping factory backed by this cache
+     * @param <E> the type of values
+     */
+    @SuppressWarnings("unchecked")
+    public <E extends Comparable<E>> RankMapFactory<E> factory() {
+        return (RankMapFactory<E>) factory;
+    }
+
+    /**
+     * Returns a view of the cache as a factory of mappings of values of the type {@link E} that notifies the listener
+     * of every mapping it finds.
+     *
+     * @param listener the listener of the mappings found
+     * @return the mapping factory backed by this cache
+     * @param <E> the type of values
+     */
+    public <E extends Comparable<E>> RankMapFactory<E> factory(MappingListener listener) {
+        return new Factory<>(listener);
+    }
+
+    /**
+     * {@return the maximum total number of intervals of the cached mappings}
+     */
+    public long maxWeight() {
+        return maxWeight;
+    }
+
+    /**
+     * Changes the maximum total number of intervals of the cached mappings, evicting the least recently used mappings
+     * exceeding the new bound.
+     *
+     * @param maxWeight the maximum total number of intervals of the cached mappings; zero disables caching
+     */
+    public void setMaxWeight(long maxWeight) {
+        if (maxWeight < 0) {
+            throw new IllegalArgumentException("maxWeight must not be negative.");
+        }
+
+        this.maxWeight = maxWeight;
+        this.segmentMaxWeight = maxWeight / SEGMENT_COUNT;
+        for (final Segment segment : segments) {
+            synchronized (segment) {
+                evict(segment);
+            }
+        }
+    }
+
+    /**
+     * {@return the precision tolerance in ulps of the mappings built}
+     */
+    public int precisionUlp() {
+        return precisionUlp;
+    }
+
+    /**
+     * Changes the precision tolerance of the mappings built; mappings cached with another tolerance are rebuilt when
+     * they are looked up next.
+     *
+     * @param precisionUlp the precision tolerance in ulps; must be positive
+     */
+    public void setPrecisionUlp(int precisionUlp) {
+        if (precisionUlp < 1) {
+            throw new IllegalArgumentException("precisionUlp must be positive.");
+        }
+
+        this.precisionUlp = precisionUlp;
+    }
+
+    @Override
+    public Statistics statistics() {
+        int entryCount = 0;
+        long weight = 0;
+        for (final Segment segment : segments) {
+            synchronized (segment) {
+                entryCount += segment.entries.size();
+                weight += segment.weight;
+            }
+        }
+
+        return new Statistics(hitCount.sum(), missCount.sum(), evictionCount.sum(), entryCount, weight);
+    }
+
+    @Override
+    public void clear() {
+        for (final Segment segment : segments) {
+            synchronized (segment) {
+                segment.entries.clear();
+                segment.weight = 0;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <M extends RankMap<?>> M lookup(DistinctValues.Type type, long count, Consumer<DoubleConsumer> sortedValues,
+                                            Function<IntervalSweep, M> build, MappingListener listener, long start) {
+        final int precision = precisionUlp;
+        final var collector = new DistinctValues.Collector(type, count,
+                (int) Math.min(segmentMaxWeight, MAX_KEY_SIZE), precision);
+        sortedValues.accept(collector);
+        final var key = collector.key();
+        if (key == null) {
+            missCount.increment();
+            final M mapping = build.apply(collector.sweep());
+            report(listener, false, start);
+            return mapping;
+        }
+
+        final var segment = segments[(key.hashCode() * 0x9E3779B9) >>> (Integer.SIZE - SEGMENT_BITS)];
+        synchronized (segment) {
+            final var entry = segment.entries.get(key);
+            if (entry != null && entry.precisionUlp() == precision) {
+                hitCount.increment();
+                report(listener, true, start);
+                return (M) entry.mapping();
+            }
+        }
+
+        missCount.increment();
+        final M mapping = build.apply(key.sweep(precision));
+        final int weight = weigh(mapping);
+        if (weight <= segmentMaxWeight) {
+            synchronized (segment) {
+                final var replaced = segment.entries.put(key.compact(), new Entry(mapping, weight, precision));
+                segment.weight += weight - (replaced == null ? 0 : replaced.weight());
+                evict(segment);
+            }
+        }
+        report(listener, false, start);
+
+        return mapping;
+    }
+
+    private static void report(MappingListener listener, boolean cached, long start) {
+        if (listener != null) {
+            listener.mappingFound(cached, System.nanoTime() - start);
+        }
+    }
+
+    private void evict(Segment segment) {
+        final var iterator = segment.entries.values().iterator();
+        while (segment.weight > segmentMaxWeight) {
+            segment.weight -= iterator.next().weight();
+            iterator.remove();
+            evictionCount.increment();
+        }
+    }
+
+    private static int weigh(RankMap<?> mapping) {
+        return switch (mapping) {
+            case FloatIntervalMap floatMapping -> Math.max(1, floatMapping.size());
+            case DoubleIntervalMap doubleMapping -> Math.max(1, doubleMapping.size());
+            default -> 1;
+        };
+    }
+
+    private record Entry(RankMap<?> mapping, int weight, int precisionUlp) {
+    }
+
+    /**
+     * Mappings in the order of their access, the least recently used first.
+     */
+    private static final class Segment {
+
+        private final LinkedHashMap<DistinctValues, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+        private long weight;
+    }
+
+    /**
+     * The mapping factory backed by the cache.
+     */
+    private final class Factory<E extends Comparable<E>> implements RankMapFactory<E> {
+
+        private final MappingListener listener;
+
+        Factory(MappingListener listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public RankMap<E> findMapper(Collection<E> ranks) {
+            return switch (ranks.iterator().next()) {
+                case Float ignored -> {
+                    final float[] values = new float[ranks.size()];
+                    int i = 0;
+                    for (final E rank : ranks) {
+                        values[i++] = (Float) rank;
+                    }
+                    yield (RankMap<E>) findMapper(values);
+                }
+                case Double ignored -> {
+                    final double[] values = new double[ranks.size()];
+                    int i = 0;
+                    for (final E rank : ranks) {
+                        values[i++] = (Double) rank;
+                    }
+                    yield (RankMap<E>) findMapper(values);
+                }
+                default -> {
+                    final long start = start();
+                    final var mapping = FP2IntMap.from(ranks, precisionUlp);
+                    report(listener, false, start);
+                    yield mapping;
+                }
+            };
+        }
+
+        @Override
+        public FloatIntervalMap findMapper(float[] ranks) {
+            final long start = start();
+            final double[] values = new double[ranks.length];
+            for (int i = 0; i < ranks.length; i++) {
+                values[i] = ranks[i];
+            }
+            Arrays.sort(values);
+            return lookup(DistinctValues.Type.FLOAT, values.length, sorted(values), IntervalSweep::toFloatMap, listener,
+                    start);
+        }
+
+        @Override
+        public DoubleIntervalMap findMapper(double[] ranks) {
+            final long start = start();
+            final double[] values = ranks.clone();
+            Arrays.sort(values);
+            return lookup(DistinctValues.Type.DOUBLE, values.length, sorted(values), IntervalSweep::toDoubleMap,
+                    listener, start);
+        }
+
+        @Override
+        public FloatIntervalMap findFloatMapper(RankValueSource ranks) {
+            final long start = start();
+            return lookup(DistinctValues.Type.FLOAT, ranks.size(), ranks::forEachSorted, IntervalSweep::toFloatMap,
+                    listener, start);
+        }
+
+        @Override
+        public DoubleIntervalMap findDoubleMapper(RankValueSource ranks) {
+            final long start = start();
+            return lookup(DistinctValues.Type.DOUBLE, ranks.size(), ranks::forEachSorted, IntervalSweep::toDoubleMap,
+                    listener, start);
+        }
+
+        private static Consumer<DoubleConsumer> sorted(double[] values) {
+            return action -> {
+                for (final double value : values) {
+                    action.accept(value);
+                }
+            };
+        }
+
+        private long start() {
+            return listener == null ? 0 : System.nanoTime();
+        }
+    }
+
+}
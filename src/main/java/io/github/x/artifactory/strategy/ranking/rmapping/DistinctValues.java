@@ -0,0 +1,151 @@
+package io.github.x.artifactory.strategy.ranking.rmapping;
+
+import java.util.Arrays;
+import java.util.function.DoubleConsumer;
+
+/**
+ * The sorted distinct floating-point rank values a mapping is built from, used as the key of a cached mapping.
+ *
+ * <p>The intervals of a mapping depend neither on the order nor on the multiplicity of its values, so value sets
+ * having the same distinct values share a key. Keys are equal only if all their values are, so a hash collision
+ * never returns the mapping of other values. {@code float} values are held widened to {@code double}, which is exact.
+ */
+final class DistinctValues {
+
+    /**
+     * The floating-point type of the values.
+     */
+    enum Type {
+        FLOAT,
+        DOUBLE
+    }
+
+    private final Type type;
+
+    private final double[] values;
+
+    private final int size;
+
+    private final int hash;
+
+    private DistinctValues(Type type, double[] values, int size) {
+        this.type = type;
+        this.values = values;
+        this.size = size;
+        int hash = 31 * type.ordinal();
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + Double.hashCode(values[i]);
+        }
+        this.hash = hash;
+    }
+
+    /**
+     * {@return a key holding no more than its values, to be retained by a cache}
+     */
+    DistinctValues compact() {
+        return size == values.length ? this : new DistinctValues(type, Arrays.copyOf(values, size), size);
+    }
+
+    /**
+     * Composes the intervals of the values.
+     *
+     * @param precisionUlp precision tolerance in ulps
+     * @return the sweep holding the composed intervals
+     */
+    IntervalSweep sweep(int precisionUlp) {
+        return sweep(type, values, size, precisionUlp);
+    }
+
+    private static IntervalSweep sweep(Type type, double[] values, int size, int precisionUlp) {
+        final var sweep = new IntervalSweep(type == Type.FLOAT, precisionUlp);
+        for (int i = 0; i < size; i++) {
+            sweep.accept(values[i]);
+        }
+
+        return sweep;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof DistinctValues other
+                && hash == other.hash
+                && type == other.type
+                && Arrays.equals(values, 0, size, other.values, 0, other.size);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    /**
+     * Collects the distinct values of values passed in ascending order, as {@link Arrays#sort(double[])} orders them.
+     *
+     * <p>At most {@code maxSize} distinct values are held: once there are more, they are composed into intervals and
+     * the following values are swept into these intervals, so that no key is built.
+     */
+    static final class Collector implements DoubleConsumer {
+
+        private final Type type;
+
+        private final int maxSize;
+
+        private final int precisionUlp;
+
+        private double[] values;
+
+        private int size;
+
+        private IntervalSweep sweep;
+
+        /**
+         * Starts a collection.
+         *
+         * @param type the type of the values
+         * @param count the number of values to be passed
+         * @param maxSize the largest number of distinct values collected into a key
+         * @param precisionUlp precision tolerance in ulps of the intervals composed once there are more values
+         */
+        Collector(Type type, long count, int maxSize, int precisionUlp) {
+            this.type = type;
+            this.maxSize = maxSize;
+            this.precisionUlp = precisionUlp;
+            this.values = new double[(int) Math.min(count, maxSize)];
+        }
+
+        @Override
+        public void accept(double value) {
+            if (sweep != null) {
+                sweep.accept(value);
+                return;
+            }
+            if (size > 0 && Double.compare(values[size - 1], value) == 0) {
+                return;
+            }
+            if (size == maxSize) {
+                sweep = DistinctValues.sweep(type, values, size, precisionUlp);
+                sweep.accept(value);
+                values = null;
+                return;
+            }
+
+            values[size++] = value;
+        }
+
+        /**
+         * {@return the key of the collected values, or {@code null} if there were more than {@code maxSize} distinct
+         * values}
+         */
+        DistinctValues key() {
+            return sweep == null ? new DistinctValues(type, values, size) : null;
+        }
+
+        /**
+         * {@return the intervals composed from the values, if there were more than {@code maxSize} distinct values}
+         */
+        IntervalSweep sweep() {
+            return sweep;
+        }
+    }
+
+}
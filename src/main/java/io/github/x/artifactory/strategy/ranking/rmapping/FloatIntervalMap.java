@@ -0,0 +1,114 @@
+package io.github.x.artifactory.strategy.ranking.rmapping;
+
+import io.github.x.artifactory.strategy.ranking.ulp.RelationalOperations;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An ordered sequence of disjoint intervals of {@code float} values with the interval boundaries held in sorted
+ * primitive arrays.
+ *
+ * <p>The interval containing a value is found by a binary search over the lower interval boundaries, so mapping
+ * a value takes logarithmic time and involves no boxing. The intervals are composed by sorting a copy of the values
+ * and sweeping over it once; the mapping is the same as that of {@link FP2IntMap} built from the same values.
+ */
+public final class FloatIntervalMap implements RankMap<Float> {
+
+    private final float[] minBoundaries;
+
+    private final float[] maxBoundaries;
+
+    FloatIntervalMap(float[] minBoundaries, float[] maxBoundaries) {
+        this.minBoundaries = minBoundaries;
+        this.maxBoundaries = maxBoundaries;
+    }
+
+    public static FloatIntervalMap from(float[] values) {
+        return from(values, 1);
+    }
+
+    public static FloatIntervalMap from(float[] values, int precisionUlp) {
+        if (precisionUlp < 1) {
+            throw new IllegalArgumentException("This parameter must be not less than one.");
+        }
+
+        final float[] sortedValues = values.clone();
+        Arrays.sort(sortedValues);
+
+        return MappingUtils.sweepIntervalBoundaries(sortedValues, precisionUlp);
+    }
+
+    /**
+     * Composes the intervals of values held outside an array, reading them once in ascending order.
+     *
+     * @param values the values
+     * @param precisionUlp precision tolerance in ulps
+     * @return the map of the composed intervals
+     */
+    public static FloatIntervalMap from(RankValueSource values, int precisionUlp) {
+        final var sweep = new IntervalSweep(true, precisionUlp);
+        values.forEachSorted(sweep);
+
+        return sweep.toFloatMap();
+    }
+
+    /**
+     * Search for an index of a disjoint interval that contains the {@code value}.
+     *
+     * @param value value to map
+     * @return an index of a disjoint interval that contains the {@code value}
+     * @throws NoSuchElementException if the {@code value} doesn't belong to any interval
+     */
+    public int intervalOf(float value) {
+        final int found = Arrays.binarySearch(minBoundaries, value);
+        final int lastNotGreater = found >= 0 ? found : -found - 2;
+        final int to = Math.min(minBoundaries.length - 1, lastNotGreater + 1);
+
+        int interval = -1;
+        for (int i = Math.max(0, lastNotGreater - 1); i <= to; i++) {
+            if (contains(i, value)) {
+                if (interval >= 0) {
+                    throw new IllegalStateException("only one result is allowed");
+                }
+                interval = i;
+            }
+        }
+
+        if (interval < 0) {
+            throw new NoSuchElementException("No interval contains the value " + value);
+        }
+
+        return interval;
+    }
+
+    @Override
+    public Integer intervalByValue(Float value) {
+        return intervalOf(value);
+    }
+
+    @Override
+    public String getMappingScheme() {
+        final List<String> intervals = new ArrayList<>(minBoundaries.length);
+        for (int i = 0; i < minBoundaries.length; i++) {
+            intervals.add("[" + minBoundaries[i] + ";" + maxBoundaries[i] + "]");
+        }
+
+        return intervals.toString();
+    }
+
+    /**
+     * {@return the number of intervals}
+     */
+    public int size() {
+        return minBoundaries.length;
+    }
+
+    private boolean contains(int interval, float value) {
+        return RelationalOperations.compare(value, minBoundaries[interval], 1) >= 0
+                && RelationalOperations.compare(value, maxBoundaries[interval], 1) <= 0;
+    }
+
+}
@@ -0,0 +1,74 @@
+package io.github.x.artifactory.strategy.ranking.rmapping;
+
+import io.github.x.artifactory.strategy.ranking.ulp.RelationalOperations;
+
+import java.util.Arrays;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Composes disjoint intervals from values passed one at a time in ascending order, the same way as
+ * {@link MappingUtils#sweepIntervalBoundaries(double[], int)} does from a sorted array.
+ *
+ * <p>Only the boundaries of the intervals composed so far are held, in arrays grown by doubling.
+ */
+final class IntervalSweep implements DoubleConsumer {
+
+    private final boolean floats;
+
+    private final int precisionUlp;
+
+    private double[] minBoundaries = new double[16];
+
+    private double[] maxBoundaries = new double[16];
+
+    private int intervalCount;
+
+    /**
+     * Starts a sweep.
+     *
+     * @param floats whether the values are {@code float} ones widened to {@code double}
+     * @param precisionUlp precision tolerance in ulps
+     */
+    IntervalSweep(boolean floats, int precisionUlp) {
+        if (precisionUlp < 1) {
+            throw new IllegalArgumentException("This parameter must be not less than one.");
+        }
+        this.floats = floats;
+        this.precisionUlp = precisionUlp;
+    }
+
+    @Override
+    public void accept(double value) {
+        if (intervalCount == 0 || !overlap(maxBoundaries[intervalCount - 1], value)) {
+            if (intervalCount == minBoundaries.length) {
+                minBoundaries = Arrays.copyOf(minBoundaries, 2 * intervalCount);
+                maxBoundaries = Arrays.copyOf(maxBoundaries, 2 * intervalCount);
+            }
+            minBoundaries[intervalCount++] = value;
+        }
+        maxBoundaries[intervalCount - 1] = value;
+    }
+
+    FloatIntervalMap toFloatMap() {
+        final float[] min = new float[intervalCount];
+        final float[] max = new float[intervalCount];
+        for (int i = 0; i < intervalCount; i++) {
+            min[i] = (float) minBoundaries[i];
+            max[i] = (float) maxBoundaries[i];
+        }
+
+        return new FloatIntervalMap(min, max);
+    }
+
+    DoubleIntervalMap toDoubleMap() {
+        return new DoubleIntervalMap(Arrays.copyOf(minBoundaries, intervalCount),
+                Arrays.copyOf(maxBoundaries, intervalCount));
+    }
+
+    private boolean overlap(double previous, double value) {
+        return floats
+                ? RelationalOperations.compare((float) previous, (float) value, precisionUlp) == 0
+                : RelationalOperations.compare(previous, value, precisionUlp) == 0;
+    }
+
+}
@@ -0,0 +1,18 @@
+package io.github.x.artifactory.strategy.ranking.rmapping;
+
+/**
+ * A listener notified of every mapping found by a {@link RankMapFactory} obtained from
+ * {@link ConcurrentRankMapCache#factory(MappingListener)}.
+ */
+@FunctionalInterface
+public interface MappingListener {
+
+    /**
+     * Called when a mapping has been found.
+     *
+     * @param cached {@code true} if the mapping was found in the cache, {@code false} if it was built
+     * @param nanos the time taken to find or build the mapping, in nanoseconds
+     */
+    void mappingFound(boolean cached, long nanos);
+
+}
@@ -42,6 +42,68 @@ class MappingUtils {
                 .toList();
     }
 
+    /**
+     * Composes disjoint intervals from sorted {@code float} values by a linear sweep.
+     *
+     * <p>An interval is closed as soon as two neighboring values don't overlap given the precision tolerance, so
+     * the intervals are the same as those of {@link #searchIntervalBoundaries(List, int)} applied to the distinct
+     * values. Duplicates always overlap and need no separate elimination. The intervals are counted before their
+     * boundaries are collected, so that nothing but the resulting boundary arrays is allocated.
+     *
+     * @param sortedValues values sorted in ascending order
+     * @param precisionUlp precision tolerance in ulps
+     * @return the map of the composed intervals
+     */
+    static FloatIntervalMap sweepIntervalBoundaries(float[] sortedValues, int precisionUlp) {
+        int intervalCount = sortedValues.length == 0 ? 0 : 1;
+        for (int i = 1; i < sortedValues.length; i++) {
+            if (RelationalOperations.compare(sortedValues[i - 1], sortedValues[i], precisionUlp) != 0) {
+                intervalCount++;
+            }
+        }
+
+        final float[] minBoundaries = new float[intervalCount];
+        final float[] maxBoundaries = new float[intervalCount];
+        int interval = 0;
+        for (int i = 0; i < sortedValues.length; i++) {
+            if (i == 0 || RelationalOperations.compare(sortedValues[i - 1], sortedValues[i], precisionUlp) != 0) {
+                minBoundaries[interval++] = sortedValues[i];
+            }
+            maxBoundaries[interval - 1] = sortedValues[i];
+        }
+
+        return new FloatIntervalMap(minBoundaries, maxBoundaries);
+    }
+
+    /**
+     * Composes disjoint intervals from sorted {@code double} values by a linear sweep.
+     *
+     * @param sortedValues values sorted in ascending order
+     * @param precisionUlp precision tolerance in ulps
+     * @return the map of the composed intervals
+     * @see #sweepIntervalBoundaries(float[], int)
+     */
+    static DoubleIntervalMap sweepIntervalBoundaries(double[] sortedValues, int precisionUlp) {
+        int intervalCount = sortedValues.length == 0 ? 0 : 1;
+        for (int i = 1; i < sortedValues.length; i++) {
+            if (RelationalOperations.compare(sortedValues[i - 1], sortedValues[i], precisionUlp) != 0) {
+                intervalCount++;
+            }
+        }
+
+        final double[] minBoundaries = new double[intervalCount];
+        final double[] maxBoundaries = new double[intervalCount];
+        int interval = 0;
+        for (int i = 0; i < sortedValues.length; i++) {
+            if (i == 0 || RelationalOperations.compare(sortedValues[i - 1], sortedValues[i], precisionUlp) != 0) {
+                minBoundaries[interval++] = sortedValues[i];
+            }
+            maxBoundaries[interval - 1] = sortedValues[i];
+        }
+
+        return new DoubleIntervalMap(minBoundaries, maxBoundaries);
+    }
+
     static <E extends Comparable<E>> boolean overlap(List<E> neighborValues, int precisionUlp) {
         return RelationalOperations.compare(neighborValues.getFirst(), neighborValues.getLast(), precisionUlp) == 0;
     }
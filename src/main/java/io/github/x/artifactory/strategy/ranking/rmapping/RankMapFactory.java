@@ -6,4 +6,28 @@ import java.util.Collection;
 public interface RankMapFactory<E extends Comparable<E>> {
 
     RankMap<E> findMapper(Collection<E> ranks);
+
+    FloatIntervalMap findMapper(float[] ranks);
+
+    DoubleIntervalMap findMapper(double[] ranks);
+
+    /**
+     * Finds the mapping of {@code float} values held outside an array; builds it by default.
+     *
+     * @param ranks the values
+     * @return the mapping
+     */
+    default FloatIntervalMap findFloatMapper(RankValueSource ranks) {
+        return FloatIntervalMap.from(ranks, 1);
+    }
+
+    /**
+     * Finds the mapping of {@code double} values held outside an array; builds it by default.
+     *
+     * @param ranks the values
+     * @return the mapping
+     */
+    default DoubleIntervalMap findDoubleMapper(RankValueSource ranks) {
+        return DoubleIntervalMap.from(ranks, 1);
+    }
 }
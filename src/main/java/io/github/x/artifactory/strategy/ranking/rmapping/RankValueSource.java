@@ -0,0 +1,35 @@
+package io.github.x.artifactory.strategy.ranking.rmapping;
+
+import java.util.function.DoubleConsumer;
+
+/**
+ * Floating-point rank values held outside a Java array, such as in a direct buffer or in files, whose mapping is found
+ * without copying them into an array.
+ *
+ * <p>The values are read once in ascending order, and the intervals are composed by a linear sweep over them. A
+ * {@link ConcurrentRankMapCache} holds their distinct values as the key of the mapping only while they are fewer than
+ * a share of its maximum weight; beyond that, nothing but the boundaries of the intervals is held in memory.
+ * {@code float} values are read widened to {@code double}, which is exact.
+ */
+public interface RankValueSource {
+
+    /**
+     * {@return the number of values}
+     */
+    long size();
+
+    /**
+     * Passes every value to an action, in any order.
+     *
+     * @param action the action
+     */
+    void forEach(DoubleConsumer action);
+
+    /**
+     * Passes every value to an action in ascending order, as {@link java.util.Arrays#sort(double[])} orders them.
+     *
+     * @param action the action
+     */
+    void forEachSorted(DoubleConsumer action);
+
+}
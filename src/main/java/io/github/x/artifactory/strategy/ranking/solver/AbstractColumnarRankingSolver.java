@@ -0,0 +1,580 @@
+package io.github.x.artifactory.strategy.ranking.solver;
+
+import io.github.x.artifactory.strategy.ranking.api.ColumnStorage;
+import io.github.x.artifactory.strategy.ranking.api.FindScope;
+import io.github.x.artifactory.strategy.ranking.api.RankingOptions;
+import io.github.x.artifactory.strategy.ranking.api.RankingStatistics;
+import io.github.x.artifactory.strategy.ranking.exception.NonUniqueRankException;
+import io.github.x.artifactory.strategy.ranking.operation.ComparatorType;
+import io.github.x.artifactory.strategy.ranking.operation.FindOperation;
+import io.github.x.artifactory.strategy.ranking.operation.SortOperation;
+import io.github.x.artifactory.strategy.ranking.rmapping.ConcurrentRankMapCache;
+import io.github.x.artifactory.strategy.ranking.rmapping.RankMapFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * The ranking algorithms of the columnar engine, independent of the way the rank values of the elements are obtained.
+ *
+ * <p>The rank values of the elements still tied at a level are evaluated into a {@link RankColumn}, and the ranges of
+ * tied elements in a permutation of element indexes are sorted by primitive keys derived from it. A search for the
+ * extreme elements evaluates a level for every element having it unless its {@link FindScope} restricts the evaluation
+ * to the candidates tied at the preceding levels. The columns, the permutation and the scratch space are allocated once
+ * per operation in the {@link ColumnStorage} of the options and reused at every level. Subclasses define the ranking
+ * functions and how their values are evaluated into the column.
+ *
+ * @param <W> the type of ranked elements
+ * @param <R> the type of the rank value; must implement the {@link Comparable} interface
+ */
+abstract class AbstractColumnarRankingSolver<W, R extends Comparable<R>> implements HierarchicalRankingSolver<W> {
+
+    private final ConcurrentRankMapCache mappingCache;
+
+    private final RankMapFactory<R> mappingFactory;
+
+    private final FindScope findScope;
+
+    private final ColumnStorage columnStorage;
+
+    private final RankingCounters counters = new RankingCounters();
+
+    /**
+     * Constructs a solver with the given options.
+     *
+     * @param options the mapping cache, the find scope and the column storage of the solver
+     */
+    AbstractColumnarRankingSolver(RankingOptions options) {
+        this.findScope = options.findScope();
+        this.columnStorage = options.columnStorage();
+        this.mappingCache = switch (options.mappingCache()) {
+            case ConcurrentRankMapCache cache -> cache;
+        };
+        this.mappingFactory = mappingCache.factory();
+    }
+
+    /**
+     * Returns the number of ranking functions.
+     *
+     * @param element any element of the ranked collection
+     * @return the number of ranking functions
+     */
+    abstract int levelCount(W element);
+
+    /**
+     * Returns the value type of a ranking function.
+     *
+     * @param element any element of the ranked collection
+     * @param functionIndex index of the ranking function
+     * @return the value type of the ranking function
+     */
+    abstract RankType rankType(W element, int functionIndex);
+
+    /**
+     * Evaluates the rank values of the elements whose indexes are listed in {@code indices[from, to)} into a column.
+     *
+     * @param column the column of the ranking function
+     * @param elements all elements
+     * @param functionIndex index of the ranking function
+     * @param indices element indexes
+     * @param from the first position in {@code indices}, inclusive
+     * @param to the last position in {@code indices}, exclusive
+     */
+    abstract void evaluate(RankColumn column, List<W> elements, int functionIndex, IntColumn indices, int from,
+                           int to);
+
+    /**
+     * Returns whether the rank values of a ranking function are to be evaluated for all elements ranked at its level
+     * at once, before they are evaluated into the column.
+     *
+     * @param element any element of the ranked collection
+     * @param functionIndex index of the ranking function
+     * @return {@code true} if {@link #evaluateAhead(List, int, IntColumn, int, int)} is to be called; {@code false} by
+     *     default
+     */
+    boolean evaluatesAhead(W element, int functionIndex) {
+        return false;
+    }
+
+    /**
+     * Evaluates the rank values of the elements whose indexes are listed in {@code indices[from, to)} at once, before
+     * they are evaluated into the column; does nothing by default.
+     *
+     * @param elements all elements
+     * @param functionIndex index of the ranking function
+     * @param indices element indexes
+     * @param from the first position in {@code indices}, inclusive
+     * @param to the last position in {@code indices}, exclusive
+     */
+    void evaluateAhead(List<W> elements, int functionIndex, IntColumn indices, int from, int to) {
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param operation  determines whether a minimum or maximum search is required
+     * @param collection the collection in which the minimum or maximum element is to be found
+     * @param trace the trace receiving the number of candidates retained at each level and the mappings found
+     * @return the min (max) element or {@code null} if the input collection is empty
+     * @throws NonUniqueRankException when unambiguous result is not achieved
+     */
+    @Override
+    public W findByRank(FindOperation operation, Collection<W> collection, RankingTrace trace) {
+        final List<W> extremes = findAllByRank(operation, collection, trace);
+        if (extremes == null) {
+            return null;
+        }
+        if (extremes.size() > 1) {
+            throw new NonUniqueRankException("No unique result found after applying all ranking functions.");
+        }
+
+        return extremes.get(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param operation  determines whether a minimum or maximum search is required
+     * @param collection the collection in which the minimum or maximum elements are to be found
+     * @param trace the trace receiving the number of candidates retained at each level and the mappings found
+     * @return the min (max) elements in their encounter order or {@code null} if the input collection is empty
+     */
+    @Override
+    public List<W> findAllByRank(FindOperation operation, Collection<W> collection, RankingTrace trace) {
+        if (collection.isEmpty()) {
+            return null;
+        }
+
+        final List<W> elements = List.copyOf(collection);
+        final var levels = new LevelCounts<>(elements, this::levelCount);
+        final var buffers = new Buffers(elements.size());
+        final IntColumn candidates = IntColumn.identity(elements.size(), columnStorage);
+        final IntColumn scope = findScope == FindScope.CANDIDATES
+                ? candidates
+                : IntColumn.allocate(elements.size(), columnStorage);
+        int candidateCount = elements.size();
+
+        for (int rankFunctionIndex = 0; rankFunctionIndex < levels.max(); rankFunctionIndex++) {
+            if (!levels.hasLevel(elements, candidates, 0, candidateCount, rankFunctionIndex)) {
+                break;
+            }
+
+            final var column = buffers.column(rankType(elements.get(candidates.get(0)), rankFunctionIndex));
+            final int scopeSize = findScope == FindScope.CANDIDATES
+                    ? candidateCount
+                    : levels.having(elements, rankFunctionIndex, scope);
+            counters.evaluated(scopeSize, trace);
+            counters.skipped(elements.size() - scopeSize);
+            if (evaluatesAhead(elements.get(scope.get(0)), rankFunctionIndex)) {
+                evaluateAhead(elements, rankFunctionIndex, scope, 0, scopeSize);
+            }
+            evaluate(column, elements, rankFunctionIndex, scope, 0, scopeSize);
+            column.computeKeys(mappingFactory(trace), scope, 0, scopeSize, buffers.keys, buffers.scratch);
+            candidateCount = retainExtremes(operation.comparatorType(), candidates, candidateCount, buffers.keys);
+            trace.groups(rankFunctionIndex, candidateCount);
+
+            if (candidateCount == 1) {
+                break;
+            }
+        }
+
+        return IntStream.range(0, candidateCount).mapToObj(i -> elements.get(candidates.get(i))).toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param operation determines whether ascending or descending order of sorting is required
+     * @param collection the collection to be sorted
+     * @param trace the trace receiving the number of groups formed at each level and the mappings found
+     * @return the collection sorted in ascending (descending) order or {@code null} if the input collection is empty
+     * @throws NonUniqueRankException when unambiguous result is not achieved
+     */
+    @Override
+    public List<W> sortByRank(SortOperation operation, Collection<W> collection, RankingTrace trace) {
+        if (collection.isEmpty()) {
+            return null;
+        }
+
+        final List<W> elements = List.copyOf(collection);
+        final var ranking = rank(operation.comparatorType(), elements, trace);
+        if (!ranking.tiedRanges().isEmpty()) {
+            throw new NonUniqueRankException("No unique result found after applying all ranking functions.");
+        }
+
+        final IntColumn permutation = ranking.permutation();
+
+        return IntStream.range(0, elements.size()).mapToObj(i -> elements.get(permutation.get(i))).toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param operation determines whether ascending or descending order of the groups is required
+     * @param collection the collection to be partitioned
+     * @param trace the trace receiving the number of groups formed at each level and the mappings found
+     * @return the groups in ascending (descending) order, each keeping its elements in their encounter order, or
+     *     {@code null} if the input collection is empty
+     */
+    @Override
+    public List<List<W>> partitionByRank(SortOperation operation, Collection<W> collection, RankingTrace trace) {
+        if (collection.isEmpty()) {
+            return null;
+        }
+
+        final List<W> elements = List.copyOf(collection);
+        final var ranking = rank(operation.comparatorType(), elements, trace);
+        final IntColumn permutation = ranking.permutation();
+        final var tiedRanges = ranking.tiedRanges();
+        final List<List<W>> partition = new ArrayList<>();
+        int r = 0;
+        for (int from = 0; from < elements.size(); ) {
+            final int to = r < tiedRanges.size() && tiedRanges.from(r) == from ? tiedRanges.to(r++) : from + 1;
+            partition.add(IntStream.range(from, to).mapToObj(i -> elements.get(permutation.get(i))).toList());
+            from = to;
+        }
+
+        return partition;
+    }
+
+    /**
+     * Sorts the element indexes level by level until no ties remain or all ranking functions are exhausted. A range
+     * of tied elements any of which lacks a ranking function at a level remains tied.
+     *
+     * @return the sorted permutation and the ranges of elements remaining tied in it, in ascending order
+     */
+    private Ranking rank(ComparatorType comparatorType, List<W> elements, RankingTrace trace) {
+        final var levels = new LevelCounts<>(elements, this::levelCount);
+        final var buffers = new Buffers(elements.size());
+        final IntColumn permutation = IntColumn.identity(elements.size(), columnStorage);
+        var tiedRanges = new Ranges(elements.size(), columnStorage);
+        var nextTiedRanges = new Ranges(elements.size(), columnStorage);
+        if (elements.size() > 1) {
+            tiedRanges.add(0, elements.size());
+        }
+
+        for (int rankFunctionIndex = 0; rankFunctionIndex < levels.max() && !tiedRanges.isEmpty();
+             rankFunctionIndex++) {
+            int first = -1;
+            for (int r = 0; r < tiedRanges.size(); r++) {
+                if (!tiedRanges.isExhausted(r) && !levels.hasLevel(elements, permutation, tiedRanges.from(r),
+                        tiedRanges.to(r), rankFunctionIndex)) {
+                    tiedRanges.exhaust(r);
+                }
+                if (first < 0 && !tiedRanges.isExhausted(r)) {
+                    first = tiedRanges.from(r);
+                }
+            }
+            if (first < 0) {
+                break;
+            }
+
+            final var column = buffers.column(rankType(elements.get(permutation.get(first)), rankFunctionIndex));
+            evaluateAhead(elements, rankFunctionIndex, permutation, tiedRanges, buffers.scratch);
+            for (int r = 0; r < tiedRanges.size(); r++) {
+                if (!tiedRanges.isExhausted(r)) {
+                    counters.evaluated(tiedRanges.to(r) - tiedRanges.from(r), trace);
+                    evaluate(column, elements, rankFunctionIndex, permutation, tiedRanges.from(r), tiedRanges.to(r));
+                }
+            }
+
+            nextTiedRanges.clear();
+            int groupCount = 0;
+            for (int r = 0; r < tiedRanges.size(); r++) {
+                final int from = tiedRanges.from(r);
+                final int to = tiedRanges.to(r);
+                if (tiedRanges.isExhausted(r)) {
+                    nextTiedRanges.add(from, to);
+                    nextTiedRanges.exhaust(nextTiedRanges.size() - 1);
+                    groupCount++;
+                    continue;
+                }
+                column.computeKeys(mappingFactory(trace), permutation, from, to, buffers.keys, buffers.scratch);
+                KeySort.sort(permutation, from, to, buffers.keys, comparatorType, buffers.scratch);
+                groupCount += splitTies(permutation, from, to, buffers.keys, nextTiedRanges);
+            }
+            trace.groups(rankFunctionIndex, groupCount);
+
+            final var ranked = tiedRanges;
+            tiedRanges = nextTiedRanges;
+            nextTiedRanges = ranked;
+        }
+
+        return new Ranking(permutation, tiedRanges);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Only the tied ranges intersecting the selection are ranked further. When a range extends beyond the
+     * selection, the key bounding the selection is found with a bounded heap, and only the elements not behind it
+     * are moved to the beginning of the range and sorted.
+     *
+     * @param operation determines whether ascending or descending order of sorting is required
+     * @param limit the maximum number of elements to select; must not be negative
+     * @param collection the collection to select from
+     * @param trace the trace receiving the number of groups formed at each level and the mappings found
+     * @return the leading elements in ascending (descending) order or {@code null} if the input collection is empty
+     * @throws NonUniqueRankException when unambiguous order of the selected elements is not achieved
+     */
+    @Override
+    public List<W> selectByRank(SortOperation operation, int limit, Collection<W> collection, RankingTrace trace) {
+        if (collection.isEmpty()) {
+            return null;
+        }
+        if (limit == 0) {
+            return List.of();
+        }
+
+        final List<W> elements = List.copyOf(collection);
+        final var buffers = new Buffers(elements.size());
+        final IntColumn permutation = IntColumn.identity(elements.size(), columnStorage);
+        var tiedRanges = new Ranges(elements.size(), columnStorage);
+        var nextTiedRanges = new Ranges(elements.size(), columnStorage);
+        if (elements.size() > 1) {
+            tiedRanges.add(0, elements.size());
+        }
+
+        final var levels = new LevelCounts<>(elements, this::levelCount);
+        for (int rankFunctionIndex = 0; !tiedRanges.isEmpty(); rankFunctionIndex++) {
+            for (int r = 0; r < tiedRanges.size(); r++) {
+                if (!levels.hasLevel(elements, permutation, tiedRanges.from(r), tiedRanges.to(r), rankFunctionIndex)) {
+                    throw new NonUniqueRankException("No unique result found after applying all ranking functions.");
+                }
+            }
+
+            final var column = buffers.column(
+                    rankType(elements.get(permutation.get(tiedRanges.from(0))), rankFunctionIndex));
+            evaluateAhead(elements, rankFunctionIndex, permutation, tiedRanges, buffers.scratch);
+            for (int r = 0; r < tiedRanges.size(); r++) {
+                counters.evaluated(tiedRanges.to(r) - tiedRanges.from(r), trace);
+                evaluate(column, elements, rankFunctionIndex, permutation, tiedRanges.from(r), tiedRanges.to(r));
+            }
+
+            nextTiedRanges.clear();
+            int groupCount = 0;
+            for (int r = 0; r < tiedRanges.size(); r++) {
+                final int from = tiedRanges.from(r);
+                final int to = tiedRanges.to(r);
+                column.computeKeys(mappingFactory(trace), permutation, from, to, buffers.keys, buffers.scratch);
+                final int leadingTo = to > limit
+                        ? moveLeading(operation.comparatorType(), permutation, from, to, buffers.keys, limit - from)
+                        : to;
+                KeySort.sort(permutation, from, leadingTo, buffers.keys, operation.comparatorType(),
+                        buffers.scratch);
+                groupCount += splitTies(permutation, from, leadingTo, buffers.keys, nextTiedRanges);
+            }
+            trace.groups(rankFunctionIndex, groupCount);
+
+            final var ranked = tiedRanges;
+            tiedRanges = nextTiedRanges;
+            nextTiedRanges = ranked;
+        }
+
+        return IntStream.range(0, Math.min(limit, elements.size()))
+                .mapToObj(i -> elements.get(permutation.get(i)))
+                .toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the counts of the rank evaluations performed by this solver
+     */
+    @Override
+    public RankingStatistics statistics() {
+        return counters.snapshot();
+    }
+
+    /**
+     * Evaluates the rank values of all tied elements of the ranges not exhausted at once, if the subclass evaluates
+     * the ranking function ahead; their indexes are listed in {@code scratch}.
+     */
+    private void evaluateAhead(List<W> elements, int functionIndex, IntColumn permutation, Ranges tiedRanges,
+                               IntColumn scratch) {
+        int count = 0;
+        for (int r = 0; r < tiedRanges.size(); r++) {
+            if (!tiedRanges.isExhausted(r)) {
+                if (count == 0 && !evaluatesAhead(elements.get(permutation.get(tiedRanges.from(r))), functionIndex)) {
+                    return;
+                }
+                for (int i = tiedRanges.from(r); i < tiedRanges.to(r); i++) {
+                    scratch.set(count++, permutation.get(i));
+                }
+            }
+        }
+        evaluateAhead(elements, functionIndex, scratch, 0, count);
+    }
+
+    /**
+     * Moves the element indexes having the lowest (highest) key to the beginning of {@code candidates}.
+     *
+     * @return the number of retained candidates
+     */
+    private static int retainExtremes(ComparatorType comparatorType, IntColumn candidates, int candidateCount,
+                                      LongColumn keys) {
+        long extremeKey = keys.get(candidates.get(0));
+        for (int i = 1; i < candidateCount; i++) {
+            final long key = keys.get(candidates.get(i));
+            extremeKey = comparatorType == ComparatorType.NATURAL
+                    ? Math.min(extremeKey, key)
+                    : Math.max(extremeKey, key);
+        }
+
+        int retained = 0;
+        for (int i = 0; i < candidateCount; i++) {
+            if (keys.get(candidates.get(i)) == extremeKey) {
+                candidates.set(retained++, candidates.get(i));
+            }
+        }
+
+        return retained;
+    }
+
+    /**
+     * Moves the element indexes competing for the first {@code count} positions of the range
+     * {@code indices[from, to)} to its beginning, keeping their relative order.
+     *
+     * <p>Those are the elements whose keys are not behind the key of the {@code count}-th element in the order of
+     * sorting; the elements having this very key are all moved, so that their tie is resolved as a whole.
+     *
+     * @return the end of the moved part of the range, exclusive
+     */
+    private static int moveLeading(ComparatorType comparatorType, IntColumn indices, int from, int to,
+                                   LongColumn keys, int count) {
+        final long boundaryKey = KeySort.selectKey(indices, from, to, keys, count, comparatorType);
+        final var sign = comparatorType == ComparatorType.NATURAL ? 1 : -1;
+
+        int leadingTo = from;
+        for (int i = from; i < to; i++) {
+            final int index = indices.get(i);
+            if (sign * Long.compare(keys.get(index), boundaryKey) <= 0) {
+                indices.set(i, indices.get(leadingTo));
+                indices.set(leadingTo++, index);
+            }
+        }
+
+        return leadingTo;
+    }
+
+    /**
+     * Collects the ranges of equal keys containing more than one element within the sorted range.
+     *
+     * @return the number of ranges of equal keys, i.e. of groups, within the sorted range
+     */
+    private static int splitTies(IntColumn indices, int from, int to, LongColumn keys, Ranges tiedRanges) {
+        int groupCount = 0;
+        int start = from;
+        for (int i = from + 1; i <= to; i++) {
+            if (i == to || keys.get(indices.get(i)) != keys.get(indices.get(start))) {
+                if (i - start > 1) {
+                    tiedRanges.add(start, i);
+                }
+                groupCount++;
+                start = i;
+            }
+        }
+
+        return groupCount;
+    }
+
+    private RankMapFactory<R> mappingFactory(RankingTrace trace) {
+        return trace.isEnabled() ? mappingCache.factory(trace) : mappingFactory;
+    }
+
+    /**
+     * The buffers of a ranking operation, allocated once and shared by all its levels.
+     */
+    private final class Buffers {
+
+        private final int size;
+
+        private final LongColumn keys;
+
+        private final IntColumn scratch;
+
+        private LongColumn values;
+
+        Buffers(int size) {
+            this.size = size;
+            this.keys = LongColumn.allocate(size, columnStorage);
+            this.scratch = IntColumn.allocate(size, columnStorage);
+        }
+
+        /**
+         * Returns an empty column of a ranking level, holding primitive rank values in the buffer of the previous
+         * primitive level.
+         */
+        RankColumn column(RankType type) {
+            if (type.isPrimitive() && values == null) {
+                values = LongColumn.allocate(size, columnStorage);
+            }
+
+            return RankColumn.over(type, values, size);
+        }
+    }
+
+    /**
+     * Sorted element indexes and the ranges of them remaining tied.
+     */
+    private record Ranking(IntColumn permutation, Ranges tiedRanges) {
+    }
+
+    /**
+     * Reusable list of disjoint {@code [from, to)} ranges of a permutation, each of at least two elements. A range
+     * may be marked exhausted when none of its elements has a ranking function at a level, and hence at any further
+     * one.
+     */
+    private static final class Ranges {
+
+        private final IntColumn bounds;
+
+        private int size;
+
+        Ranges(int elementCount, ColumnStorage storage) {
+            this.bounds = IntColumn.allocate(elementCount + elementCount % 2, storage);
+        }
+
+        void add(int from, int to) {
+            bounds.set(2 * size, from);
+            bounds.set(2 * size + 1, to);
+            size++;
+        }
+
+        /**
+         * Marks a range exhausted by storing the complement of its end.
+         */
+        void exhaust(int range) {
+            bounds.set(2 * range + 1, ~to(range));
+        }
+
+        boolean isExhausted(int range) {
+            return bounds.get(2 * range + 1) < 0;
+        }
+
+        int from(int range) {
+            return bounds.get(2 * range);
+        }
+
+        int to(int range) {
+            final int to = bounds.get(2 * range + 1);
+
+            return to < 0 ? ~to : to;
+        }
+
+        int size() {
+            return size;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void clear() {
+            size = 0;
+        }
+    }
+
+}
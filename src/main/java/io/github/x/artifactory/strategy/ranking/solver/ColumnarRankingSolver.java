@@ -0,0 +1,90 @@
+package io.github.x.artifactory.strategy.ranking.solver;
+
+import io.github.x.artifactory.strategy.ranking.api.ConcurrentEvaluation;
+import io.github.x.artifactory.strategy.ranking.api.FindScope;
+import io.github.x.artifactory.strategy.ranking.api.RankWrapper;
+import io.github.x.artifactory.strategy.ranking.api.RankingOptions;
+
+import java.util.List;
+
+import static io.github.x.artifactory.strategy.ranking.exception.RankValueAccessor.getRankFunction;
+
+/**
+ * Implementation of the {@link HierarchicalRankingSolver} interface that evaluates ranks into dense columns.
+ *
+ * <p>Instead of grouping elements into maps at every level, this implementation keeps a permutation of element
+ * indexes. At each ranking level the rank values of a range of elements are evaluated into a column ({@code long[]}
+ * for integral ranks, {@code double[]} for floating-point ranks and {@code Object[]} for other comparable ranks), and
+ * the range is ordered by primitive keys derived from that column: integral values themselves, indexes of disjoint
+ * intervals for floating-point values and ordinal codes for other comparable values. When sorting, the ranges are
+ * those of the elements still tied at the preceding levels. When searching for the extreme elements, the range is by
+ * default every element having a ranking function at the level, tied or not, and only the candidates whose keys equal
+ * the extreme key are retained.
+ *
+ * <p>The results are the same as those of {@link RankingSolverImpl}: floating-point values are mapped to intervals
+ * composed from the values of their own tied group when sorting and of the whole collection when searching, and
+ * a sort evaluates a rank only for elements that are still tied with another one. Ties between comparable ranks are
+ * detected by {@link Comparable#compareTo(Object)}.
+ *
+ * <p>With a {@link ConcurrentEvaluation concurrent evaluation} the rank values of all elements evaluated at a level are
+ * evaluated on virtual threads at once before the level is ranked.
+ *
+ * <p>With {@link FindScope#CANDIDATES} the search for the extreme elements evaluates a level only for the elements
+ * tied at the preceding levels instead of the whole collection.
+ *
+ * @param <W> the type of elements held in a collection; must provide its ranking criteria values in a predefined order
+ * @param <R> the type of the rank value; must implement the {@link Comparable} interface
+ */
+public final class ColumnarRankingSolver<W extends RankWrapper<?>, R extends Comparable<R>>
+        extends AbstractColumnarRankingSolver<W, R> {
+
+    private final LevelRankEvaluator evaluator;
+
+    /**
+     * Constructs a solver with the {@link RankingOptions#defaults() default} options.
+     */
+    public ColumnarRankingSolver() {
+        this(RankingOptions.defaults());
+    }
+
+    /**
+     * Constructs a solver with the given options.
+     *
+     * @param options the mapping cache, the find scope and the concurrent evaluation of the solver
+     */
+    public ColumnarRankingSolver(RankingOptions options) {
+        super(options);
+        this.evaluator = new LevelRankEvaluator(options.concurrentEvaluation());
+    }
+
+    @Override
+    int levelCount(W element) {
+        return element.rankFunctionCount();
+    }
+
+    @Override
+    RankType rankType(W element, int functionIndex) {
+        return RankType.of(getRankFunction(element, functionIndex));
+    }
+
+    @Override
+    void evaluate(RankColumn column, List<W> elements, int functionIndex, IntColumn indices, int from, int to) {
+        column.evaluate(elements, functionIndex, indices, from, to);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@code true} if the ranking function is a batch one or the evaluation is concurrent
+     */
+    @Override
+    boolean evaluatesAhead(W element, int functionIndex) {
+        return evaluator.evaluatesAhead(element, functionIndex);
+    }
+
+    @Override
+    void evaluateAhead(List<W> elements, int functionIndex, IntColumn indices, int from, int to) {
+        evaluator.evaluate(elements, functionIndex, indices, from, to);
+    }
+
+}
@@ -0,0 +1,68 @@
+package io.github.x.artifactory.strategy.ranking.solver;
+
+import io.github.x.artifactory.strategy.ranking.api.RankDefinition;
+import io.github.x.artifactory.strategy.ranking.api.RankingOptions;
+import io.github.x.artifactory.strategy.ranking.exception.NonUniqueRankException;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Implementation of the {@link HierarchicalRankingSolver} interface that ranks the elements themselves by the
+ * ranking functions of a {@link RankDefinition}.
+ *
+ * <p>The ranking is that of {@link ColumnarRankingSolver}, but the rank values are evaluated directly from the
+ * elements into the columns of the operation instead of being memoized by a wrapper of every element, so a rank is
+ * evaluated anew by each operation. The concurrent evaluation option does not apply.
+ *
+ * @param <E> the type of ranked elements
+ * @param <R> the type of the rank value; must implement the {@link Comparable} interface
+ */
+public final class DefinitionRankingSolver<E, R extends Comparable<R>> extends AbstractColumnarRankingSolver<E, R> {
+
+    private final List<RankDefinition.Level<E>> levels;
+
+    /**
+     * Constructs a solver with the {@link RankingOptions#defaults() default} options.
+     *
+     * @param definition the ranking functions
+     */
+    public DefinitionRankingSolver(RankDefinition<E> definition) {
+        this(definition, RankingOptions.defaults());
+    }
+
+    /**
+     * Constructs a solver with the given options.
+     *
+     * @param definition the ranking functions
+     * @param options the mapping cache and the find scope of the solver
+     */
+    public DefinitionRankingSolver(RankDefinition<E> definition, RankingOptions options) {
+        super(options);
+        this.levels = Objects.requireNonNull(definition, "definition must not be null.").levels();
+    }
+
+    @Override
+    int levelCount(E element) {
+        return levels.size();
+    }
+
+    @Override
+    RankType rankType(E element, int functionIndex) {
+        return RankType.of(level(functionIndex));
+    }
+
+    @Override
+    void evaluate(RankColumn column, List<E> elements, int functionIndex, IntColumn indices, int from, int to) {
+        column.evaluate(elements, level(functionIndex), indices, from, to);
+    }
+
+    private RankDefinition.Level<E> level(int functionIndex) {
+        if (functionIndex >= levels.size()) {
+            throw new NonUniqueRankException("No unique result found after applying all ranking functions.");
+        }
+
+        return levels.get(functionIndex);
+    }
+
+}
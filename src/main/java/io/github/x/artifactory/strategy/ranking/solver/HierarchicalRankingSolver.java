@@ -1,5 +1,6 @@
 package io.github.x.artifactory.strategy.ranking.solver;
 
+import io.github.x.artifactory.strategy.ranking.api.RankingStatistics;
 import io.github.x.artifactory.strategy.ranking.exception.NonUniqueRankException;
 import io.github.x.artifactory.strategy.ranking.exception.UnsupportedTypeRankException;
 import io.github.x.artifactory.strategy.ranking.operation.FindOperation;
@@ -12,7 +13,10 @@ import java.util.List;
  * Hierarchical ranking solver.
  *
  * <p>This interface offers operations for hierarchical search {@link #findByRank(FindOperation, Collection)}, ordering
- * {@link #sortByRank(SortOperation, Collection)}.
+ * {@link #sortByRank(SortOperation, Collection)} and selection of leading elements
+ * {@link #selectByRank(SortOperation, int, Collection)}, together with their tolerant counterparts
+ * {@link #findAllByRank(FindOperation, Collection)} and {@link #partitionByRank(SortOperation, Collection)} that
+ * return the groups of tied elements instead of throwing {@link NonUniqueRankException}.
  *
  * <p>Hierarchical ranking (a.k.a. multi-level, multi-key or nested sorting) is the ranking performed recursively
  * according to multiple criteria, provided in a specific order of importance.
@@ -23,6 +27,11 @@ import java.util.List;
  * recursively until all ties are resolved. If all ranking criteria are exhausted but groups with more than one element
  * remain, an exception {@link NonUniqueRankException} is to be thrown.
  *
+ * <p>Elements may have different numbers of ranking functions. A group is ranked further as long as all of its
+ * elements have the next ranking function, and its criteria are exhausted once any of them lacks it; a group in which
+ * only some elements have it thus cannot be ordered, and results in {@link NonUniqueRankException} as well, while the
+ * tolerant operations return it as one group of tied elements.
+ *
  * <p>The search operations are distinct from sorting operations in that they retain only a single leading group of
  * elements at each ranking stage, discarding the rest.
  *
@@ -44,7 +53,44 @@ public interface HierarchicalRankingSolver<W> {
      * @return the min (max) element or {@code null} if the input collection is empty
      * @throws NonUniqueRankException when unambiguous result is not achieved
      */
-    W findByRank(FindOperation operation, Collection<W> collection);
+    default W findByRank(FindOperation operation, Collection<W> collection) {
+        return findByRank(operation, collection, RankingTrace.disabled());
+    }
+
+    /**
+     * Hierarchically search for the lowest (highest) element in the collection, reporting the course of the search to
+     * the trace.
+     *
+     * @param operation determines whether a minimum or maximum search is required
+     * @param collection the collection in which the minimum or maximum element is to be found
+     * @param trace the trace receiving the number of candidates retained at each level and the mappings found
+     * @return the min (max) element or {@code null} if the input collection is empty
+     * @throws NonUniqueRankException when unambiguous result is not achieved
+     */
+    W findByRank(FindOperation operation, Collection<W> collection, RankingTrace trace);
+
+    /**
+     * Hierarchically search for all lowest (highest) elements in the collection, i.e. the elements tied for the first
+     * place when all ranking functions are exhausted.
+     *
+     * @param operation determines whether a minimum or maximum search is required
+     * @param collection the collection in which the minimum or maximum elements are to be found
+     * @return the min (max) elements in their encounter order or {@code null} if the input collection is empty
+     */
+    default List<W> findAllByRank(FindOperation operation, Collection<W> collection) {
+        return findAllByRank(operation, collection, RankingTrace.disabled());
+    }
+
+    /**
+     * Hierarchically search for all lowest (highest) elements in the collection, reporting the course of the search to
+     * the trace.
+     *
+     * @param operation determines whether a minimum or maximum search is required
+     * @param collection the collection in which the minimum or maximum elements are to be found
+     * @param trace the trace receiving the number of candidates retained at each level and the mappings found
+     * @return the min (max) elements in their encounter order or {@code null} if the input collection is empty
+     */
+    List<W> findAllByRank(FindOperation operation, Collection<W> collection, RankingTrace trace);
 
     /**
      * Hierarchically sorts the collection in ascending or descending order by sequentially grouping its elements
@@ -55,6 +101,84 @@ public interface HierarchicalRankingSolver<W> {
      * @return the collection sorted in ascending (descending) order or {@code null} if the input collection is empty
      * @throws NonUniqueRankException when unambiguous result is not achieved
      */
-    List<W> sortByRank(SortOperation operation, Collection<W> collection);
+    default List<W> sortByRank(SortOperation operation, Collection<W> collection) {
+        return sortByRank(operation, collection, RankingTrace.disabled());
+    }
+
+    /**
+     * Hierarchically sorts the collection, reporting the course of the sorting to the trace.
+     *
+     * @param operation determines whether ascending or descending order of sorting is required
+     * @param collection the collection to be sorted
+     * @param trace the trace receiving the number of groups formed at each level and the mappings found
+     * @return the collection sorted in ascending (descending) order or {@code null} if the input collection is empty
+     * @throws NonUniqueRankException when unambiguous result is not achieved
+     */
+    List<W> sortByRank(SortOperation operation, Collection<W> collection, RankingTrace trace);
+
+    /**
+     * Hierarchically partitions the collection into groups of elements having the same rank values for all ranking
+     * functions, listed in ascending or descending order.
+     *
+     * <p>The groups are those {@link #sortByRank(SortOperation, Collection)} produces, but a group still having more
+     * than one element when all ranking functions are exhausted is returned instead of causing an exception.
+     *
+     * @param operation determines whether ascending or descending order of the groups is required
+     * @param collection the collection to be partitioned
+     * @return the groups in ascending (descending) order, each keeping its elements in their encounter order, or
+     *     {@code null} if the input collection is empty
+     */
+    default List<List<W>> partitionByRank(SortOperation operation, Collection<W> collection) {
+        return partitionByRank(operation, collection, RankingTrace.disabled());
+    }
+
+    /**
+     * Hierarchically partitions the collection into groups of tied elements, reporting the course of the partitioning
+     * to the trace.
+     *
+     * @param operation determines whether ascending or descending order of the groups is required
+     * @param collection the collection to be partitioned
+     * @param trace the trace receiving the number of groups formed at each level and the mappings found
+     * @return the groups in ascending (descending) order, each keeping its elements in their encounter order, or
+     *     {@code null} if the input collection is empty
+     */
+    List<List<W>> partitionByRank(SortOperation operation, Collection<W> collection, RankingTrace trace);
+
+    /**
+     * Hierarchically selects the leading elements of the collection sorted in ascending or descending order.
+     *
+     * <p>The result is the same as the first {@code limit} elements of
+     * {@link #sortByRank(SortOperation, Collection)}, but groups lying entirely behind them are neither ranked further
+     * nor checked for ties.
+     *
+     * @param operation determines whether ascending or descending order of sorting is required
+     * @param limit the maximum number of elements to select; must not be negative
+     * @param collection the collection to select from
+     * @return the leading elements in ascending (descending) order or {@code null} if the input collection is empty
+     * @throws NonUniqueRankException when unambiguous order of the selected elements is not achieved
+     */
+    default List<W> selectByRank(SortOperation operation, int limit, Collection<W> collection) {
+        return selectByRank(operation, limit, collection, RankingTrace.disabled());
+    }
+
+    /**
+     * Hierarchically selects the leading elements of the collection, reporting the course of the selection to the
+     * trace.
+     *
+     * @param operation determines whether ascending or descending order of sorting is required
+     * @param limit the maximum number of elements to select; must not be negative
+     * @param collection the collection to select from
+     * @param trace the trace receiving the number of groups formed at each level and the mappings found
+     * @return the leading elements in ascending (descending) order or {@code null} if the input collection is empty
+     * @throws NonUniqueRankException when unambiguous order of the selected elements is not achieved
+     */
+    List<W> selectByRank(SortOperation operation, int limit, Collection<W> collection, RankingTrace trace);
+
+    /**
+     * Returns the counts of the rank evaluations performed by the operations of this solver so far.
+     *
+     * @return the counts of the rank evaluations
+     */
+    RankingStatistics statistics();
 
-}
\ No newline at end of file
+}
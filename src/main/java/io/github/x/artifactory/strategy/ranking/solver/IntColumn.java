@@ -0,0 +1,89 @@
+package io.github.x.artifactory.strategy.ranking.solver;
+
+import io.github.x.artifactory.strategy.ranking.api.ColumnStorage;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+/**
+ * Fixed-size column of {@code int} values, such as element indexes, held in a heap array or off the heap in a direct
+ * buffer.
+ */
+final class IntColumn {
+
+    private final int[] array;
+
+    private final IntBuffer buffer;
+
+    private IntColumn(int[] array, IntBuffer buffer) {
+        this.array = array;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Allocates a column of zeros.
+     *
+     * @param size number of values
+     * @param storage where the values are held
+     * @return the column
+     * @throws IllegalArgumentException if an off-heap column would exceed {@link ColumnStorage#MAX_OFF_HEAP_SIZE}
+     */
+    static IntColumn allocate(int size, ColumnStorage storage) {
+        return switch (storage) {
+            case HEAP -> new IntColumn(new int[size], null);
+            case OFF_HEAP -> {
+                if (size > ColumnStorage.MAX_OFF_HEAP_SIZE) {
+                    throw new IllegalArgumentException("An off-heap column holds at most "
+                            + ColumnStorage.MAX_OFF_HEAP_SIZE + " elements.");
+                }
+                yield new IntColumn(null,
+                        ByteBuffer.allocateDirect(size * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer());
+            }
+        };
+    }
+
+    /**
+     * Allocates a column holding {@code 0, 1, ..., size - 1}.
+     *
+     * @param size number of values
+     * @param storage where the values are held
+     * @return the column
+     * @throws IllegalArgumentException if an off-heap column would exceed {@link ColumnStorage#MAX_OFF_HEAP_SIZE}
+     */
+    static IntColumn identity(int size, ColumnStorage storage) {
+        final IntColumn column = allocate(size, storage);
+        for (int i = 0; i < size; i++) {
+            column.set(i, i);
+        }
+
+        return column;
+    }
+
+    /**
+     * Views an array as a column.
+     *
+     * @param array the values
+     * @return the column backed by the array
+     */
+    static IntColumn wrap(int[] array) {
+        return new IntColumn(array, null);
+    }
+
+    boolean isOffHeap() {
+        return buffer != null;
+    }
+
+    int get(int index) {
+        return array != null ? array[index] : buffer.get(index);
+    }
+
+    void set(int index, int value) {
+        if (array != null) {
+            array[index] = value;
+        } else {
+            buffer.put(index, value);
+        }
+    }
+
+}
@@ -0,0 +1,341 @@
+package io.github.x.artifactory.strategy.ranking.solver;
+
+import io.github.x.artifactory.strategy.ranking.operation.ComparatorType;
+
+import java.util.Arrays;
+
+/**
+ * Sorting of element index ranges by primitive keys.
+ */
+final class KeySort {
+
+    /**
+     * The largest ratio of the key range to the number of keys for which keys are ranked by counting.
+     */
+    static final int COUNTING_RANGE_FACTOR = 2;
+
+    private KeySort() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * The number of bits of a key sorted by one pass of the radix sort.
+     */
+    private static final int RADIX_BITS = 8;
+
+    private static final int RADIX = 1 << RADIX_BITS;
+
+    /**
+     * Sorts the element indexes {@code indices[from, to)} by their keys.
+     *
+     * <p>Heap keys are first replaced by their {@link #denseRanks dense ranks} in the order of sorting; the range is
+     * then reordered by a counting sort over the ranks, which takes linear time. Off-heap indexes are sorted by a
+     * {@link #radixSort radix sort} through {@code scratch} instead, and ranges of fewer than {@value #RADIX}
+     * elements by an insertion sort in place, so that nothing the size of the range is allocated on the heap. Elements
+     * having equal keys keep their relative order either way.
+     *
+     * @param indices element indexes
+     * @param from the first position to sort, inclusive
+     * @param to the last position to sort, exclusive
+     * @param keys keys indexed by element index
+     * @param comparatorType natural order sorts by ascending keys, reversed order by descending keys
+     * @param scratch a column at least as long as {@code indices} and held the same way, whose range
+     *     {@code [from, to)} is overwritten
+     */
+    static void sort(IntColumn indices, int from, int to, LongColumn keys, ComparatorType comparatorType,
+                     IntColumn scratch) {
+        final int size = to - from;
+        if (size < 2) {
+            return;
+        }
+        if (indices.isOffHeap()) {
+            if (size < RADIX) {
+                insertionSort(indices, from, to, keys, comparatorType);
+            } else {
+                radixSort(indices, from, to, keys, comparatorType, scratch);
+            }
+            return;
+        }
+
+        final long[] rangeKeys = new long[size];
+        for (int i = 0; i < size; i++) {
+            rangeKeys[i] = keys.get(indices.get(from + i));
+        }
+        final int[] ranks = new int[size];
+        final int distinctCount = denseRanks(rangeKeys, ranks, comparatorType);
+
+        final int[] starts = new int[distinctCount + 1];
+        for (final int rank : ranks) {
+            starts[rank + 1]++;
+        }
+        for (int rank = 0; rank < distinctCount; rank++) {
+            starts[rank + 1] += starts[rank];
+        }
+        for (int i = 0; i < size; i++) {
+            scratch.set(from + starts[ranks[i]]++, indices.get(from + i));
+        }
+        for (int i = from; i < to; i++) {
+            indices.set(i, scratch.get(i));
+        }
+    }
+
+    /**
+     * Sorts the element indexes {@code indices[from, to)} by a least significant digit radix sort of their keys.
+     *
+     * <p>The keys are taken relative to the lowest (highest) of them, {@value #RADIX_BITS} bits per pass; each pass
+     * distributes the indexes between the range of {@code indices} and the same range of {@code scratch}. Passes
+     * beyond the span of the keys and passes over bits shared by all keys are skipped, so that keys spanning a small
+     * range, such as interval indexes, are sorted in few passes. The sort is stable.
+     */
+    private static void radixSort(IntColumn indices, int from, int to, LongColumn keys,
+                                  ComparatorType comparatorType, IntColumn scratch) {
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = from; i < to; i++) {
+            final long key = keys.get(indices.get(i));
+            min = Math.min(min, key);
+            max = Math.max(max, key);
+        }
+        final long base = comparatorType == ComparatorType.NATURAL ? min : max;
+        // the span is unsigned, as the relative keys are
+        final long span = max - min;
+
+        final int[] starts = new int[RADIX + 1];
+        IntColumn source = indices;
+        IntColumn target = scratch;
+        for (int shift = 0; shift < Long.SIZE && (span >>> shift) != 0; shift += RADIX_BITS) {
+            Arrays.fill(starts, 0);
+            for (int i = from; i < to; i++) {
+                starts[digit(keys.get(source.get(i)), base, comparatorType, shift) + 1]++;
+            }
+            if (starts[digit(keys.get(source.get(from)), base, comparatorType, shift) + 1] == to - from) {
+                continue;
+            }
+            for (int digit = 0; digit < RADIX; digit++) {
+                starts[digit + 1] += starts[digit];
+            }
+            for (int i = from; i < to; i++) {
+                final int index = source.get(i);
+                target.set(from + starts[digit(keys.get(index), base, comparatorType, shift)]++, index);
+            }
+
+            final IntColumn sorted = target;
+            target = source;
+            source = sorted;
+        }
+
+        if (source != indices) {
+            for (int i = from; i < to; i++) {
+                indices.set(i, source.get(i));
+            }
+        }
+    }
+
+    /**
+     * Sorts a small range of element indexes by a stable insertion sort in place.
+     */
+    private static void insertionSort(IntColumn indices, int from, int to, LongColumn keys,
+                                      ComparatorType comparatorType) {
+        for (int i = from + 1; i < to; i++) {
+            final int index = indices.get(i);
+            final long key = directed(keys.get(index), comparatorType);
+            int j = i;
+            while (j > from && directed(keys.get(indices.get(j - 1)), comparatorType) > key) {
+                indices.set(j, indices.get(j - 1));
+                j--;
+            }
+            indices.set(j, index);
+        }
+    }
+
+    private static int digit(long key, long base, ComparatorType comparatorType, int shift) {
+        final long relative = comparatorType == ComparatorType.NATURAL ? key - base : base - key;
+
+        return (int) (relative >>> shift) & (RADIX - 1);
+    }
+
+    /**
+     * Sorts the element indexes {@code indices[from, to)} by ascending keys in place with a heap sort, which needs no
+     * memory beyond the range but is not stable.
+     *
+     * @param indices element indexes
+     * @param from the first position to sort, inclusive
+     * @param to the last position to sort, exclusive
+     * @param keys keys indexed by element index
+     */
+    static void heapSort(IntColumn indices, int from, int to, LongColumn keys) {
+        final int size = to - from;
+        for (int parent = size / 2 - 1; parent >= 0; parent--) {
+            siftDown(indices, from, parent, size, keys);
+        }
+        for (int end = size - 1; end > 0; end--) {
+            final int top = indices.get(from);
+            indices.set(from, indices.get(from + end));
+            indices.set(from + end, top);
+            siftDown(indices, from, 0, end, keys);
+        }
+    }
+
+    /**
+     * Restores the max-heap order of the heap {@code indices[from, from + size)} below a position.
+     */
+    private static void siftDown(IntColumn indices, int from, int parent, int size, LongColumn keys) {
+        final int index = indices.get(from + parent);
+        final long key = keys.get(index);
+        while (2 * parent + 1 < size) {
+            int child = 2 * parent + 1;
+            if (child + 1 < size && keys.get(indices.get(from + child + 1)) > keys.get(indices.get(from + child))) {
+                child++;
+            }
+            if (keys.get(indices.get(from + child)) <= key) {
+                break;
+            }
+            indices.set(from + parent, indices.get(from + child));
+            parent = child;
+        }
+        indices.set(from + parent, index);
+    }
+
+    /**
+     * Replaces the keys by their dense ranks, i.e. their ordinals among the distinct keys in the order of sorting.
+     *
+     * <p>When the range of the keys is at most {@link #COUNTING_RANGE_FACTOR} times their number, as for bounded
+     * integral ranks and interval indexes of floating-point ranks, the distinct keys are marked in a table spanning
+     * the range and ranked in linear time. Otherwise the distinct keys are sorted and the rank of each key is found
+     * by binary search.
+     *
+     * @param keys keys to rank, not modified
+     * @param ranks receives the rank of each key at its position
+     * @param comparatorType natural order ranks ascending keys, reversed order ranks descending keys
+     * @return the number of distinct keys
+     */
+    static int denseRanks(long[] keys, int[] ranks, ComparatorType comparatorType) {
+        if (keys.length == 0) {
+            return 0;
+        }
+
+        long min = keys[0];
+        long max = keys[0];
+        for (final long key : keys) {
+            min = Math.min(min, key);
+            max = Math.max(max, key);
+        }
+
+        // the difference is negative when it overflows
+        final long span = max - min;
+        final int distinctCount = span >= 0 && span < (long) COUNTING_RANGE_FACTOR * keys.length
+                ? countingRanks(keys, ranks, min, (int) span + 1)
+                : comparisonRanks(keys, ranks);
+
+        if (comparatorType == ComparatorType.REVERSED) {
+            for (int i = 0; i < ranks.length; i++) {
+                ranks[i] = distinctCount - 1 - ranks[i];
+            }
+        }
+
+        return distinctCount;
+    }
+
+    private static int countingRanks(long[] keys, int[] ranks, long min, int span) {
+        final int[] table = new int[span];
+        for (final long key : keys) {
+            table[(int) (key - min)] = 1;
+        }
+        int distinctCount = 0;
+        for (int offset = 0; offset < span; offset++) {
+            final int present = table[offset];
+            table[offset] = distinctCount;
+            distinctCount += present;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            ranks[i] = table[(int) (keys[i] - min)];
+        }
+
+        return distinctCount;
+    }
+
+    private static int comparisonRanks(long[] keys, int[] ranks) {
+        final long[] distinctKeys = keys.clone();
+        Arrays.sort(distinctKeys);
+        final int distinctCount = unique(distinctKeys);
+        for (int i = 0; i < keys.length; i++) {
+            ranks[i] = Arrays.binarySearch(distinctKeys, 0, distinctCount, keys[i]);
+        }
+
+        return distinctCount;
+    }
+
+    /**
+     * Returns the key of the {@code k}-th element of the range {@code indices[from, to)} in the order of sorting.
+     *
+     * <p>The key is selected by a bounded binary heap holding the {@code k} best keys met so far, so the range is
+     * scanned once and is not reordered.
+     *
+     * @param indices element indexes
+     * @param from the first position of the range, inclusive
+     * @param to the last position of the range, exclusive
+     * @param keys keys indexed by element index
+     * @param k one-based position of the key to select, not greater than the range size
+     * @param comparatorType natural order selects the {@code k}-th lowest key, reversed order the {@code k}-th highest
+     * @return the selected key
+     */
+    static long selectKey(IntColumn indices, int from, int to, LongColumn keys, int k,
+                          ComparatorType comparatorType) {
+        // max-heap of the k lowest keys, the reversed order is handled by the order-reversing bitwise complement
+        final long[] heap = new long[k];
+        int size = 0;
+        for (int i = from; i < to; i++) {
+            final long key = directed(keys.get(indices.get(i)), comparatorType);
+            if (size < k) {
+                int child = size++;
+                while (child > 0 && heap[(child - 1) / 2] < key) {
+                    heap[child] = heap[(child - 1) / 2];
+                    child = (child - 1) / 2;
+                }
+                heap[child] = key;
+            } else if (key < heap[0]) {
+                int parent = 0;
+                while (2 * parent + 1 < k) {
+                    int child = 2 * parent + 1;
+                    if (child + 1 < k && heap[child + 1] > heap[child]) {
+                        child++;
+                    }
+                    if (heap[child] <= key) {
+                        break;
+                    }
+                    heap[parent] = heap[child];
+                    parent = child;
+                }
+                heap[parent] = key;
+            }
+        }
+
+        return directed(heap[0], comparatorType);
+    }
+
+    private static long directed(long key, ComparatorType comparatorType) {
+        return comparatorType == ComparatorType.NATURAL ? key : ~key;
+    }
+
+    /**
+     * Removes duplicates from a sorted array, moving distinct values to its beginning.
+     *
+     * @param sorted sorted array
+     * @return the number of distinct values
+     */
+    static int unique(long[] sorted) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+
+        int count = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[count - 1]) {
+                sorted[count++] = sorted[i];
+            }
+        }
+
+        return count;
+    }
+
+}
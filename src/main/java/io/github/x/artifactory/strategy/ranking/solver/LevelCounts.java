@@ -0,0 +1,154 @@
+package io.github.x.artifactory.strategy.ranking.solver;
+
+import io.github.x.artifactory.strategy.ranking.exception.NonUniqueRankException;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * The numbers of ranking functions of the elements of a ranked collection, which may differ between elements.
+ *
+ * <p>A group of tied elements is ranked at a level as long as all of its elements have a ranking function at that
+ * level. It is exhausted once any of them lacks the function: the elements lacking it cannot be compared with the
+ * others, so the group remains tied. The operations requiring a unique result then raise
+ * {@link NonUniqueRankException}, as they do for ties remaining after the last function, while the partitions and
+ * the searches for all extreme elements return the group as one.
+ *
+ * @param <W> the type of ranked elements
+ */
+final class LevelCounts<W> {
+
+    private final ToIntFunction<W> levelCount;
+
+    private final int min;
+
+    private final int max;
+
+    /**
+     * Counts the ranking functions of every element.
+     *
+     * @param elements the elements of the ranked collection; must not be empty
+     * @param levelCount the number of ranking functions of an element
+     */
+    LevelCounts(Collection<W> elements, ToIntFunction<W> levelCount) {
+        this.levelCount = levelCount;
+        int minCount = Integer.MAX_VALUE;
+        int maxCount = 0;
+        for (final W element : elements) {
+            final int count = levelCount.applyAsInt(element);
+            minCount = Math.min(minCount, count);
+            maxCount = Math.max(maxCount, count);
+        }
+        this.min = minCount;
+        this.max = maxCount;
+    }
+
+    /**
+     * {@return whether all elements have the same number of ranking functions}
+     */
+    boolean isUniform() {
+        return min == max;
+    }
+
+    /**
+     * {@return the largest number of ranking functions of an element}
+     */
+    int max() {
+        return max;
+    }
+
+    /**
+     * Returns whether a group of tied elements is ranked at a level.
+     *
+     * @param group the tied elements
+     * @param level index of the ranking function
+     * @return {@code true} if all elements of the group have the ranking function, {@code false} if any lacks it
+     */
+    boolean hasLevel(Collection<W> group, int level) {
+        if (level < min || level >= max) {
+            return level < min;
+        }
+
+        for (final W element : group) {
+            if (levelCount.applyAsInt(element) <= level) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns whether a group of tied elements is ranked at a level.
+     *
+     * @param elements all elements
+     * @param indices element indexes
+     * @param from the first position of the group in {@code indices}, inclusive
+     * @param to the last position of the group in {@code indices}, exclusive
+     * @param level index of the ranking function
+     * @return {@code true} if all elements of the group have the ranking function, {@code false} if any lacks it
+     */
+    boolean hasLevel(List<W> elements, IntColumn indices, int from, int to, int level) {
+        if (level < min || level >= max) {
+            return level < min;
+        }
+
+        for (int i = from; i < to; i++) {
+            if (levelCount.applyAsInt(elements.get(indices.get(i))) <= level) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the elements having a ranking function at a level.
+     *
+     * @param elements the elements
+     * @param level index of the ranking function
+     * @return the elements having the function in their encounter order, or {@code elements} if all of them have it
+     */
+    Collection<W> having(Collection<W> elements, int level) {
+        return level < min
+                ? elements
+                : elements.stream().filter(element -> levelCount.applyAsInt(element) > level).toList();
+    }
+
+    /**
+     * Returns the indexes of the elements having a ranking function at a level.
+     *
+     * @param elements all elements
+     * @param indices element indexes
+     * @param level index of the ranking function
+     * @return the indexes of the elements having the function in their order, or {@code indices} if all of them
+     *     have it
+     */
+    int[] having(List<W> elements, int[] indices, int level) {
+        return level < min
+                ? indices
+                : Arrays.stream(indices).filter(index -> levelCount.applyAsInt(elements.get(index)) > level).toArray();
+    }
+
+    /**
+     * Lists the indexes of the elements having a ranking function at a level.
+     *
+     * @param elements all elements
+     * @param level index of the ranking function
+     * @param having receives the indexes of the elements having the function in ascending order
+     * @return the number of elements having the function
+     */
+    int having(List<W> elements, int level, IntColumn having) {
+        int count = 0;
+        for (int index = 0; index < elements.size(); index++) {
+            if (level < min || levelCount.applyAsInt(elements.get(index)) > level) {
+                having.set(count++, index);
+            }
+        }
+
+        return count;
+    }
+
+}
@@ -0,0 +1,165 @@
+package io.github.x.artifactory.strategy.ranking.solver;
+
+import io.github.x.artifactory.strategy.ranking.api.BatchRankFunction;
+import io.github.x.artifactory.strategy.ranking.api.ConcurrentEvaluation;
+import io.github.x.artifactory.strategy.ranking.api.RankWrapper;
+import io.github.x.artifactory.strategy.ranking.exception.RankEvaluationTimeoutException;
+import io.github.x.artifactory.strategy.ranking.exception.RankingStrategyException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import static io.github.x.artifactory.strategy.ranking.exception.RankValueAccessor.getRankFunction;
+import static io.github.x.artifactory.strategy.ranking.exception.RankValueAccessor.getRankValue;
+
+/**
+ * Evaluates the rank values of one ranking level for many elements in advance, so that the following ranking of the
+ * level finds them memoized by the elements.
+ *
+ * <p>A {@link BatchRankFunction batch ranking function} is called once for all the elements still needing the level.
+ * Other functions are evaluated concurrently on virtual threads: at most {@code maxConcurrency} threads take the
+ * elements one after another, so every element is evaluated by a single thread; the values it memoizes are visible to
+ * the calling thread once the evaluation returns. When the concurrency is one, nothing is evaluated in advance and the
+ * solvers evaluate the ranks on the calling thread.
+ *
+ * <p>When the evaluation fails or exceeds its deadline, the threads are interrupted, take no further elements, and
+ * the failure is thrown only once the evaluations in progress have returned, so that no thread memoizes a value in
+ * an element the calling thread may rank again. A ranking function ignoring interrupts, such as one blocked on I/O,
+ * thus delays the failure until it returns.
+ */
+final class LevelRankEvaluator {
+
+    private final ConcurrentEvaluation settings;
+
+    LevelRankEvaluator(ConcurrentEvaluation settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * {@return {@code true} if the rank values of the ranking function are evaluated in advance}
+     *
+     * @param element any element of the ranked collection
+     * @param functionIndex index of the ranking function
+     */
+    boolean evaluatesAhead(RankWrapper<?> element, int functionIndex) {
+        return settings.isConcurrent() || getRankFunction(element, functionIndex) instanceof BatchRankFunction<?>;
+    }
+
+    /**
+     * Evaluates the rank values of the elements whose indexes are listed in {@code indices[from, to)}.
+     *
+     * @param elements all elements
+     * @param functionIndex index of the ranking function
+     * @param indices element indexes
+     * @param from the first position in {@code indices}, inclusive
+     * @param to the last position in {@code indices}, exclusive
+     * @throws RankEvaluationTimeoutException if the evaluation exceeds the level deadline
+     */
+    void evaluate(List<? extends RankWrapper<?>> elements, int functionIndex, IntColumn indices, int from, int to) {
+        if (to > from && evaluatesAhead(elements.get(indices.get(from)), functionIndex)) {
+            evaluate(to - from, i -> elements.get(indices.get(from + i)), functionIndex);
+        }
+    }
+
+    /**
+     * Evaluates the rank values of all elements.
+     *
+     * @param elements the elements
+     * @param functionIndex index of the ranking function
+     * @throws RankEvaluationTimeoutException if the evaluation exceeds the level deadline
+     */
+    void evaluate(Collection<? extends RankWrapper<?>> elements, int functionIndex) {
+        if (!elements.isEmpty() && evaluatesAhead(elements.iterator().next(), functionIndex)) {
+            final List<? extends RankWrapper<?>> list = elements instanceof List<? extends RankWrapper<?>> l
+                    ? l
+                    : List.copyOf(elements);
+            evaluate(list.size(), list::get, functionIndex);
+        }
+    }
+
+    private void evaluate(int count, IntFunction<? extends RankWrapper<?>> elements, int functionIndex) {
+        final var function = getRankFunction(elements.apply(0), functionIndex);
+        if (function instanceof BatchRankFunction<?>) {
+            RankWrapper.evaluateBatch(IntStream.range(0, count).<RankWrapper<?>>mapToObj(elements).toList(),
+                    functionIndex);
+            return;
+        }
+        if (!settings.isConcurrent() || count < 2) {
+            return;
+        }
+
+        final var rankType = RankType.of(function);
+        final var next = new AtomicInteger();
+        final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        final List<Future<?>> workers = new ArrayList<>();
+        for (int w = 0; w < Math.min(settings.maxConcurrency(), count); w++) {
+            workers.add(executor.submit(() -> {
+                for (int i = next.getAndIncrement(); i < count && !Thread.currentThread().isInterrupted();
+                     i = next.getAndIncrement()) {
+                    evaluate(elements.apply(i), functionIndex, rankType);
+                }
+            }));
+        }
+        executor.shutdown();
+
+        final long start = System.nanoTime();
+        final long timeout = TimeUnit.NANOSECONDS.convert(settings.levelDeadline());
+        try {
+            for (final Future<?> worker : workers) {
+                worker.get(Math.max(0, timeout - (System.nanoTime() - start)), TimeUnit.NANOSECONDS);
+            }
+        } catch (TimeoutException e) {
+            cancel(executor, next, count);
+            throw new RankEvaluationTimeoutException("The evaluation of the ranking function at index "
+                    + functionIndex + " exceeded its deadline of " + settings.levelDeadline() + ".");
+        } catch (ExecutionException e) {
+            cancel(executor, next, count);
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            cancel(executor, next, count);
+            Thread.currentThread().interrupt();
+            throw new RankingStrategyException("Interrupted while evaluating the ranking function at index "
+                    + functionIndex + ".");
+        }
+    }
+
+    /**
+     * Keeps the workers from taking further elements, interrupts them and waits for the evaluations in progress to
+     * return.
+     */
+    private static void cancel(ExecutorService executor, AtomicInteger next, int count) {
+        next.set(count);
+        executor.shutdownNow();
+        executor.close();
+    }
+
+    /**
+     * Evaluates a rank value the way the solvers access it, so that it is memoized in the form they read.
+     */
+    private static void evaluate(RankWrapper<?> element, int functionIndex, RankType rankType) {
+        if (rankType.isIntegral()) {
+            element.rankAsLong(functionIndex);
+        } else if (rankType.isFloatingPoint()) {
+            element.rankAsDouble(functionIndex);
+        } else {
+            getRankValue(element, functionIndex);
+        }
+    }
+
+}
@@ -0,0 +1,497 @@
+package io.github.x.artifactory.strategy.ranking.solver;
+
+import io.github.x.artifactory.strategy.ranking.api.RankWrapper;
+import io.github.x.artifactory.strategy.ranking.api.RankingOptions;
+import io.github.x.artifactory.strategy.ranking.api.RankingStatistics;
+import io.github.x.artifactory.strategy.ranking.exception.NonUniqueRankException;
+import io.github.x.artifactory.strategy.ranking.operation.ComparatorType;
+import io.github.x.artifactory.strategy.ranking.operation.FindOperation;
+import io.github.x.artifactory.strategy.ranking.operation.SortOperation;
+import io.github.x.artifactory.strategy.ranking.rmapping.ConcurrentRankMapCache;
+import io.github.x.artifactory.strategy.ranking.rmapping.RankMapFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static io.github.x.artifactory.strategy.ranking.exception.RankValueAccessor.getRankFunction;
+
+/**
+ * Implementation of the {@link HierarchicalRankingSolver} interface that sorts precomputed rank vectors in a single
+ * pass.
+ *
+ * <p>The rank values of all ranking levels are evaluated once for every element and converted into a vector of
+ * primitive keys: integral values themselves, indexes of disjoint intervals for floating-point values and ordinal
+ * codes for other comparable values, replaced by their dense ranks among the distinct keys of their level. The
+ * elements are then sorted in a single pass comparing their vectors lexicographically, and ties remaining on the
+ * whole vector are detected by a linear pass over adjacent elements. No groups are built, so the allocation does not
+ * grow with the number of tied groups.
+ *
+ * <p>When the bit widths of the dense ranks of all levels add up, together with the width of an element index, to
+ * less than 64 bits, as they do for typical rankings of a few bounded integral or interval-mapped levels, every
+ * vector is packed into a single {@code long} key and the elements are sorted by a primitive sort of these keys.
+ *
+ * <p>Floating-point values of every level are mapped to intervals composed from the values of the whole collection,
+ * as in the search for the extreme elements, rather than from the values of their own tied group; results may thus
+ * differ from those of {@link RankingSolverImpl} when values of different groups are within the tolerance of each
+ * other. Since every level is evaluated for every element, this solver suits collections having many shallow ties
+ * and cheap ranking functions.
+ *
+ * <p>The vectors are as long as the largest number of ranking functions of an element. A level an element has no
+ * function for holds an absent rank ordered before all others. Elements sharing the ranks of the preceding levels of
+ * which only some have the function are not ordered by it or by the following levels: they result in
+ * {@link NonUniqueRankException} or form one group of tied elements, as they do in the other solvers.
+ *
+ * @param <W> the type of elements held in a collection; must provide its ranking criteria values in a predefined order
+ * @param <R> the type of the rank value; must implement the {@link Comparable} interface
+ */
+public final class LexicographicRankingSolver<W extends RankWrapper<?>, R extends Comparable<R>>
+        implements HierarchicalRankingSolver<W> {
+
+    private final ConcurrentRankMapCache mappingCache;
+
+    private final RankMapFactory<R> mappingFactory;
+
+    private final LevelRankEvaluator evaluator;
+
+    private final RankingCounters counters = new RankingCounters();
+
+    /**
+     * Constructs a solver with the {@link RankingOptions#defaults() default} options.
+     */
+    public LexicographicRankingSolver() {
+        this(RankingOptions.defaults());
+    }
+
+    /**
+     * Constructs a solver with the given options.
+     *
+     * <p>The find scope of the options does not apply, since every level is evaluated for every element.
+     *
+     * @param options the mapping cache and the concurrent evaluation of the solver
+     */
+    public LexicographicRankingSolver(RankingOptions options) {
+        this.mappingCache = switch (options.mappingCache()) {
+            case ConcurrentRankMapCache cache -> cache;
+        };
+        this.mappingFactory = mappingCache.factory();
+        this.evaluator = new LevelRankEvaluator(options.concurrentEvaluation());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The extreme vector is found by a linear scan.
+     *
+     * @param operation  determines whether a minimum or maximum search is required
+     * @param collection the collection in which the minimum or maximum element is to be found
+     * @param trace the trace receiving the number of candidates retained at each level and the mappings found
+     * @return the min (max) element or {@code null} if the input collection is empty
+     * @throws NonUniqueRankException when unambiguous result is not achieved
+     */
+    @Override
+    public W findByRank(FindOperation operation, Collection<W> collection, RankingTrace trace) {
+        final List<W> extremes = findAllByRank(operation, collection, trace);
+        if (extremes == null) {
+            return null;
+        }
+        if (extremes.size() > 1) {
+            throw new NonUniqueRankException("No unique result found after applying all ranking functions.");
+        }
+
+        return extremes.get(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The extreme vector is found by a linear scan.
+     *
+     * @param operation  determines whether a minimum or maximum search is required
+     * @param collection the collection in which the minimum or maximum elements are to be found
+     * @param trace the trace receiving the number of candidates retained at each level and the mappings found
+     * @return the min (max) elements in their encounter order or {@code null} if the input collection is empty
+     */
+    @Override
+    public List<W> findAllByRank(FindOperation operation, Collection<W> collection, RankingTrace trace) {
+        if (collection.isEmpty()) {
+            return null;
+        }
+
+        final List<W> elements = List.copyOf(collection);
+        if (elements.size() == 1) {
+            return elements;
+        }
+
+        final var vectors = computeVectors(elements, operation.comparatorType(), trace);
+        int minimum = 0;
+        for (int i = 1; i < elements.size(); i++) {
+            if (vectors.compare(i, minimum) < 0) {
+                minimum = i;
+            }
+        }
+        final int extreme = minimum;
+        // the candidates are exhausted at the first level only some of them have a function for
+        int exhaustedLevel = vectors.levels();
+        for (int i = 0; i < elements.size(); i++) {
+            if (vectors.isPartlyAbsent(i, extreme)) {
+                exhaustedLevel = Math.min(exhaustedLevel, vectors.mismatch(i, extreme));
+            }
+        }
+        final int depth = exhaustedLevel;
+
+        if (trace.isEnabled()) {
+            final long[] candidateCounts = new long[depth];
+            for (int i = 0; i < elements.size(); i++) {
+                for (int level = 0; level < Math.min(vectors.mismatch(i, extreme), depth); level++) {
+                    candidateCounts[level]++;
+                }
+            }
+            traceGroups(trace, candidateCounts);
+        }
+
+        return IntStream.range(0, elements.size())
+                .filter(i -> vectors.mismatch(i, extreme) >= depth)
+                .mapToObj(elements::get)
+                .toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param operation determines whether ascending or descending order of sorting is required
+     * @param collection the collection to be sorted
+     * @param trace the trace receiving the number of groups formed at each level and the mappings found
+     * @return the collection sorted in ascending (descending) order or {@code null} if the input collection is empty
+     * @throws NonUniqueRankException when unambiguous result is not achieved
+     */
+    @Override
+    public List<W> sortByRank(SortOperation operation, Collection<W> collection, RankingTrace trace) {
+        return collection.isEmpty()
+                ? null
+                : sortByRank(operation.comparatorType(), List.copyOf(collection), collection.size(), trace);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param operation determines whether ascending or descending order of the groups is required
+     * @param collection the collection to be partitioned
+     * @param trace the trace receiving the number of groups formed at each level and the mappings found
+     * @return the groups in ascending (descending) order, each keeping its elements in their encounter order, or
+     *     {@code null} if the input collection is empty
+     */
+    @Override
+    public List<List<W>> partitionByRank(SortOperation operation, Collection<W> collection, RankingTrace trace) {
+        if (collection.isEmpty()) {
+            return null;
+        }
+
+        final List<W> elements = List.copyOf(collection);
+        if (elements.size() == 1) {
+            return List.of(elements);
+        }
+
+        final var vectors = computeVectors(elements, operation.comparatorType(), trace);
+        final int[] order = vectors.sortedOrder();
+        traceGroups(trace, vectors, order);
+        final boolean[] exhausted = vectors.exhaustedTies(order);
+        final List<List<W>> partition = new ArrayList<>();
+        int from = 0;
+        for (int i = 1; i <= order.length; i++) {
+            if (i == order.length || !exhausted[i] && vectors.compare(order[i - 1], order[i]) != 0) {
+                partition.add(Arrays.stream(order, from, i).sorted().mapToObj(elements::get).toList());
+                from = i;
+            }
+        }
+
+        return partition;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The whole collection is sorted; ties are checked only between the selected elements and their successors.
+     *
+     * @param operation determines whether ascending or descending order of sorting is required
+     * @param limit the maximum number of elements to select; must not be negative
+     * @param collection the collection to select from
+     * @param trace the trace receiving the number of groups formed at each level and the mappings found
+     * @return the leading elements in ascending (descending) order or {@code null} if the input collection is empty
+     * @throws NonUniqueRankException when unambiguous order of the selected elements is not achieved
+     */
+    @Override
+    public List<W> selectByRank(SortOperation operation, int limit, Collection<W> collection, RankingTrace trace) {
+        if (collection.isEmpty()) {
+            return null;
+        }
+        if (limit == 0) {
+            return List.of();
+        }
+
+        return sortByRank(operation.comparatorType(), List.copyOf(collection), Math.min(limit, collection.size()),
+                trace);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the counts of the rank evaluations performed by this solver
+     */
+    @Override
+    public RankingStatistics statistics() {
+        return counters.snapshot();
+    }
+
+    /**
+     * Sorts the elements by their rank vectors and returns the first {@code limit} of them.
+     *
+     * @throws NonUniqueRankException if one of the returned elements has the same vector as its successor
+     */
+    private List<W> sortByRank(ComparatorType comparatorType, List<W> elements, int limit, RankingTrace trace) {
+        if (elements.size() == 1) {
+            return elements;
+        }
+
+        final var vectors = computeVectors(elements, comparatorType, trace);
+        final int[] order = vectors.sortedOrder();
+        traceGroups(trace, vectors, order);
+        vectors.checkPartlyAbsent(order, limit);
+        for (int i = 0; i < Math.min(limit, order.length - 1); i++) {
+            if (vectors.compare(order[i], order[i + 1]) == 0) {
+                throw new NonUniqueRankException("No unique result found after applying all ranking functions.");
+            }
+        }
+
+        return Arrays.stream(order, 0, limit).mapToObj(elements::get).toList();
+    }
+
+    /**
+     * Evaluates all ranking levels of all elements into row-major vectors of dense ranks.
+     *
+     * <p>At a level some elements have no function for, those elements get the absent rank {@code 0} and the dense
+     * ranks of the others are shifted by one.
+     *
+     * @param comparatorType natural order ranks ascending rank values first, reversed order descending ones
+     * @return the rank vectors, ascending in the order of sorting
+     */
+    private RankVectors computeVectors(List<W> elements, ComparatorType comparatorType, RankingTrace trace) {
+        final var levelCounts = new LevelCounts<>(elements, RankWrapper::rankFunctionCount);
+        final int levels = levelCounts.max();
+        final int[] all = IntStream.range(0, elements.size()).toArray();
+        final long[] levelKeys = new long[elements.size()];
+        final int[] ranks = new int[elements.size() * levels];
+        final int[] widths = new int[levels];
+        final int[] lengths = levelCounts.isUniform()
+                ? null
+                : elements.stream().mapToInt(RankWrapper::rankFunctionCount).toArray();
+        int evaluatedCount = 0;
+
+        for (int level = 0; level < levels; level++) {
+            final int[] having = levelCounts.having(elements, all, level);
+            final var column = RankColumn.allocate(RankType.of(getRankFunction(elements.get(having[0]), level)),
+                    elements.size());
+            final IntColumn havingIndices = IntColumn.wrap(having);
+            evaluator.evaluate(elements, level, havingIndices, 0, having.length);
+            column.evaluate(elements, level, havingIndices, 0, having.length);
+            column.computeKeys(trace.isEnabled() ? mappingCache.factory(trace) : mappingFactory, havingIndices, 0,
+                    having.length, LongColumn.wrap(levelKeys), null);
+            evaluatedCount += having.length;
+
+            final long[] havingKeys = new long[having.length];
+            for (int i = 0; i < having.length; i++) {
+                havingKeys[i] = levelKeys[having[i]];
+            }
+            final int[] levelRanks = new int[having.length];
+            final int absent = having.length < all.length ? 1 : 0;
+            final int distinctCount = KeySort.denseRanks(havingKeys, levelRanks, comparatorType);
+            widths[level] = bitWidth(distinctCount - 1 + absent);
+            for (int i = 0; i < having.length; i++) {
+                ranks[having[i] * levels + level] = levelRanks[i] + absent;
+            }
+        }
+        counters.evaluated(evaluatedCount, trace);
+
+        return new RankVectors(elements.size(), levels, ranks, widths, lengths);
+    }
+
+    /**
+     * Reports the number of groups formed at each level by the sorted vectors.
+     */
+    private static void traceGroups(RankingTrace trace, RankVectors vectors, int[] order) {
+        if (!trace.isEnabled()) {
+            return;
+        }
+
+        // a group of a level starts wherever the vectors differ at this level or a more important one
+        final long[] groupCounts = new long[vectors.levels()];
+        Arrays.fill(groupCounts, 1);
+        for (int i = 1; i < order.length; i++) {
+            for (int level = vectors.mismatch(order[i - 1], order[i]); level < vectors.levels(); level++) {
+                groupCounts[level]++;
+            }
+        }
+        traceGroups(trace, groupCounts);
+    }
+
+    private static void traceGroups(RankingTrace trace, long[] groupCounts) {
+        for (int level = 0; level < groupCounts.length; level++) {
+            trace.groups(level, groupCounts[level]);
+        }
+    }
+
+    /**
+     * {@return the number of bits needed to hold the non-negative value}
+     */
+    private static int bitWidth(long value) {
+        return Long.SIZE - Long.numberOfLeadingZeros(value);
+    }
+
+    /**
+     * Rank vectors of elements stored consecutively in a single array.
+     *
+     * <p>A vector holds the dense ranks of an element at all levels, each rank being the ordinal of the element's rank
+     * value among the distinct values of its level in the order of sorting, so that the vectors are ordered
+     * lexicographically in ascending order.
+     *
+     * @param count the number of elements
+     * @param levels the number of ranking levels, i.e. the length of a vector
+     * @param ranks the vectors, the one of element {@code i} starting at {@code i * levels}
+     * @param widths the number of bits taken by the ranks of each level
+     * @param lengths the number of ranking functions of each element, or {@code null} if all elements have
+     *     {@code levels} of them
+     */
+    private record RankVectors(int count, int levels, int[] ranks, int[] widths, int[] lengths) {
+
+        /**
+         * Compares the vectors of two elements lexicographically.
+         */
+        int compare(int first, int second) {
+            return Arrays.compare(ranks, first * levels, (first + 1) * levels,
+                    ranks, second * levels, (second + 1) * levels);
+        }
+
+        /**
+         * Returns the most important level at which the vectors of two elements differ, or {@code levels} if they
+         * are equal.
+         */
+        int mismatch(int first, int second) {
+            final int level = Arrays.mismatch(ranks, first * levels, (first + 1) * levels,
+                    ranks, second * levels, (second + 1) * levels);
+
+            return level < 0 ? levels : level;
+        }
+
+        /**
+         * Returns whether the vectors of two elements first differ at a level only one of them has a ranking function
+         * for, which leaves the group of elements sharing the ranks of the preceding levels unordered.
+         */
+        boolean isPartlyAbsent(int first, int second) {
+            final int level = mismatch(first, second);
+
+            return lengths != null && level < levels && (lengths[first] > level) != (lengths[second] > level);
+        }
+
+        /**
+         * Checks that no group of elements sharing the ranks of some levels and starting within the first
+         * {@code limit} sorted elements mixes elements having and lacking a function for the next level.
+         *
+         * @param order the element indexes in ascending order of their vectors
+         * @param limit the number of leading sorted elements whose groups are checked
+         * @throws NonUniqueRankException if such a group is found
+         */
+        void checkPartlyAbsent(int[] order, int limit) {
+            if (lengths == null) {
+                return;
+            }
+
+            // groupStarts[level] is the first sorted position sharing the ranks of the levels before the given one
+            final int[] groupStarts = new int[levels + 1];
+            for (int i = 1; i < order.length; i++) {
+                final int level = mismatch(order[i - 1], order[i]);
+                if (isPartlyAbsent(order[i - 1], order[i]) && groupStarts[level] < limit) {
+                    throw new NonUniqueRankException("No unique result found after applying all ranking functions.");
+                }
+                Arrays.fill(groupStarts, level + 1, levels + 1, i);
+            }
+        }
+
+        /**
+         * Returns which sorted elements remain tied with their predecessors as members of a group of elements sharing
+         * the ranks of some levels that mixes elements having and lacking a function for the next level, and is thus
+         * not ranked by that level or the following ones.
+         *
+         * @param order the element indexes in ascending order of their vectors
+         * @return whether the element at each sorted position is tied with the preceding one by such a group
+         */
+        boolean[] exhaustedTies(int[] order) {
+            final boolean[] tied = new boolean[order.length];
+            if (lengths == null) {
+                return tied;
+            }
+
+            final int[] mismatches = new int[order.length];
+            for (int i = 1; i < order.length; i++) {
+                mismatches[i] = mismatch(order[i - 1], order[i]);
+            }
+            for (int level = 0; level < levels; level++) {
+                // a group sharing the ranks of the levels before this one ends where the vectors differ at them
+                int from = 0;
+                boolean partlyAbsent = false;
+                for (int i = 1; i <= order.length; i++) {
+                    if (i == order.length || mismatches[i] < level) {
+                        if (partlyAbsent) {
+                            Arrays.fill(tied, from + 1, i, true);
+                        }
+                        from = i;
+                        partlyAbsent = false;
+                    } else if (mismatches[i] == level && isPartlyAbsent(order[i - 1], order[i])) {
+                        partlyAbsent = true;
+                    }
+                }
+            }
+
+            return tied;
+        }
+
+        /**
+         * Returns the element indexes in ascending order of their vectors, elements having equal vectors in ascending
+         * order of their indexes.
+         *
+         * <p>When the ranks of all levels fit into a {@code long} together with an element index, each vector is
+         * packed with the index of its element into a single key, most important level first, and the keys are
+         * sorted as primitives. Otherwise the indexes are sorted by a lexicographic comparator over the vectors.
+         */
+        int[] sortedOrder() {
+            final int indexWidth = bitWidth(count - 1);
+            final int vectorWidth = Arrays.stream(widths).sum();
+            if (vectorWidth + indexWidth >= Long.SIZE) {
+                return IntStream.range(0, count).boxed()
+                        .sorted(this::compare)
+                        .mapToInt(Integer::intValue)
+                        .toArray();
+            }
+
+            final long[] packed = new long[count];
+            for (int i = 0; i < count; i++) {
+                long key = 0;
+                for (int level = 0; level < levels; level++) {
+                    key = key << widths[level] | ranks[i * levels + level];
+                }
+                packed[i] = key << indexWidth | i;
+            }
+            Arrays.sort(packed);
+
+            final long indexMask = (1L << indexWidth) - 1;
+            final int[] order = new int[count];
+            for (int i = 0; i < count; i++) {
+                order[i] = (int) (packed[i] & indexMask);
+            }
+
+            return order;
+        }
+    }
+
+}
@@ -0,0 +1,80 @@
+package io.github.x.artifactory.strategy.ranking.solver;
+
+import io.github.x.artifactory.strategy.ranking.api.ColumnStorage;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+
+/**
+ * Fixed-size column of {@code long} values indexed by element index, held in a heap array or off the heap in a direct
+ * buffer; {@code double} values are held as their raw bits.
+ */
+final class LongColumn {
+
+    private final long[] array;
+
+    private final LongBuffer buffer;
+
+    private LongColumn(long[] array, LongBuffer buffer) {
+        this.array = array;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Allocates a column of zeros.
+     *
+     * @param size number of elements
+     * @param storage where the values are held
+     * @return the column
+     * @throws IllegalArgumentException if an off-heap column would exceed {@link ColumnStorage#MAX_OFF_HEAP_SIZE}
+     */
+    static LongColumn allocate(int size, ColumnStorage storage) {
+        return switch (storage) {
+            case HEAP -> new LongColumn(new long[size], null);
+            case OFF_HEAP -> {
+                if (size > ColumnStorage.MAX_OFF_HEAP_SIZE) {
+                    throw new IllegalArgumentException("An off-heap column holds at most "
+                            + ColumnStorage.MAX_OFF_HEAP_SIZE + " elements.");
+                }
+                yield new LongColumn(null,
+                        ByteBuffer.allocateDirect(size * Long.BYTES).order(ByteOrder.nativeOrder()).asLongBuffer());
+            }
+        };
+    }
+
+    /**
+     * Views an array as a column.
+     *
+     * @param array values indexed by element index
+     * @return the column backed by the array
+     */
+    static LongColumn wrap(long[] array) {
+        return new LongColumn(array, null);
+    }
+
+    boolean isOffHeap() {
+        return buffer != null;
+    }
+
+    long get(int index) {
+        return array != null ? array[index] : buffer.get(index);
+    }
+
+    void set(int index, long value) {
+        if (array != null) {
+            array[index] = value;
+        } else {
+            buffer.put(index, value);
+        }
+    }
+
+    double getDouble(int index) {
+        return Double.longBitsToDouble(get(index));
+    }
+
+    void setDouble(int index, double value) {
+        set(index, Double.doubleToRawLongBits(value));
+    }
+
+}
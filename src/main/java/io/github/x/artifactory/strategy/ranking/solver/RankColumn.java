@@ -0,0 +1,334 @@
+package io.github.x.artifactory.strategy.ranking.solver;
+
+import io.github.x.artifactory.strategy.ranking.api.ColumnStorage;
+import io.github.x.artifactory.strategy.ranking.api.RankDefinition;
+import io.github.x.artifactory.strategy.ranking.api.RankWrapper;
+import io.github.x.artifactory.strategy.ranking.exception.RankValueAccessor;
+import io.github.x.artifactory.strategy.ranking.rmapping.RankMapFactory;
+import io.github.x.artifactory.strategy.ranking.rmapping.RankValueSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.DoubleConsumer;
+
+import static io.github.x.artifactory.strategy.ranking.exception.RankValueAccessor.getRankValue;
+
+/**
+ * Dense column of the rank values of one ranking level, indexed by element index.
+ *
+ * <p>Integral ranks are held in a {@link LongColumn}, floating-point ranks as the raw bits of {@code double} values
+ * in a {@link LongColumn} ({@code float} values are widened exactly) and other comparable ranks in an
+ * {@code Object[]}. Primitive columns may be held {@link ColumnStorage#OFF_HEAP off the heap}. Only the slots of
+ * evaluated elements are meaningful.
+ */
+final class RankColumn {
+
+    private final RankType type;
+
+    private final LongColumn primitives;
+
+    private final Object[] objects;
+
+    private RankColumn(RankType type, LongColumn primitives, Object[] objects) {
+        this.type = type;
+        this.primitives = primitives;
+        this.objects = objects;
+    }
+
+    /**
+     * Allocates a column on the heap.
+     *
+     * @param type value type of the ranking level
+     * @param size number of elements
+     * @return an empty column
+     */
+    static RankColumn allocate(RankType type, int size) {
+        return allocate(type, size, ColumnStorage.HEAP);
+    }
+
+    /**
+     * Allocates a column.
+     *
+     * @param type value type of the ranking level
+     * @param size number of elements
+     * @param storage where primitive rank values are held
+     * @return an empty column
+     */
+    static RankColumn allocate(RankType type, int size, ColumnStorage storage) {
+        return type.isPrimitive()
+                ? new RankColumn(type, LongColumn.allocate(size, storage), null)
+                : new RankColumn(type, null, new Object[size]);
+    }
+
+    /**
+     * Creates a column holding primitive rank values in a given buffer, so that the levels of a ranking share one
+     * buffer; the values of the previous level held in it are overwritten.
+     *
+     * @param type value type of the ranking level
+     * @param primitives the buffer of primitive rank values
+     * @param size number of elements
+     * @return an empty column
+     */
+    static RankColumn over(RankType type, LongColumn primitives, int size) {
+        return type.isPrimitive()
+                ? new RankColumn(type, primitives, null)
+                : new RankColumn(type, null, new Object[size]);
+    }
+
+    /**
+     * Evaluates the rank values of the elements whose indexes are listed in {@code indices[from, to)}.
+     *
+     * @param elements all elements
+     * @param functionIndex index of the ranking function
+     * @param indices element indexes
+     * @param from the first position in {@code indices}, inclusive
+     * @param to the last position in {@code indices}, exclusive
+     */
+    void evaluate(List<? extends RankWrapper<?>> elements, int functionIndex, IntColumn indices, int from, int to) {
+        switch (type) {
+            case INT, LONG -> {
+                for (int i = from; i < to; i++) {
+                    primitives.set(indices.get(i), elements.get(indices.get(i)).rankAsLong(functionIndex));
+                }
+            }
+            case FLOAT, DOUBLE -> {
+                for (int i = from; i < to; i++) {
+                    primitives.setDouble(indices.get(i), elements.get(indices.get(i)).rankAsDouble(functionIndex));
+                }
+            }
+            case COMPARABLE -> {
+                for (int i = from; i < to; i++) {
+                    objects[indices.get(i)] = getRankValue(elements.get(indices.get(i)), functionIndex);
+                }
+            }
+        }
+    }
+
+    /**
+     * Evaluates the rank values of the elements whose indexes are listed in {@code indices[from, to)} by a ranking
+     * function of a {@link RankDefinition}; the column must have been allocated for its {@link RankType#of type}.
+     *
+     * @param elements all elements
+     * @param level the ranking function
+     * @param indices element indexes
+     * @param from the first position in {@code indices}, inclusive
+     * @param to the last position in {@code indices}, exclusive
+     * @param <E> the type of ranked elements
+     */
+    <E> void evaluate(List<E> elements, RankDefinition.Level<E> level, IntColumn indices, int from, int to) {
+        switch (level) {
+            case RankDefinition.Level.OfInt<E> function -> {
+                for (int i = from; i < to; i++) {
+                    primitives.set(indices.get(i), function.rankAsInt(elements.get(indices.get(i))));
+                }
+            }
+            case RankDefinition.Level.OfLong<E> function -> {
+                for (int i = from; i < to; i++) {
+                    primitives.set(indices.get(i), function.rankAsLong(elements.get(indices.get(i))));
+                }
+            }
+            case RankDefinition.Level.OfFloat<E> function -> {
+                for (int i = from; i < to; i++) {
+                    primitives.setDouble(indices.get(i), function.rankAsFloat(elements.get(indices.get(i))));
+                }
+            }
+            case RankDefinition.Level.OfDouble<E> function -> {
+                for (int i = from; i < to; i++) {
+                    primitives.setDouble(indices.get(i), function.rankAsDouble(elements.get(indices.get(i))));
+                }
+            }
+            case RankDefinition.Level.OfComparable<E> function -> {
+                for (int i = from; i < to; i++) {
+                    objects[indices.get(i)] = function.rank(elements.get(indices.get(i)));
+                }
+            }
+        }
+    }
+
+    RankType type() {
+        return type;
+    }
+
+    long longValue(int index) {
+        return primitives.get(index);
+    }
+
+    double doubleValue(int index) {
+        return primitives.getDouble(index);
+    }
+
+    Object objectValue(int index) {
+        return objects[index];
+    }
+
+    /**
+     * Computes primitive keys of the elements {@code indices[from, to)} ordered the same way as their rank values.
+     *
+     * <p>Floating-point values, primitive or boxed, are mapped to indexes of the disjoint intervals composed from
+     * the values of these elements; other comparable values are replaced by their ordinals among these values.
+     * Primitive values held off the heap are mapped without being copied to the heap: they are read from the column
+     * to look their mapping up, and only if it has to be built are their indexes copied to {@code scratch} and
+     * sorted there by the values, which the keys hold meanwhile.
+     *
+     * @param mappingFactory the factory of mappings of floating-point values to intervals
+     * @param indices element indexes
+     * @param from the first position in {@code indices}, inclusive
+     * @param to the last position in {@code indices}, exclusive
+     * @param keys the keys indexed by element index, filled for the given elements
+     * @param scratch a column as long as {@code indices}, whose range {@code [from, to)} is overwritten; used only by
+     *     floating-point values held off the heap
+     * @param <R> the type of comparable rank values
+     */
+    <R extends Comparable<R>> void computeKeys(RankMapFactory<R> mappingFactory, IntColumn indices, int from, int to,
+                                               LongColumn keys, IntColumn scratch) {
+        switch (type) {
+            case INT, LONG -> {
+                for (int i = from; i < to; i++) {
+                    keys.set(indices.get(i), primitives.get(indices.get(i)));
+                }
+            }
+            case FLOAT -> {
+                if (primitives.isOffHeap()) {
+                    final var mapping = mappingFactory.findFloatMapper(
+                            new ColumnValues(indices, from, to, keys, scratch));
+                    for (int i = from; i < to; i++) {
+                        keys.set(indices.get(i), mapping.intervalOf((float) primitives.getDouble(indices.get(i))));
+                    }
+                    return;
+                }
+                final float[] values = new float[to - from];
+                for (int i = from; i < to; i++) {
+                    values[i - from] = (float) primitives.getDouble(indices.get(i));
+                }
+                final var mapping = mappingFactory.findMapper(values);
+                for (int i = from; i < to; i++) {
+                    keys.set(indices.get(i), mapping.intervalOf(values[i - from]));
+                }
+            }
+            case DOUBLE -> {
+                if (primitives.isOffHeap()) {
+                    final var mapping = mappingFactory.findDoubleMapper(
+                            new ColumnValues(indices, from, to, keys, scratch));
+                    for (int i = from; i < to; i++) {
+                        keys.set(indices.get(i), mapping.intervalOf(primitives.getDouble(indices.get(i))));
+                    }
+                    return;
+                }
+                final double[] values = new double[to - from];
+                for (int i = from; i < to; i++) {
+                    values[i - from] = primitives.getDouble(indices.get(i));
+                }
+                final var mapping = mappingFactory.findMapper(values);
+                for (int i = from; i < to; i++) {
+                    keys.set(indices.get(i), mapping.intervalOf(values[i - from]));
+                }
+            }
+            case COMPARABLE -> {
+                final List<R> values = new ArrayList<>(to - from);
+                for (int i = from; i < to; i++) {
+                    values.add(upcast2Comparable(objects[indices.get(i)]));
+                }
+                if (values.stream().anyMatch(r -> r instanceof Float || r instanceof Double)) {
+                    mapFloatingPoint(mappingFactory, values, indices, from, keys);
+                } else {
+                    computeOrdinals(values, indices, from, keys);
+                }
+            }
+        }
+    }
+
+    private static <R extends Comparable<R>> void mapFloatingPoint(RankMapFactory<R> mappingFactory, List<R> values,
+                                                                    IntColumn indices, int from, LongColumn keys) {
+        final var mapping = mappingFactory.findMapper(values);
+        for (int i = 0; i < values.size(); i++) {
+            keys.set(indices.get(from + i), RankValueAccessor.checkRankType(mapping.intervalByValue(values.get(i))));
+        }
+    }
+
+    private static <R extends Comparable<R>> void computeOrdinals(List<R> values, IntColumn indices, int from,
+                                                                   LongColumn keys) {
+        final Object[] sorted = values.toArray();
+        Arrays.sort(sorted);
+        int distinctCount = sorted.length == 0 ? 0 : 1;
+        for (int i = 1; i < sorted.length; i++) {
+            final R value = upcast2Comparable(sorted[i]);
+            if (value.compareTo(upcast2Comparable(sorted[distinctCount - 1])) != 0) {
+                sorted[distinctCount++] = sorted[i];
+            }
+        }
+
+        for (int i = 0; i < values.size(); i++) {
+            keys.set(indices.get(from + i), Arrays.binarySearch(sorted, 0, distinctCount, values.get(i)));
+        }
+    }
+
+    /**
+     * The floating-point values of a range of elements read from an off-heap column.
+     */
+    private final class ColumnValues implements RankValueSource {
+
+        private final IntColumn indices;
+
+        private final int from;
+
+        private final int to;
+
+        private final LongColumn keys;
+
+        private final IntColumn scratch;
+
+        ColumnValues(IntColumn indices, int from, int to, LongColumn keys, IntColumn scratch) {
+            this.indices = indices;
+            this.from = from;
+            this.to = to;
+            this.keys = keys;
+            this.scratch = scratch;
+        }
+
+        @Override
+        public long size() {
+            return to - from;
+        }
+
+        @Override
+        public void forEach(DoubleConsumer action) {
+            for (int i = from; i < to; i++) {
+                action.accept(primitives.getDouble(indices.get(i)));
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * <p>The keys of the elements are set to the values as {@code long} values ordered the same way, by which
+         * their indexes are sorted in {@code scratch}.
+         */
+        @Override
+        public void forEachSorted(DoubleConsumer action) {
+            for (int i = from; i < to; i++) {
+                final int index = indices.get(i);
+                final long bits = Double.doubleToLongBits(primitives.getDouble(index));
+                keys.set(index, bits ^ ((bits >> (Long.SIZE - 1)) & Long.MAX_VALUE));
+                scratch.set(i, index);
+            }
+            KeySort.heapSort(scratch, from, to, keys);
+            for (int i = from; i < to; i++) {
+                action.accept(primitives.getDouble(scratch.get(i)));
+            }
+        }
+    }
+
+    /**
+     * Converts a rank value held in a column into its type {@link R}.
+     *
+     * @param value rank value
+     * @return the rank value viewed as {@link R}
+     * @param <R> the type of comparable rank values
+     */
+    @SuppressWarnings("unchecked")
+    private static <R extends Comparable<R>> R upcast2Comparable(Object value) {
+        return (R) value;
+    }
+
+}
@@ -0,0 +1,465 @@
+package io.github.x.artifactory.strategy.ranking.solver;
+
+import io.github.x.artifactory.strategy.ranking.api.RankWrapper;
+import io.github.x.artifactory.strategy.ranking.exception.NonUniqueRankException;
+import io.github.x.artifactory.strategy.ranking.operation.ComparatorType;
+import io.github.x.artifactory.strategy.ranking.ulp.RelationalOperations;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+import static io.github.x.artifactory.strategy.ranking.exception.RankValueAccessor.getRankFunction;
+import static io.github.x.artifactory.strategy.ranking.exception.RankValueAccessor.getRankValue;
+
+/**
+ * Hierarchical ranking maintained incrementally under insertions and removals.
+ *
+ * <p>The tree mirrors the recursion of {@link HierarchicalRankingSolver#sortByRank sortByRank}: every node holds
+ * a group of elements tied at the preceding levels, and a node having more than one element is partitioned into child
+ * nodes by the rank values of its own level. A node holding a single element is not partitioned, so, as in sorting,
+ * a rank is evaluated only for elements that are tied with another one.
+ *
+ * <p>Exact ranks partition a node by a sorted map of rank values. Floating-point ranks partition it into the disjoint
+ * intervals that {@link io.github.x.artifactory.strategy.ranking.rmapping.FloatIntervalMap} would compose from
+ * the values of the node: sorted values fall into one interval while each of them equals the preceding one within one
+ * ulp. The intervals are kept up to date on every change: an inserted value joins, bridges or starts an interval,
+ * a removed value may split one, and only the elements of the intervals involved are redistributed.
+ *
+ * <p>Ties that remain after all ranking functions are kept in the tree; a {@link NonUniqueRankException} is thrown
+ * by the traversal reaching them.
+ *
+ * <p>This class is not thread-safe.
+ *
+ * @param <W> the type of elements; must provide its ranking criteria values in a predefined order
+ */
+public final class RankTree<W extends RankWrapper<?>> {
+
+    private final Node root = new Node(0);
+
+    /**
+     * Inserts an element.
+     *
+     * @param element element that is not in the tree yet
+     */
+    public void add(W element) {
+        root.add(element);
+    }
+
+    /**
+     * Removes an element.
+     *
+     * @param element element of the tree
+     */
+    public void remove(W element) {
+        root.remove(element);
+    }
+
+    /**
+     * {@return the number of elements}
+     */
+    public int size() {
+        return root.elements.size();
+    }
+
+    /**
+     * Returns the first element in the given order.
+     *
+     * @param comparatorType natural order returns the lowest-ranked element, reversed order the highest-ranked one
+     * @return the first element or {@code null} if the tree is empty
+     * @throws NonUniqueRankException if the first element is tied with another one after all ranking functions
+     */
+    public W first(ComparatorType comparatorType) {
+        final var iterator = iterator(comparatorType);
+
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    /**
+     * Returns an iterator over the elements in the given order.
+     *
+     * <p>The iterator ranks lazily, so its {@code hasNext()} and {@code next()} throw
+     * {@link NonUniqueRankException} only when the iteration reaches tied elements. The tree must not be modified
+     * during the iteration.
+     *
+     * @param comparatorType natural order iterates in ascending order, reversed order in descending order
+     * @return the iterator over the elements
+     */
+    public Iterator<W> iterator(ComparatorType comparatorType) {
+        return new RankIterator(comparatorType);
+    }
+
+    private static boolean hasRankFunction(RankWrapper<?> element, int functionIndex) {
+        return functionIndex < element.rankFunctionCount();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareRanks(Comparable<?> r1, Comparable<?> r2) {
+        return ((Comparable) r1).compareTo(r2);
+    }
+
+    /**
+     * A group of elements tied at the preceding levels.
+     */
+    private final class Node {
+
+        private final int level;
+
+        private final Set<W> elements = new LinkedHashSet<>();
+
+        /**
+         * Children of the node ranked at its level; {@code null} while the node holds a single element or after all
+         * ranking functions have been applied.
+         */
+        private Partition partition;
+
+        private boolean exhausted;
+
+        Node(int level) {
+            this.level = level;
+        }
+
+        void add(W element) {
+            elements.add(element);
+            if (elements.size() == 1 || exhausted) {
+                return;
+            }
+
+            if (partition == null) {
+                partition();
+            } else if (!hasRankFunction(element, level)) {
+                partition = null;
+                exhausted = true;
+            } else {
+                partition.insert(element);
+            }
+        }
+
+        void remove(W element) {
+            elements.remove(element);
+            if (elements.size() < 2) {
+                partition = null;
+                exhausted = false;
+            } else if (exhausted) {
+                exhausted = false;
+                partition();
+            } else {
+                partition.remove(element);
+            }
+        }
+
+        private void partition() {
+            if (!elements.stream().allMatch(e -> hasRankFunction(e, level))) {
+                exhausted = true;
+                return;
+            }
+
+            partition = newPartition(elements.iterator().next());
+            elements.forEach(partition::insert);
+        }
+
+        private Partition newPartition(W element) {
+            return switch (RankType.of(getRankFunction(element, level))) {
+                case INT, LONG -> new ExactPartition(level + 1, e -> e.rankAsLong(level));
+                case FLOAT -> new IntervalPartition(level + 1, true, e -> e.rankAsDouble(level));
+                case DOUBLE -> new IntervalPartition(level + 1, false, e -> e.rankAsDouble(level));
+                case COMPARABLE -> switch (getRankValue(element, level)) {
+                    case Float ignored ->
+                            new IntervalPartition(level + 1, true, e -> this.<Float>rankValue(e).doubleValue());
+                    case Double ignored ->
+                            new IntervalPartition(level + 1, false, e -> this.<Double>rankValue(e).doubleValue());
+                    default -> new ExactPartition(level + 1, this::rankValue);
+                };
+            };
+        }
+
+        private <R extends Comparable<R>> R rankValue(W element) {
+            return getRankValue(element, level);
+        }
+
+        /**
+         * Returns the children in the given order.
+         *
+         * @throws NonUniqueRankException if the node holds tied elements after all ranking functions
+         */
+        Collection<Node> children(ComparatorType comparatorType) {
+            if (exhausted) {
+                throw new NonUniqueRankException("No unique result found after applying all ranking functions.");
+            }
+
+            return partition.children(comparatorType);
+        }
+    }
+
+    /**
+     * Children of a node ranked at its level.
+     */
+    private abstract class Partition {
+
+        /**
+         * Level of the child nodes.
+         */
+        protected final int childLevel;
+
+        Partition(int childLevel) {
+            this.childLevel = childLevel;
+        }
+
+        abstract void insert(W element);
+
+        abstract void remove(W element);
+
+        abstract Collection<Node> children(ComparatorType comparatorType);
+    }
+
+    /**
+     * Children having equal exact rank values.
+     */
+    private final class ExactPartition extends Partition {
+
+        private final Function<W, Comparable<?>> getRank;
+
+        private final TreeMap<Comparable<?>, Node> children = new TreeMap<>(RankTree::compareRanks);
+
+        ExactPartition(int childLevel, Function<W, Comparable<?>> getRank) {
+            super(childLevel);
+            this.getRank = getRank;
+        }
+
+        @Override
+        void insert(W element) {
+            final var rank = getRank.apply(element);
+            children.computeIfAbsent(rank, r -> new Node(childLevel)).add(element);
+        }
+
+        @Override
+        void remove(W element) {
+            final var rank = getRank.apply(element);
+            final var child = children.get(rank);
+            child.remove(element);
+            if (child.elements.isEmpty()) {
+                children.remove(rank);
+            }
+        }
+
+        @Override
+        Collection<Node> children(ComparatorType comparatorType) {
+            return comparatorType == ComparatorType.NATURAL ? children.values() : children.descendingMap().values();
+        }
+    }
+
+    /**
+     * Children falling into disjoint intervals of floating-point rank values.
+     */
+    private final class IntervalPartition extends Partition {
+
+        private final boolean singlePrecision;
+
+        private final ToDoubleFunction<W> getRank;
+
+        /**
+         * Distinct rank values with their numbers of occurrences.
+         */
+        private final TreeMap<Double, Integer> values = new TreeMap<>();
+
+        /**
+         * Intervals keyed by their lowest values.
+         */
+        private final TreeMap<Double, Node> intervals = new TreeMap<>();
+
+        IntervalPartition(int childLevel, boolean singlePrecision, ToDoubleFunction<W> getRank) {
+            super(childLevel);
+            this.singlePrecision = singlePrecision;
+            this.getRank = getRank;
+        }
+
+        @Override
+        void insert(W element) {
+            final double value = getRank.applyAsDouble(element);
+            if (values.merge(value, 1, Integer::sum) > 1) {
+                intervalOf(value).add(element);
+                return;
+            }
+
+            final Double lower = values.lowerKey(value);
+            final Double higher = values.higherKey(value);
+            final boolean joinsLower = lower != null && close(lower, value);
+            final boolean joinsHigher = higher != null && close(value, higher);
+
+            if (lower != null && higher != null && intervalOf(lower) == intervalOf(higher)) {
+                if (joinsLower && joinsHigher) {
+                    intervalOf(lower).add(element);
+                    return;
+                }
+                split(higher);
+            }
+
+            if (joinsLower && joinsHigher) {
+                merge(lower, higher).add(element);
+            } else if (joinsLower) {
+                intervalOf(lower).add(element);
+            } else if (joinsHigher) {
+                final var interval = intervals.remove(higher);
+                intervals.put(value, interval);
+                interval.add(element);
+            } else {
+                final var interval = new Node(childLevel);
+                intervals.put(value, interval);
+                interval.add(element);
+            }
+        }
+
+        @Override
+        void remove(W element) {
+            final double value = getRank.applyAsDouble(element);
+            final var interval = intervalOf(value);
+            interval.remove(element);
+            if (values.merge(value, -1, Integer::sum) > 0) {
+                return;
+            }
+
+            values.remove(value);
+            if (interval.elements.isEmpty()) {
+                intervals.remove(value);
+            } else if (intervals.get(value) == interval) {
+                intervals.remove(value);
+                intervals.put(values.higherKey(value), interval);
+            }
+
+            final Double lower = values.lowerKey(value);
+            final Double higher = values.higherKey(value);
+            if (lower == null || higher == null) {
+                return;
+            }
+
+            final boolean joined = intervalOf(lower) == intervalOf(higher);
+            if (joined && !close(lower, higher)) {
+                split(higher);
+            } else if (!joined && close(lower, higher)) {
+                merge(lower, higher);
+            }
+        }
+
+        @Override
+        Collection<Node> children(ComparatorType comparatorType) {
+            return comparatorType == ComparatorType.NATURAL ? intervals.values() : intervals.descendingMap().values();
+        }
+
+        private Node intervalOf(double value) {
+            return intervals.floorEntry(value).getValue();
+        }
+
+        private boolean close(double x, double y) {
+            return singlePrecision
+                    ? RelationalOperations.compare((float) x, (float) y, 1) == 0
+                    : RelationalOperations.compare(x, y, 1) == 0;
+        }
+
+        /**
+         * Splits the interval containing {@code boundary} into the values below it and the values starting from it,
+         * moving the elements of the smaller part.
+         */
+        private void split(double boundary) {
+            final var lowerEntry = intervals.floorEntry(boundary);
+            final var interval = lowerEntry.getValue();
+            final List<W> upperElements = new ArrayList<>();
+            final List<W> lowerElements = new ArrayList<>();
+            for (final W element : interval.elements) {
+                (getRank.applyAsDouble(element) < boundary ? lowerElements : upperElements).add(element);
+            }
+
+            final var moved = upperElements.size() <= lowerElements.size() ? upperElements : lowerElements;
+            final var newInterval = new Node(childLevel);
+            moved.forEach(interval::remove);
+            moved.forEach(newInterval::add);
+            if (moved == upperElements) {
+                intervals.put(boundary, newInterval);
+            } else {
+                intervals.put(lowerEntry.getKey(), newInterval);
+                intervals.put(boundary, interval);
+            }
+        }
+
+        /**
+         * Merges the interval containing {@code lower} with the following one starting at {@code higher}, moving
+         * the elements of the smaller interval.
+         *
+         * @return the merged interval
+         */
+        private Node merge(double lower, double higher) {
+            final var lowerEntry = intervals.floorEntry(lower);
+            final var lowerInterval = lowerEntry.getValue();
+            final var higherInterval = intervals.remove(higher);
+
+            final var target = lowerInterval.elements.size() >= higherInterval.elements.size()
+                    ? lowerInterval
+                    : higherInterval;
+            final var source = target == lowerInterval ? higherInterval : lowerInterval;
+            List.copyOf(source.elements).forEach(target::add);
+            intervals.put(lowerEntry.getKey(), target);
+
+            return target;
+        }
+    }
+
+    /**
+     * Depth-first traversal of the tree ranking the nodes lazily.
+     */
+    private final class RankIterator implements Iterator<W> {
+
+        private final ComparatorType comparatorType;
+
+        private final Deque<Iterator<Node>> path = new ArrayDeque<>();
+
+        private W next;
+
+        RankIterator(ComparatorType comparatorType) {
+            this.comparatorType = comparatorType;
+            if (!root.elements.isEmpty()) {
+                path.push(List.of(root).iterator());
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && !path.isEmpty()) {
+                final var siblings = path.peek();
+                if (!siblings.hasNext()) {
+                    path.pop();
+                    continue;
+                }
+
+                final var node = siblings.next();
+                if (node.elements.size() == 1) {
+                    next = node.elements.iterator().next();
+                } else {
+                    path.push(node.children(comparatorType).iterator());
+                }
+            }
+
+            return next != null;
+        }
+
+        @Override
+        public W next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            final var element = next;
+            next = null;
+
+            return element;
+        }
+    }
+
+}
@@ -0,0 +1,94 @@
+package io.github.x.artifactory.strategy.ranking.solver;
+
+import io.github.x.artifactory.strategy.ranking.api.PrimitiveRankFunction;
+import io.github.x.artifactory.strategy.ranking.api.RankDefinition;
+
+import java.util.function.Supplier;
+
+/**
+ * Value types of ranking functions distinguished by the solvers.
+ *
+ * <p>Primitive types are evaluated and compared without boxing; floating-point ones are additionally subject to
+ * the mapping onto indexes of disjoint intervals.
+ */
+public enum RankType {
+
+    /**
+     * A function declared as {@link PrimitiveRankFunction.OfInt}.
+     */
+    INT,
+
+    /**
+     * A function declared as {@link PrimitiveRankFunction.OfLong}.
+     */
+    LONG,
+
+    /**
+     * A function declared as {@link PrimitiveRankFunction.OfFloat}.
+     */
+    FLOAT,
+
+    /**
+     * A function declared as {@link PrimitiveRankFunction.OfDouble}.
+     */
+    DOUBLE,
+
+    /**
+     * A function returning any {@link Comparable} object, including boxed numbers.
+     */
+    COMPARABLE;
+
+    /**
+     * Returns the value type of a ranking function.
+     *
+     * @param function ranking function
+     * @return the value type of the ranking function
+     */
+    public static RankType of(Supplier<Comparable<?>> function) {
+        return switch (function) {
+            case PrimitiveRankFunction.OfInt ignored -> INT;
+            case PrimitiveRankFunction.OfLong ignored -> LONG;
+            case PrimitiveRankFunction.OfFloat ignored -> FLOAT;
+            case PrimitiveRankFunction.OfDouble ignored -> DOUBLE;
+            default -> COMPARABLE;
+        };
+    }
+
+    /**
+     * Returns the value type of a ranking function of a {@link RankDefinition}.
+     *
+     * @param level ranking function
+     * @return the value type of the ranking function
+     */
+    public static RankType of(RankDefinition.Level<?> level) {
+        return switch (level) {
+            case RankDefinition.Level.OfInt<?> ignored -> INT;
+            case RankDefinition.Level.OfLong<?> ignored -> LONG;
+            case RankDefinition.Level.OfFloat<?> ignored -> FLOAT;
+            case RankDefinition.Level.OfDouble<?> ignored -> DOUBLE;
+            case RankDefinition.Level.OfComparable<?> ignored -> COMPARABLE;
+        };
+    }
+
+    /**
+     * {@return {@code true} if values of this type are compared as primitive integers}
+     */
+    public boolean isIntegral() {
+        return this == INT || this == LONG;
+    }
+
+    /**
+     * {@return {@code true} if values of this type are primitive floating-point numbers}
+     */
+    public boolean isFloatingPoint() {
+        return this == FLOAT || this == DOUBLE;
+    }
+
+    /**
+     * {@return {@code true} if values of this type are primitive numbers}
+     */
+    public boolean isPrimitive() {
+        return this != COMPARABLE;
+    }
+
+}
@@ -0,0 +1,29 @@
+package io.github.x.artifactory.strategy.ranking.solver;
+
+import io.github.x.artifactory.strategy.ranking.api.RankingStatistics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe counters of the rank evaluations of a solver.
+ */
+final class RankingCounters {
+
+    private final LongAdder rankEvaluations = new LongAdder();
+
+    private final LongAdder skippedRankEvaluations = new LongAdder();
+
+    void evaluated(int count, RankingTrace trace) {
+        rankEvaluations.add(count);
+        trace.evaluated(count);
+    }
+
+    void skipped(int count) {
+        skippedRankEvaluations.add(count);
+    }
+
+    RankingStatistics snapshot() {
+        return new RankingStatistics(rankEvaluations.sum(), skippedRankEvaluations.sum());
+    }
+
+}
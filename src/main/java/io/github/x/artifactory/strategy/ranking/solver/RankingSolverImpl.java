@@ -2,20 +2,31 @@ package io.github.x.artifactory.strategy.ranking.solver;
 
 import io.github.x.artifactory.strategy.ranking.exception.NonUniqueRankException;
 import io.github.x.artifactory.strategy.ranking.exception.RankValueAccessor;
-import io.github.x.artifactory.strategy.ranking.rmapping.MappingCash;
+import io.github.x.artifactory.strategy.ranking.rmapping.ConcurrentRankMapCache;
 import io.github.x.artifactory.strategy.ranking.rmapping.RankMapFactory;
 import io.github.x.artifactory.strategy.ranking.operation.AccessComparatorType;
+import io.github.x.artifactory.strategy.ranking.operation.ComparatorType;
 import io.github.x.artifactory.strategy.ranking.operation.FindOperation;
 import io.github.x.artifactory.strategy.ranking.operation.SortOperation;
+import io.github.x.artifactory.strategy.ranking.api.ConcurrentEvaluation;
+import io.github.x.artifactory.strategy.ranking.api.FindScope;
 import io.github.x.artifactory.strategy.ranking.api.RankWrapper;
+import io.github.x.artifactory.strategy.ranking.api.RankingOptions;
+import io.github.x.artifactory.strategy.ranking.api.RankingStatistics;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import static io.github.x.artifactory.strategy.ranking.exception.RankValueAccessor.getRankFunction;
 import static io.github.x.artifactory.strategy.ranking.exception.RankValueAccessor.getRankValue;
 import static java.util.stream.Collectors.mapping;
 import static java.util.stream.Collectors.toList;
@@ -25,46 +36,141 @@ import static java.util.stream.Collectors.toList;
  *
  * <p>This implementation relies on the collection element type providing a list of ranking functions.
  *
+ * <p>Levels whose ranking functions are declared as {@link io.github.x.artifactory.strategy.ranking.api.PrimitiveRankFunction}
+ * are grouped over primitive {@code long} keys, integral values as they are and floating-point values as indexes of
+ * the disjoint intervals they fall into, so their rank values are never boxed. Levels whose boxed ranks are mapped to
+ * {@link Integer} or {@link Long} values are grouped over the same keys. Keys spanning a range small relative to their
+ * number are grouped by counting in linear time.
+ *
+ * <p>Tied groups are ranked breadth-first: the groups still tied after a level are all ranked at the next level
+ * before any of their subgroups is, so that the rank values of a level are evaluated in a single pass over the elements
+ * needing them. With a {@link ConcurrentEvaluation concurrent evaluation} that pass runs on virtual threads, and a
+ * {@link io.github.x.artifactory.strategy.ranking.api.BatchRankFunction batch function} is called once per level.
+ *
+ * <p>Levels holding at least {@code parallelThreshold} tied elements are ranked in parallel: their groups are split by
+ * a parallel stream of the common {@link ForkJoinPool}, and the rank values of a group not smaller than the threshold
+ * are evaluated by a parallel stream as well. Since different groups never share elements, each element is still
+ * ranked by a single thread at a time.
+ *
+ * <p>With {@link FindScope#CANDIDATES} the search for the extreme elements evaluates a level only for the elements
+ * tied at the preceding levels; otherwise floating-point and object levels are evaluated for the whole collection to
+ * compose the rank mapping.
+ *
  * @param <W> the type of elements held in a collection; must provide its ranking criteria values in a predefined order
  * @param <R> the type of the rank value; must implement the {@link Comparable} interface
  */
 public final class RankingSolverImpl<W extends RankWrapper<?>, R extends Comparable<R>>
         implements HierarchicalRankingSolver<W> {
 
-    private final RankMapFactory<R> mappingFactory = new MappingCash<>();
+    private final ConcurrentRankMapCache mappingCache;
+
+    private final RankMapFactory<R> mappingFactory;
+
+    private final int parallelThreshold;
+
+    private final FindScope findScope;
+
+    private final LevelRankEvaluator evaluator;
+
+    private final RankingCounters counters = new RankingCounters();
+
+    /**
+     * Constructs a solver with the {@link RankingOptions#defaults() default} options.
+     */
+    public RankingSolverImpl() {
+        this(RankingOptions.defaults());
+    }
+
+    /**
+     * Constructs a solver with the given options.
+     *
+     * @param options the parallel threshold, the mapping cache, the find scope and the concurrent evaluation of the
+     *     solver
+     */
+    public RankingSolverImpl(RankingOptions options) {
+        this.parallelThreshold = options.parallelThreshold();
+        this.findScope = options.findScope();
+        this.evaluator = new LevelRankEvaluator(options.concurrentEvaluation());
+        this.mappingCache = switch (options.mappingCache()) {
+            case ConcurrentRankMapCache cache -> cache;
+        };
+        this.mappingFactory = mappingCache.factory();
+    }
 
     /**
      * {@inheritDoc}
      *
      * @param operation  determines whether a minimum or maximum search is required
      * @param collection the collection in which the minimum or maximum element is to be found
+     * @param trace the trace receiving the number of candidates retained at each level and the mappings found
      * @return the min (max) element or {@code null} if the input collection is empty
      * @throws NonUniqueRankException when unambiguous result is not achieved
      */
     @Override
-    public W findByRank(FindOperation operation, Collection<W> collection) {
+    public W findByRank(FindOperation operation, Collection<W> collection, RankingTrace trace) {
+        final List<W> extremes = findAllByRank(operation, collection, trace);
+        if (extremes == null) {
+            return null;
+        }
+        if (extremes.size() > 1) {
+            throw new NonUniqueRankException("No unique result found after applying all ranking functions.");
+        }
+
+        return extremes.get(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param operation  determines whether a minimum or maximum search is required
+     * @param collection the collection in which the minimum or maximum elements are to be found
+     * @param trace the trace receiving the number of candidates retained at each level and the mappings found
+     * @return the min (max) elements in their encounter order or {@code null} if the input collection is empty
+     */
+    @Override
+    public List<W> findAllByRank(FindOperation operation, Collection<W> collection, RankingTrace trace) {
         if (collection.isEmpty()) {
             return null;
         }
 
+        final var levels = new LevelCounts<>(collection, RankWrapper::rankFunctionCount);
         var candidateList = collection;
-        int rankFunctionIndex = 0;
 
-        while (true) {
-            final Function<W, R> getRank = getElementRankMapping(collection, rankFunctionIndex);
-            candidateList = candidateList.stream()
-                    .collect(Collectors.groupingBy(getRank))
-                    .entrySet().stream()
-                    .min(getComparator(operation))
-                    .orElseThrow()
-                    .getValue();
+        for (int rankFunctionIndex = 0; rankFunctionIndex < levels.max(); rankFunctionIndex++) {
+            if (!levels.hasLevel(candidateList, rankFunctionIndex)) {
+                break;
+            }
 
-            if (candidateList.size() == 1) {
-                return candidateList.iterator().next();
+            final var rankType = getRankType(candidateList, rankFunctionIndex);
+            final var scope = findScope == FindScope.CANDIDATES || rankType.isIntegral()
+                    ? candidateList
+                    : levels.having(collection, rankFunctionIndex);
+            counters.evaluated(scope.size(), trace);
+            evaluator.evaluate(scope, rankFunctionIndex);
+            if (!rankType.isIntegral()) {
+                counters.skipped(collection.size() - scope.size());
             }
 
-            rankFunctionIndex++;
+            if (rankType.isPrimitive()) {
+                final var getKey = getElementKeyMapping(scope, rankFunctionIndex, rankType, trace);
+                candidateList = findByKey(operation.comparatorType(), candidateList, getKey);
+            } else {
+                final Function<W, R> getRank = getElementRankMapping(scope, rankFunctionIndex, trace);
+                candidateList = candidateList.stream()
+                        .collect(Collectors.groupingBy(getRank))
+                        .entrySet().stream()
+                        .min(getComparator(operation))
+                        .orElseThrow()
+                        .getValue();
+            }
+            trace.groups(rankFunctionIndex, candidateList.size());
+
+            if (candidateList.size() == 1) {
+                break;
+            }
         }
+
+        return List.copyOf(candidateList);
     }
 
     /**
@@ -72,47 +178,386 @@ public final class RankingSolverImpl<W extends RankWrapper<?>, R extends Compara
      *
      * @param operation determines whether ascending or descending order of sorting is required
      * @param collection the collection to be sorted
+     * @param trace the trace receiving the number of groups formed at each level and the mappings found
      * @return the collection sorted in ascending (descending) order or {@code null} if the input collection is empty
      * @throws NonUniqueRankException when unambiguous result is not achieved
      */
     @Override
-    public List<W> sortByRank(SortOperation operation, Collection<W> collection) {
-        return collection.isEmpty()
-                ? null
-                : sortByRank(getComparator(operation), collection, 0);
+    public List<W> sortByRank(SortOperation operation, Collection<W> collection, RankingTrace trace) {
+        if (collection.isEmpty()) {
+            return null;
+        }
+
+        final List<List<W>> partition = partitionByRank(operation, collection, trace);
+        if (partition.size() < collection.size()) {
+            throw new NonUniqueRankException("No unique result found after applying all ranking functions.");
+        }
+
+        return partition.stream()
+                .flatMap(Collection::stream)
+                .toList();
     }
 
-    private List<W> sortByRank(Comparator<? super Entry<R, List<W>>> comparator, Collection<W> wCollection,
-                              int rankFunctionIndex) {
-        if (wCollection.size() == 1) {
-            return List.copyOf(wCollection);
+    /**
+     * {@inheritDoc}
+     *
+     * @param operation determines whether ascending or descending order of the groups is required
+     * @param collection the collection to be partitioned
+     * @param trace the trace receiving the number of groups formed at each level and the mappings found
+     * @return the groups in ascending (descending) order, each keeping its elements in their encounter order, or
+     *     {@code null} if the input collection is empty
+     */
+    @Override
+    public List<List<W>> partitionByRank(SortOperation operation, Collection<W> collection, RankingTrace trace) {
+        if (collection.isEmpty()) {
+            return null;
+        }
+
+        final var levels = new LevelCounts<>(collection, RankWrapper::rankFunctionCount);
+        List<List<W>> groups = List.of(List.copyOf(collection));
+
+        for (int rankFunctionIndex = 0; ; rankFunctionIndex++) {
+            final int level = rankFunctionIndex;
+            final List<List<W>> tied = groups.stream()
+                    .filter(group -> group.size() > 1 && levels.hasLevel(group, level))
+                    .toList();
+            if (tied.isEmpty()) {
+                return groups;
+            }
+
+            groups = replaceTied(groups, tied,
+                    groupByRank(operation.comparatorType(), tied, null, rankFunctionIndex, trace));
+        }
+    }
+
+    /**
+     * Splits groups of tied elements into groups having equal rank values.
+     *
+     * <p>The rank values of all the groups are evaluated together beforehand, so that a concurrent or batch evaluation
+     * serves a level in a single pass. The groups are split in parallel once they hold at least
+     * {@code parallelThreshold} elements together.
+     *
+     * @param comparatorType natural order lists the groups by ascending ranks, reversed order by descending ranks
+     * @param tied the groups to split
+     * @param leading the number of leading positions each group competes for, or {@code null} if the groups are split
+     *     completely
+     * @param rankFunctionIndex index of the ranking function
+     * @param trace the trace receiving the number of groups and the mappings found
+     * @return the ordered subgroups of every group
+     */
+    private List<List<List<W>>> groupByRank(ComparatorType comparatorType, List<List<W>> tied, int[] leading,
+                                            int rankFunctionIndex, RankingTrace trace) {
+        final List<W> elements = tied.size() == 1
+                ? tied.getFirst()
+                : tied.stream().flatMap(Collection::stream).toList();
+        counters.evaluated(elements.size(), trace);
+        evaluator.evaluate(elements, rankFunctionIndex);
+
+        final var groupIndexes = IntStream.range(0, tied.size());
+
+        return (elements.size() >= parallelThreshold ? groupIndexes.parallel() : groupIndexes)
+                .mapToObj(i -> groupByRank(comparatorType, tied.get(i),
+                        leading == null ? tied.get(i).size() : leading[i], rankFunctionIndex, trace))
+                .toList();
+    }
+
+    /**
+     * Splits elements into groups having equal rank values.
+     *
+     * @param comparatorType natural order lists the groups by ascending ranks, reversed order by descending ranks
+     * @param wCollection elements to group
+     * @param limit the number of leading positions the elements compete for; at primitive levels only the elements
+     *     not behind the {@code limit}-th one are grouped
+     * @param rankFunctionIndex index of the ranking function
+     * @param trace the trace receiving the number of groups and the mappings found
+     * @return the ordered groups
+     */
+    private List<List<W>> groupByRank(ComparatorType comparatorType, List<W> wCollection, int limit,
+                                      int rankFunctionIndex, RankingTrace trace) {
+        if (wCollection.size() >= parallelThreshold) {
+            evaluateInParallel(wCollection, rankFunctionIndex);
         }
 
-        final Function<W, R> getRank = getElementRankMapping(wCollection, rankFunctionIndex);
+        final List<List<W>> groups;
+        final var rankType = getRankType(wCollection, rankFunctionIndex);
+        if (limit < wCollection.size() && rankType.isPrimitive()) {
+            final var getKey = getElementKeyMapping(wCollection, rankFunctionIndex, rankType, trace);
+            groups = groupLeadingByKey(comparatorType, wCollection, getKey, limit);
+        } else {
+            groups = groupByRankValue(comparatorType, wCollection, rankFunctionIndex, trace);
+        }
+        trace.groups(rankFunctionIndex, groups.size());
+
+        return groups;
+    }
+
+    /**
+     * Replaces every tied group by its subgroups.
+     *
+     * @param groups the ordered groups
+     * @param tied the groups split, in their order among {@code groups}
+     * @param subgroups the ordered subgroups of every tied group
+     * @return the ordered groups after the split
+     */
+    private List<List<W>> replaceTied(List<List<W>> groups, List<List<W>> tied, List<List<List<W>>> subgroups) {
+        final List<List<W>> replaced = new ArrayList<>(groups.size() + tied.size());
+        int next = 0;
+        for (final List<W> group : groups) {
+            if (next < tied.size() && group == tied.get(next)) {
+                replaced.addAll(subgroups.get(next++));
+            } else {
+                replaced.add(group);
+            }
+        }
 
-        return wCollection.stream()
+        return replaced;
+    }
+
+    private List<List<W>> groupByRankValue(ComparatorType comparatorType, Collection<W> wCollection,
+                                           int rankFunctionIndex, RankingTrace trace) {
+        final var rankType = getRankType(wCollection, rankFunctionIndex);
+        if (rankType.isPrimitive()) {
+            final var getKey = getElementKeyMapping(wCollection, rankFunctionIndex, rankType, trace);
+
+            return groupByKey(comparatorType, wCollection, getKey);
+        }
+
+        final Function<W, R> getRank = getElementRankMapping(wCollection, rankFunctionIndex, trace);
+        final List<W> elements = List.copyOf(wCollection);
+        final long[] keys = integralKeys(elements, getRank);
+        if (keys != null) {
+            return groupByKey(comparatorType, elements, keys);
+        }
+
+        return elements.stream()
                 .collect(Collectors.groupingBy(getRank, mapping(Function.identity(), toList()))).entrySet()
-                .stream().sorted(comparator)
-                .map(entry -> sortByRank(comparator, entry.getValue(), rankFunctionIndex + 1))
+                .stream().sorted(getComparator(comparatorType))
+                .map(Entry::getValue)
+                .toList();
+    }
+
+    /**
+     * Returns the mapped rank values of the elements as primitive keys if all of them are {@link Integer}, as boxed
+     * integral ranks and interval indexes of boxed floating-point ranks are, or all of them are {@link Long}.
+     *
+     * @return the keys in the order of the elements or {@code null} if the rank values are of other types
+     */
+    private long[] integralKeys(List<W> elements, Function<W, R> getRank) {
+        final long[] keys = new long[elements.size()];
+        final Class<?> rankClass = getRank.apply(elements.get(0)).getClass();
+        if (rankClass != Integer.class && rankClass != Long.class) {
+            return null;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            final R rank = getRank.apply(elements.get(i));
+            if (rank.getClass() != rankClass) {
+                return null;
+            }
+            keys[i] = ((Number) rank).longValue();
+        }
+
+        return keys;
+    }
+
+    /**
+     * Evaluates the rank values of the elements by a parallel stream, so that the following grouping finds them
+     * cached.
+     */
+    private void evaluateInParallel(Collection<W> wCollection, int rankFunctionIndex) {
+        final var rankType = getRankType(wCollection, rankFunctionIndex);
+        wCollection.parallelStream().forEach(element -> {
+            if (rankType.isIntegral()) {
+                element.rankAsLong(rankFunctionIndex);
+            } else if (rankType.isFloatingPoint()) {
+                element.rankAsDouble(rankFunctionIndex);
+            } else {
+                evalRankFunction(element, rankFunctionIndex);
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>At each level only the groups intersecting the selection are ranked further. At primitive levels the key
+     * bounding the selection is found with a bounded heap, and only the elements not behind it are grouped.
+     *
+     * @param operation determines whether ascending or descending order of sorting is required
+     * @param limit the maximum number of elements to select; must not be negative
+     * @param collection the collection to select from
+     * @param trace the trace receiving the number of groups formed at each level and the mappings found
+     * @return the leading elements in ascending (descending) order or {@code null} if the input collection is empty
+     * @throws NonUniqueRankException when unambiguous order of the selected elements is not achieved
+     */
+    @Override
+    public List<W> selectByRank(SortOperation operation, int limit, Collection<W> collection, RankingTrace trace) {
+        if (collection.isEmpty()) {
+            return null;
+        }
+
+        final var levels = new LevelCounts<>(collection, RankWrapper::rankFunctionCount);
+        List<List<W>> groups = List.of(List.copyOf(collection));
+
+        for (int rankFunctionIndex = 0; ; rankFunctionIndex++) {
+            final List<List<W>> tied = new ArrayList<>();
+            final int[] leading = new int[groups.size()];
+            int position = 0;
+            for (final List<W> group : groups) {
+                if (position >= limit) {
+                    break;
+                }
+                if (group.size() > 1) {
+                    if (!levels.hasLevel(group, rankFunctionIndex)) {
+                        throw new NonUniqueRankException(
+                                "No unique result found after applying all ranking functions.");
+                    }
+                    leading[tied.size()] = limit - position;
+                    tied.add(group);
+                }
+                position += group.size();
+            }
+            if (tied.isEmpty()) {
+                break;
+            }
+
+            groups = replaceTied(groups, tied,
+                    groupByRank(operation.comparatorType(), tied, leading, rankFunctionIndex, trace));
+        }
+
+        return groups.stream()
                 .flatMap(Collection::stream)
+                .limit(limit)
                 .toList();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @return the counts of the rank evaluations performed by this solver
+     */
+    @Override
+    public RankingStatistics statistics() {
+        return counters.snapshot();
+    }
+
+    /**
+     * Retains the elements having the lowest (highest) key.
+     *
+     * @param comparatorType natural order retains the lowest key, reversed order retains the highest key
+     * @param wCollection elements to filter
+     * @param getKey primitive key of an element
+     * @return the elements having the extreme key in their encounter order
+     */
+    private List<W> findByKey(ComparatorType comparatorType, Collection<W> wCollection, ToLongFunction<W> getKey) {
+        final var sign = comparatorType == ComparatorType.NATURAL ? 1 : -1;
+        final List<W> extremes = new ArrayList<>();
+        long extremeKey = 0;
+
+        for (final W element : wCollection) {
+            final long key = getKey.applyAsLong(element);
+            final int comparison = extremes.isEmpty() ? -1 : sign * Long.compare(key, extremeKey);
+            if (comparison < 0) {
+                extremes.clear();
+                extremeKey = key;
+            }
+            if (comparison <= 0) {
+                extremes.add(element);
+            }
+        }
+
+        return extremes;
+    }
+
+    /**
+     * Splits elements into groups having equal keys.
+     *
+     * @param comparatorType natural order lists the groups by ascending keys, reversed order by descending keys
+     * @param wCollection elements to group
+     * @param getKey primitive key of an element
+     * @return the ordered groups, each keeping its elements in their encounter order
+     */
+    private List<List<W>> groupByKey(ComparatorType comparatorType, Collection<W> wCollection,
+                                     ToLongFunction<W> getKey) {
+        final List<W> elements = List.copyOf(wCollection);
+
+        return groupByKey(comparatorType, elements, computeKeys(elements, getKey));
+    }
+
+    /**
+     * Splits the elements competing for the first {@code limit} positions into groups having equal keys.
+     *
+     * <p>Those are the elements whose keys are not behind the key of the {@code limit}-th element in the order of
+     * sorting; the latter is selected with a bounded heap, so the elements left behind are never sorted.
+     *
+     * @param comparatorType natural order lists the groups by ascending keys, reversed order by descending keys
+     * @param wCollection elements to group
+     * @param getKey primitive key of an element
+     * @param limit the number of leading positions, less than the number of elements
+     * @return the ordered groups, each keeping its elements in their encounter order
+     */
+    private List<List<W>> groupLeadingByKey(ComparatorType comparatorType, Collection<W> wCollection,
+                                            ToLongFunction<W> getKey, int limit) {
+        final List<W> elements = List.copyOf(wCollection);
+        final long[] keys = computeKeys(elements, getKey);
+        final IntColumn indices = IntColumn.wrap(IntStream.range(0, keys.length).toArray());
+        final long boundaryKey = KeySort.selectKey(indices, 0, keys.length, LongColumn.wrap(keys), limit,
+                comparatorType);
+
+        final var sign = comparatorType == ComparatorType.NATURAL ? 1 : -1;
+        final List<W> leading = new ArrayList<>();
+        final long[] leadingKeys = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            if (sign * Long.compare(keys[i], boundaryKey) <= 0) {
+                leadingKeys[leading.size()] = keys[i];
+                leading.add(elements.get(i));
+            }
+        }
+
+        return groupByKey(comparatorType, leading, Arrays.copyOf(leadingKeys, leading.size()));
+    }
+
+    private List<List<W>> groupByKey(ComparatorType comparatorType, List<W> elements, long[] keys) {
+        final int[] ranks = new int[keys.length];
+        final int distinctCount = KeySort.denseRanks(keys, ranks, comparatorType);
+        final List<List<W>> groups = new ArrayList<>(distinctCount);
+        for (int i = 0; i < distinctCount; i++) {
+            groups.add(new ArrayList<>());
+        }
+        for (int i = 0; i < keys.length; i++) {
+            groups.get(ranks[i]).add(elements.get(i));
+        }
+
+        return groups;
+    }
+
+    private long[] computeKeys(List<W> elements, ToLongFunction<W> getKey) {
+        final long[] keys = new long[elements.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = getKey.applyAsLong(elements.get(i));
+        }
+
+        return keys;
+    }
+
     private Comparator<? super Entry<R, List<W>>> getComparator(AccessComparatorType typeAccessor) {
-        return switch (typeAccessor.comparatorType()) {
+        return getComparator(typeAccessor.comparatorType());
+    }
+
+    private Comparator<? super Entry<R, List<W>>> getComparator(ComparatorType comparatorType) {
+        return switch (comparatorType) {
             case NATURAL -> Entry.comparingByKey();
             case REVERSED -> (c1, c2) -> c2.getKey().compareTo(c1.getKey());
         };
     }
 
-    private Function<W, R> getElementRankMapping(Collection<W> wCollection, int functionIndex) {
+    private Function<W, R> getElementRankMapping(Collection<W> wCollection, int functionIndex, RankingTrace trace) {
         final Function<W, R> getRank = e -> evalRankFunction(e, functionIndex);
 
-        return getRank.andThen(getRankMapping(wCollection, functionIndex))
+        return getRank.andThen(getRankMapping(wCollection, functionIndex, trace))
                 .andThen(RankValueAccessor::checkRankType);
     }
 
-    private Function<R, R> getRankMapping(Collection<W> wCollection, int functionIndex) {
+    private Function<R, R> getRankMapping(Collection<W> wCollection, int functionIndex, RankingTrace trace) {
         final List<R> rankList = wCollection.stream()
                 .map(e -> evalRankFunction(e, functionIndex))
                 .toList();
@@ -123,11 +568,52 @@ public final class RankingSolverImpl<W extends RankWrapper<?>, R extends Compara
         }
 
         // floating-point to integer mapping
-        final var mapping = mappingFactory.findMapper(rankList);
+        final var mapping = mappingFactory(trace).findMapper(rankList);
 
         return r -> upcast2Comparable(mapping.intervalByValue(r));
     }
 
+    private RankMapFactory<R> mappingFactory(RankingTrace trace) {
+        return trace.isEnabled() ? mappingCache.factory(trace) : mappingFactory;
+    }
+
+    private RankType getRankType(Collection<W> wCollection, int functionIndex) {
+        return RankType.of(getRankFunction(wCollection.iterator().next(), functionIndex));
+    }
+
+    /**
+     * Returns the primitive key of an element at a primitive ranking level.
+     *
+     * <p>Integral ranks are keys themselves; floating-point ranks are mapped to indexes of the disjoint intervals
+     * composed from the rank values of the whole {@code wCollection}.
+     */
+    private ToLongFunction<W> getElementKeyMapping(Collection<W> wCollection, int functionIndex, RankType rankType,
+                                                   RankingTrace trace) {
+        if (rankType.isIntegral()) {
+            return e -> e.rankAsLong(functionIndex);
+        }
+
+        // floating-point to integer mapping
+        final var elements = List.copyOf(wCollection);
+        if (rankType == RankType.FLOAT) {
+            final float[] ranks = new float[elements.size()];
+            for (int i = 0; i < ranks.length; i++) {
+                ranks[i] = (float) elements.get(i).rankAsDouble(functionIndex);
+            }
+            final var mapping = mappingFactory(trace).findMapper(ranks);
+
+            return e -> mapping.intervalOf((float) e.rankAsDouble(functionIndex));
+        }
+
+        final double[] ranks = new double[elements.size()];
+        for (int i = 0; i < ranks.length; i++) {
+            ranks[i] = elements.get(i).rankAsDouble(functionIndex);
+        }
+        final var mapping = mappingFactory(trace).findMapper(ranks);
+
+        return e -> mapping.intervalOf(e.rankAsDouble(functionIndex));
+    }
+
     /**
      * Safely converts an {@link Integer} object into its supertype {@link R} that extends {@link Comparable} only.
      *
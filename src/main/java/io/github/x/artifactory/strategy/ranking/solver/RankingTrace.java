@@ -0,0 +1,147 @@
+package io.github.x.artifactory.strategy.ranking.solver;
+
+import io.github.x.artifactory.strategy.ranking.rmapping.MappingListener;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe record of the course of one ranking operation: the rank evaluations performed, the groups of tied
+ * elements formed at each ranking level and the floating-point rank mappings found.
+ *
+ * <p>Solvers report to the trace passed to their operations. A {@link #counting() counting} trace records only the
+ * number of rank evaluations and makes solvers skip the work of collecting the groups and mappings; the
+ * {@link #disabled() disabled} trace ignores all reports.
+ */
+public final class RankingTrace implements MappingListener {
+
+    private static final RankingTrace DISABLED = new RankingTrace(false, false);
+
+    private final boolean enabled;
+
+    private final boolean counting;
+
+    private final LongAdder rankEvaluations = new LongAdder();
+
+    private final LongAdder mappingNanos = new LongAdder();
+
+    private final LongAdder cacheHits = new LongAdder();
+
+    private final LongAdder cacheMisses = new LongAdder();
+
+    private long[] groupCounts = new long[0];
+
+    private RankingTrace(boolean enabled, boolean counting) {
+        this.enabled = enabled;
+        this.counting = counting;
+    }
+
+    /**
+     * Constructs an empty enabled trace.
+     */
+    public RankingTrace() {
+        this(true, true);
+    }
+
+    /**
+     * {@return an empty trace recording only the number of rank evaluations}
+     */
+    public static RankingTrace counting() {
+        return new RankingTrace(false, true);
+    }
+
+    /**
+     * {@return the trace ignoring all reports}
+     */
+    public static RankingTrace disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * {@return {@code true} if the groups and mappings are recorded}
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Records rank evaluations.
+     *
+     * @param count the number of rank values evaluated
+     */
+    public void evaluated(int count) {
+        if (counting) {
+            rankEvaluations.add(count);
+        }
+    }
+
+    /**
+     * Records groups formed at a ranking level.
+     *
+     * @param level the index of the ranking level
+     * @param groupCount the number of groups formed
+     */
+    public void groups(int level, long groupCount) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (this) {
+            if (level >= groupCounts.length) {
+                groupCounts = Arrays.copyOf(groupCounts, level + 1);
+            }
+            groupCounts[level] += groupCount;
+        }
+    }
+
+    @Override
+    public void mappingFound(boolean cached, long nanos) {
+        if (!enabled) {
+            return;
+        }
+        mappingNanos.add(nanos);
+        (cached ? cacheHits : cacheMisses).increment();
+    }
+
+    /**
+     * {@return the number of rank values evaluated}
+     */
+    public long rankEvaluations() {
+        return rankEvaluations.sum();
+    }
+
+    /**
+     * {@return the number of ranking levels descended}
+     */
+    public synchronized int levelCount() {
+        return groupCounts.length;
+    }
+
+    /**
+     * {@return the number of groups formed at each ranking level descended}
+     */
+    public synchronized long[] groupCounts() {
+        return groupCounts.clone();
+    }
+
+    /**
+     * {@return the total time taken to find the floating-point rank mappings, in nanoseconds}
+     */
+    public long mappingNanos() {
+        return mappingNanos.sum();
+    }
+
+    /**
+     * {@return the number of mappings found in the cache}
+     */
+    public long cacheHits() {
+        return cacheHits.sum();
+    }
+
+    /**
+     * {@return the number of mappings built}
+     */
+    public long cacheMisses() {
+        return cacheMisses.sum();
+    }
+
+}
@@ -13,8 +13,8 @@ public class RelationalOperations {
         require(x, precision);
 
         return switch (x) {
-            case Float f -> compare(f.floatValue(), toFloat(y), precision);
-            case Double d -> compare(d.doubleValue(), toDouble(y), precision);
+            case Float f -> compareFuzzy(f.floatValue(), toFloat(y), precision);
+            case Double d -> compareFuzzy(d.doubleValue(), toDouble(y), precision);
             default -> x.compareTo(y);
         };
     }
@@ -25,11 +25,29 @@ public class RelationalOperations {
         }
     }
 
-    private static int compare(float x, float y, int precision) {
+    private static void require(int precision) {
+        if (precision < 0) {
+            throw new IllegalArgumentException("precision multiplier must be non-negative.");
+        }
+    }
+
+    public static int compare(float x, float y, int precision) {
+        require(precision);
+
+        return compareFuzzy(x, y, precision);
+    }
+
+    public static int compare(double x, double y, int precision) {
+        require(precision);
+
+        return compareFuzzy(x, y, precision);
+    }
+
+    private static int compareFuzzy(float x, float y, int precision) {
         return abs(x - y) <= precision * (ulp(x) + ulp(y)) ? 0 : Float.compare(x, y);
     }
 
-    private static int compare(double x, double y, int precision) {
+    private static int compareFuzzy(double x, double y, int precision) {
         return abs(x - y) <= precision * (ulp(x) + ulp(y)) ? 0 : Double.compare(x, y);
     }
 
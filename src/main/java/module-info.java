@@ -7,4 +7,7 @@ module io.github.x.artifactory.strategy.ranking {
     requires java.management;
     requires java.compiler;
     exports io.github.x.artifactory.strategy.ranking.api;
+    exports io.github.x.artifactory.strategy.ranking.jmx;
+    provides javax.annotation.processing.Processor
+            with io.github.x.artifactory.strategy.ranking.processor.RankProcessor;
 }
\ No newline at end of file
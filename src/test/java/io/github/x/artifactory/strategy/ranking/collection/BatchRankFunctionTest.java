@@ -0,0 +1,109 @@
+package io.github.x.artifactory.strategy.ranking.collection;
+
+import io.github.x.artifactory.strategy.ranking.api.BatchRankFunction;
+import io.github.x.artifactory.strategy.ranking.api.RankWrapper;
+import io.github.x.artifactory.strategy.ranking.api.RankedCollection;
+import io.github.x.artifactory.strategy.ranking.api.RankingEngine;
+import io.github.x.artifactory.strategy.ranking.api.RankingOptions;
+import io.github.x.artifactory.strategy.ranking.ranks.BatchCandidateRanks;
+import io.github.x.artifactory.strategy.ranking.ranks.BatchCandidateRanks.Scorer;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.github.x.artifactory.strategy.ranking.collection.RankingEngineTest.assertSameOutcome;
+import static io.github.x.artifactory.strategy.ranking.collection.RankingEngineTest.randomCandidates;
+
+/**
+ * Checks the evaluation of {@link BatchRankFunction batch ranking functions} with every {@link RankingEngine}.
+ */
+class BatchRankFunctionTest {
+
+    @Test
+    @DisplayName("batch_1: batch ranks are ranked as the same ranks evaluated one element at a time")
+    void batchTestCase1() {
+        final var random = new Random(20241124L);
+
+        for (final var engine : RankingEngine.values()) {
+            for (int run = 0; run < 50; run++) {
+                final var candidates = randomCandidates(random, 1 + random.nextInt(60));
+                final var options = RankingOptions.defaults().withEngine(engine);
+                final var expected = RankedCollection.from(candidates, BatchCandidateRanks.PerElement::new, options);
+                final var actual = RankedCollection.from(candidates, () -> new BatchCandidateRanks(new Scorer()),
+                        options);
+
+                assertSameOutcome(expected, actual, RankedCollection::asc);
+                assertSameOutcome(expected, actual, RankedCollection::max);
+                assertSameOutcome(expected, actual, rc -> rc.top(3));
+                Assertions.assertEquals(expected.descPartition(), actual.descPartition());
+                Assertions.assertEquals(expected.minAll(), actual.minAll());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("batch_2: a level is evaluated in one call with the elements still needing it, once per element")
+    void batchTestCase2() {
+        final var random = new Random(20241125L);
+
+        for (final var engine : RankingEngine.values()) {
+            final var candidates = randomCandidates(random, 60);
+            final var scorer = new Scorer();
+            final var rc = RankedCollection.from(candidates, () -> new BatchCandidateRanks(scorer),
+                    RankingOptions.defaults().withEngine(engine));
+
+            rc.ascPartition();
+            final var scoreBatches = scorer.scoreBatches();
+            final var nameBatches = scorer.nameBatches();
+            Assertions.assertEquals(1, scoreBatches.size());
+            Assertions.assertEquals(1, nameBatches.size());
+            Assertions.assertTrue(scoreBatches.stream().mapToInt(Integer::intValue).sum() <= candidates.size());
+            Assertions.assertTrue(nameBatches.stream().mapToInt(Integer::intValue).sum() <= candidates.size());
+
+            rc.descPartition();
+            rc.asc();
+            Assertions.assertEquals(scoreBatches, scorer.scoreBatches());
+            Assertions.assertEquals(nameBatches, scorer.nameBatches());
+        }
+    }
+
+    @Test
+    @DisplayName("batch_4: a level ranked in parallel by the grouping engine is evaluated in one call as well")
+    void batchTestCase4() {
+        final var random = new Random(20241126L);
+        final var candidates = randomCandidates(random, 100);
+        final var scorer = new Scorer();
+        final var expected = RankedCollection.from(candidates, BatchCandidateRanks.PerElement::new);
+        final var actual = RankedCollection.from(candidates, () -> new BatchCandidateRanks(scorer),
+                RankingOptions.defaults().withParallelThreshold(4));
+
+        assertSameOutcome(expected, actual, RankedCollection::asc);
+        Assertions.assertEquals(1, scorer.scoreBatches().size());
+        Assertions.assertTrue(scorer.scoreBatches().getFirst() <= candidates.size());
+        Assertions.assertTrue(scorer.nameBatches().size() <= 1);
+    }
+
+    @Test
+    @DisplayName("batch_3: a batch not returning one value per element fails")
+    void batchTestCase3() {
+        final Function<String, RankWrapper<String>> ranks = element -> {
+            final var wrapper = new RankWrapper<String>() {
+                @Override
+                public List<Supplier<Comparable<?>>> rankFunctionList() {
+                    return List.of(BatchRankFunction.ofLong(this, elements -> new long[1]));
+                }
+            };
+            wrapper.set(element);
+            return wrapper;
+        };
+        final var wrappers = List.of(ranks.apply("a"), ranks.apply("b"));
+
+        Assertions.assertThrows(IllegalStateException.class, () -> RankWrapper.evaluateBatch(wrappers, 0));
+        Assertions.assertEquals(0L, wrappers.getFirst().rankAsLong(0));
+    }
+
+}
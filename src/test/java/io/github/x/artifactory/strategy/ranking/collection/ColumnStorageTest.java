@@ -0,0 +1,100 @@
+package io.github.x.artifactory.strategy.ranking.collection;
+
+import io.github.x.artifactory.strategy.ranking.api.ColumnStorage;
+import io.github.x.artifactory.strategy.ranking.api.RankDefinition;
+import io.github.x.artifactory.strategy.ranking.api.RankMapCache;
+import io.github.x.artifactory.strategy.ranking.api.RankedCollection;
+import io.github.x.artifactory.strategy.ranking.api.RankingEngine;
+import io.github.x.artifactory.strategy.ranking.api.RankingOptions;
+import io.github.x.artifactory.strategy.ranking.ranks.Candidate;
+import io.github.x.artifactory.strategy.ranking.ranks.PrimitiveCandidateRanks;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.github.x.artifactory.strategy.ranking.collection.RankingEngineTest.assertSameOutcome;
+import static io.github.x.artifactory.strategy.ranking.collection.RankingEngineTest.randomCandidates;
+
+/**
+ * Checks that rank columns held off the heap rank elements the same way as heap ones.
+ */
+class ColumnStorageTest {
+
+    private static final RankDefinition<Candidate> DEFINITION = RankDefinition.byInt(Candidate::bucket)
+            .thenByFloat(Candidate::score)
+            .thenBy(Candidate::name);
+
+    @Test
+    @DisplayName("storage_1: off-heap columns of the columnar engine and of definitions give the heap results")
+    void storageTestCase1() {
+        final var random = new Random(20241215L);
+        final var heap = RankingOptions.defaults().withEngine(RankingEngine.COLUMNAR);
+        final var offHeap = heap.withColumnStorage(ColumnStorage.OFF_HEAP);
+
+        for (int run = 0; run < 200; run++) {
+            final var candidates = randomCandidates(random, 1 + random.nextInt(60));
+            final var expected = RankedCollection.from(candidates, PrimitiveCandidateRanks::new, heap);
+            final var wrapped = RankedCollection.from(candidates, PrimitiveCandidateRanks::new, offHeap);
+            final var defined = RankedCollection.from(candidates, DEFINITION, offHeap);
+
+            for (final var actual : List.of(wrapped, defined)) {
+                assertSameOutcome(expected, actual, RankedCollection::asc);
+                assertSameOutcome(expected, actual, RankedCollection::desc);
+                assertSameOutcome(expected, actual, RankedCollection::min);
+                assertSameOutcome(expected, actual, RankedCollection::max);
+                assertSameOutcome(expected, actual, rc -> rc.top(3));
+                Assertions.assertEquals(expected.ascPartition(), actual.ascPartition());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("storage_3: an off-heap ranking allocates nothing on the heap per element beyond its result")
+    void storageTestCase3() throws ReflectiveOperationException {
+        final int size = 100_000;
+        final List<Long> values = LongStream.range(0, size).map(i -> i * 7919 % size).boxed().toList();
+        final RankDefinition<Long> tied = RankDefinition.<Long>byInt(value -> (int) (value % 97))
+                .thenByDouble(value -> value % 1000 / 7.0);
+        final RankDefinition<Long> unique = tied.thenByLong(value -> value);
+        final var heap = RankingOptions.defaults().withMappingCache(RankMapCache.bounded(1 << 20));
+        final var offHeap = RankingOptions.defaults().withColumnStorage(ColumnStorage.OFF_HEAP)
+                .withMappingCache(RankMapCache.bounded(1 << 20));
+
+        final var expected = RankedCollection.from(values, unique, heap);
+        final var actual = RankedCollection.from(values, unique, offHeap);
+        Assertions.assertEquals(expected.asc(), actual.asc());
+        Assertions.assertEquals(expected.desc(), actual.desc());
+        Assertions.assertEquals(expected.top(1000), actual.top(1000));
+        Assertions.assertEquals(RankedCollection.from(values, tied, heap).descPartition(),
+                RankedCollection.from(values, tied, offHeap).descPartition());
+
+        // the rank values, keys and sorted indexes alone would take at least sixteen bytes per element and level
+        final long before = allocatedBytes();
+        actual.asc();
+        final long allocated = allocatedBytes() - before;
+        Assertions.assertTrue(allocated < 16L * size, allocated + " bytes allocated on the heap");
+    }
+
+    @Test
+    @DisplayName("storage_2: the column storage is required and kept by the other option copies")
+    void storageTestCase2() {
+        final var options = RankingOptions.defaults().withColumnStorage(ColumnStorage.OFF_HEAP);
+
+        Assertions.assertEquals(ColumnStorage.HEAP, RankingOptions.defaults().columnStorage());
+        Assertions.assertEquals(ColumnStorage.OFF_HEAP, options.withEngine(RankingEngine.LEXICOGRAPHIC).columnStorage());
+        Assertions.assertThrows(NullPointerException.class, () -> options.withColumnStorage(null));
+    }
+
+    private static long allocatedBytes() throws ReflectiveOperationException {
+        final var threads = ManagementFactory.getThreadMXBean();
+
+        return (long) Class.forName("com.sun.management.ThreadMXBean")
+                .getMethod("getCurrentThreadAllocatedBytes")
+                .invoke(threads);
+    }
+
+}
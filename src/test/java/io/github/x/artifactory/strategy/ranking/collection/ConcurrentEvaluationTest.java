@@ -0,0 +1,96 @@
+package io.github.x.artifactory.strategy.ranking.collection;
+
+import io.github.x.artifactory.strategy.ranking.api.ConcurrentEvaluation;
+import io.github.x.artifactory.strategy.ranking.api.RankedCollection;
+import io.github.x.artifactory.strategy.ranking.api.RankingEngine;
+import io.github.x.artifactory.strategy.ranking.api.RankingOptions;
+import io.github.x.artifactory.strategy.ranking.exception.RankEvaluationTimeoutException;
+import io.github.x.artifactory.strategy.ranking.ranks.PrimitiveCandidateRanks;
+import io.github.x.artifactory.strategy.ranking.ranks.RemoteCandidateRanks;
+import io.github.x.artifactory.strategy.ranking.ranks.RemoteCandidateRanks.ScoreService;
+import java.time.Duration;
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.github.x.artifactory.strategy.ranking.collection.RankingEngineTest.assertSameOutcome;
+import static io.github.x.artifactory.strategy.ranking.collection.RankingEngineTest.randomCandidates;
+
+/**
+ * Checks the evaluation of ranking functions on virtual threads with every {@link RankingEngine}.
+ */
+class ConcurrentEvaluationTest {
+
+    private static final int MAX_CONCURRENCY = 8;
+
+    @Test
+    @DisplayName("concurrent_1: ranks are evaluated concurrently within the limit, once per element")
+    void concurrentTestCase1() {
+        final var random = new Random(20241110L);
+        final var evaluation = ConcurrentEvaluation.virtualThreads(MAX_CONCURRENCY, Duration.ofSeconds(10));
+
+        for (final var engine : RankingEngine.values()) {
+            final var candidates = randomCandidates(random, 60);
+            final var service = new ScoreService(Duration.ofMillis(2));
+            final var expected = RankedCollection.from(candidates, PrimitiveCandidateRanks::new,
+                    RankingOptions.defaults().withEngine(engine));
+            final var actual = RankedCollection.from(candidates, () -> new RemoteCandidateRanks(service),
+                    RankingOptions.defaults().withEngine(engine).withConcurrentEvaluation(evaluation));
+
+            assertSameOutcome(expected, actual, RankedCollection::asc);
+            assertSameOutcome(expected, actual, RankedCollection::max);
+            Assertions.assertEquals(expected.descPartition(), actual.descPartition());
+            Assertions.assertEquals(expected.minAll(), actual.minAll());
+
+            Assertions.assertTrue(service.maxInFlight() > 1);
+            Assertions.assertTrue(service.maxInFlight() <= MAX_CONCURRENCY);
+            Assertions.assertTrue(service.calls() <= candidates.size());
+        }
+    }
+
+    @Test
+    @DisplayName("concurrent_2: a level exceeding its deadline fails the operation")
+    void concurrentTestCase2() {
+        final var evaluation = ConcurrentEvaluation.virtualThreads(MAX_CONCURRENCY, Duration.ofMillis(50));
+
+        for (final var engine : RankingEngine.values()) {
+            final var service = new ScoreService(Duration.ofSeconds(5));
+            final var rc = RankedCollection.from(randomCandidates(new Random(7L), 20),
+                    () -> new RemoteCandidateRanks(service),
+                    RankingOptions.defaults().withEngine(engine).withConcurrentEvaluation(evaluation));
+
+            Assertions.assertThrows(RankEvaluationTimeoutException.class, rc::ascPartition);
+        }
+    }
+
+    @Test
+    @DisplayName("concurrent_3: illegal settings")
+    void concurrentTestCase3() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> ConcurrentEvaluation.virtualThreads(0, Duration.ofSeconds(1)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> ConcurrentEvaluation.virtualThreads(4, Duration.ZERO));
+        Assertions.assertFalse(ConcurrentEvaluation.SEQUENTIAL.isConcurrent());
+    }
+
+    @Test
+    @DisplayName("concurrent_4: a level exceeding its deadline fails once evaluations ignoring interrupts return")
+    void concurrentTestCase4() throws InterruptedException {
+        final var evaluation = ConcurrentEvaluation.virtualThreads(MAX_CONCURRENCY, Duration.ofMillis(50));
+
+        for (final var engine : RankingEngine.values()) {
+            final var service = new ScoreService(Duration.ofMillis(200), false);
+            final var rc = RankedCollection.from(randomCandidates(new Random(7L), 20),
+                    () -> new RemoteCandidateRanks(service),
+                    RankingOptions.defaults().withEngine(engine).withConcurrentEvaluation(evaluation));
+
+            Assertions.assertThrows(RankEvaluationTimeoutException.class, rc::ascPartition);
+            Assertions.assertEquals(0, service.inFlight());
+            final int calls = service.calls();
+            Thread.sleep(Duration.ofMillis(250));
+            Assertions.assertEquals(calls, service.calls());
+        }
+    }
+
+}
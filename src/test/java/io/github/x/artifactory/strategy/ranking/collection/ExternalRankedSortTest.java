@@ -0,0 +1,185 @@
+package io.github.x.artifactory.strategy.ranking.collection;
+
+import io.github.x.artifactory.strategy.ranking.api.ElementCodec;
+import io.github.x.artifactory.strategy.ranking.api.ExternalRankedSort;
+import io.github.x.artifactory.strategy.ranking.api.ExternalSortOptions;
+import io.github.x.artifactory.strategy.ranking.api.RankDefinition;
+import io.github.x.artifactory.strategy.ranking.api.RankedCollection;
+import io.github.x.artifactory.strategy.ranking.exception.NonUniqueRankException;
+import io.github.x.artifactory.strategy.ranking.ranks.Candidate;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.DoubleSummaryStatistics;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.github.x.artifactory.strategy.ranking.collection.RankingEngineTest.randomCandidates;
+
+/**
+ * Checks the external sort spilling sorted runs to temporary files.
+ */
+class ExternalRankedSortTest {
+
+    private static final RankDefinition<Candidate> DEFINITION = RankDefinition.byInt(Candidate::bucket)
+            .thenByFloat(Candidate::score)
+            .thenBy(Candidate::name);
+
+    private static final ElementCodec<Candidate> CODEC = new ElementCodec<>() {
+        @Override
+        public void write(Candidate element, DataOutput out) throws IOException {
+            out.writeInt(element.bucket());
+            out.writeFloat(element.score());
+            out.writeUTF(element.name());
+        }
+
+        @Override
+        public Candidate read(DataInput in) throws IOException {
+            return new Candidate(in.readInt(), in.readFloat(), in.readUTF());
+        }
+    };
+
+    @Test
+    @DisplayName("external_1: runs merged in several passes give the order of an in-memory sort")
+    void externalTestCase1() throws IOException {
+        final var random = new Random(20241222L);
+        final Path directory = Files.createTempDirectory("external-sort-test");
+        final var options = ExternalSortOptions.defaults().withRunSize(10).withMergeFanIn(2).withDirectory(directory);
+        final var sort = ExternalRankedSort.of(DEFINITION, CODEC, options);
+
+        try {
+            for (int run = 0; run < 10; run++) {
+                final var candidates = randomCandidates(random, 1 + random.nextInt(60));
+                final var collection = RankedCollection.from(candidates, DEFINITION);
+
+                Assertions.assertEquals(outcome(collection::asc),
+                        streamedOutcome(() -> sort.asc(candidates.iterator())));
+                Assertions.assertEquals(outcome(collection::desc),
+                        streamedOutcome(() -> sort.desc(candidates.stream())));
+                try (var files = Files.list(directory)) {
+                    Assertions.assertEquals(0L, files.count());
+                }
+            }
+        } finally {
+            delete(directory);
+        }
+    }
+
+    @Test
+    @DisplayName("external_2: ties are detected while merging, and inputs without floating-point ranks are sorted too")
+    void externalTestCase2() throws IOException {
+        final Path directory = Files.createTempDirectory("external-sort-test");
+        try {
+            final var options = ExternalSortOptions.defaults().withRunSize(2).withDirectory(directory);
+            final var byBucketAndName = RankDefinition.byInt(Candidate::bucket).thenBy(Candidate::name);
+            final var candidates = List.of(new Candidate(1, 0f, "b"), new Candidate(0, 0f, "c"),
+                    new Candidate(1, 0f, "a"), new Candidate(1, 0.5f, "a"), new Candidate(0, 0f, "a"));
+
+            try (var sorted = ExternalRankedSort.of(byBucketAndName, CODEC, options).asc(candidates.iterator())) {
+                final var iterator = sorted.iterator();
+                Assertions.assertEquals(candidates.get(4), iterator.next());
+                Assertions.assertEquals(candidates.get(1), iterator.next());
+                Assertions.assertThrows(NonUniqueRankException.class, () -> {
+                    iterator.next();
+                    iterator.next();
+                });
+            }
+            try (var sorted = ExternalRankedSort.of(DEFINITION, CODEC, options).desc(candidates.stream())) {
+                Assertions.assertEquals(List.of(candidates.get(3), candidates.get(0), candidates.get(2),
+                        candidates.get(1), candidates.get(4)), sorted.toList());
+            }
+            try (var sorted = ExternalRankedSort.of(DEFINITION, CODEC).asc(List.<Candidate>of().iterator())) {
+                Assertions.assertEquals(List.of(), sorted.toList());
+            }
+            try (var files = Files.list(directory)) {
+                Assertions.assertEquals(0L, files.count());
+            }
+        } finally {
+            delete(directory);
+        }
+    }
+
+    @Test
+    @DisplayName("external_3: floating-point values are read back in ascending order from sorted runs on disk")
+    void externalTestCase3() throws IOException, ReflectiveOperationException {
+        final int size = 200_000;
+        final double[] input = new Random(20241228L).ints(size, 0, 1000).mapToDouble(value -> value / 7.0).toArray();
+        final double[] expected = input.clone();
+        Arrays.sort(expected);
+        final Path directory = Files.createTempDirectory("external-sort-test");
+        final var options = ExternalSortOptions.defaults().withRunSize(1 << 12).withMergeFanIn(8)
+                .withBufferSize(1 << 12).withDirectory(directory);
+
+        try {
+            final long before = allocatedBytes();
+            final var values = new SpilledRankValues(false, directory, options);
+            for (final double value : input) {
+                values.add(value);
+            }
+            final int[] count = new int[2];
+            values.forEachSorted(value -> count[Double.compare(expected[count[0] + count[1]], value) == 0 ? 0 : 1]++);
+            final long allocated = allocatedBytes() - before;
+
+            Assertions.assertEquals(200_000L, values.size());
+            Assertions.assertEquals(size, count[0]);
+            Assertions.assertEquals(0, count[1]);
+            Assertions.assertTrue(values.runCount() <= options.mergeFanIn());
+            Assertions.assertTrue(allocated < (long) Double.BYTES * size, allocated + " bytes allocated on the heap");
+            final DoubleSummaryStatistics statistics = new DoubleSummaryStatistics();
+            values.forEach(statistics);
+            Assertions.assertEquals(List.of(size, expected[0], expected[size - 1]),
+                    List.of((int) statistics.getCount(), statistics.getMin(), statistics.getMax()));
+
+            values.delete();
+            try (var files = Files.list(directory)) {
+                Assertions.assertEquals(0L, files.count());
+            }
+        } finally {
+            delete(directory);
+        }
+    }
+
+    private static Object outcome(Supplier<Optional<List<Candidate>>> sort) {
+        try {
+            return sort.get().orElseThrow();
+        } catch (NonUniqueRankException e) {
+            return NonUniqueRankException.class;
+        }
+    }
+
+    private static Object streamedOutcome(Supplier<Stream<Candidate>> sort) {
+        try (var sorted = sort.get()) {
+            return sorted.toList();
+        } catch (NonUniqueRankException e) {
+            return NonUniqueRankException.class;
+        }
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (final Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private static long allocatedBytes() throws ReflectiveOperationException {
+        final var threads = ManagementFactory.getThreadMXBean();
+
+        return (long) Class.forName("com.sun.management.ThreadMXBean")
+                .getMethod("getCurrentThreadAllocatedBytes")
+                .invoke(threads);
+    }
+
+}
@@ -0,0 +1,133 @@
+package io.github.x.artifactory.strategy.ranking.collection;
+
+import io.github.x.artifactory.strategy.ranking.api.MutableRankedCollection;
+import io.github.x.artifactory.strategy.ranking.api.RankWrapper;
+import io.github.x.artifactory.strategy.ranking.api.RankedCollection;
+import io.github.x.artifactory.strategy.ranking.exception.NonUniqueRankException;
+import io.github.x.artifactory.strategy.ranking.ranks.Candidate;
+import io.github.x.artifactory.strategy.ranking.ranks.CandidateRanks;
+import io.github.x.artifactory.strategy.ranking.ranks.PrimitiveCandidateRanks;
+import io.github.x.artifactory.strategy.ranking.ranks.RanksIntervalUlp_1;
+import io.github.x.artifactory.strategy.ranking.ranks.StringListRanks;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.github.x.artifactory.strategy.ranking.collection.RankingEngineTest.assertSameOutcome;
+
+class IncrementalRankedCollectionTest {
+
+    @Test
+    @DisplayName("incremental_1: elements are ranked as they are added and removed")
+    void incrementalTestCase1() {
+        final var rc = MutableRankedCollection.from(List.of(List.of("a", "b"), List.of("b", "a")),
+                StringListRanks::new);
+        Assertions.assertEquals("[[a, b], [b, a]]", rc.asc().orElseThrow().toString());
+
+        Assertions.assertTrue(rc.add(List.of("b", "b", "b")));
+        Assertions.assertFalse(rc.add(List.of("b", "b", "b")));
+        Assertions.assertEquals(3, rc.size());
+        Assertions.assertEquals("[b, b, b]", rc.min().orElseThrow().toString());
+        Assertions.assertEquals("[b, a]", rc.max().orElseThrow().toString());
+        Assertions.assertEquals("[[b, a], [a, b], [b, b, b]]", rc.desc().orElseThrow().toString());
+
+        Assertions.assertTrue(rc.remove(List.of("b", "a")));
+        Assertions.assertFalse(rc.remove(List.of("b", "a")));
+        Assertions.assertFalse(rc.contains(List.of("b", "a")));
+        Assertions.assertEquals("[[b, b, b], [a, b]]", rc.asc().orElseThrow().toString());
+
+        rc.remove(List.of("a", "b"));
+        rc.remove(List.of("b", "b", "b"));
+        Assertions.assertTrue(rc.isEmpty());
+        Assertions.assertTrue(rc.min().isEmpty());
+        Assertions.assertTrue(rc.asc().isEmpty());
+    }
+
+    @Test
+    @DisplayName("incremental_2: ties throw only when their order is needed and disappear with their elements")
+    void incrementalTestCase2() {
+        final var rc = MutableRankedCollection.from(
+                List.of(10f, 100f, 20f, 746.5784f, 746.57837f, 504.0f, 200f), RanksIntervalUlp_1::new);
+
+        Assertions.assertEquals(10f, rc.min().orElseThrow());
+        Assertions.assertThrows(NonUniqueRankException.class, rc::max);
+        Assertions.assertThrows(NonUniqueRankException.class, rc::asc);
+
+        final var iterator = rc.iterator();
+        Assertions.assertEquals(10f, iterator.next());
+        Assertions.assertEquals(20f, iterator.next());
+
+        rc.remove(746.5784f);
+        Assertions.assertEquals(746.57837f, rc.max().orElseThrow());
+        Assertions.assertEquals(List.of(10f, 20f, 100f, 200f, 504.0f, 746.57837f), rc.asc().orElseThrow());
+    }
+
+    @Test
+    @DisplayName("incremental_3: floating-point intervals are merged and split as values are added and removed")
+    void incrementalTestCase3() {
+        final float low = 1f;
+        final float middle = Math.nextUp(Math.nextUp(low));
+        final float high = Math.nextUp(middle);
+        final var a = new Candidate(0, low, "z");
+        final var b = new Candidate(0, Math.nextUp(high), "a");
+        final var c = new Candidate(0, middle, "m");
+
+        final var rc = MutableRankedCollection.from(List.of(a, b), PrimitiveCandidateRanks::new);
+        Assertions.assertEquals(List.of(a, b), rc.asc().orElseThrow());
+
+        rc.add(c);
+        Assertions.assertEquals(List.of(b, c, a), rc.asc().orElseThrow());
+        Assertions.assertEquals(RankedCollection.from(List.of(a, b, c), PrimitiveCandidateRanks::new).asc(), rc.asc());
+
+        rc.remove(c);
+        Assertions.assertEquals(List.of(a, b), rc.asc().orElseThrow());
+    }
+
+    @Test
+    @DisplayName("incremental_4: randomized changes are ranked as the same elements ranked from scratch")
+    void incrementalTestCase4() {
+        assertSameAsRankedCollection(CandidateRanks::new);
+        assertSameAsRankedCollection(PrimitiveCandidateRanks::new);
+    }
+
+    private static <W extends RankWrapper<Candidate>> void assertSameAsRankedCollection(Supplier<W> ranks) {
+        final var random = new Random(20241018L);
+        for (int run = 0; run < 20; run++) {
+            final var rc = MutableRankedCollection.from(List.<Candidate>of(), ranks);
+            final List<Candidate> elements = new ArrayList<>();
+
+            for (int step = 0; step < 100; step++) {
+                if (elements.isEmpty() || random.nextInt(3) > 0) {
+                    final var candidate = new Candidate(random.nextInt(2), nearOne(random.nextInt(8)),
+                            String.valueOf((char) ('a' + random.nextInt(4))));
+                    Assertions.assertEquals(!elements.contains(candidate), rc.add(candidate));
+                    if (!elements.contains(candidate)) {
+                        elements.add(candidate);
+                    }
+                } else {
+                    Assertions.assertTrue(rc.remove(elements.remove(random.nextInt(elements.size()))));
+                }
+
+                final var expected = RankedCollection.from(elements, ranks);
+                assertSameOutcome(expected::asc, rc::asc);
+                assertSameOutcome(expected::desc, rc::desc);
+                assertSameOutcome(() -> expected.bottom(1).map(List::getFirst), rc::min);
+                assertSameOutcome(() -> expected.top(1).map(List::getFirst), rc::max);
+            }
+        }
+    }
+
+    private static float nearOne(int ulps) {
+        float value = 1f;
+        for (int i = 0; i < ulps; i++) {
+            value = Math.nextUp(value);
+        }
+
+        return value;
+    }
+
+}
@@ -0,0 +1,117 @@
+package io.github.x.artifactory.strategy.ranking.collection;
+
+import io.github.x.artifactory.strategy.ranking.api.RankedCollection;
+import io.github.x.artifactory.strategy.ranking.api.RankingEngine;
+import io.github.x.artifactory.strategy.ranking.api.RankingOptions;
+import io.github.x.artifactory.strategy.ranking.api.RankingStatistics;
+import io.github.x.artifactory.strategy.ranking.ranks.Candidate;
+import io.github.x.artifactory.strategy.ranking.ranks.IntListRanks;
+import io.github.x.artifactory.strategy.ranking.ranks.PrimitiveCandidateRanks;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.github.x.artifactory.strategy.ranking.collection.RankingEngineTest.assertSameOutcome;
+import static io.github.x.artifactory.strategy.ranking.collection.RankingEngineTest.randomCandidates;
+
+/**
+ * Checks collections serving a saved ranking from a memory-mapped file.
+ */
+class MappedRankedCollectionTest {
+
+    @Test
+    @DisplayName("mapped_1: a mapped ranking answers every query as the collection it was saved from")
+    void mappedTestCase1() throws IOException {
+        final var random = new Random(20241229L);
+        final Path file = Files.createTempFile("ranking", ".bin");
+        final Path copy = Files.createTempFile("ranking-copy", ".bin");
+        try {
+            for (int run = 0; run < 200; run++) {
+                final var candidates = randomCandidates(random, 1 + random.nextInt(60));
+                final var expected = RankedCollection.from(candidates, PrimitiveCandidateRanks::new);
+                expected.save(file);
+                final var actual = RankedCollection.mapped(candidates, file);
+
+                assertSameOutcome(expected, actual, RankedCollection::asc);
+                assertSameOutcome(expected, actual, RankedCollection::desc);
+                assertSameOutcome(expected, actual, RankedCollection::min);
+                assertSameOutcome(expected, actual, RankedCollection::max);
+                assertSameOutcome(expected, actual, RankedCollection::minAll);
+                assertSameOutcome(expected, actual, RankedCollection::maxAll);
+                assertSameOutcome(expected, actual, RankedCollection::ascPartition);
+                assertSameOutcome(expected, actual, RankedCollection::descPartition);
+                assertSameOutcome(expected, actual, rc -> rc.top(3));
+                assertSameOutcome(expected, actual, rc -> rc.bottom(3));
+                Assertions.assertEquals(new RankingStatistics(0, 0), actual.statistics());
+
+                actual.save(copy);
+                Assertions.assertTrue(Arrays.equals(Files.readAllBytes(file), Files.readAllBytes(copy)));
+            }
+        } finally {
+            Files.delete(file);
+            Files.delete(copy);
+        }
+    }
+
+    @Test
+    @DisplayName("mapped_3: rankings of elements with different numbers of ranking functions are saved and mapped")
+    void mappedTestCase3() throws IOException {
+        final var random = new Random(20250104L);
+        final Path file = Files.createTempFile("ranking", ".bin");
+        try {
+            for (final RankingEngine engine : RankingEngine.values()) {
+                final var options = RankingOptions.defaults().withEngine(engine);
+                for (int run = 0; run < 50; run++) {
+                    final List<List<Integer>> lists = Stream.generate(() -> random.ints(1 + random.nextInt(3), 0, 3)
+                                    .boxed().toList())
+                            .limit(1 + random.nextInt(20))
+                            .toList();
+                    final var expected = RankedCollection.from(lists, IntListRanks::new, options);
+                    expected.save(file);
+                    final var actual = RankedCollection.mapped(lists, file);
+
+                    assertSameOutcome(expected, actual, RankedCollection::asc);
+                    assertSameOutcome(expected, actual, RankedCollection::max);
+                    assertSameOutcome(expected, actual, RankedCollection::minAll);
+                    assertSameOutcome(expected, actual, RankedCollection::maxAll);
+                    assertSameOutcome(expected, actual, RankedCollection::ascPartition);
+                    assertSameOutcome(expected, actual, RankedCollection::descPartition);
+                    assertSameOutcome(expected, actual, rc -> rc.top(3));
+                }
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    @DisplayName("mapped_2: files of other rankings or formats are rejected, and empty rankings stay empty")
+    void mappedTestCase2() throws IOException {
+        final var candidates = List.of(new Candidate(1, 0f, "b"), new Candidate(0, 0f, "a"));
+        final Path file = Files.createTempFile("ranking", ".bin");
+        try {
+            RankedCollection.from(candidates, PrimitiveCandidateRanks::new).save(file);
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> RankedCollection.mapped(candidates.subList(0, 1), file));
+            Assertions.assertEquals(List.of(candidates.get(1), candidates.get(0)),
+                    RankedCollection.mapped(candidates, file).asc().orElseThrow());
+
+            RankedCollection.from(List.<Candidate>of(), PrimitiveCandidateRanks::new).save(file);
+            Assertions.assertTrue(RankedCollection.mapped(List.<Candidate>of(), file).max().isEmpty());
+            Assertions.assertTrue(RankedCollection.mapped(List.<Candidate>of(), file).top(2).isEmpty());
+
+            Files.write(file, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+            Assertions.assertThrows(IllegalArgumentException.class, () -> RankedCollection.mapped(candidates, file));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+}
@@ -0,0 +1,86 @@
+package io.github.x.artifactory.strategy.ranking.collection;
+
+import io.github.x.artifactory.strategy.ranking.api.AnnotatedRankWrapper;
+import io.github.x.artifactory.strategy.ranking.api.PrimitiveRankFunction;
+import io.github.x.artifactory.strategy.ranking.api.Rank;
+import io.github.x.artifactory.strategy.ranking.api.RankWrapper;
+import io.github.x.artifactory.strategy.ranking.api.RankedCollection;
+import io.github.x.artifactory.strategy.ranking.api.RankingEngine;
+import io.github.x.artifactory.strategy.ranking.api.RankingOptions;
+import io.github.x.artifactory.strategy.ranking.ranks.AnnotatedCandidateRanks;
+import io.github.x.artifactory.strategy.ranking.ranks.Candidate;
+import io.github.x.artifactory.strategy.ranking.ranks.PrimitiveCandidateRanks;
+import java.lang.reflect.Modifier;
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.github.x.artifactory.strategy.ranking.collection.RankingEngineTest.assertSameOutcome;
+import static io.github.x.artifactory.strategy.ranking.collection.RankingEngineTest.randomCandidates;
+
+/**
+ * Checks wrappers whose {@link Rank} annotated methods are bound at runtime.
+ */
+class RankBindingTest {
+
+    @Test
+    @DisplayName("binding_1: elements are ranked as by the same ranking functions listed by a wrapper")
+    void bindingTestCase1() {
+        final var random = new Random(20241215L);
+
+        for (final RankingEngine engine : RankingEngine.values()) {
+            final var options = RankingOptions.defaults().withEngine(engine);
+            for (int run = 0; run < 100; run++) {
+                final var candidates = randomCandidates(random, 1 + random.nextInt(60));
+                final var expected = RankedCollection.from(candidates, PrimitiveCandidateRanks::new, options);
+                final var actual = RankedCollection.from(candidates, AnnotatedCandidateRanks::new, options);
+
+                assertSameOutcome(expected, actual, RankedCollection::asc);
+                assertSameOutcome(expected, actual, RankedCollection::desc);
+                assertSameOutcome(expected, actual, RankedCollection::min);
+                assertSameOutcome(expected, actual, RankedCollection::max);
+                assertSameOutcome(expected, actual, rc -> rc.top(3));
+                Assertions.assertEquals(expected.ascPartition(), actual.ascPartition());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("binding_2: bound functions keep their primitive types, and invalid declarations are rejected")
+    void bindingTestCase2() throws NoSuchMethodException {
+        final var wrapper = new AnnotatedCandidateRanks();
+        wrapper.set(new Candidate(7, 0.5f, "a"));
+
+        Assertions.assertEquals(3, wrapper.rankFunctionCount());
+        Assertions.assertTrue(wrapper.rankFunction(0) instanceof PrimitiveRankFunction.OfInt);
+        Assertions.assertTrue(wrapper.rankFunction(1) instanceof PrimitiveRankFunction.OfFloat);
+        Assertions.assertFalse(wrapper.rankFunction(2) instanceof PrimitiveRankFunction);
+        Assertions.assertEquals(7L, wrapper.rankAsLong(0));
+        Assertions.assertEquals(0.5, wrapper.rankAsDouble(1));
+        Assertions.assertEquals("a", wrapper.rank(2));
+        Assertions.assertEquals(7, wrapper.rank(0));
+        Assertions.assertThrows(ClassCastException.class, () -> wrapper.rankAsLong(2));
+
+        Assertions.assertThrows(IllegalStateException.class, DuplicateOrderRanks::new);
+        Assertions.assertThrows(IllegalStateException.class, UnannotatedRanks::new);
+        Assertions.assertTrue(Modifier.isAbstract(RankWrapper.class.getMethod("rankFunctionList").getModifiers()));
+    }
+
+    static class DuplicateOrderRanks extends AnnotatedRankWrapper<Candidate> {
+
+        @Rank(order = 1)
+        int bucketRank() {
+            return get().bucket();
+        }
+
+        @Rank(order = 1)
+        String nameRank() {
+            return get().name();
+        }
+    }
+
+    static class UnannotatedRanks extends AnnotatedRankWrapper<Candidate> {
+    }
+
+}
@@ -0,0 +1,68 @@
+package io.github.x.artifactory.strategy.ranking.collection;
+
+import io.github.x.artifactory.strategy.ranking.api.RankDefinition;
+import io.github.x.artifactory.strategy.ranking.api.RankedCollection;
+import io.github.x.artifactory.strategy.ranking.api.RankingEngine;
+import io.github.x.artifactory.strategy.ranking.api.RankingOptions;
+import io.github.x.artifactory.strategy.ranking.exception.NonUniqueRankException;
+import io.github.x.artifactory.strategy.ranking.ranks.Candidate;
+import io.github.x.artifactory.strategy.ranking.ranks.PrimitiveCandidateRanks;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.github.x.artifactory.strategy.ranking.collection.RankingEngineTest.assertSameOutcome;
+import static io.github.x.artifactory.strategy.ranking.collection.RankingEngineTest.randomCandidates;
+
+/**
+ * Checks collections ranked by a {@link RankDefinition} instead of a wrapper per element.
+ */
+class RankDefinitionTest {
+
+    private static final RankDefinition<Candidate> DEFINITION = RankDefinition.byInt(Candidate::bucket)
+            .thenByFloat(Candidate::score)
+            .thenBy(Candidate::name);
+
+    @Test
+    @DisplayName("definition_1: elements are ranked as by the same ranking functions of a wrapper")
+    void definitionTestCase1() {
+        final var random = new Random(20241201L);
+        final var columnar = RankingOptions.defaults().withEngine(RankingEngine.COLUMNAR);
+
+        for (int run = 0; run < 200; run++) {
+            final var candidates = randomCandidates(random, 1 + random.nextInt(60));
+            final var expected = RankedCollection.from(candidates, PrimitiveCandidateRanks::new, columnar);
+            final var actual = RankedCollection.from(candidates, DEFINITION);
+
+            assertSameOutcome(expected, actual, RankedCollection::asc);
+            assertSameOutcome(expected, actual, RankedCollection::desc);
+            assertSameOutcome(expected, actual, RankedCollection::min);
+            assertSameOutcome(expected, actual, RankedCollection::max);
+            assertSameOutcome(expected, actual, rc -> rc.top(3));
+            assertSameOutcome(expected, actual, rc -> rc.bottom(3));
+            Assertions.assertEquals(expected.ascPartition(), actual.ascPartition());
+            Assertions.assertEquals(expected.maxAll(), actual.maxAll());
+        }
+    }
+
+    @Test
+    @DisplayName("definition_2: definitions are immutable, and exhausting their levels leaves the ranking ambiguous")
+    void definitionTestCase2() {
+        final var byBucket = RankDefinition.byInt(Candidate::bucket);
+        final var byBucketAndName = byBucket.thenBy(Candidate::name);
+        final var candidates = List.of(new Candidate(1, 0f, "b"), new Candidate(1, 0f, "a"),
+                new Candidate(0, 0f, "c"));
+
+        Assertions.assertEquals(1, byBucket.levels().size());
+        Assertions.assertEquals(2, byBucketAndName.levels().size());
+        Assertions.assertThrows(NonUniqueRankException.class, () -> RankedCollection.from(candidates, byBucket).asc());
+        Assertions.assertEquals(List.of(candidates.get(2)), RankedCollection.from(candidates, byBucket).bottom(1)
+                .orElseThrow());
+        Assertions.assertEquals(List.of(candidates.get(2), candidates.get(1), candidates.get(0)),
+                RankedCollection.from(candidates, byBucketAndName).asc().orElseThrow());
+        Assertions.assertTrue(RankedCollection.from(List.<Candidate>of(), byBucket).max().isEmpty());
+    }
+
+}
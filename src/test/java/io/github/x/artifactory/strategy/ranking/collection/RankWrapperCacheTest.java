@@ -0,0 +1,62 @@
+package io.github.x.artifactory.strategy.ranking.collection;
+
+import io.github.x.artifactory.strategy.ranking.api.PrimitiveRankFunction;
+import io.github.x.artifactory.strategy.ranking.api.RankWrapper;
+import io.github.x.artifactory.strategy.ranking.ranks.Candidate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the memoization of rank values by {@link RankWrapper}.
+ */
+class RankWrapperCacheTest {
+
+    @Test
+    @DisplayName("cache_1: every rank is evaluated once, and the function list is resolved once per wrapper")
+    void cacheTestCase1() {
+        final var listCalls = new AtomicInteger();
+        final var evaluations = new AtomicInteger();
+        final var wrapper = new RankWrapper<Candidate>() {
+            @Override
+            public List<Supplier<Comparable<?>>> rankFunctionList() {
+                listCalls.incrementAndGet();
+                return List.of(
+                        PrimitiveRankFunction.ofInt(() -> evaluations.incrementAndGet() + get().bucket()),
+                        PrimitiveRankFunction.ofFloat(() -> evaluations.incrementAndGet() + get().score()),
+                        () -> evaluations.incrementAndGet() + get().name());
+            }
+        };
+        wrapper.set(new Candidate(2, 0.5f, "a"));
+
+        for (int run = 0; run < 3; run++) {
+            Assertions.assertEquals(3L, wrapper.rankAsLong(0));
+            Assertions.assertEquals(3, wrapper.rank(0));
+            Assertions.assertEquals(2.5, wrapper.rankAsDouble(1));
+            Assertions.assertEquals(2.5f, wrapper.rank(1));
+            Assertions.assertEquals("3a", wrapper.rank(2));
+        }
+        Assertions.assertEquals(3, evaluations.get());
+        Assertions.assertEquals(1, listCalls.get());
+    }
+
+    @Test
+    @DisplayName("cache_2: a missing ranking level is reported as an index out of bounds")
+    void cacheTestCase2() {
+        final var wrapper = new RankWrapper<String>() {
+            @Override
+            public List<Supplier<Comparable<?>>> rankFunctionList() {
+                return List.of(this::get);
+            }
+        };
+        wrapper.set("a");
+
+        Assertions.assertEquals("a", wrapper.rank(0));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> wrapper.rank(1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> wrapper.rankAsLong(1));
+    }
+
+}
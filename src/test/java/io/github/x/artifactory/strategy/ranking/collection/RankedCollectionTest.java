@@ -1,6 +1,8 @@
 package io.github.x.artifactory.strategy.ranking.collection;
 
 import io.github.x.artifactory.strategy.ranking.api.RankedCollection;
+import io.github.x.artifactory.strategy.ranking.ranks.PrimitiveRanksIntervalUlp_1;
+import io.github.x.artifactory.strategy.ranking.ranks.PrimitiveStringListRanks;
 import io.github.x.artifactory.strategy.ranking.ranks.RanksIntervalUlp_1;
 import io.github.x.artifactory.strategy.ranking.ranks.RanksIntervalUlp_2;
 import io.github.x.artifactory.strategy.ranking.ranks.StringListRanks;
@@ -208,4 +210,66 @@ class RankedCollectionTest {
         Assertions.assertThrows(NonUniqueRankException.class, () ->  instantiate.get().desc().orElseThrow());
     }
 
-}
\ No newline at end of file
+    // with primitive rank functions
+
+    @Test
+    @DisplayName("primitive_1: Mixed primitive and boxed rank functions rank as the boxed ones do.")
+    void rankedCollectionPrimitiveTestCase1() {
+        final var collection = List.of(
+                List.of("a", "b"),
+                List.of("b", "a"),
+                List.of("b", "b", "b")
+        );
+
+        final var rc = RankedCollection.from(collection, PrimitiveStringListRanks::new);
+        Assertions.assertEquals("[b, b, b]", rc.min().orElseThrow().toString());
+        Assertions.assertEquals("[b, a]", rc.max().orElseThrow().toString());
+        Assertions.assertEquals("[[b, b, b], [a, b], [b, a]]", rc.asc().orElseThrow().toString());
+        Assertions.assertEquals("[[b, a], [a, b], [b, b, b]]", rc.desc().orElseThrow().toString());
+    }
+
+    @Test
+    @DisplayName("primitive_2: Mixed primitive and boxed rank functions throw as the boxed ones do.")
+    void rankedCollectionPrimitiveTestCase2() {
+        final var collection = List.of(
+                List.of("a", "b"),
+                List.of("b", "a"),
+                List.of("a", "a", "a"),
+                List.of("b", "b", "b")
+        );
+
+        final var rc = RankedCollection.from(collection, PrimitiveStringListRanks::new);
+        Assertions.assertThrows(NonUniqueRankException.class, rc::min);
+        Assertions.assertEquals("[b, a]", rc.max().orElseThrow().toString());
+        Assertions.assertThrows(NonUniqueRankException.class, rc::asc);
+        Assertions.assertThrows(NonUniqueRankException.class, rc::desc);
+    }
+
+    @Test
+    @DisplayName("primitive_3: primitive float ranks are mapped to intervals with 1 ulp tolerance")
+    void rankedCollectionPrimitiveTestCase3() {
+        final var initCollection = List.of(10f, 100f, 20f, 746.5784f, 746.57837f, 504.0f, 200f);
+        final Supplier<RankedCollection<Float>> instantiate = () -> RankedCollection.from(
+                initCollection, PrimitiveRanksIntervalUlp_1::new);
+        Assertions.assertEquals(10f, instantiate.get().min().orElseThrow());
+        Assertions.assertThrows(NonUniqueRankException.class, () -> instantiate.get().max());
+        Assertions.assertThrows(NonUniqueRankException.class, () -> instantiate.get().asc());
+        Assertions.assertThrows(NonUniqueRankException.class, () -> instantiate.get().desc());
+    }
+
+    @Test
+    @DisplayName("primitive_4: primitive float ranks sort as boxed ones")
+    void rankedCollectionPrimitiveTestCase4() {
+        final var initCollection = List.of(10f, 100f, 20f, 746.5784f, 504.0f, 200f);
+        final var primitive = RankedCollection.from(initCollection, PrimitiveRanksIntervalUlp_1::new);
+        final var boxed = RankedCollection.from(initCollection, RanksIntervalUlp_1::new);
+
+        Assertions.assertEquals(boxed.min(), primitive.min());
+        Assertions.assertEquals(boxed.max(), primitive.max());
+        Assertions.assertEquals(boxed.asc(), primitive.asc());
+        Assertions.assertEquals(boxed.desc(), primitive.desc());
+        Assertions.assertEquals("[10.0, 20.0, 100.0, 200.0, 504.0, 746.5784]",
+                primitive.asc().orElseThrow().toString());
+    }
+
+}
@@ -0,0 +1,156 @@
+package io.github.x.artifactory.strategy.ranking.collection;
+
+import io.github.x.artifactory.strategy.ranking.api.RankWrapper;
+import io.github.x.artifactory.strategy.ranking.api.RankedCollection;
+import io.github.x.artifactory.strategy.ranking.api.RankingEngine;
+import io.github.x.artifactory.strategy.ranking.api.RankingOptions;
+import io.github.x.artifactory.strategy.ranking.exception.NonUniqueRankException;
+import io.github.x.artifactory.strategy.ranking.ranks.Candidate;
+import io.github.x.artifactory.strategy.ranking.ranks.CandidateRanks;
+import io.github.x.artifactory.strategy.ranking.ranks.IntListRanks;
+import io.github.x.artifactory.strategy.ranking.ranks.PrimitiveCandidateRanks;
+import io.github.x.artifactory.strategy.ranking.ranks.RanksIntervalUlp_1;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.github.x.artifactory.strategy.ranking.collection.RankingEngineTest.randomCandidates;
+
+/**
+ * Checks the tie-tolerant operations {@link RankedCollection#minAll()}, {@link RankedCollection#maxAll()},
+ * {@link RankedCollection#ascPartition()} and {@link RankedCollection#descPartition()} with every
+ * {@link RankingEngine}.
+ */
+class RankedPartitionTest {
+
+    @Test
+    @DisplayName("partition_1: tied elements are grouped in the order of the source collection")
+    void partitionTestCase1() {
+        final var initCollection = List.of(10f, 100f, 20f, 746.5784f, 746.57837f, 504.0f, 200f);
+
+        for (final var engine : RankingEngine.values()) {
+            final var rc = RankedCollection.from(initCollection, RanksIntervalUlp_1::new,
+                    RankingOptions.defaults().withEngine(engine));
+            Assertions.assertEquals(List.of(List.of(10f), List.of(20f), List.of(100f), List.of(200f), List.of(504.0f),
+                    List.of(746.5784f, 746.57837f)), rc.ascPartition().orElseThrow());
+            Assertions.assertEquals(List.of(List.of(746.5784f, 746.57837f), List.of(504.0f), List.of(200f),
+                    List.of(100f), List.of(20f), List.of(10f)), rc.descPartition().orElseThrow());
+            Assertions.assertEquals(List.of(746.5784f, 746.57837f), rc.maxAll().orElseThrow());
+            Assertions.assertEquals(List.of(10f), rc.minAll().orElseThrow());
+        }
+    }
+
+    @Test
+    @DisplayName("partition_2: empty and singleton collections")
+    void partitionTestCase2() {
+        for (final var engine : RankingEngine.values()) {
+            final var options = RankingOptions.defaults().withEngine(engine);
+            final var empty = RankedCollection.from(List.<Float>of(), RanksIntervalUlp_1::new, options);
+            Assertions.assertTrue(empty.ascPartition().isEmpty());
+            Assertions.assertTrue(empty.maxAll().isEmpty());
+
+            final var singleton = RankedCollection.from(List.of(1f), RanksIntervalUlp_1::new, options);
+            Assertions.assertEquals(List.of(List.of(1f)), singleton.descPartition().orElseThrow());
+            Assertions.assertEquals(List.of(1f), singleton.minAll().orElseThrow());
+        }
+    }
+
+    @Test
+    @DisplayName("partition_3: randomized partitions agree with sorting and searching")
+    void partitionTestCase3() {
+        assertConsistent(CandidateRanks::new);
+        assertConsistent(PrimitiveCandidateRanks::new);
+    }
+
+    @Test
+    @DisplayName("partition_4: tied groups are ranked while all their elements have a ranking function")
+    void partitionTestCase4() {
+        final List<List<Integer>> shortFirst = List.of(List.of(1), List.of(2, 1), List.of(2, 2));
+        final List<List<Integer>> shortLast = List.of(List.of(2, 1), List.of(2, 2), List.of(1));
+        final List<List<Integer>> tied = List.of(List.of(2, 1), List.of(1), List.of(2, 1));
+        final List<List<Integer>> mixed = List.of(List.of(3), List.of(2), List.of(1), List.of(2, 1));
+
+        for (final var engine : RankingEngine.values()) {
+            final var options = RankingOptions.defaults().withEngine(engine);
+            for (final var source : List.of(shortFirst, shortLast)) {
+                final var rc = RankedCollection.from(source, IntListRanks::new, options);
+                Assertions.assertEquals(shortFirst, rc.asc().orElseThrow());
+                Assertions.assertEquals(shortFirst.reversed(), rc.desc().orElseThrow());
+                Assertions.assertEquals(shortFirst.stream().map(List::of).toList(), rc.ascPartition().orElseThrow());
+                Assertions.assertEquals(List.of(List.of(2, 2)), rc.maxAll().orElseThrow());
+                Assertions.assertEquals(List.of(1), rc.min().orElseThrow());
+                Assertions.assertEquals(List.of(2, 2), rc.max().orElseThrow());
+            }
+
+            final var tiedRc = RankedCollection.from(tied, IntListRanks::new, options);
+            Assertions.assertEquals(List.of(List.of(List.of(1)), List.of(List.of(2, 1), List.of(2, 1))),
+                    tiedRc.ascPartition().orElseThrow());
+            Assertions.assertEquals(List.of(List.of(2, 1), List.of(2, 1)), tiedRc.maxAll().orElseThrow());
+            Assertions.assertThrows(NonUniqueRankException.class, tiedRc::asc);
+
+            final var mixedRc = RankedCollection.from(mixed, IntListRanks::new, options);
+            final List<List<Integer>> exhausted = List.of(List.of(2), List.of(2, 1));
+            Assertions.assertEquals(List.of(List.of(List.of(1)), exhausted, List.of(List.of(3))),
+                    mixedRc.ascPartition().orElseThrow());
+            Assertions.assertEquals(List.of(List.of(List.of(3)), exhausted, List.of(List.of(1))),
+                    mixedRc.descPartition().orElseThrow());
+            Assertions.assertEquals(List.of(List.of(3)), mixedRc.maxAll().orElseThrow());
+            Assertions.assertThrows(NonUniqueRankException.class, mixedRc::asc);
+            Assertions.assertThrows(NonUniqueRankException.class, () -> mixedRc.top(2));
+
+            final var exhaustedRc = RankedCollection.from(exhausted, IntListRanks::new, options);
+            Assertions.assertEquals(List.of(exhausted), exhaustedRc.ascPartition().orElseThrow());
+            Assertions.assertEquals(exhausted, exhaustedRc.maxAll().orElseThrow());
+            Assertions.assertEquals(exhausted, exhaustedRc.minAll().orElseThrow());
+            Assertions.assertThrows(NonUniqueRankException.class, exhaustedRc::max);
+        }
+    }
+
+    private static <W extends RankWrapper<Candidate>> void assertConsistent(Supplier<W> ranks) {
+        final var random = new Random(20241103L);
+        for (int run = 0; run < 200; run++) {
+            final var candidates = randomCandidates(random, 1 + random.nextInt(60));
+
+            for (final var engine : RankingEngine.values()) {
+                final var rc = RankedCollection.from(candidates, ranks, RankingOptions.defaults().withEngine(engine));
+                final var ascPartition = rc.ascPartition().orElseThrow();
+                Assertions.assertEquals(candidates.size(), ascPartition.stream().mapToInt(List::size).sum());
+                assertPartitionOf(rc::asc, ascPartition);
+                assertPartitionOf(rc::desc, rc.descPartition().orElseThrow());
+                assertExtremes(rc::min, rc.minAll().orElseThrow());
+                assertExtremes(rc::max, rc.maxAll().orElseThrow());
+                ascPartition.forEach(group -> Assertions.assertEquals(group, inSourceOrder(group, candidates)));
+            }
+        }
+    }
+
+    private static void assertPartitionOf(Supplier<Optional<List<Candidate>>> sort, List<List<Candidate>> partition) {
+        final boolean tied = partition.stream().anyMatch(group -> group.size() > 1);
+        try {
+            final var sorted = sort.get().orElseThrow();
+            Assertions.assertFalse(tied);
+            Assertions.assertEquals(sorted, partition.stream().flatMap(Collection::stream).toList());
+        } catch (NonUniqueRankException e) {
+            Assertions.assertTrue(tied);
+        }
+    }
+
+    private static void assertExtremes(Supplier<Optional<Candidate>> find, List<Candidate> extremes) {
+        try {
+            final var extreme = find.get().orElseThrow();
+            Assertions.assertEquals(List.of(extreme), extremes);
+        } catch (NonUniqueRankException e) {
+            Assertions.assertTrue(extremes.size() > 1);
+        }
+    }
+
+    private static List<Candidate> inSourceOrder(List<Candidate> group, List<Candidate> source) {
+        return source.stream().filter(group::contains).toList();
+    }
+
+}
@@ -0,0 +1,139 @@
+package io.github.x.artifactory.strategy.ranking.collection;
+
+import io.github.x.artifactory.strategy.ranking.api.RankWrapper;
+import io.github.x.artifactory.strategy.ranking.api.RankedCollection;
+import io.github.x.artifactory.strategy.ranking.api.RankingEngine;
+import io.github.x.artifactory.strategy.ranking.api.RankingOptions;
+import io.github.x.artifactory.strategy.ranking.exception.NonUniqueRankException;
+import io.github.x.artifactory.strategy.ranking.ranks.Candidate;
+import io.github.x.artifactory.strategy.ranking.ranks.CandidateRanks;
+import io.github.x.artifactory.strategy.ranking.ranks.LeadingBucketCandidateRanks;
+import io.github.x.artifactory.strategy.ranking.ranks.PrimitiveCandidateRanks;
+import io.github.x.artifactory.strategy.ranking.ranks.RanksIntervalUlp_1;
+import io.github.x.artifactory.strategy.ranking.ranks.StringListRanks;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.github.x.artifactory.strategy.ranking.collection.RankingEngineTest.assertSameOutcome;
+import static io.github.x.artifactory.strategy.ranking.collection.RankingEngineTest.randomCandidates;
+
+/**
+ * Checks the selection of leading elements by {@link RankedCollection#top(int)} and
+ * {@link RankedCollection#bottom(int)} with every {@link RankingEngine}.
+ */
+class RankedSelectionTest {
+
+    private static final List<RankingOptions> ALL_ENGINES = List.of(
+            RankingOptions.defaults().withEngine(RankingEngine.GROUPING),
+            RankingOptions.defaults().withEngine(RankingEngine.COLUMNAR));
+
+    @Test
+    @DisplayName("select_1: leading elements are the prefixes of the sorted collection")
+    void selectTestCase1() {
+        final var collection = List.of(
+                List.of("a", "b"),
+                List.of("b", "a"),
+                List.of("b", "b", "b")
+        );
+
+        for (final var options : ALL_ENGINES) {
+            final var rc = RankedCollection.from(collection, StringListRanks::new, options);
+            Assertions.assertEquals("[]", rc.top(0).orElseThrow().toString());
+            Assertions.assertEquals("[[b, a]]", rc.top(1).orElseThrow().toString());
+            Assertions.assertEquals("[[b, a], [a, b]]", rc.top(2).orElseThrow().toString());
+            Assertions.assertEquals("[[b, b, b], [a, b]]", rc.bottom(2).orElseThrow().toString());
+            Assertions.assertEquals(rc.asc(), rc.bottom(3));
+            Assertions.assertEquals(rc.desc(), rc.top(10));
+        }
+    }
+
+    @Test
+    @DisplayName("select_2: ties behind the selection do not throw, ties within it do")
+    void selectTestCase2() {
+        final var initCollection = List.of(10f, 100f, 20f, 746.5784f, 746.57837f, 504.0f, 200f);
+
+        for (final var options : ALL_ENGINES) {
+            final var rc = RankedCollection.from(initCollection, RanksIntervalUlp_1::new, options);
+            Assertions.assertEquals(List.of(10f, 20f, 100f), rc.bottom(3).orElseThrow());
+            Assertions.assertEquals(List.of(10f, 20f, 100f, 200f, 504.0f), rc.bottom(5).orElseThrow());
+            Assertions.assertThrows(NonUniqueRankException.class, () -> rc.bottom(6));
+            Assertions.assertThrows(NonUniqueRankException.class, () -> rc.top(1));
+        }
+    }
+
+    @Test
+    @DisplayName("select_3: empty collections and illegal arguments")
+    void selectTestCase3() {
+        for (final var options : ALL_ENGINES) {
+            final var empty = RankedCollection.from(List.<Float>of(), RanksIntervalUlp_1::new, options);
+            Assertions.assertTrue(empty.top(1).isEmpty());
+            Assertions.assertTrue(empty.bottom(0).isEmpty());
+
+            final var singleton = RankedCollection.from(List.of(1f), RanksIntervalUlp_1::new, options);
+            Assertions.assertEquals(List.of(1f), singleton.top(1).orElseThrow());
+            Assertions.assertThrows(IllegalArgumentException.class, () -> singleton.bottom(-1));
+        }
+    }
+
+    @Test
+    @DisplayName("select_4: lower-priority ranks are evaluated only for elements competing for the selection")
+    void selectTestCase4() {
+        final var candidates = List.of(
+                new Candidate(1, 0.5f, "a"),
+                new Candidate(0, 0.5f, "b"),
+                new Candidate(1, 0.5f, "c"),
+                new Candidate(0, 0.5f, "a"),
+                new Candidate(0, 0.25f, "d"),
+                new Candidate(2, 0.75f, "e")
+        );
+
+        for (final var options : ALL_ENGINES) {
+            final var rc = RankedCollection.from(candidates, LeadingBucketCandidateRanks::new, options);
+            Assertions.assertEquals(List.of(candidates.get(4), candidates.get(3), candidates.get(1)),
+                    rc.bottom(3).orElseThrow());
+            Assertions.assertThrows(IllegalStateException.class, () -> rc.bottom(4));
+        }
+    }
+
+    @Test
+    @DisplayName("select_5: randomized selections agree with sorting and between engines")
+    void selectTestCase5() {
+        assertSamePrefixes(CandidateRanks::new);
+        assertSamePrefixes(PrimitiveCandidateRanks::new);
+    }
+
+    private static <W extends RankWrapper<Candidate>> void assertSamePrefixes(Supplier<W> ranks) {
+        final var random = new Random(20241018L);
+        for (int run = 0; run < 200; run++) {
+            final var candidates = randomCandidates(random, 1 + random.nextInt(60));
+            final var expected = RankedCollection.from(candidates, ranks);
+            final int k = random.nextInt(candidates.size() + 2);
+
+            for (final var options : ALL_ENGINES) {
+                final var actual = RankedCollection.from(candidates, ranks, options);
+                assertSameOutcome(expected, actual, rc -> rc.top(k));
+                assertSameOutcome(expected, actual, rc -> rc.bottom(k));
+                assertPrefix(actual::asc, () -> actual.bottom(k), k);
+                assertPrefix(actual::desc, () -> actual.top(k), k);
+            }
+        }
+    }
+
+    private static void assertPrefix(Supplier<Optional<List<Candidate>>> sort,
+                                     Supplier<Optional<List<Candidate>>> select, int k) {
+        final List<Candidate> sorted;
+        try {
+            sorted = sort.get().orElseThrow();
+        } catch (NonUniqueRankException e) {
+            return;
+        }
+
+        Assertions.assertEquals(sorted.subList(0, Math.min(k, sorted.size())), select.get().orElseThrow());
+    }
+
+}
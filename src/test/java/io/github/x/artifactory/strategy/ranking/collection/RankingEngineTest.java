@@ -0,0 +1,354 @@
+package io.github.x.artifactory.strategy.ranking.collection;
+
+import io.github.x.artifactory.strategy.ranking.api.FindScope;
+import io.github.x.artifactory.strategy.ranking.api.RankWrapper;
+import io.github.x.artifactory.strategy.ranking.api.RankedCollection;
+import io.github.x.artifactory.strategy.ranking.api.RankingEngine;
+import io.github.x.artifactory.strategy.ranking.api.RankingOptions;
+import io.github.x.artifactory.strategy.ranking.api.RankingStatistics;
+import io.github.x.artifactory.strategy.ranking.exception.NonUniqueRankException;
+import io.github.x.artifactory.strategy.ranking.ranks.Candidate;
+import io.github.x.artifactory.strategy.ranking.ranks.CandidateRanks;
+import io.github.x.artifactory.strategy.ranking.ranks.IntListRanks;
+import io.github.x.artifactory.strategy.ranking.ranks.PrimitiveCandidateRanks;
+import io.github.x.artifactory.strategy.ranking.ranks.RanksIntervalUlp_1;
+import io.github.x.artifactory.strategy.ranking.ranks.StringListRanks;
+import io.github.x.artifactory.strategy.ranking.ranks.ThreadRecordingRanks;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that every {@link RankingEngine} produces the same results as the default one.
+ */
+class RankingEngineTest {
+
+    private static final RankingOptions COLUMNAR = RankingOptions.defaults().withEngine(RankingEngine.COLUMNAR);
+
+    @Test
+    @DisplayName("columnar_1: exact ranks are sorted and searched as by the grouping engine")
+    void columnarTestCase1() {
+        final var collection = List.of(
+                List.of("a", "b"),
+                List.of("b", "a"),
+                List.of("b", "b", "b")
+        );
+
+        final var rc = RankedCollection.from(collection, StringListRanks::new, COLUMNAR);
+        Assertions.assertEquals("[b, b, b]", rc.min().orElseThrow().toString());
+        Assertions.assertEquals("[b, a]", rc.max().orElseThrow().toString());
+        Assertions.assertEquals("[[b, b, b], [a, b], [b, a]]", rc.asc().orElseThrow().toString());
+        Assertions.assertEquals("[[b, a], [a, b], [b, b, b]]", rc.desc().orElseThrow().toString());
+    }
+
+    @Test
+    @DisplayName("columnar_2: ties remaining after all ranks throw as in the grouping engine")
+    void columnarTestCase2() {
+        final var initCollection = List.of(10f, 100f, 20f, 746.5784f, 746.57837f, 504.0f, 200f);
+        final var rc = RankedCollection.from(initCollection, RanksIntervalUlp_1::new, COLUMNAR);
+
+        Assertions.assertEquals(10f, rc.min().orElseThrow());
+        Assertions.assertThrows(NonUniqueRankException.class, rc::max);
+        Assertions.assertThrows(NonUniqueRankException.class, rc::asc);
+        Assertions.assertThrows(NonUniqueRankException.class, rc::desc);
+    }
+
+    @Test
+    @DisplayName("columnar_3: empty and singleton collections")
+    void columnarTestCase3() {
+        final var empty = RankedCollection.from(List.<Float>of(), RanksIntervalUlp_1::new, COLUMNAR);
+        Assertions.assertTrue(empty.min().isEmpty());
+        Assertions.assertTrue(empty.asc().isEmpty());
+
+        final var singleton = RankedCollection.from(List.of(1f), RanksIntervalUlp_1::new, COLUMNAR);
+        Assertions.assertEquals(1f, singleton.max().orElseThrow());
+        Assertions.assertEquals(List.of(1f), singleton.desc().orElseThrow());
+    }
+
+    @Test
+    @DisplayName("columnar_4: randomized collections are ranked as by the grouping engine")
+    void columnarTestCase4() {
+        assertSameResults(COLUMNAR, CandidateRanks::new);
+        assertSameResults(COLUMNAR, PrimitiveCandidateRanks::new);
+    }
+
+    @Test
+    @DisplayName("parallel_1: randomized collections are ranked in parallel as sequentially")
+    void parallelTestCase1() {
+        final var parallel = RankingOptions.defaults().withParallelThreshold(2);
+        assertSameResults(parallel, CandidateRanks::new);
+        assertSameResults(parallel, PrimitiveCandidateRanks::new);
+    }
+
+    @Test
+    @DisplayName("parallel_2: ties remaining after all ranks throw in parallel as sequentially")
+    void parallelTestCase2() {
+        final var initCollection = List.of(10f, 100f, 20f, 746.5784f, 746.57837f, 504.0f, 200f);
+        final var rc = RankedCollection.from(initCollection, RanksIntervalUlp_1::new,
+                RankingOptions.defaults().withParallelThreshold(1));
+
+        Assertions.assertThrows(NonUniqueRankException.class, rc::asc);
+        Assertions.assertEquals(List.of(10f, 20f, 100f), rc.bottom(3).orElseThrow());
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> RankingOptions.defaults().withParallelThreshold(0));
+    }
+
+    @Test
+    @DisplayName("parallel_3: ranks are evaluated concurrently from the parallel threshold and sequentially below it")
+    void parallelTestCase3() {
+        final var options = RankingOptions.defaults().withParallelThreshold(32);
+        final List<Integer> above = IntStream.range(0, 64).boxed().toList();
+        final List<Integer> below = IntStream.range(0, 31).boxed().toList();
+
+        ThreadRecordingRanks.reset();
+        Assertions.assertEquals(above, RankedCollection.from(above.reversed(), ThreadRecordingRanks::new, options)
+                .asc().orElseThrow());
+        Assertions.assertTrue(ThreadRecordingRanks.maxConcurrency() > 1);
+        Assertions.assertTrue(ThreadRecordingRanks.threads().size() > 1);
+
+        ThreadRecordingRanks.reset();
+        Assertions.assertEquals(below, RankedCollection.from(below.reversed(), ThreadRecordingRanks::new, options)
+                .asc().orElseThrow());
+        Assertions.assertEquals(1, ThreadRecordingRanks.maxConcurrency());
+        Assertions.assertEquals(Set.of(Thread.currentThread()), ThreadRecordingRanks.threads());
+    }
+
+    @Test
+    @DisplayName("lexicographic_1: exact ranks are sorted and searched as by the grouping engine")
+    void lexicographicTestCase1() {
+        final var lexicographic = RankingOptions.defaults().withEngine(RankingEngine.LEXICOGRAPHIC);
+        final var collection = List.of(
+                List.of("a", "b"),
+                List.of("b", "a"),
+                List.of("b", "b", "b")
+        );
+
+        final var rc = RankedCollection.from(collection, StringListRanks::new, lexicographic);
+        Assertions.assertEquals("[b, b, b]", rc.min().orElseThrow().toString());
+        Assertions.assertEquals("[b, a]", rc.max().orElseThrow().toString());
+        Assertions.assertEquals("[[b, b, b], [a, b], [b, a]]", rc.asc().orElseThrow().toString());
+        Assertions.assertEquals("[[b, a], [a, b], [b, b, b]]", rc.desc().orElseThrow().toString());
+        Assertions.assertEquals("[[b, a], [a, b]]", rc.top(2).orElseThrow().toString());
+    }
+
+    @Test
+    @DisplayName("lexicographic_2: randomized collections of exact ranks are ranked as by the grouping engine")
+    void lexicographicTestCase2() {
+        final var lexicographic = RankingOptions.defaults().withEngine(RankingEngine.LEXICOGRAPHIC);
+        final var random = new Random(20241018L);
+        for (int run = 0; run < 200; run++) {
+            final var candidates = exactCandidates(random, 1 + random.nextInt(60));
+            for (final Supplier<CandidateRanks> ranks : List.<Supplier<CandidateRanks>>of(
+                    CandidateRanks::new, PrimitiveCandidateRanks::new)) {
+                final var expected = RankedCollection.from(candidates, ranks);
+                final var actual = RankedCollection.from(candidates, ranks, lexicographic);
+
+                assertSameOutcome(expected, actual, RankedCollection::asc);
+                assertSameOutcome(expected, actual, RankedCollection::desc);
+                assertSameOutcome(expected, actual, rc -> rc.top(3));
+                assertSameOutcome(expected, actual, rc -> rc.bottom(3));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("lexicographic_3: ties on the whole rank vector throw only when they reach the selection")
+    void lexicographicTestCase3() {
+        final var lexicographic = RankingOptions.defaults().withEngine(RankingEngine.LEXICOGRAPHIC);
+        final var initCollection = List.of(10f, 100f, 20f, 746.5784f, 746.57837f, 504.0f, 200f);
+        final var rc = RankedCollection.from(initCollection, RanksIntervalUlp_1::new, lexicographic);
+
+        Assertions.assertEquals(10f, rc.min().orElseThrow());
+        Assertions.assertThrows(NonUniqueRankException.class, rc::max);
+        Assertions.assertThrows(NonUniqueRankException.class, rc::asc);
+        Assertions.assertEquals(List.of(10f, 20f, 100f), rc.bottom(3).orElseThrow());
+        Assertions.assertThrows(NonUniqueRankException.class, () -> rc.top(1));
+        Assertions.assertEquals(new RankingStatistics(70, 0), rc.statistics());
+    }
+
+    @Test
+    @DisplayName("lexicographic_4: rank vectors are ordered alike whether they are packed into long keys or not")
+    void lexicographicTestCase4() {
+        final var lexicographic = RankingOptions.defaults().withEngine(RankingEngine.LEXICOGRAPHIC);
+        final var random = new Random(20241018L);
+        // 3 levels of 4 bits are packed, 8 levels of 10 bits are compared
+        for (final int[] shape : new int[][]{{3, 16}, {8, 1000}}) {
+            final Set<List<Integer>> lists = new HashSet<>();
+            while (lists.size() < 1000) {
+                lists.add(random.ints(shape[0], 0, shape[1]).boxed().toList());
+            }
+            final var collection = new ArrayList<>(lists);
+            final var expected = RankedCollection.from(collection, IntListRanks::new);
+            final var actual = RankedCollection.from(collection, IntListRanks::new, lexicographic);
+
+            Assertions.assertEquals(expected.asc(), actual.asc());
+            Assertions.assertEquals(expected.desc(), actual.desc());
+            Assertions.assertEquals(expected.top(10), actual.top(10));
+            Assertions.assertEquals(expected.min(), actual.min());
+            Assertions.assertEquals(expected.max(), actual.max());
+        }
+    }
+
+    @Test
+    @DisplayName("lexicographic_5: elements having different numbers of ranking functions are ranked as by grouping")
+    void lexicographicTestCase5() {
+        final var lexicographic = RankingOptions.defaults().withEngine(RankingEngine.LEXICOGRAPHIC);
+        final var shortLast = List.of(List.of(2, 1), List.of(2, 2), List.of(1));
+        final var shortFirst = List.of(List.of(1), List.of(2, 1), List.of(2, 2));
+        Assertions.assertEquals(List.of(1), RankedCollection.from(shortLast, IntListRanks::new, lexicographic).min()
+                .orElseThrow());
+        Assertions.assertEquals(shortFirst, RankedCollection.from(shortFirst, IntListRanks::new, lexicographic).asc()
+                .orElseThrow());
+
+        final var random = new Random(20241220L);
+        for (int run = 0; run < 300; run++) {
+            final List<List<Integer>> collection = random.ints(1 + random.nextInt(12), 0, 1000)
+                    .mapToObj(seed -> new Random(seed).ints(1 + seed % 3, 0, 3).boxed().toList())
+                    .toList();
+            final var expected = RankedCollection.from(collection, IntListRanks::new);
+            final var actual = RankedCollection.from(collection, IntListRanks::new, lexicographic);
+
+            assertSameOutcome(expected, actual, RankedCollection::asc);
+            assertSameOutcome(expected, actual, RankedCollection::desc);
+            assertSameOutcome(expected, actual, RankedCollection::min);
+            assertSameOutcome(expected, actual, RankedCollection::max);
+            assertSameOutcome(expected, actual, RankedCollection::minAll);
+            assertSameOutcome(expected, actual, RankedCollection::maxAll);
+            assertSameOutcome(expected, actual, RankedCollection::ascPartition);
+            assertSameOutcome(expected, actual, rc -> rc.top(2));
+            assertSameOutcome(expected, actual, rc -> rc.bottom(2));
+        }
+    }
+
+    @Test
+    @DisplayName("counting_1: dense keys ranked by counting are ordered as sparse keys ranked by comparison")
+    void countingTestCase1() {
+        final var random = new Random(20241018L);
+        for (final var engine : List.of(RankingEngine.GROUPING, RankingEngine.COLUMNAR)) {
+            final var options = RankingOptions.defaults().withEngine(engine);
+            for (int run = 0; run < 200; run++) {
+                final var dense = exactCandidates(random, 1 + random.nextInt(60));
+                final var sparse = dense.stream()
+                        .map(c -> new Candidate(c.bucket() * 1_000_003 - 2_000_000, c.score(), c.name()))
+                        .toList();
+                for (final Supplier<CandidateRanks> ranks : List.<Supplier<CandidateRanks>>of(
+                        CandidateRanks::new, PrimitiveCandidateRanks::new)) {
+                    final var denseRc = RankedCollection.from(dense, ranks, options);
+                    final var sparseRc = RankedCollection.from(sparse, ranks, options);
+
+                    assertSameOutcome(denseRc, sparseRc, rc -> positions(rc.asc(), rc == denseRc ? dense : sparse));
+                    assertSameOutcome(denseRc, sparseRc, rc -> positions(rc.desc(), rc == denseRc ? dense : sparse));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("scope_1: candidate-scoped search finds the same extremes when ranks are exact")
+    void scopeTestCase1() {
+        final var random = new Random(20241018L);
+        for (final var engine : RankingEngine.values()) {
+            final var options = RankingOptions.defaults().withEngine(engine).withFindScope(FindScope.CANDIDATES);
+            for (int run = 0; run < 200; run++) {
+                final var candidates = exactCandidates(random, 1 + random.nextInt(60));
+                for (final Supplier<CandidateRanks> ranks : List.<Supplier<CandidateRanks>>of(
+                        CandidateRanks::new, PrimitiveCandidateRanks::new)) {
+                    final var expected = RankedCollection.from(candidates, ranks);
+                    final var actual = RankedCollection.from(candidates, ranks, options);
+
+                    assertSameOutcome(expected, actual, RankedCollection::min);
+                    assertSameOutcome(expected, actual, RankedCollection::max);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("scope_2: candidate-scoped search skips the evaluation of eliminated elements")
+    void scopeTestCase2() {
+        final var candidates = IntStream.range(0, 100)
+                .mapToObj(i -> new Candidate(i % 10, i / 10 / 4f, "n" + i))
+                .toList();
+
+        for (final var engine : List.of(RankingEngine.GROUPING, RankingEngine.COLUMNAR)) {
+            final var options = RankingOptions.defaults().withEngine(engine);
+            final var collectionScoped = RankedCollection.from(candidates, CandidateRanks::new, options);
+            final var candidateScoped = RankedCollection.from(candidates, CandidateRanks::new,
+                    options.withFindScope(FindScope.CANDIDATES));
+
+            Assertions.assertEquals(collectionScoped.min(), candidateScoped.min());
+            Assertions.assertEquals(new RankingStatistics(200, 0), collectionScoped.statistics());
+            Assertions.assertEquals(new RankingStatistics(110, 90), candidateScoped.statistics());
+        }
+    }
+
+    static <W extends RankWrapper<Candidate>> void assertSameResults(RankingOptions options, Supplier<W> ranks) {
+        final var random = new Random(20241018L);
+        for (int run = 0; run < 200; run++) {
+            final var candidates = randomCandidates(random, 1 + random.nextInt(60));
+            final var expected = RankedCollection.from(candidates, ranks);
+            final var actual = RankedCollection.from(candidates, ranks, options);
+
+            assertSameOutcome(expected, actual, RankedCollection::min);
+            assertSameOutcome(expected, actual, RankedCollection::max);
+            assertSameOutcome(expected, actual, RankedCollection::asc);
+            assertSameOutcome(expected, actual, RankedCollection::desc);
+        }
+    }
+
+    static List<Candidate> randomCandidates(Random random, int size) {
+        final Set<Candidate> candidates = new HashSet<>();
+        while (candidates.size() < size) {
+            final float score = random.nextBoolean()
+                    ? random.nextInt(4) / 4f
+                    : Math.nextUp(random.nextInt(4) / 4f);
+            candidates.add(new Candidate(random.nextInt(3), score, String.valueOf((char) ('a' + random.nextInt(6)))));
+        }
+
+        return new ArrayList<>(candidates);
+    }
+
+    static List<Candidate> exactCandidates(Random random, int size) {
+        return randomCandidates(random, size).stream()
+                .map(c -> new Candidate(c.bucket(), Math.round(c.score() * 4) / 4f, c.name()))
+                .distinct()
+                .toList();
+    }
+
+    static List<Integer> positions(Optional<List<Candidate>> ranked, List<Candidate> source) {
+        return ranked.orElseThrow().stream().map(source::indexOf).toList();
+    }
+
+    static <E, T> void assertSameOutcome(RankedCollection<E> expected, RankedCollection<E> actual,
+                                         Function<RankedCollection<E>, T> operation) {
+        assertSameOutcome(() -> operation.apply(expected), () -> operation.apply(actual));
+    }
+
+    static void assertSameOutcome(Supplier<?> expected, Supplier<?> actual) {
+        Object expectedOutcome;
+        try {
+            expectedOutcome = expected.get();
+        } catch (NonUniqueRankException e) {
+            expectedOutcome = NonUniqueRankException.class;
+        }
+
+        Object actualOutcome;
+        try {
+            actualOutcome = actual.get();
+        } catch (NonUniqueRankException e) {
+            actualOutcome = NonUniqueRankException.class;
+        }
+
+        Assertions.assertEquals(expectedOutcome, actualOutcome);
+    }
+
+}
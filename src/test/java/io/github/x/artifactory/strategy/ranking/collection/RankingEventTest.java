@@ -0,0 +1,107 @@
+package io.github.x.artifactory.strategy.ranking.collection;
+
+import io.github.x.artifactory.strategy.ranking.api.RankedCollection;
+import io.github.x.artifactory.strategy.ranking.api.RankingEngine;
+import io.github.x.artifactory.strategy.ranking.api.RankingOptions;
+import io.github.x.artifactory.strategy.ranking.exception.NonUniqueRankException;
+import io.github.x.artifactory.strategy.ranking.ranks.Candidate;
+import io.github.x.artifactory.strategy.ranking.ranks.CandidateRanks;
+import io.github.x.artifactory.strategy.ranking.ranks.RanksIntervalUlp_1;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the flight recorder events of the ranking operations.
+ */
+class RankingEventTest {
+
+    private static final String OPERATION_EVENT = "io.github.x.artifactory.strategy.ranking.RankingOperation";
+
+    private static final String NON_UNIQUE_EVENT = "io.github.x.artifactory.strategy.ranking.NonUniqueRank";
+
+    private static final List<Candidate> CANDIDATES = List.of(
+            new Candidate(0, 0.5f, "a"),
+            new Candidate(0, 0.5f, "b"),
+            new Candidate(0, 0.25f, "c"),
+            new Candidate(1, 0.25f, "d")
+    );
+
+    @Test
+    @DisplayName("event_1: every engine records the levels, groups and mappings of its operations")
+    void eventTestCase1() throws IOException {
+        for (final var engine : RankingEngine.values()) {
+            final var rc = RankedCollection.from(CANDIDATES, CandidateRanks::new,
+                    RankingOptions.defaults().withEngine(engine));
+
+            final var events = record(() -> {
+                rc.asc();
+                rc.max();
+                rc.top(1);
+            });
+
+            final var operations = events.stream()
+                    .filter(event -> event.getEventType().getName().equals(OPERATION_EVENT))
+                    .toList();
+            Assertions.assertEquals(List.of("asc", "max", "top"),
+                    operations.stream().map(event -> event.getString("operation")).toList());
+
+            final var asc = operations.get(0);
+            Assertions.assertEquals(engine.name(), asc.getString("engine"));
+            Assertions.assertEquals(4, asc.getInt("elementCount"));
+            Assertions.assertEquals(-1, asc.getInt("limit"));
+            Assertions.assertEquals(3, asc.getInt("levelCount"));
+            Assertions.assertEquals(3, asc.getString("groupCounts").split(",").length);
+            Assertions.assertTrue(asc.getLong("cacheHits") + asc.getLong("cacheMisses") > 0);
+            Assertions.assertTrue(asc.getBoolean("unique"));
+
+            Assertions.assertEquals(1, operations.get(2).getInt("limit"));
+        }
+    }
+
+    @Test
+    @DisplayName("event_2: a non-unique result is recorded with the operation failed")
+    void eventTestCase2() throws IOException {
+        final var initCollection = List.of(10f, 100f, 20f, 746.5784f, 746.57837f, 504.0f, 200f);
+        final var rc = RankedCollection.from(initCollection, RanksIntervalUlp_1::new);
+
+        final var events = record(() -> Assertions.assertThrows(NonUniqueRankException.class, rc::desc));
+
+        final var nonUnique = events.stream()
+                .filter(event -> event.getEventType().getName().equals(NON_UNIQUE_EVENT))
+                .findFirst()
+                .orElseThrow();
+        Assertions.assertEquals("desc", nonUnique.getString("operation"));
+        Assertions.assertEquals(7, nonUnique.getInt("elementCount"));
+        Assertions.assertEquals(2, nonUnique.getInt("levelCount"));
+
+        final var operation = events.stream()
+                .filter(event -> event.getEventType().getName().equals(OPERATION_EVENT))
+                .findFirst()
+                .orElseThrow();
+        Assertions.assertFalse(operation.getBoolean("unique"));
+    }
+
+    private static List<RecordedEvent> record(Runnable operations) throws IOException {
+        final var file = Files.createTempFile("ranking", ".jfr");
+        try (var recording = new Recording()) {
+            recording.enable(OPERATION_EVENT);
+            recording.enable(NON_UNIQUE_EVENT);
+            recording.start();
+            operations.run();
+            recording.stop();
+            recording.dump(file);
+
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+}
@@ -0,0 +1,89 @@
+package io.github.x.artifactory.strategy.ranking.collection;
+
+import io.github.x.artifactory.strategy.ranking.api.RankedCollection;
+import io.github.x.artifactory.strategy.ranking.api.RankingOptions;
+import io.github.x.artifactory.strategy.ranking.jmx.RankMapCacheMXBean;
+import io.github.x.artifactory.strategy.ranking.jmx.RankingMXBean;
+import io.github.x.artifactory.strategy.ranking.ranks.RanksIntervalUlp_1;
+import io.github.x.artifactory.strategy.ranking.rmapping.ConcurrentRankMapCache;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import javax.management.Attribute;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.RuntimeMBeanException;
+import javax.management.openmbean.TabularData;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the MBeans of the ranking operations and of the shared mapping cache.
+ */
+class RankingManagementTest {
+
+    private static final List<Float> VALUES = List.of(10f, 100f, 20f, 504.0f, 200f);
+
+    private final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+    @Test
+    @DisplayName("jmx_1: operations are counted with their elements and rank evaluations by wrapper class")
+    void jmxTestCase1() throws JMException {
+        final var ranking = new ObjectName(RankingMXBean.OBJECT_NAME);
+        final var rc = RankedCollection.from(VALUES, RanksIntervalUlp_1::new);
+        rc.asc();
+
+        final long operations = (Long) server.getAttribute(ranking, "OperationCount");
+        final long elements = (Long) server.getAttribute(ranking, "ElementCount");
+        final long evaluations = (Long) server.getAttribute(ranking, "RankEvaluationCount");
+        rc.asc();
+        rc.max();
+
+        Assertions.assertEquals(operations + 2, server.getAttribute(ranking, "OperationCount"));
+        Assertions.assertEquals(elements + 2 * VALUES.size(), server.getAttribute(ranking, "ElementCount"));
+        Assertions.assertTrue((Long) server.getAttribute(ranking, "RankEvaluationCount") > evaluations);
+        Assertions.assertTrue((Long) server.getAttribute(ranking, "TotalOperationTime") > 0);
+
+        final var byWrapper = (TabularData) server.getAttribute(ranking, "RankEvaluationsByWrapper");
+        Assertions.assertNotNull(byWrapper.get(new Object[] {RanksIntervalUlp_1.class.getName()}));
+    }
+
+    @Test
+    @DisplayName("jmx_2: the default parallel threshold is writable")
+    void jmxTestCase2() throws JMException {
+        final var ranking = new ObjectName(RankingMXBean.OBJECT_NAME);
+        try {
+            server.setAttribute(ranking, new Attribute("DefaultParallelThreshold", 1_000));
+
+            Assertions.assertEquals(1_000, RankingOptions.defaults().parallelThreshold());
+            Assertions.assertThrows(RuntimeMBeanException.class,
+                    () -> server.setAttribute(ranking, new Attribute("DefaultParallelThreshold", 0)));
+        } finally {
+            server.setAttribute(ranking, new Attribute("DefaultParallelThreshold", RankingOptions.SEQUENTIAL));
+        }
+        Assertions.assertEquals(RankingOptions.SEQUENTIAL, RankingOptions.defaults().parallelThreshold());
+    }
+
+    @Test
+    @DisplayName("jmx_3: the shared cache exposes its statistics and takes a new bound and precision tolerance")
+    void jmxTestCase3() throws JMException {
+        final var cacheName = new ObjectName(RankMapCacheMXBean.SHARED_OBJECT_NAME);
+        final var cache = ConcurrentRankMapCache.shared();
+        RankedCollection.from(VALUES, RanksIntervalUlp_1::new).asc();
+
+        Assertions.assertEquals(cache.statistics().missCount(), server.getAttribute(cacheName, "MissCount"));
+        try {
+            server.setAttribute(cacheName, new Attribute("MaxWeight", 0L));
+            server.setAttribute(cacheName, new Attribute("PrecisionUlp", 2));
+
+            Assertions.assertEquals(0L, cache.maxWeight());
+            Assertions.assertEquals(0, cache.statistics().entryCount());
+            Assertions.assertEquals(2, cache.precisionUlp());
+        } finally {
+            server.setAttribute(cacheName, new Attribute("MaxWeight", ConcurrentRankMapCache.SHARED_MAX_WEIGHT));
+            server.setAttribute(cacheName, new Attribute("PrecisionUlp", 1));
+        }
+    }
+
+}
@@ -0,0 +1,131 @@
+package io.github.x.artifactory.strategy.ranking.mapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import io.github.x.artifactory.strategy.ranking.rmapping.DoubleIntervalMap;
+import io.github.x.artifactory.strategy.ranking.rmapping.FP2IntMap;
+import io.github.x.artifactory.strategy.ranking.rmapping.FloatIntervalMap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PrimitiveIntervalMapTest {
+
+    @Test
+    @DisplayName("1: float map has the same scheme and mapping as FP2IntMap")
+    void Case_1() {
+        final float[] values = {0.1f, 1f, 0.2f, 0.57840014f, 0.57840025f, 0.5784f, 0.5784001f, 504.0f, 200f};
+        final var instance = FloatIntervalMap.from(values);
+        final var reference = FP2IntMap.from(List.of(0.1f, 1f, 0.2f, 0.57840014f, 0.57840025f, 0.5784f, 0.5784001f,
+                504.0f, 200f));
+
+        Assertions.assertEquals(reference.getMappingScheme(), instance.getMappingScheme());
+        Assertions.assertEquals(6, instance.size());
+        for (final float value : values) {
+            Assertions.assertEquals(reference.intervalByValue(value), instance.intervalOf(value));
+        }
+
+        Assertions.assertEquals(2, instance.intervalOf(0.5784002f));
+        Assertions.assertThrows(NoSuchElementException.class, () -> instance.intervalOf(0.5784433f));
+        Assertions.assertThrows(NoSuchElementException.class, () -> instance.intervalOf(0.05f));
+        Assertions.assertThrows(NoSuchElementException.class, () -> instance.intervalOf(1000f));
+    }
+
+    @Test
+    @DisplayName("2: values within 1 ulp of an interval boundary belong to it")
+    void Case_2() {
+        final var instance = FloatIntervalMap.from(new float[] {10f, 20f, 746.57837f, 746.5784f});
+
+        Assertions.assertEquals("[[10.0;10.0], [20.0;20.0], [746.57837;746.5784]]", instance.getMappingScheme());
+        Assertions.assertEquals(0, instance.intervalOf(Math.nextDown(10f)));
+        Assertions.assertEquals(0, instance.intervalOf(Math.nextUp(10f)));
+        Assertions.assertEquals(2, instance.intervalByValue(Math.nextUp(746.5784f)));
+    }
+
+    @Test
+    @DisplayName("3: double map has the same scheme and mapping as FP2IntMap")
+    void Case_3() {
+        final double[] values = {0.1, 1, 0.2, 0.5784, Math.nextUp(0.5784), Math.nextUp(Math.nextUp(0.5784)), 504, 200};
+        final var instance = DoubleIntervalMap.from(values);
+        final var reference = FP2IntMap.from(List.of(0.1, 1d, 0.2, 0.5784, Math.nextUp(0.5784),
+                Math.nextUp(Math.nextUp(0.5784)), 504d, 200d));
+
+        Assertions.assertEquals(reference.getMappingScheme(), instance.getMappingScheme());
+        for (final double value : values) {
+            Assertions.assertEquals(reference.intervalByValue(value), instance.intervalOf(value));
+        }
+        Assertions.assertThrows(NoSuchElementException.class, () -> instance.intervalOf(0.3));
+    }
+
+    @Test
+    @DisplayName("4: 0 ulp")
+    void Case_4() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> FloatIntervalMap.from(new float[] {1f}, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DoubleIntervalMap.from(new double[] {1d}, 0));
+    }
+
+    @Test
+    @DisplayName("5: empty values compose no intervals")
+    void Case_5() {
+        final var instance = FloatIntervalMap.from(new float[0]);
+
+        Assertions.assertEquals("[]", instance.getMappingScheme());
+        Assertions.assertThrows(NoSuchElementException.class, () -> instance.intervalOf(1f));
+    }
+
+    @Test
+    @DisplayName("6: randomized float values compose the same intervals as FP2IntMap")
+    void Case_6() {
+        final var random = new Random(4L);
+        for (int run = 0; run < 500; run++) {
+            final int precisionUlp = 1 + random.nextInt(4);
+            final float[] values = new float[1 + random.nextInt(100)];
+            final List<Float> boxedValues = new ArrayList<>(values.length);
+            for (int i = 0; i < values.length; i++) {
+                float value = random.nextInt(8) * 0.125f - 0.5f;
+                for (int ulps = random.nextInt(12); ulps > 0; ulps--) {
+                    value = Math.nextUp(value);
+                }
+                values[i] = value;
+                boxedValues.add(value);
+            }
+
+            final var instance = FloatIntervalMap.from(values, precisionUlp);
+            final var reference = FP2IntMap.from(boxedValues, precisionUlp);
+            Assertions.assertEquals(reference.getMappingScheme(), instance.getMappingScheme());
+            for (final float value : values) {
+                Assertions.assertEquals(reference.intervalByValue(value), instance.intervalOf(value));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("7: randomized double values compose the same intervals as FP2IntMap")
+    void Case_7() {
+        final var random = new Random(7L);
+        for (int run = 0; run < 500; run++) {
+            final int precisionUlp = 1 + random.nextInt(4);
+            final double[] values = new double[1 + random.nextInt(100)];
+            final List<Double> boxedValues = new ArrayList<>(values.length);
+            for (int i = 0; i < values.length; i++) {
+                double value = random.nextInt(8) * 1e3 - 4e3;
+                for (int ulps = random.nextInt(12); ulps > 0; ulps--) {
+                    value = Math.nextUp(value);
+                }
+                values[i] = value;
+                boxedValues.add(value);
+            }
+
+            final var instance = DoubleIntervalMap.from(values, precisionUlp);
+            final var reference = FP2IntMap.from(boxedValues, precisionUlp);
+            Assertions.assertEquals(reference.getMappingScheme(), instance.getMappingScheme());
+            for (final double value : values) {
+                Assertions.assertEquals(reference.intervalByValue(value), instance.intervalOf(value));
+            }
+        }
+    }
+
+}
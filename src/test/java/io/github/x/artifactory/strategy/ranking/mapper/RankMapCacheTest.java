@@ -0,0 +1,151 @@
+package io.github.x.artifactory.strategy.ranking.mapper;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import io.github.x.artifactory.strategy.ranking.api.RankMapCache;
+import io.github.x.artifactory.strategy.ranking.api.RankedCollection;
+import io.github.x.artifactory.strategy.ranking.api.RankingOptions;
+import io.github.x.artifactory.strategy.ranking.rmapping.ConcurrentRankMapCache;
+import io.github.x.artifactory.strategy.ranking.rmapping.RankMapFactory;
+import io.github.x.artifactory.strategy.ranking.ranks.RanksIntervalUlp_1;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RankMapCacheTest {
+
+    @Test
+    @DisplayName("1: the same values in any order hit the cached mapping")
+    void Case_1() {
+        final var cache = new ConcurrentRankMapCache(1_000);
+        final RankMapFactory<Float> factory = cache.factory();
+
+        final var mapping = factory.findMapper(new float[] {1f, 2f, 3f});
+        Assertions.assertSame(mapping, factory.findMapper(new float[] {3f, 1f, 2f}));
+        Assertions.assertSame(mapping, factory.findMapper(List.of(2f, 3f, 1f)));
+        Assertions.assertNotSame(mapping, factory.findMapper(new float[] {1f, 2f, 4f}));
+        Assertions.assertNotSame(mapping, factory.findMapper(new float[] {1f, 2f}));
+
+        final var statistics = cache.statistics();
+        Assertions.assertEquals(2L, statistics.hitCount());
+        Assertions.assertEquals(3L, statistics.missCount());
+        Assertions.assertEquals(3, statistics.entryCount());
+        Assertions.assertEquals(8L, statistics.weight());
+        Assertions.assertEquals(0.4, statistics.hitRate());
+    }
+
+    @Test
+    @DisplayName("2: float and double values are cached apart")
+    void Case_2() {
+        final var cache = new ConcurrentRankMapCache(1_000);
+
+        cache.factory().findMapper(new float[] {1f, 2f});
+        cache.factory().findMapper(new double[] {1d, 2d});
+
+        Assertions.assertEquals(0L, cache.statistics().hitCount());
+        Assertions.assertEquals(2, cache.statistics().entryCount());
+    }
+
+    @Test
+    @DisplayName("3: the weight is kept within its bound by evicting mappings")
+    void Case_3() {
+        final var cache = new ConcurrentRankMapCache(48);
+        for (int i = 0; i < 100; i++) {
+            cache.factory().findMapper(new double[] {i, i + 0.5});
+        }
+
+        final var statistics = cache.statistics();
+        Assertions.assertEquals(100L, statistics.evictionCount() + statistics.entryCount());
+        Assertions.assertEquals(2L * statistics.entryCount(), statistics.weight());
+        Assertions.assertTrue(statistics.weight() <= 48);
+
+        cache.clear();
+        Assertions.assertEquals(0, cache.statistics().entryCount());
+        Assertions.assertEquals(100L, cache.statistics().missCount());
+    }
+
+    @Test
+    @DisplayName("4: zero weight disables caching")
+    void Case_4() {
+        final var cache = new ConcurrentRankMapCache(0);
+        final RankMapFactory<Float> factory = cache.factory();
+
+        Assertions.assertNotSame(factory.findMapper(new float[] {1f}), factory.findMapper(new float[] {1f}));
+        Assertions.assertEquals(0, cache.statistics().entryCount());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RankMapCache.bounded(-1));
+    }
+
+    @Test
+    @DisplayName("5: repeated rankings of the same values share the configured cache")
+    void Case_5() {
+        final var cache = RankMapCache.bounded(1_000);
+        final var options = RankingOptions.defaults().withMappingCache(cache);
+        final var values = List.of(10f, 100f, 20f, 504.0f, 200f);
+
+        final var first = RankedCollection.from(values, RanksIntervalUlp_1::new, options).asc();
+        final var second = RankedCollection.from(values.reversed(), RanksIntervalUlp_1::new, options).asc();
+
+        Assertions.assertEquals(first, second);
+        Assertions.assertEquals(1L, cache.statistics().missCount());
+        Assertions.assertEquals(1L, cache.statistics().hitCount());
+    }
+
+    @Test
+    @DisplayName("6: a lowered maximum weight evicts mappings at once")
+    void Case_6() {
+        final var cache = new ConcurrentRankMapCache(1_000);
+        for (int i = 0; i < 100; i++) {
+            cache.factory().findMapper(new double[] {i, i + 0.5});
+        }
+        Assertions.assertEquals(200L, cache.statistics().weight());
+
+        cache.setMaxWeight(48);
+
+        Assertions.assertEquals(48L, cache.maxWeight());
+        Assertions.assertTrue(cache.statistics().weight() <= 48);
+        Assertions.assertEquals(100L, cache.statistics().evictionCount() + cache.statistics().entryCount());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> cache.setMaxWeight(-1));
+    }
+
+    @Test
+    @DisplayName("7: a mapping cached with another precision tolerance is rebuilt")
+    void Case_7() {
+        final var cache = new ConcurrentRankMapCache(1_000);
+        final RankMapFactory<Float> factory = cache.factory();
+        final float[] values = {1f, Math.nextUp(Math.nextUp(Math.nextUp(1f)))};
+
+        Assertions.assertEquals(2, factory.findMapper(values).size());
+
+        cache.setPrecisionUlp(2);
+
+        Assertions.assertEquals(1, factory.findMapper(values).size());
+        Assertions.assertEquals(1, factory.findMapper(values).size());
+        Assertions.assertEquals(1L, cache.statistics().hitCount());
+        Assertions.assertEquals(1, cache.statistics().entryCount());
+        Assertions.assertEquals(1L, cache.statistics().weight());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> cache.setPrecisionUlp(0));
+    }
+
+    @Test
+    @DisplayName("8: values with the same distinct values share a mapping, values with colliding hashes do not")
+    void Case_8() {
+        final var cache = new ConcurrentRankMapCache(1_000);
+        final RankMapFactory<Double> factory = cache.factory();
+        final double colliding = Double.longBitsToDouble(0x400000007FF00000L);
+
+        final var mapping = factory.findMapper(new double[] {1d, 2d});
+        Assertions.assertSame(mapping, factory.findMapper(new double[] {2d, 1d, 2d, 2d}));
+        Assertions.assertEquals(Arrays.hashCode(new double[] {1d}), Arrays.hashCode(new double[] {colliding}));
+
+        final var one = factory.findMapper(new double[] {1d});
+        final var other = factory.findMapper(new double[] {colliding});
+        Assertions.assertNotSame(one, other);
+        Assertions.assertEquals(0, other.intervalOf(colliding));
+        Assertions.assertThrows(NoSuchElementException.class, () -> other.intervalOf(1d));
+        Assertions.assertEquals(1L, cache.statistics().hitCount());
+        Assertions.assertEquals(3, cache.statistics().entryCount());
+    }
+
+}
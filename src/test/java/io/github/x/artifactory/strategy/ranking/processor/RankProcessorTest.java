@@ -0,0 +1,190 @@
+package io.github.x.artifactory.strategy.ranking.processor;
+
+import io.github.x.artifactory.strategy.ranking.api.PrimitiveRankFunction;
+import io.github.x.artifactory.strategy.ranking.api.RankWrapper;
+import io.github.x.artifactory.strategy.ranking.api.RankedCollection;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the classes generated by the annotation processor for {@code Rank} methods.
+ */
+class RankProcessorTest {
+
+    private static final String SAMPLE = """
+            package sample;
+
+            import io.github.x.artifactory.strategy.ranking.api.Rank;
+            import io.github.x.artifactory.strategy.ranking.api.RankWrapper;
+
+            public abstract class SampleRanks extends RankWrapper<String> {
+
+                @Rank(order = 20)
+                public char firstCharRank() {
+                    return get().charAt(0);
+                }
+
+                @Rank(order = 10)
+                public int lengthRank() {
+                    return get().length();
+                }
+
+                @Rank(order = 30)
+                public String alphabeticalRank() {
+                    return get();
+                }
+            }
+            """;
+
+    private static final String INVALID = """
+            package sample;
+
+            import io.github.x.artifactory.strategy.ranking.api.Rank;
+            import io.github.x.artifactory.strategy.ranking.api.RankWrapper;
+
+            public abstract class SampleRanks extends RankWrapper<String> {
+
+                @Rank(order = 1)
+                int lengthRank() {
+                    return get().length();
+                }
+
+                @Rank(order = 1)
+                int hashRank() {
+                    return get().hashCode();
+                }
+
+                @Rank(order = 2)
+                Object objectRank() {
+                    return get();
+                }
+            }
+            """;
+
+    @Test
+    @DisplayName("processor_1: the generated class ranks by the annotated methods in their order without boxing")
+    void processorTestCase1() throws Exception {
+        final Path output = Files.createTempDirectory("rank-processor");
+        try {
+            final var diagnostics = compile(SAMPLE, output);
+            Assertions.assertTrue(diagnostics.getDiagnostics().stream()
+                    .noneMatch(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR));
+
+            try (var loader = new URLClassLoader(new URL[] {output.toUri().toURL()},
+                    RankProcessorTest.class.getClassLoader())) {
+                final var generated = loader.loadClass("sample.SampleRanksImpl").getDeclaredConstructor();
+                final Supplier<RankWrapper<String>> ranks = () -> {
+                    try {
+                        @SuppressWarnings("unchecked")
+                        final var wrapper = (RankWrapper<String>) generated.newInstance();
+                        return wrapper;
+                    } catch (ReflectiveOperationException e) {
+                        throw new IllegalStateException(e);
+                    }
+                };
+
+                final var functions = ranks.get().rankFunctionList();
+                Assertions.assertEquals(3, functions.size());
+                Assertions.assertTrue(functions.get(0) instanceof PrimitiveRankFunction.OfInt);
+                Assertions.assertTrue(functions.get(1) instanceof PrimitiveRankFunction.OfInt);
+                Assertions.assertFalse(functions.get(2) instanceof PrimitiveRankFunction);
+
+                final var words = List.of("pear", "fig", "plum", "apple", "kiwi", "date", "lime");
+                final var expected = words.stream()
+                        .sorted(Comparator.comparingInt(String::length)
+                                .thenComparing(word -> word.charAt(0))
+                                .thenComparing(Comparator.naturalOrder()))
+                        .toList();
+                Assertions.assertEquals(expected, RankedCollection.from(words, ranks).asc().orElseThrow());
+                Assertions.assertEquals(expected.reversed(), RankedCollection.from(words, ranks).desc().orElseThrow());
+            }
+        } finally {
+            delete(output);
+        }
+    }
+
+    @Test
+    @DisplayName("processor_2: invalid declarations are reported as compilation errors, runtime-bound ones skipped")
+    void processorTestCase2() throws Exception {
+        final Path output = Files.createTempDirectory("rank-processor");
+        try {
+            final List<String> errors = compile(INVALID, output).getDiagnostics().stream()
+                    .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                    .map(diagnostic -> diagnostic.getMessage(null))
+                    .toList();
+
+            Assertions.assertEquals(1, errors.size());
+            Assertions.assertTrue(errors.getFirst().contains("Comparable"));
+            Assertions.assertFalse(Files.exists(output.resolve("sample/SampleRanksImpl.class")));
+
+            final List<String> duplicateErrors = compile(INVALID.replace("Object objectRank", "String objectRank"),
+                    output).getDiagnostics().stream()
+                    .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                    .map(diagnostic -> diagnostic.getMessage(null))
+                    .toList();
+            Assertions.assertEquals(1, duplicateErrors.size());
+            Assertions.assertTrue(duplicateErrors.getFirst().contains("order 1"));
+
+            final String concrete = SAMPLE.replace("public abstract class", "public class");
+            Assertions.assertTrue(compile(concrete, output).getDiagnostics().stream()
+                    .anyMatch(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR
+                            && diagnostic.getMessage(null).contains("AnnotatedRankWrapper")));
+            final String annotated = concrete.replace("RankWrapper", "AnnotatedRankWrapper");
+            Assertions.assertTrue(compile(annotated, output).getDiagnostics().stream()
+                    .noneMatch(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR));
+            Assertions.assertFalse(Files.exists(output.resolve("sample/SampleRanksImpl.class")));
+        } finally {
+            delete(output);
+        }
+    }
+
+    private static DiagnosticCollector<JavaFileObject> compile(String source, Path output)
+            throws IOException, URISyntaxException {
+        final var compiler = ToolProvider.getSystemJavaCompiler();
+        final var diagnostics = new DiagnosticCollector<JavaFileObject>();
+        final var file = new SimpleJavaFileObject(URI.create("string:///sample/SampleRanks.java"),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+        final String classPath = Path.of(RankWrapper.class.getProtectionDomain().getCodeSource().getLocation().toURI())
+                .toString();
+
+        try (var fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            final var task = compiler.getTask(null, fileManager, diagnostics,
+                    List.of("-classpath", classPath, "-d", output.toString()), null, List.of(file));
+            task.setProcessors(List.of(new RankProcessor()));
+            task.call();
+        }
+
+        return diagnostics;
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (final Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,26 @@
+package io.github.x.artifactory.strategy.ranking.ranks;
+
+import io.github.x.artifactory.strategy.ranking.api.AnnotatedRankWrapper;
+import io.github.x.artifactory.strategy.ranking.api.Rank;
+
+/**
+ * The same ranking rules as {@link PrimitiveCandidateRanks} declared by {@link Rank} annotations and bound at runtime.
+ */
+public class AnnotatedCandidateRanks extends AnnotatedRankWrapper<Candidate> {
+
+    @Rank(order = 1)
+    int bucketRank() {
+        return get().bucket();
+    }
+
+    @Rank(order = 2)
+    private float scoreRank() {
+        return get().score();
+    }
+
+    @Rank(order = 3)
+    String nameRank() {
+        return get().name();
+    }
+
+}
@@ -0,0 +1,72 @@
+package io.github.x.artifactory.strategy.ranking.ranks;
+
+import io.github.x.artifactory.strategy.ranking.api.BatchRankFunction;
+import io.github.x.artifactory.strategy.ranking.api.PrimitiveRankFunction;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * The ranking rules of {@link CandidateRanks} whose score and name are evaluated in batches by a {@link Scorer}.
+ */
+public class BatchCandidateRanks extends CandidateRanks {
+
+    private final Scorer scorer;
+
+    public BatchCandidateRanks(Scorer scorer) {
+        this.scorer = scorer;
+    }
+
+    @Override
+    public List<Supplier<Comparable<?>>> rankFunctionList() {
+        return List.of(
+                PrimitiveRankFunction.ofInt(this::bucketRank),
+                BatchRankFunction.ofDouble(this, scorer::scores),
+                BatchRankFunction.of(this, scorer::names)
+        );
+    }
+
+    /**
+     * The same ranking rules evaluated one element at a time.
+     */
+    public static class PerElement extends CandidateRanks {
+
+        @Override
+        public List<Supplier<Comparable<?>>> rankFunctionList() {
+            return List.of(
+                    PrimitiveRankFunction.ofInt(this::bucketRank),
+                    PrimitiveRankFunction.ofDouble(() -> get().score()),
+                    this::nameRank
+            );
+        }
+    }
+
+    /**
+     * A batch scorer recording the size of every batch it serves.
+     */
+    public static final class Scorer {
+
+        private final List<Integer> scoreBatches = new ArrayList<>();
+
+        private final List<Integer> nameBatches = new ArrayList<>();
+
+        synchronized double[] scores(List<Candidate> candidates) {
+            scoreBatches.add(candidates.size());
+            return candidates.stream().mapToDouble(Candidate::score).toArray();
+        }
+
+        synchronized List<String> names(List<Candidate> candidates) {
+            nameBatches.add(candidates.size());
+            return candidates.stream().map(Candidate::name).toList();
+        }
+
+        public synchronized List<Integer> scoreBatches() {
+            return List.copyOf(scoreBatches);
+        }
+
+        public synchronized List<Integer> nameBatches() {
+            return List.copyOf(nameBatches);
+        }
+    }
+
+}
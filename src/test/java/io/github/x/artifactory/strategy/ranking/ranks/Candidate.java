@@ -0,0 +1,11 @@
+package io.github.x.artifactory.strategy.ranking.ranks;
+
+/**
+ * A ranking candidate with an integral, a floating-point and a textual criterion.
+ *
+ * @param bucket integral criterion
+ * @param score floating-point criterion
+ * @param name textual criterion
+ */
+public record Candidate(int bucket, float score, String name) {
+}
@@ -0,0 +1,30 @@
+package io.github.x.artifactory.strategy.ranking.ranks;
+
+import io.github.x.artifactory.strategy.ranking.api.RankWrapper;
+import java.util.List;
+import java.util.function.Supplier;
+
+public class CandidateRanks extends RankWrapper<Candidate> {
+
+    @Override
+    public List<Supplier<Comparable<?>>> rankFunctionList() {
+        return List.of(
+                this::bucketRank,
+                this::scoreRank,
+                this::nameRank
+        );
+    }
+
+    public Integer bucketRank() {
+        return get().bucket();
+    }
+
+    public Float scoreRank() {
+        return get().score();
+    }
+
+    public String nameRank() {
+        return get().name();
+    }
+
+}
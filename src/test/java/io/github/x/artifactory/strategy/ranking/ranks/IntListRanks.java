@@ -0,0 +1,20 @@
+package io.github.x.artifactory.strategy.ranking.ranks;
+
+import io.github.x.artifactory.strategy.ranking.api.RankWrapper;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Ranks a list of integers by its elements, the first element being the most important rank.
+ */
+public class IntListRanks extends RankWrapper<List<Integer>> {
+
+    @Override
+    public List<Supplier<Comparable<?>>> rankFunctionList() {
+        return IntStream.range(0, get().size())
+                .<Supplier<Comparable<?>>>mapToObj(index -> () -> get().get(index))
+                .toList();
+    }
+
+}
@@ -0,0 +1,18 @@
+package io.github.x.artifactory.strategy.ranking.ranks;
+
+/**
+ * The same ranking rules as {@link PrimitiveCandidateRanks} whose last ranking function may only be evaluated
+ * for candidates of the lowest bucket.
+ */
+public class LeadingBucketCandidateRanks extends PrimitiveCandidateRanks {
+
+    @Override
+    public String nameRank() {
+        if (get().bucket() != 0) {
+            throw new IllegalStateException("The name rank is evaluated for a candidate out of the leading bucket.");
+        }
+
+        return super.nameRank();
+    }
+
+}
@@ -0,0 +1,21 @@
+package io.github.x.artifactory.strategy.ranking.ranks;
+
+import io.github.x.artifactory.strategy.ranking.api.PrimitiveRankFunction;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * The same ranking rules as {@link CandidateRanks} declared with primitive ranking functions.
+ */
+public class PrimitiveCandidateRanks extends CandidateRanks {
+
+    @Override
+    public List<Supplier<Comparable<?>>> rankFunctionList() {
+        return List.of(
+                PrimitiveRankFunction.ofInt(this::bucketRank),
+                PrimitiveRankFunction.ofFloat(this::scoreRank),
+                this::nameRank
+        );
+    }
+
+}
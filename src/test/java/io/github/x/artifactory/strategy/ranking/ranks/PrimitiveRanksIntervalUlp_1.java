@@ -0,0 +1,25 @@
+package io.github.x.artifactory.strategy.ranking.ranks;
+
+import io.github.x.artifactory.strategy.ranking.api.PrimitiveRankFunction;
+import io.github.x.artifactory.strategy.ranking.api.RankWrapper;
+import java.util.List;
+import java.util.function.Supplier;
+
+public class PrimitiveRanksIntervalUlp_1 extends RankWrapper<Float> {
+
+    @Override
+    public List<Supplier<Comparable<?>>> rankFunctionList() {
+        return List.of(
+                PrimitiveRankFunction.ofFloat(this::positiveOne),
+                PrimitiveRankFunction.ofFloat(this::negativeOne)
+        );
+    }
+
+    private float positiveOne() {
+        return get();
+    }
+
+    private float negativeOne() {
+        return -get();
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.x.artifactory.strategy.ranking.ranks;
+
+import io.github.x.artifactory.strategy.ranking.api.PrimitiveRankFunction;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * The same ranking rules as {@link StringListRanks} mixing primitive and boxed ranking functions.
+ */
+public class PrimitiveStringListRanks extends StringListRanks {
+
+    @Override
+    public List<Supplier<Comparable<?>>> rankFunctionList() {
+        return List.of(
+                PrimitiveRankFunction.ofInt(this::elemCountRank),
+                this::sortingRank
+        );
+    }
+
+}
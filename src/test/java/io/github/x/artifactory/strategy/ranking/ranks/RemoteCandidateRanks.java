@@ -0,0 +1,96 @@
+package io.github.x.artifactory.strategy.ranking.ranks;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The same ranking rules as {@link PrimitiveCandidateRanks} whose score is fetched from a slow remote service.
+ */
+public class RemoteCandidateRanks extends PrimitiveCandidateRanks {
+
+    private final ScoreService service;
+
+    public RemoteCandidateRanks(ScoreService service) {
+        this.service = service;
+    }
+
+    @Override
+    public Float scoreRank() {
+        return service.score(get());
+    }
+
+    /**
+     * A remote service answering after a fixed latency and counting the calls it serves.
+     */
+    public static final class ScoreService {
+
+        private final Duration latency;
+
+        private final boolean interruptible;
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+
+        public ScoreService(Duration latency) {
+            this(latency, true);
+        }
+
+        /**
+         * Constructs a service whose calls may ignore interrupts, as blocking I/O does.
+         */
+        public ScoreService(Duration latency, boolean interruptible) {
+            this.latency = latency;
+            this.interruptible = interruptible;
+        }
+
+        Float score(Candidate candidate) {
+            calls.incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                if (interruptible) {
+                    Thread.sleep(latency);
+                } else {
+                    sleepUninterruptibly();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("The score request was interrupted.", e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+
+            return candidate.score();
+        }
+
+        private void sleepUninterruptibly() {
+            final long end = System.nanoTime() + latency.toNanos();
+            boolean interrupted = false;
+            for (long remaining = latency.toNanos(); remaining > 0; remaining = end - System.nanoTime()) {
+                try {
+                    Thread.sleep(Duration.ofNanos(remaining));
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        public int calls() {
+            return calls.get();
+        }
+
+        public int inFlight() {
+            return inFlight.get();
+        }
+
+        public int maxInFlight() {
+            return maxInFlight.get();
+        }
+    }
+
+}
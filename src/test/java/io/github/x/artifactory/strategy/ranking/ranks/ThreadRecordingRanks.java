@@ -0,0 +1,62 @@
+package io.github.x.artifactory.strategy.ranking.ranks;
+
+import io.github.x.artifactory.strategy.ranking.api.RankWrapper;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Ranks integers by their value, recording the threads evaluating the rank and how many of them do so at once.
+ */
+public class ThreadRecordingRanks extends RankWrapper<Integer> {
+
+    private static final Set<Thread> THREADS = ConcurrentHashMap.newKeySet();
+
+    private static final AtomicInteger RUNNING = new AtomicInteger();
+
+    private static final AtomicInteger MAX_RUNNING = new AtomicInteger();
+
+    /**
+     * Forgets the threads recorded so far.
+     */
+    public static void reset() {
+        THREADS.clear();
+        MAX_RUNNING.set(0);
+    }
+
+    /**
+     * {@return the threads that evaluated a rank since the last reset}
+     */
+    public static Set<Thread> threads() {
+        return Set.copyOf(THREADS);
+    }
+
+    /**
+     * {@return the largest number of ranks evaluated at once since the last reset}
+     */
+    public static int maxConcurrency() {
+        return MAX_RUNNING.get();
+    }
+
+    @Override
+    public List<Supplier<Comparable<?>>> rankFunctionList() {
+        return List.of(this::record);
+    }
+
+    private Integer record() {
+        THREADS.add(Thread.currentThread());
+        MAX_RUNNING.accumulateAndGet(RUNNING.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(2);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            RUNNING.decrementAndGet();
+        }
+
+        return get();
+    }
+
+}